@@ -0,0 +1,316 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Evens out disk utilization by moving block replicas from the fullest Data Nodes to the emptiest
+//
+// While balancer_threshold is above 0, every BALANCER_INTERVAL_MS the balancer works out each live
+// Data Node's utilization from its heartbeats. Nodes more than the threshold above the cluster average
+// are sources, and nodes more than the threshold below it are targets. It then plans moves of replicas
+// from sources to targets that do not hold the block yet, and never leaves a block on fewer racks than before.
+//
+// A move is a REPLICATE command to the source followed, once the target has reported the block, by
+// dropping the source's replica from the block map and sending the source a DELETE. The block map therefore
+// never lists a replica before it is written, and a block never has fewer replicas than before its move.
+// Blocks that are under-replicated are left to the ReplicationMonitor.
+//
+// Moves run concurrently, at most MAX_MOVES_PER_NODE per Data Node, and are paced by a token bucket
+// that refills at balancer_bandwidth bytes per second for the whole cluster and holds one round's worth.
+// A move may overdraw the bucket by one block, so blocks larger than a round's worth still move.
+public class Balancer implements Runnable {
+
+    protected static final long BALANCER_INTERVAL_MS = 10 * 1000;
+    protected static final int MAX_MOVES_PER_NODE = 2;
+    protected static final long MOVE_TIMEOUT_MS = 5 * 60 * 1000;
+    // Blocks looked at per source node and round; enough to keep every move slot busy
+    protected static final int CANDIDATES_PER_SOURCE = 64;
+
+    protected static class Move {
+        final long blockId;
+        final String source;
+        final String target;
+        final long deadlineMs;
+
+        Move(long blockId, String source, String target, long deadlineMs){
+            this.blockId = blockId;
+            this.source = source;
+            this.target = target;
+            this.deadlineMs = deadlineMs;
+        }
+    }
+
+    private final NameNode nameNode;
+
+    // All guarded by this
+    private final Map<Long, Move> moves = new HashMap<>();
+    private final Map<String, Integer> movesByNode = new HashMap<>();
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+    private boolean balanced;
+
+    public Balancer(NameNode nameNode) {
+        this.nameNode = nameNode;
+    }
+
+    private static long now(){
+        return System.nanoTime() / 1000000;
+    }
+
+    // Percentage of a node's disk in use, counting blocks placed on it since its last heartbeat
+    protected static double utilization(HeartbeatManager.DataNodeDescriptor node, long blockSize){
+        ProtosHDFS.DataNodeInfo info = node.getDataNodeInfo();
+        return 100.0 * (info.getCapacity() - UtilizationPlacementPolicy.remaining(node, blockSize)) / info.getCapacity();
+    }
+
+    // Adds the tokens earned since the last refill, keeping at most one round's worth
+    private void refillTokens(long bandwidth){
+        long nowNanos = System.nanoTime();
+        this.tokens = Math.min(bandwidth * BALANCER_INTERVAL_MS / 1000.0,
+                this.tokens + bandwidth * (nowNanos - this.lastRefillNanos) / 1e9);
+        this.lastRefillNanos = nowNanos;
+    }
+
+    private int getMoves(String dataNodeId){
+        return this.movesByNode.getOrDefault(dataNodeId, 0);
+    }
+
+    private void endMove(Move move){
+        this.moves.remove(move.blockId);
+        for(String dataNodeId : new String[]{move.source, move.target}){
+            this.movesByNode.merge(dataNodeId, -1, (count, change) -> (count + change > 0) ? count + change : null);
+        }
+    }
+
+    // The replica of block on dataNodeId, or null if it has none or the block's file is gone
+    private ProtosHDFS.BlockMetaData findReplica(BlockMap.Block block, String dataNodeId){
+        int replica = block.indexOf(this.nameNode.dataNodes.findIndex(dataNodeId));
+        return (replica >= 0) ? this.nameNode.toBlockMeta(block, replica) : null;
+    }
+
+    public synchronized int getMoveCount(){
+        return this.moves.size();
+    }
+
+    // Called when dataNodeId reports the block; if it was the target of a move, the source's replica goes
+    public void replicaAdded(long blockId, String dataNodeId){
+        Move move;
+        synchronized(this){
+            move = this.moves.get(blockId);
+            if(move == null || !move.target.equals(dataNodeId)){
+                return;
+            }
+            endMove(move);
+        }
+
+        // The new replica is already in the block map, so the block never drops below its replica count
+        BlockMap.Block block = this.nameNode.blockMap.get(blockId);
+        ProtosHDFS.BlockMetaData sourceMeta = (block != null) ? findReplica(block, move.source) : null;
+        if(sourceMeta == null){
+            return;
+        }
+        this.nameNode.removeReplica(blockId, move.source);
+        this.nameNode.queueCommand(move.source, ProtosHDFS.DataNodeCommand.newBuilder()
+                .setCommandType(ProtosHDFS.DataNodeCommand.CommandType.DELETE)
+                .setBlockMeta(sourceMeta)
+                .build());
+    }
+
+    // Forgets moves whose copy never arrived; the source keeps its replica
+    private synchronized void expireMoves(){
+        long nowMs = now();
+        for(Move move : new ArrayList<>(this.moves.values())){
+            if(nowMs >= move.deadlineMs){
+                System.err.println("Moving block " + move.blockId + " from " + move.source + " to " + move.target
+                        + " timed out");
+                endMove(move);
+            }
+        }
+    }
+
+    // Length of a block as its replicas reported it, or a whole block if none has yet
+    private static long blockLength(BlockMap.Block block, long blockSize){
+        int length = block.getLength();
+        return (length >= 0) ? length : blockSize;
+    }
+
+    private int countRacks(Set<String> dataNodeIds){
+        Set<String> racks = new HashSet<>();
+        for(String dataNodeId : dataNodeIds){
+            racks.add(NetworkTopology.rackName(location(dataNodeId)));
+        }
+        return racks.size();
+    }
+
+    private String[] location(String dataNodeId){
+        HeartbeatManager.DataNodeDescriptor node = this.nameNode.heartbeatManager.getDataNode(dataNodeId);
+        String ipAddress = (node != null) ? node.getDataNodeInfo().getIpAddress() : null;
+        return this.nameNode.topology.getLocation(dataNodeId, ipAddress);
+    }
+
+    // Whether a replica of the block may move from source to target: the block is fully replicated on
+    // live nodes, target does not hold it yet and the block ends up on at least as many racks
+    private boolean canMove(BlockMap.Block block, String source, String target, int expected){
+        Set<String> holders = new HashSet<>();
+        for(String dataNodeId : this.nameNode.getDataNodeIds(block)){
+            if(!this.nameNode.heartbeatManager.isAlive(dataNodeId)){
+                return false;
+            }
+            holders.add(dataNodeId);
+        }
+        if(holders.size() < expected || holders.contains(target) || !holders.contains(source)){
+            return false;
+        }
+        int racksBefore = countRacks(holders);
+        holders.remove(source);
+        holders.add(target);
+        return countRacks(holders) >= racksBefore;
+    }
+
+    // Plans and starts as many moves as the bandwidth and per-node limits allow; returns how many
+    protected synchronized int balance(NameNodeConfig config){
+        long blockSize = config.getBlockSize();
+        List<HeartbeatManager.DataNodeDescriptor> nodes = new ArrayList<>();
+        long used = 0;
+        long capacity = 0;
+        for(HeartbeatManager.DataNodeDescriptor node : this.nameNode.heartbeatManager.getLiveNodeArray()){
+            ProtosHDFS.DataNodeInfo info = node.getDataNodeInfo();
+            if(info.getCapacity() > 0){
+                nodes.add(node);
+                used += info.getCapacity() - UtilizationPlacementPolicy.remaining(node, blockSize);
+                capacity += info.getCapacity();
+            }
+        }
+        if(capacity == 0){
+            return 0;
+        }
+
+        double average = 100.0 * used / capacity;
+        double threshold = config.getBalancerThreshold();
+        List<HeartbeatManager.DataNodeDescriptor> sources = new ArrayList<>();
+        List<HeartbeatManager.DataNodeDescriptor> targets = new ArrayList<>();
+        for(HeartbeatManager.DataNodeDescriptor node : nodes){
+            double utilization = utilization(node, blockSize);
+            if(utilization > average + threshold){
+                sources.add(node);
+            }else if(utilization < average - threshold){
+                targets.add(node);
+            }
+        }
+        if(sources.isEmpty() || targets.isEmpty()){
+            if(!this.balanced){
+                System.out.println("\n Cluster is balanced, every Data Node is within " + threshold
+                        + "% of the average utilization of " + String.format("%.1f", average) + "% \n");
+                this.balanced = true;
+            }
+            return 0;
+        }
+        this.balanced = false;
+        sources.sort(Comparator.comparingDouble(node -> -utilization(node, blockSize)));
+        targets.sort(Comparator.comparingDouble(node -> utilization(node, blockSize)));
+
+        // Candidate blocks come from each source's own blocks in the block map, without a pass over the
+        // namespace; enough are taken that blocks already moving still leave CANDIDATES_PER_SOURCE
+        // Each round starts at a random place among them, so blocks that cannot move do not hide the rest
+        Map<String, List<Long>> candidates = new HashMap<>();
+        for(HeartbeatManager.DataNodeDescriptor source : sources){
+            if(getMoves(source.getDataNodeId()) >= MAX_MOVES_PER_NODE){
+                continue;
+            }
+            List<Long> blocks = new ArrayList<>();
+            int dataNode = this.nameNode.dataNodes.findIndex(source.getDataNodeId());
+            long[] blockIds = this.nameNode.blockMap.getBlockIds(dataNode, CANDIDATES_PER_SOURCE + this.moves.size(),
+                    ThreadLocalRandom.current().nextInt());
+            for(long blockId : blockIds){
+                if(blocks.size() < CANDIDATES_PER_SOURCE && !this.moves.containsKey(blockId)){
+                    blocks.add(blockId);
+                }
+            }
+            candidates.put(source.getDataNodeId(), blocks);
+        }
+
+        refillTokens(config.getBalancerBandwidth());
+        int started = 0;
+        for(HeartbeatManager.DataNodeDescriptor source : sources){
+            List<Long> blocks = candidates.get(source.getDataNodeId());
+            for(int i = 0; blocks != null && i < blocks.size() && this.tokens > 0; i++){
+                if(getMoves(source.getDataNodeId()) >= MAX_MOVES_PER_NODE){
+                    break;
+                }
+                long blockId = blocks.get(i);
+                BlockMap.Block block = this.nameNode.blockMap.get(blockId);
+                if(block == null || this.moves.containsKey(blockId)){
+                    continue;
+                }
+                for(HeartbeatManager.DataNodeDescriptor target : targets){
+                    if(getMoves(target.getDataNodeId()) < MAX_MOVES_PER_NODE
+                            && UtilizationPlacementPolicy.hasSpace(target, blockSize)
+                            && canMove(block, source.getDataNodeId(), target.getDataNodeId(),
+                                    config.getReplicationFactor())){
+                        if(startMove(block, source, target, blockSize)){
+                            started++;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        return started;
+    }
+
+    // Returns false if the block's file was deleted before the move could start
+    private boolean startMove(BlockMap.Block block, HeartbeatManager.DataNodeDescriptor source,
+                              HeartbeatManager.DataNodeDescriptor target, long blockSize){
+        ProtosHDFS.BlockMetaData sourceMeta = findReplica(block, source.getDataNodeId());
+        if(sourceMeta == null){
+            return false;
+        }
+        Move move = new Move(block.getBlockId(), source.getDataNodeId(), target.getDataNodeId(),
+                now() + MOVE_TIMEOUT_MS);
+        this.moves.put(block.getBlockId(), move);
+        this.movesByNode.merge(move.source, 1, Integer::sum);
+        this.movesByNode.merge(move.target, 1, Integer::sum);
+        this.tokens -= blockLength(block, blockSize);
+        target.addPendingBlock();
+
+        this.nameNode.queueCommand(move.source, ProtosHDFS.DataNodeCommand.newBuilder()
+                .setCommandType(ProtosHDFS.DataNodeCommand.CommandType.REPLICATE)
+                .setBlockMeta(sourceMeta.toBuilder().setOrdReplication(block.getReplicaCount() + 1))
+                .addTargets(target.getDataNodeInfo())
+                .build());
+        return true;
+    }
+
+    public void run(){
+        while(true){
+            try{
+                Thread.sleep(BALANCER_INTERVAL_MS);
+            }catch(InterruptedException e){
+                return;
+            }
+
+            try{
+                expireMoves();
+                NameNodeConfig config = this.nameNode.config;
+                if(config.getBalancerThreshold() <= 0){
+                    continue;
+                }
+                int started = balance(config);
+                if(started > 0){
+                    System.out.println("\n Balancer started " + started + " block moves, " + getMoveCount()
+                            + " in progress \n");
+                }
+            }catch(RuntimeException e){
+                System.err.println("Balancer round failed: " + e.toString());
+            }
+        }
+    }
+}
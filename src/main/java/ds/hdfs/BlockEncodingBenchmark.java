@@ -0,0 +1,113 @@
+package ds.hdfs;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import proto.ProtosHDFS;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+// Compares the old string-encoded block payload against the binary one
+// Usage: BlockEncodingBenchmark [blockSizeBytes] [iterations]
+//
+// string and bytes fields share the same wire format, so the old payload is reproduced
+// exactly by putting the UTF-8 of Arrays.toString(block) into the bytes field
+public class BlockEncodingBenchmark {
+
+    // Sink for the decoded block, standing in for the block file on the Data Node
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private static ProtosHDFS.Request makeRequest(ByteString blockContents){
+        ProtosHDFS.BlockMetaData blockMeta = ProtosHDFS.BlockMetaData.newBuilder()
+                .setBlockId("bench_1")
+                .setFileId("bench")
+                .setFileName("bench")
+                .setBlockNumber(1)
+                .setOrdReplication(1)
+                .setDataNodeId("bench-node")
+                .setIpAddress("127.0.0.1")
+                .setPortNumber(1099)
+                .build();
+        ProtosHDFS.Block block = ProtosHDFS.Block.newBuilder()
+                .setBlockMeta(blockMeta)
+                .setBlockContents(blockContents)
+                .build();
+        return ProtosHDFS.Request.newBuilder()
+                .setRequestId("bench")
+                .setRequestType(ProtosHDFS.Request.RequestType.WRITE)
+                .setBlock(block)
+                .build();
+    }
+
+    // Old path: encode the block as text, then decode it back to a String and write its bytes
+    private static byte[] encodeAsString(byte[] blockContents){
+        return makeRequest(ByteString.copyFromUtf8(Arrays.toString(blockContents))).toByteArray();
+    }
+
+    private static void decodeAsString(byte[] wire) throws IOException {
+        String blockContents = ProtosHDFS.Request.parseFrom(wire).getBlock().getBlockContents().toStringUtf8();
+        DISCARD.write(blockContents.getBytes());
+    }
+
+    // New path: wrap the raw bytes and write them out untouched
+    private static byte[] encodeAsBytes(byte[] blockContents){
+        return makeRequest(UnsafeByteOperations.unsafeWrap(blockContents)).toByteArray();
+    }
+
+    private static void decodeAsBytes(byte[] wire) throws IOException {
+        ProtosHDFS.Request.parseFrom(wire).getBlock().getBlockContents().writeTo(DISCARD);
+    }
+
+    private static void report(String name, long rawBytes, long wireBytes, int iterations, long nanos){
+        double megabytes = (double) rawBytes * iterations / (1024 * 1024);
+        double seconds = nanos / 1e9;
+        System.out.printf("%-8s wire bytes/block: %,d (%.2fx raw)   round trip: %.1f MB/s%n",
+                name, wireBytes, (double) wireBytes / rawBytes, megabytes / seconds);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int blockSize = (args.length > 0) ? Integer.parseInt(args[0]) : 4 * 1024 * 1024;
+        int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 20;
+
+        byte[] blockContents = new byte[blockSize];
+        new Random(42).nextBytes(blockContents);
+
+        // Warm up both paths so the JIT has compiled them before timing
+        for(int i = 0; i < 3; i++){
+            decodeAsString(encodeAsString(blockContents));
+            decodeAsBytes(encodeAsBytes(blockContents));
+        }
+
+        long stringWire = 0;
+        long start = System.nanoTime();
+        for(int i = 0; i < iterations; i++){
+            byte[] wire = encodeAsString(blockContents);
+            decodeAsString(wire);
+            stringWire = wire.length;
+        }
+        long stringNanos = System.nanoTime() - start;
+
+        long bytesWire = 0;
+        start = System.nanoTime();
+        for(int i = 0; i < iterations; i++){
+            byte[] wire = encodeAsBytes(blockContents);
+            decodeAsBytes(wire);
+            bytesWire = wire.length;
+        }
+        long bytesNanos = System.nanoTime() - start;
+
+        System.out.printf("block size: %,d bytes, iterations: %d%n", blockSize, iterations);
+        report("string", blockSize, stringWire, iterations, stringNanos);
+        report("bytes", blockSize, bytesWire, iterations, bytesNanos);
+    }
+}
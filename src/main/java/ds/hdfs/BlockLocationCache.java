@@ -0,0 +1,75 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Client side cache of getBlockLocations results by file ID, so repeated reads of a file skip the Name Node
+//
+// Entries are kept in access order and the least recently used one is dropped once there are more than
+// maxEntries. An entry is trusted for a fixed TTL; after that it is still returned, along with the
+// generation it was fetched at, so the client can ask the Name Node whether the file was created again
+// instead of fetching every location anew. The generation only covers the file itself: replicas can
+// still move, so a client that finds a block missing from a cached location drops the entry.
+public class BlockLocationCache {
+
+    public static final class Entry {
+        private final long generation;
+        private final List<ProtosHDFS.Pipeline> pipelines;
+        private final long expiresAt;
+
+        Entry(long generation, List<ProtosHDFS.Pipeline> pipelines, long expiresAt){
+            this.generation = generation;
+            this.pipelines = pipelines;
+            this.expiresAt = expiresAt;
+        }
+
+        public long getGeneration(){
+            return this.generation;
+        }
+
+        public List<ProtosHDFS.Pipeline> getPipelines(){
+            return this.pipelines;
+        }
+
+        // Fresh entries are used as they are; stale ones have to be revalidated first
+        public boolean isFresh(){
+            return this.expiresAt - System.nanoTime() > 0;
+        }
+    }
+
+    private final LinkedHashMap<String, Entry> entries;
+    private final long ttlNanos;
+
+    public BlockLocationCache(long ttlMillis, int maxEntries) {
+        this.ttlNanos = ttlMillis * 1000000L;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest){
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // Returns the cached locations of fileId, fresh or not, or null if there are none
+    public synchronized Entry get(String fileId){
+        return this.entries.get(fileId);
+    }
+
+    // Caches locations fetched (or confirmed unchanged) just now, fresh for another TTL
+    public synchronized Entry put(String fileId, long generation, List<ProtosHDFS.Pipeline> pipelines){
+        Entry entry = new Entry(generation, pipelines, System.nanoTime() + this.ttlNanos);
+        this.entries.put(fileId, entry);
+        return entry;
+    }
+
+    public synchronized void invalidate(String fileId){
+        this.entries.remove(fileId);
+    }
+
+    public synchronized int size(){
+        return this.entries.size();
+    }
+}
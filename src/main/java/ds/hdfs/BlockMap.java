@@ -0,0 +1,641 @@
+package ds.hdfs;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Every block the Name Node knows and the Data Nodes holding its replicas, kept off the Java heap
+//
+// The map is an open addressing hash table keyed by block id, probed linearly, in direct ByteBuffers of
+// at most SEGMENT_SLOTS slots each. The heap holds a handful of buffer objects however many blocks there
+// are, so the garbage collector has nothing to trace. Each slot is SLOT_SIZE bytes:
+//     long blockId (0 in an empty slot), long fileGeneration, int blockNumber, int replica count,
+//     MAX_REPLICAS times (int Data Node index, int replica length or -1 until the replica reports it)
+// A replica is the index of its Data Node in a DataNodeTable, which keeps the node's details once.
+// Deletes shift the rest of the probe run back instead of leaving tombstones, so probes stay short
+// however many blocks come and go, and the table doubles once it is three quarters full.
+//
+// Every update also keeps a set of block ids per Data Node, so the blocks on one node are found in time
+// proportional to their number instead of by a scan of the whole table. The sets are open-addressed tables
+// in direct buffers of their own, next to the segments, so the heap only holds one small object per Data
+// Node for them; at 3 replicas a block, they add 24 to 48 bytes per block off the heap.
+//
+// One read/write lock guards the table and the sets: lookups share it and updates take it alone, each for
+// a few memory accesses. Lookups return a Block, a small heap copy of the slot that stays valid after the lock
+// is released. Direct buffers count against -XX:MaxDirectMemorySize, which has to leave room for the map
+// and, while a checkpoint is being taken, a copy of it.
+public class BlockMap implements Iterable<BlockMap.Block> {
+
+    // Replicas one block can have at once; more than that are not recorded
+    public static final int MAX_REPLICAS = 6;
+
+    // Results of addReplica
+    public static final int NO_SUCH_BLOCK = -1;
+    public static final int UNCHANGED = 0;
+    public static final int ADDED = 1;
+    public static final int LENGTH_SET = 2;
+    public static final int FULL = 3;
+    public static final int STALE = 4;
+
+    private static final int BLOCK_ID = 0;
+    private static final int FILE_GENERATION = 8;
+    private static final int BLOCK_NUMBER = 16;
+    private static final int REPLICA_COUNT = 20;
+    private static final int REPLICAS = 24;
+    private static final int REPLICA_SIZE = 8;
+    protected static final int SLOT_SIZE = REPLICAS + MAX_REPLICAS * REPLICA_SIZE;
+
+    private static final int SEGMENT_BITS = 20;
+    private static final int SEGMENT_SLOTS = 1 << SEGMENT_BITS;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    // Slots an iterator copies out per lock acquisition, so writers never wait for a whole scan
+    private static final int SCAN_CHUNK = 4096;
+
+    // A copy of one block's slot
+    public static final class Block {
+        private final long blockId;
+        private final long fileGeneration;
+        private final int blockNumber;
+        private final int[] dataNodes;
+        private final int[] lengths;
+
+        Block(long blockId, long fileGeneration, int blockNumber, int[] dataNodes, int[] lengths){
+            this.blockId = blockId;
+            this.fileGeneration = fileGeneration;
+            this.blockNumber = blockNumber;
+            this.dataNodes = dataNodes;
+            this.lengths = lengths;
+        }
+
+        public long getBlockId(){
+            return this.blockId;
+        }
+
+        public long getFileGeneration(){
+            return this.fileGeneration;
+        }
+
+        public int getBlockNumber(){
+            return this.blockNumber;
+        }
+
+        public int getReplicaCount(){
+            return this.dataNodes.length;
+        }
+
+        // Index in the DataNodeTable of the Data Node holding replica
+        public int getDataNode(int replica){
+            return this.dataNodes[replica];
+        }
+
+        // Length replica reported, or -1 if it has not reported yet
+        public int getLength(int replica){
+            return this.lengths[replica];
+        }
+
+        // Longest length any replica reported, or -1 if none has
+        public int getLength(){
+            int length = -1;
+            for(int replicaLength : this.lengths){
+                length = Math.max(length, replicaLength);
+            }
+            return length;
+        }
+
+        // Which replica dataNode holds, or -1 if it holds none
+        public int indexOf(int dataNode){
+            for(int replica = 0; replica < this.dataNodes.length; replica++){
+                if(this.dataNodes[replica] == dataNode){
+                    return replica;
+                }
+            }
+            return -1;
+        }
+    }
+
+    // Ids of the blocks one Data Node holds a replica of: open addressing over a direct buffer of longs,
+    // probed linearly, 0 marking an empty slot, with the same backward shift deletion as the table. A set
+    // starts at MIN_CAPACITY ids and doubles once three quarters full, so it takes 8 to 16 bytes per id
+    // off the heap and one small buffer object on it.
+    private static final class BlockIdSet {
+        private ByteBuffer ids = allocateIds(MIN_CAPACITY);
+        private int capacity = MIN_CAPACITY;
+        private int size;
+
+        private static ByteBuffer allocateIds(int capacity){
+            return ByteBuffer.allocateDirect(capacity * 8).order(ByteOrder.nativeOrder());
+        }
+
+        private long get(int slot){
+            return this.ids.getLong(slot << 3);
+        }
+
+        private void set(int slot, long blockId){
+            this.ids.putLong(slot << 3, blockId);
+        }
+
+        long getBytes(){
+            return (long)this.capacity * 8;
+        }
+
+        void add(long blockId){
+            if((long)(this.size + 1) * 4 > (long)this.capacity * 3){
+                ByteBuffer old = this.ids;
+                int oldCapacity = this.capacity;
+                this.capacity = oldCapacity * 2;
+                this.ids = allocateIds(this.capacity);
+                for(int slot = 0; slot < oldCapacity; slot++){
+                    long id = old.getLong(slot << 3);
+                    if(id != 0){
+                        insert(id);
+                    }
+                }
+            }
+            if(insert(blockId)){
+                this.size++;
+            }
+        }
+
+        private boolean insert(long blockId){
+            int mask = this.capacity - 1;
+            int slot = hash(blockId) & mask;
+            for(long id = get(slot); id != 0; id = get(slot)){
+                if(id == blockId){
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            set(slot, blockId);
+            return true;
+        }
+
+        void remove(long blockId){
+            int mask = this.capacity - 1;
+            int hole = hash(blockId) & mask;
+            for(long id = get(hole); id != blockId; id = get(hole)){
+                if(id == 0){
+                    return;
+                }
+                hole = (hole + 1) & mask;
+            }
+            for(int next = (hole + 1) & mask; get(next) != 0; next = (next + 1) & mask){
+                int home = hash(get(next)) & mask;
+                if(((next - home) & mask) >= ((next - hole) & mask)){
+                    set(hole, get(next));
+                    hole = next;
+                }
+            }
+            set(hole, 0);
+            this.size--;
+        }
+
+        // Up to limit ids, taken in slot order from the slot start falls on, wrapping around the end
+        long[] toArray(int limit, int start){
+            long[] blockIds = new long[Math.min(this.size, limit)];
+            int mask = this.capacity - 1;
+            int count = 0;
+            for(int i = 0; i < this.capacity && count < blockIds.length; i++){
+                long id = get((start + i) & mask);
+                if(id != 0){
+                    blockIds[count++] = id;
+                }
+            }
+            return blockIds;
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock
+    private ByteBuffer[] segments;
+    private int mask;
+    private int size;
+    // Blocks by Data Node index; null for a Data Node that never held a replica
+    private BlockIdSet[] blocksByDataNode = new BlockIdSet[MIN_CAPACITY];
+
+    // expectedBlocks sizes the table up front, so loading a known number of blocks never resizes it
+    public BlockMap(int expectedBlocks) {
+        int capacity = MIN_CAPACITY;
+        while(capacity < MAX_CAPACITY && (long)capacity * 3 / 4 < expectedBlocks){
+            capacity <<= 1;
+        }
+        this.segments = allocate(capacity);
+        this.mask = capacity - 1;
+    }
+
+    private BlockMap(ByteBuffer[] segments, int mask, int size) {
+        this.segments = segments;
+        this.mask = mask;
+        this.size = size;
+    }
+
+    private BlockIdSet blocksOf(int dataNode){
+        if(dataNode >= this.blocksByDataNode.length){
+            this.blocksByDataNode = Arrays.copyOf(this.blocksByDataNode,
+                    Math.max(dataNode + 1, this.blocksByDataNode.length * 2));
+        }
+        BlockIdSet blockIds = this.blocksByDataNode[dataNode];
+        if(blockIds == null){
+            blockIds = new BlockIdSet();
+            this.blocksByDataNode[dataNode] = blockIds;
+        }
+        return blockIds;
+    }
+
+    private static ByteBuffer[] allocate(int capacity){
+        int segmentSlots = Math.min(capacity, SEGMENT_SLOTS);
+        ByteBuffer[] segments = new ByteBuffer[capacity / segmentSlots];
+        for(int i = 0; i < segments.length; i++){
+            segments[i] = ByteBuffer.allocateDirect(segmentSlots * SLOT_SIZE).order(ByteOrder.nativeOrder());
+        }
+        return segments;
+    }
+
+    // Spreads sequential ids over the table (the finalizer of MurmurHash3)
+    private static int hash(long blockId){
+        long h = blockId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int)h;
+    }
+
+    private ByteBuffer segment(int slot){
+        return this.segments[slot >>> SEGMENT_BITS];
+    }
+
+    private static int offset(int slot){
+        return (slot & (SEGMENT_SLOTS - 1)) * SLOT_SIZE;
+    }
+
+    private long getBlockId(int slot){
+        return segment(slot).getLong(offset(slot) + BLOCK_ID);
+    }
+
+    // The slot holding blockId, or the empty slot that ends its probe run if it is not in the table
+    private int findSlot(long blockId){
+        int slot = hash(blockId) & this.mask;
+        long id;
+        while((id = getBlockId(slot)) != 0 && id != blockId){
+            slot = (slot + 1) & this.mask;
+        }
+        return slot;
+    }
+
+    private Block read(int slot){
+        ByteBuffer segment = segment(slot);
+        int offset = offset(slot);
+        int count = segment.getInt(offset + REPLICA_COUNT);
+        int[] dataNodes = new int[count];
+        int[] lengths = new int[count];
+        for(int replica = 0; replica < count; replica++){
+            dataNodes[replica] = segment.getInt(offset + REPLICAS + replica * REPLICA_SIZE);
+            lengths[replica] = segment.getInt(offset + REPLICAS + replica * REPLICA_SIZE + 4);
+        }
+        return new Block(segment.getLong(offset + BLOCK_ID), segment.getLong(offset + FILE_GENERATION),
+                segment.getInt(offset + BLOCK_NUMBER), dataNodes, lengths);
+    }
+
+    private void copySlot(ByteBuffer[] fromSegments, int from, ByteBuffer[] toSegments, int to){
+        ByteBuffer fromSegment = fromSegments[from >>> SEGMENT_BITS];
+        ByteBuffer toSegment = toSegments[to >>> SEGMENT_BITS];
+        int fromOffset = offset(from);
+        int toOffset = offset(to);
+        for(int i = 0; i < SLOT_SIZE; i += 8){
+            toSegment.putLong(toOffset + i, fromSegment.getLong(fromOffset + i));
+        }
+    }
+
+    // Doubles the table and moves every block to its slot in the new one; the caller holds the write lock
+    private void grow(){
+        int capacity = this.mask + 1;
+        if(capacity == MAX_CAPACITY){
+            throw new IllegalStateException("The block map is full at " + this.size + " blocks");
+        }
+        ByteBuffer[] grown = allocate(capacity * 2);
+        int grownMask = capacity * 2 - 1;
+        for(int slot = 0; slot < capacity; slot++){
+            long blockId = getBlockId(slot);
+            if(blockId == 0){
+                continue;
+            }
+            int to = hash(blockId) & grownMask;
+            while(grown[to >>> SEGMENT_BITS].getLong(offset(to) + BLOCK_ID) != 0){
+                to = (to + 1) & grownMask;
+            }
+            copySlot(this.segments, slot, grown, to);
+        }
+        this.segments = grown;
+        this.mask = grownMask;
+    }
+
+    public Block get(long blockId){
+        this.lock.readLock().lock();
+        try{
+            int slot = findSlot(blockId);
+            return (getBlockId(slot) == 0) ? null : read(slot);
+        }finally{
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long blockId){
+        this.lock.readLock().lock();
+        try{
+            return getBlockId(findSlot(blockId)) != 0;
+        }finally{
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // Adds the block, or replaces it, with the first count of dataNodes and lengths as its replicas
+    // blockId must not be 0, and replicas past MAX_REPLICAS are left out
+    public void put(long blockId, long fileGeneration, int blockNumber, int[] dataNodes, int[] lengths, int count){
+        this.lock.writeLock().lock();
+        try{
+            int slot = findSlot(blockId);
+            if(getBlockId(slot) == 0){
+                if((long)(this.size + 1) * 4 > (long)(this.mask + 1) * 3){
+                    grow();
+                    slot = findSlot(blockId);
+                }
+                this.size++;
+            }else{
+                removeFromDataNodes(slot);
+            }
+            ByteBuffer segment = segment(slot);
+            int offset = offset(slot);
+            count = Math.min(count, MAX_REPLICAS);
+            segment.putLong(offset + BLOCK_ID, blockId);
+            segment.putLong(offset + FILE_GENERATION, fileGeneration);
+            segment.putInt(offset + BLOCK_NUMBER, blockNumber);
+            segment.putInt(offset + REPLICA_COUNT, count);
+            for(int replica = 0; replica < count; replica++){
+                segment.putInt(offset + REPLICAS + replica * REPLICA_SIZE, dataNodes[replica]);
+                segment.putInt(offset + REPLICAS + replica * REPLICA_SIZE + 4, lengths[replica]);
+                blocksOf(dataNodes[replica]).add(blockId);
+            }
+        }finally{
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long blockId){
+        this.lock.writeLock().lock();
+        try{
+            int hole = findSlot(blockId);
+            if(getBlockId(hole) == 0){
+                return false;
+            }
+            removeFromDataNodes(hole);
+            // Entries after the hole move back into it unless that would put them before their home slot
+            for(int next = (hole + 1) & this.mask; getBlockId(next) != 0; next = (next + 1) & this.mask){
+                int home = hash(getBlockId(next)) & this.mask;
+                if(((next - home) & this.mask) >= ((next - hole) & this.mask)){
+                    copySlot(this.segments, next, this.segments, hole);
+                    hole = next;
+                }
+            }
+            segment(hole).putLong(offset(hole) + BLOCK_ID, 0);
+            this.size--;
+            return true;
+        }finally{
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // Records that dataNode holds the block, with the length it reported or -1; a replica already
+    // recorded only takes the length, and only if it did not have one. A replica written under another
+    // generation stamp than the block's is not recorded. Returns what changed.
+    public int addReplica(long blockId, long generationStamp, int dataNode, int length){
+        this.lock.writeLock().lock();
+        try{
+            int slot = findSlot(blockId);
+            if(getBlockId(slot) == 0){
+                return NO_SUCH_BLOCK;
+            }
+            if(segment(slot).getLong(offset(slot) + FILE_GENERATION) != generationStamp){
+                return STALE;
+            }
+            return addReplica(slot, blockId, dataNode, length);
+        }finally{
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // addReplica on the block in slot; the caller holds the write lock
+    private int addReplica(int slot, long blockId, int dataNode, int length){
+        ByteBuffer segment = segment(slot);
+        int offset = offset(slot);
+        int count = segment.getInt(offset + REPLICA_COUNT);
+        for(int replica = 0; replica < count; replica++){
+            int replicaOffset = offset + REPLICAS + replica * REPLICA_SIZE;
+            if(segment.getInt(replicaOffset) != dataNode){
+                continue;
+            }
+            if(segment.getInt(replicaOffset + 4) >= 0 || length < 0){
+                return UNCHANGED;
+            }
+            segment.putInt(replicaOffset + 4, length);
+            return LENGTH_SET;
+        }
+        if(count == MAX_REPLICAS){
+            return FULL;
+        }
+        segment.putInt(offset + REPLICAS + count * REPLICA_SIZE, dataNode);
+        segment.putInt(offset + REPLICAS + count * REPLICA_SIZE + 4, length);
+        segment.putInt(offset + REPLICA_COUNT, count + 1);
+        blocksOf(dataNode).add(blockId);
+        return ADDED;
+    }
+
+    // Forgets dataNode's replica of the block; returns false if it had none
+    public boolean removeReplica(long blockId, int dataNode){
+        this.lock.writeLock().lock();
+        try{
+            int slot = findSlot(blockId);
+            if(getBlockId(slot) == 0){
+                return false;
+            }
+            ByteBuffer segment = segment(slot);
+            int offset = offset(slot);
+            int count = segment.getInt(offset + REPLICA_COUNT);
+            for(int replica = 0; replica < count; replica++){
+                if(segment.getInt(offset + REPLICAS + replica * REPLICA_SIZE) == dataNode){
+                    removeReplica(slot, blockId, replica);
+                    return true;
+                }
+            }
+            return false;
+        }finally{
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // Drops replica number replica of the block in slot; later replicas move up one, keeping their order
+    // The caller holds the write lock
+    private void removeReplica(int slot, long blockId, int replica){
+        ByteBuffer segment = segment(slot);
+        int offset = offset(slot);
+        int count = segment.getInt(offset + REPLICA_COUNT);
+        int dataNode = segment.getInt(offset + REPLICAS + replica * REPLICA_SIZE);
+        for(int later = replica + 1; later < count; later++){
+            int from = offset + REPLICAS + later * REPLICA_SIZE;
+            segment.putLong(from - REPLICA_SIZE, segment.getLong(from));
+        }
+        segment.putInt(offset + REPLICA_COUNT, count - 1);
+        blocksOf(dataNode).remove(blockId);
+    }
+
+    // Brings the block to what closing its file decided, without losing replicas reported since: each of
+    // the count replicas in dataNodes is recorded, taking its length from lengths if it has none yet, and
+    // any replica whose length is known and differs from length is dropped. Unlike put, replicas the
+    // decision did not list are kept. Returns false if there is no such block.
+    public boolean settle(long blockId, int length, int[] dataNodes, int[] lengths, int count){
+        this.lock.writeLock().lock();
+        try{
+            int slot = findSlot(blockId);
+            if(getBlockId(slot) == 0){
+                return false;
+            }
+            for(int i = 0; i < count; i++){
+                addReplica(slot, blockId, dataNodes[i], lengths[i]);
+            }
+            ByteBuffer segment = segment(slot);
+            int offset = offset(slot);
+            for(int replica = segment.getInt(offset + REPLICA_COUNT) - 1; replica >= 0; replica--){
+                int replicaLength = segment.getInt(offset + REPLICAS + replica * REPLICA_SIZE + 4);
+                if(replicaLength >= 0 && replicaLength != length){
+                    removeReplica(slot, blockId, replica);
+                }
+            }
+            return true;
+        }finally{
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // Drops the block in slot from the sets of the Data Nodes holding it; the caller holds the write lock
+    private void removeFromDataNodes(int slot){
+        ByteBuffer segment = segment(slot);
+        int offset = offset(slot);
+        long blockId = segment.getLong(offset + BLOCK_ID);
+        int count = segment.getInt(offset + REPLICA_COUNT);
+        for(int replica = 0; replica < count; replica++){
+            blocksOf(segment.getInt(offset + REPLICAS + replica * REPLICA_SIZE)).remove(blockId);
+        }
+    }
+
+    // Ids of up to limit of the blocks dataNode holds a replica of, in no particular order
+    // Different values of start give different blocks when there are more than limit, so callers that
+    // cannot use every block they get can vary start to see the rest over time
+    public long[] getBlockIds(int dataNode, int limit, int start){
+        this.lock.readLock().lock();
+        try{
+            if(dataNode < 0 || dataNode >= this.blocksByDataNode.length || this.blocksByDataNode[dataNode] == null){
+                return new long[0];
+            }
+            return this.blocksByDataNode[dataNode].toArray(limit, start);
+        }finally{
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public long[] getBlockIds(int dataNode){
+        return getBlockIds(dataNode, Integer.MAX_VALUE, 0);
+    }
+
+    public int size(){
+        this.lock.readLock().lock();
+        try{
+            return this.size;
+        }finally{
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // Bytes of direct memory the table and the sets of blocks by Data Node take
+    public long getOffHeapBytes(){
+        this.lock.readLock().lock();
+        try{
+            long bytes = (long)(this.mask + 1) * SLOT_SIZE;
+            for(BlockIdSet blockIds : this.blocksByDataNode){
+                if(blockIds != null){
+                    bytes += blockIds.getBytes();
+                }
+            }
+            return bytes;
+        }finally{
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // A copy of the whole table as it is now, for a checkpoint to write out while this one keeps changing
+    // The copy is only for reading: it has no sets of blocks by Data Node
+    public BlockMap copy(){
+        this.lock.readLock().lock();
+        try{
+            ByteBuffer[] segments = new ByteBuffer[this.segments.length];
+            for(int i = 0; i < segments.length; i++){
+                ByteBuffer source = this.segments[i].duplicate();
+                source.clear();
+                segments[i] = ByteBuffer.allocateDirect(source.capacity()).order(ByteOrder.nativeOrder());
+                segments[i].put(source).clear();
+            }
+            return new BlockMap(segments, this.mask, this.size);
+        }finally{
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // Copies the blocks in up to SCAN_CHUNK slots from start into chunk and returns the slot to go on from,
+    // or -1 after the last one
+    private int readChunk(int start, List<Block> chunk){
+        this.lock.readLock().lock();
+        try{
+            int end = Math.min(this.mask + 1, start + SCAN_CHUNK);
+            for(int slot = start; slot < end; slot++){
+                if(getBlockId(slot) != 0){
+                    chunk.add(read(slot));
+                }
+            }
+            return (end == this.mask + 1) ? -1 : end;
+        }finally{
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // Copies of every block, read SCAN_CHUNK slots at a time and never holding the lock between calls,
+    // so the map can be changed while iterating it. Blocks added, removed or moved by a resize while
+    // the iteration runs may be missed or seen twice.
+    public Iterator<Block> iterator(){
+        return new Iterator<Block>(){
+            private final List<Block> chunk = new ArrayList<>();
+            private int next;
+            private int start;
+
+            public boolean hasNext(){
+                while(this.next == this.chunk.size() && this.start >= 0){
+                    this.chunk.clear();
+                    this.next = 0;
+                    this.start = readChunk(this.start, this.chunk);
+                }
+                return this.next < this.chunk.size();
+            }
+
+            public Block next(){
+                if(!hasNext()){
+                    throw new NoSuchElementException();
+                }
+                return this.chunk.get(this.next++);
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Measures the memory each block costs in the off-heap BlockMap against the map of BlockMetaData lists it
+// replaced, and how fast each answers lookups. Heap use is read from the runtime after a full collection,
+// so run it with a heap large enough for the old map (about 2 GB per 5M blocks) and nothing else going on.
+// Last, it times finding the blocks of one Data Node, as when it dies, by a scan of the whole map against
+// the map's blocks by Data Node.
+// Usage: BlockMapBenchmark [blocks] [replicas] [lookups]
+public class BlockMapBenchmark {
+
+    private static long usedHeap(){
+        Runtime runtime = Runtime.getRuntime();
+        for(int i = 0; i < 3; i++){
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String dataNodeId(int block, int replica){
+        return "datanode-" + ((block * 7 + replica) % 100);
+    }
+
+    // The same pseudo-random block numbers for both maps
+    private static int nextBlock(long[] state, int blocks){
+        long x = state[0];
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        state[0] = x;
+        return (int)((x >>> 1) % blocks);
+    }
+
+    public static void main(String[] args){
+        int blocks = (args.length > 0) ? Integer.parseInt(args[0]) : 5000000;
+        int replicas = (args.length > 1) ? Integer.parseInt(args[1]) : 3;
+        int lookups = (args.length > 2) ? Integer.parseInt(args[2]) : 10000000;
+        System.out.printf("%,d blocks of %d replicas, %,d lookups%n%n", blocks, replicas, lookups);
+        System.out.printf("%-10s %14s %14s %18s %14s%n", "map", "heap MB", "off-heap MB", "bytes per replica",
+                "lookups/s");
+
+        long baseline = usedHeap();
+        ConcurrentHashMap<String, ArrayList<ProtosHDFS.BlockMetaData>> blockMetas = new ConcurrentHashMap<>();
+        for(int block = 0; block < blocks; block++){
+            String fileId = "/bench/file" + block;
+            ArrayList<ProtosHDFS.BlockMetaData> replicaMetas = new ArrayList<>(replicas);
+            for(int replica = 0; replica < replicas; replica++){
+                replicaMetas.add(ProtosHDFS.BlockMetaData.newBuilder()
+                        .setBlockId(fileId + "_1")
+                        .setFileId(fileId)
+                        .setFileName(fileId)
+                        .setBlockNumber(1)
+                        .setOrdReplication(replica + 1)
+                        .setDataNodeId(dataNodeId(block, replica))
+                        .setIpAddress("127.0.0.1")
+                        .setPortNumber(1099)
+                        .setLength(64 * 1024 * 1024)
+                        .build());
+            }
+            blockMetas.put(fileId + "_1", replicaMetas);
+        }
+        long heap = usedHeap() - baseline;
+        long[] state = {42};
+        long found = 0;
+        long startNanos = System.nanoTime();
+        for(int i = 0; i < lookups; i++){
+            // A key built from a request is a new string, without the hash code the stored one has cached
+            ArrayList<ProtosHDFS.BlockMetaData> replicaMetas =
+                    blockMetas.get("/bench/file" + nextBlock(state, blocks) + "_1");
+            found += replicaMetas.size();
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("%-10s %,14.1f %,14.1f %,18.1f %,14.0f%n", "old", heap / (1024.0 * 1024), 0.0,
+                (double)heap / blocks / replicas, lookups / seconds);
+        blockMetas = null;
+
+        baseline = usedHeap();
+        DataNodeTable dataNodes = new DataNodeTable();
+        BlockMap blockMap = new BlockMap(blocks);
+        int[] replicaNodes = new int[replicas];
+        int[] replicaLengths = new int[replicas];
+        for(int block = 0; block < blocks; block++){
+            for(int replica = 0; replica < replicas; replica++){
+                replicaNodes[replica] = dataNodes.getIndex(dataNodeId(block, replica));
+                replicaLengths[replica] = 64 * 1024 * 1024;
+            }
+            blockMap.put(block + 1, block + 1, 1, replicaNodes, replicaLengths, replicas);
+        }
+        heap = usedHeap() - baseline;
+        state[0] = 42;
+        startNanos = System.nanoTime();
+        for(int i = 0; i < lookups; i++){
+            found += blockMap.get(nextBlock(state, blocks) + 1).getReplicaCount();
+        }
+        seconds = (System.nanoTime() - startNanos) / 1e9;
+        long offHeap = blockMap.getOffHeapBytes();
+        System.out.printf("%-10s %,14.1f %,14.1f %,18.1f %,14.0f%n", "BlockMap", heap / (1024.0 * 1024),
+                offHeap / (1024.0 * 1024), (double)(heap + offHeap) / blocks / replicas, lookups / seconds);
+        if(found != 2L * lookups * replicas){
+            throw new IllegalStateException("Lookups found " + found + " replicas");
+        }
+
+        int dataNode = dataNodes.findIndex(dataNodeId(0, 0));
+        startNanos = System.nanoTime();
+        int scanned = 0;
+        for(BlockMap.Block block : blockMap){
+            if(block.indexOf(dataNode) >= 0){
+                scanned++;
+            }
+        }
+        double scanMs = (System.nanoTime() - startNanos) / 1e6;
+        startNanos = System.nanoTime();
+        int indexed = blockMap.getBlockIds(dataNode).length;
+        double indexMs = (System.nanoTime() - startNanos) / 1e6;
+        if(scanned != indexed){
+            throw new IllegalStateException("Scan found " + scanned + " blocks, the index " + indexed);
+        }
+        System.out.printf("%nBlocks on one Data Node (%,d): full scan %,.1f ms, by Data Node %,.1f ms%n", indexed,
+                scanMs, indexMs);
+    }
+}
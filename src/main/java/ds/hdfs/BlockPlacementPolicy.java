@@ -0,0 +1,18 @@
+package ds.hdfs;
+
+import java.util.List;
+
+// Decides which Data Nodes receive the replicas of a new block, or the extra replicas of an under-replicated one
+// The Name Node loads the class named by block_placement_policy in nameConfig.properties, so it needs
+// a public no-argument constructor; initialize is called once before the first chooseTargets
+public interface BlockPlacementPolicy {
+
+    /* Gives the policy the Name Node's view of which Data Nodes are live and where they sit */
+    void initialize(HeartbeatManager heartbeatManager, NetworkTopology topology);
+
+    /* Chooses replicas more distinct Data Nodes for one block in pipeline order; fewer if not enough qualify
+       writer is the address of the machine that will send the block, or null if it is not known
+       existing are the IDs of Data Nodes that already hold the block; they are never chosen again,
+       and count towards spreading the block's replicas */
+    List<String> chooseTargets(int replicas, long blockSize, String writer, List<String> existing);
+}
@@ -0,0 +1,146 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Keeps the Name Node's view of a Data Node's blocks up to date
+//
+// Every block received, deleted or found corrupt is queued as a delta and sent in the next incremental
+// report, which goes out as soon as there is something to send. Deltas that pile up while a report is
+// in flight all go in the one after it, so a burst of writes costs a handful of RPCs, not one per block.
+//
+// A full report of every block is sent only every FULL_REPORT_INTERVAL_MS, to catch anything the
+// deltas missed. The first one is delayed by a random part of FULL_REPORT_INITIAL_DELAY_MS so a cluster
+// starting together does not report all at once, and each is split into chunks of FULL_REPORT_CHUNK_SIZE
+// blocks so neither side ever handles a whole Data Node's blocks in one message.
+public class BlockReporter implements Runnable {
+
+    protected static final long FULL_REPORT_INTERVAL_MS = 6 * 60 * 60 * 1000;
+    protected static final long FULL_REPORT_INITIAL_DELAY_MS = 2 * 60 * 1000;
+    protected static final long FULL_REPORT_RETRY_MS = 60 * 1000;
+    protected static final int FULL_REPORT_CHUNK_SIZE = 5000;
+    // Pause before resending deltas after a failed report
+    protected static final long REPORT_RETRY_MS = 1000;
+
+    private final DataNode dataNode;
+
+    // Guarded by this
+    private ArrayList<ProtosHDFS.BlockMetaData> received = new ArrayList<>();
+    private ArrayList<ProtosHDFS.BlockMetaData> deleted = new ArrayList<>();
+    private ArrayList<ProtosHDFS.BlockMetaData> corrupt = new ArrayList<>();
+
+    public BlockReporter(DataNode dataNode) {
+        this.dataNode = dataNode;
+    }
+
+    public synchronized void blockReceived(ProtosHDFS.BlockMetaData blockMeta){
+        this.received.add(blockMeta);
+        notifyAll();
+    }
+
+    public synchronized void blockDeleted(ProtosHDFS.BlockMetaData blockMeta){
+        this.deleted.add(blockMeta);
+        notifyAll();
+    }
+
+    public synchronized void blockCorrupt(ProtosHDFS.BlockMetaData blockMeta){
+        this.corrupt.add(blockMeta);
+        notifyAll();
+    }
+
+    private boolean hasDeltas(){
+        return !this.received.isEmpty() || !this.deleted.isEmpty() || !this.corrupt.isEmpty();
+    }
+
+    public void run(){
+        long nextFullReport = System.currentTimeMillis()
+                + ThreadLocalRandom.current().nextLong(FULL_REPORT_INITIAL_DELAY_MS);
+        while(true){
+            ProtosHDFS.BlockReport.Builder reportBuilder = ProtosHDFS.BlockReport.newBuilder()
+                    .setReportId(UUID.randomUUID().toString())
+                    .setDataNodeId(this.dataNode.dataNodeId)
+                    .setReportType(ProtosHDFS.BlockReport.ReportType.INCREMENTAL);
+            List<ProtosHDFS.BlockMetaData> sentReceived;
+            List<ProtosHDFS.BlockMetaData> sentDeleted;
+            List<ProtosHDFS.BlockMetaData> sentCorrupt;
+            synchronized(this){
+                long now;
+                while(!hasDeltas() && (now = System.currentTimeMillis()) < nextFullReport){
+                    try{
+                        wait(nextFullReport - now);
+                    }catch(InterruptedException e){
+                        return;
+                    }
+                }
+                sentReceived = this.received;
+                sentDeleted = this.deleted;
+                sentCorrupt = this.corrupt;
+                this.received = new ArrayList<>();
+                this.deleted = new ArrayList<>();
+                this.corrupt = new ArrayList<>();
+            }
+
+            if(!sentReceived.isEmpty() || !sentDeleted.isEmpty() || !sentCorrupt.isEmpty()){
+                ProtosHDFS.BlockReport report = reportBuilder.addAllReceived(sentReceived)
+                        .addAllDeleted(sentDeleted)
+                        .addAllCorrupt(sentCorrupt)
+                        .build();
+                try{
+                    this.dataNode.nameNodeStub.blockReport(report.toByteArray());
+                }catch(IOException e){
+                    System.err.println("Incremental block report failed, will resend: " + e.toString());
+                    requeue(sentReceived, sentDeleted, sentCorrupt);
+                    try{
+                        Thread.sleep(REPORT_RETRY_MS);
+                    }catch(InterruptedException ie){
+                        return;
+                    }
+                    continue;
+                }
+            }
+
+            if(System.currentTimeMillis() >= nextFullReport){
+                try{
+                    sendFullReport();
+                    nextFullReport = System.currentTimeMillis() + FULL_REPORT_INTERVAL_MS;
+                }catch(IOException e){
+                    System.err.println("Full block report failed, will retry: " + e.toString());
+                    nextFullReport = System.currentTimeMillis() + FULL_REPORT_RETRY_MS;
+                }
+            }
+        }
+    }
+
+    // Puts deltas that could not be sent back in front of any queued since, keeping their order
+    private synchronized void requeue(List<ProtosHDFS.BlockMetaData> sentReceived,
+                                      List<ProtosHDFS.BlockMetaData> sentDeleted,
+                                      List<ProtosHDFS.BlockMetaData> sentCorrupt){
+        this.received.addAll(0, sentReceived);
+        this.deleted.addAll(0, sentDeleted);
+        this.corrupt.addAll(0, sentCorrupt);
+    }
+
+    protected void sendFullReport() throws IOException {
+        List<ProtosHDFS.BlockMetaData> blocks = new ArrayList<>(this.dataNode.blockMetas.values());
+        String reportId = UUID.randomUUID().toString();
+        int chunkCount = Math.max(1, (blocks.size() + FULL_REPORT_CHUNK_SIZE - 1) / FULL_REPORT_CHUNK_SIZE);
+
+        for(int chunk = 0; chunk < chunkCount; chunk++){
+            int start = chunk * FULL_REPORT_CHUNK_SIZE;
+            ProtosHDFS.BlockReport report = ProtosHDFS.BlockReport.newBuilder()
+                    .setReportId(reportId)
+                    .setDataNodeId(this.dataNode.dataNodeId)
+                    .setReportType(ProtosHDFS.BlockReport.ReportType.FULL)
+                    .addAllReceived(blocks.subList(start, Math.min(start + FULL_REPORT_CHUNK_SIZE, blocks.size())))
+                    .setChunkIndex(chunk)
+                    .setChunkCount(chunkCount)
+                    .build();
+            this.dataNode.nameNodeStub.blockReport(report.toByteArray());
+        }
+    }
+}
@@ -1,43 +1,93 @@
 package ds.hdfs;
 import java.net.UnknownHostException;
-import java.rmi.*;
 import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
-import java.rmi.server.UnicastRemoteObject;
-import java.rmi.registry.Registry;
 import java.rmi.RemoteException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.io.*;
-import ds.hdfs.hdfsformat.*;
 import com.google.protobuf.ByteString;
-import ds.hdfs.INameNode;
+import proto.ProtosHDFS;
 
 public class Client {
-    public INameNode NNStub; //Name Node stub
-    public IDataNode DNStub; //Data Node stub
+    public NameNodeInterface NNStub; //Name Node stub
+    public DataNodeInterface DNStub; //Data Node stub
+
+    // Data Nodes register themselves in the same RMI registry as the Name Node
+    protected String registryIp;
+    protected int registryPort;
+    protected int blockSize;
+
+    // Data transfer addresses of the Data Nodes, looked up once per Data Node
+    protected HashMap<String, ProtosHDFS.DataNodeInfo> transferInfos = new HashMap<>();
+
+    // Files whose block locations are asked for in one Name Node call by GetFiles
+    protected static final int LOCATIONS_BATCH = 1000;
+
+    // Block locations of recently read files; within the TTL they are used without asking the Name Node
+    protected BlockLocationCache locationCache = new BlockLocationCache(LOCATION_CACHE_TTL_MS, LOCATION_CACHE_SIZE);
+    protected static final long LOCATION_CACHE_TTL_MS = 60 * 1000;
+    protected static final int LOCATION_CACHE_SIZE = 10000;
+
+    // Holder name of the leases on the files this client writes, renewed for all of them at once
+    protected final String clientName = "HDFSClient_" + UUID.randomUUID();
+    protected final AtomicInteger filesBeingWritten = new AtomicInteger();
+    protected static final long LEASE_RENEW_INTERVAL_MS = LeaseManager.SOFT_LIMIT_MS / 2;
+
     public Client()
     {
+        //Retrieving the NameNode stub using the Name Node config
+        Properties prop = new Properties();
+        try(InputStream fileInputStream = new FileInputStream("nameConfig.properties")){
+            prop.load(fileInputStream);
+        }catch(IOException e){
+            System.err.println("Could not read nameConfig.properties: " + e.toString());
+            System.exit(1);
+        }
+
+        this.registryIp = prop.getProperty("server_ip");
+        this.registryPort = Integer.parseInt(prop.getProperty("server_port"));
+        this.blockSize = Integer.parseInt(prop.getProperty("block_size"));
+        this.NNStub = GetNNStub(prop.getProperty("server_name"), this.registryIp, this.registryPort);
+
+        Thread leaseRenewer = new Thread(this::RenewLeases, "LeaseRenewer");
+        leaseRenewer.setDaemon(true);
+        leaseRenewer.start();
+    }
 
-    //Retrieving the NameNode stub
-    while(true)
+    //Keeps the leases on files being written alive, so long writes are not taken over or recovered
+    protected void RenewLeases()
     {
-        try{
-            Registry registry = LocateRegistry.getRegistry(IP, Port);
-            NameNode stub = (NameNode) registry.lookup(Name);
-            return stub;
-        }catch(Exception e){
-            continue;
+        while(true)
+        {
+            try{
+                Thread.sleep(LEASE_RENEW_INTERVAL_MS);
+            }catch(InterruptedException e){
+                return;
+            }
+            if(this.filesBeingWritten.get() == 0){
+                continue;
+            }
+            try{
+                ProtosHDFS.Request request = ProtosHDFS.Request.newBuilder()
+                        .setRequestId(UUID.randomUUID().toString())
+                        .setRequestType(ProtosHDFS.Request.RequestType.OPEN)
+                        .setClientName(this.clientName)
+                        .build();
+                NNStub.renewLease(request.toByteArray());
+            }catch(IOException e){
+                System.out.println("Could not renew leases: " + e.toString());
+            }
         }
     }
-    }
 
-    public IDataNode GetDNStub(String Name, String IP, int Port)
+    public DataNodeInterface GetDNStub(String Name, String IP, int Port)
     {
         while(true)
         {
             try{
                 Registry registry = LocateRegistry.getRegistry(IP, Port);
-                IDataNode stub = (IDataNode) registry.lookup(Name);
+                DataNodeInterface stub = (DataNodeInterface) registry.lookup(Name);
                 return stub;
             }catch(Exception e){
                 continue;
@@ -45,14 +95,14 @@ public class Client {
         }
     }
 
-    public INameNode GetNNStub(String Name, String IP, int Port)
+    public NameNodeInterface GetNNStub(String Name, String IP, int Port)
     {
         while(true)
         {
             try
             {
                 Registry registry = LocateRegistry.getRegistry(IP, Port);
-                INameNode stub = (INameNode) registry.lookup(Name);
+                NameNodeInterface stub = (NameNodeInterface) registry.lookup(Name);
                 return stub;
             }catch(Exception e){
                 continue;
@@ -60,65 +110,360 @@ public class Client {
         }
     }
 
+    // Asks a Data Node over RMI where its streaming data transfer server listens
+    public ProtosHDFS.DataNodeInfo GetTransferInfo(String dataNodeId) throws IOException
+    {
+        ProtosHDFS.DataNodeInfo dataNodeInfo = this.transferInfos.get(dataNodeId);
+        if(dataNodeInfo == null){
+            DNStub = GetDNStub(dataNodeId, this.registryIp, this.registryPort);
+            dataNodeInfo = ProtosHDFS.DataNodeInfo.parseFrom(DNStub.getTransferInfo(new byte[0]));
+            this.transferInfos.put(dataNodeId, dataNodeInfo);
+        }
+        return dataNodeInfo;
+    }
+
+    // Wraps block metadata into the Request header of a data transfer
+    protected ProtosHDFS.Request makeTransferRequest(ProtosHDFS.Request.RequestType requestType,
+                                                     ProtosHDFS.BlockMetaData blockMeta)
+    {
+        ProtosHDFS.Block block = ProtosHDFS.Block.newBuilder()
+                .setBlockMeta(blockMeta)
+                .setBlockContents(ByteString.EMPTY)
+                .build();
+        return ProtosHDFS.Request.newBuilder()
+                .setRequestId(UUID.randomUUID().toString())
+                .setRequestType(requestType)
+                .setBlock(block)
+                .build();
+    }
+
+    // Builds the FileMetadata the Name Node expects; the file name doubles as the file ID
+    protected ProtosHDFS.FileMetadata makeFileMeta(String FileName, int FileSize)
+    {
+        return ProtosHDFS.FileMetadata.newBuilder()
+                .setFileId(FileName)
+                .setFileName(FileName)
+                .setFileSize(FileSize)
+                .setParentDirectory("/")
+                .build();
+    }
+
+    //Data Nodes find the block by the numeric id and generation stamp its pipeline came with
+    protected ProtosHDFS.BlockMetaData makeBlockMeta(ProtosHDFS.FileMetadata fileMeta, ProtosHDFS.Pipeline pipeline,
+                                                     int blockNumber, int ordReplication, String dataNodeId)
+    {
+        return ProtosHDFS.BlockMetaData.newBuilder()
+                .setNumericBlockId(pipeline.getNumericBlockId())
+                .setGenerationStamp(pipeline.getGenerationStamp())
+                .setFileId(fileMeta.getFileId())
+                .setFileName(fileMeta.getFileName())
+                .setBlockNumber(blockNumber)
+                .setOrdReplication(ordReplication)
+                .setDataNodeId(dataNodeId)
+                .setIpAddress(this.registryIp)
+                .setPortNumber(this.registryPort)
+                .build();
+    }
+
     public void PutFile(String Filename) //Put File
     {
-        System.out.println("Going to put file" + Filename);
-        BufferedInputStream file;
-        try{
-            file = new BufferedInputStream(new FileInputStream(File));
-        }catch(Exception e){
+        System.out.println("Going to put file " + Filename);
+        File file = new File(Filename);
+        if(!file.isFile()){
             System.out.println("File is not there");
             return;
         }
-        //Retrieve replication number
-        NNstub.assignblock(byte replicationFactor);
-        for(i=0;i<NNstub.assignblock(byte replicationFactor);i++){
+        //File sizes travel as int32, so larger files are turned away instead of having their size wrap around
+        if(file.length() > Integer.MAX_VALUE){
+            System.out.println("File is too large, the limit is " + Integer.MAX_VALUE + " bytes");
+            return;
+        }
+
+        this.filesBeingWritten.incrementAndGet();
         try{
+            //Ask the Name Node which Data Nodes each block should be replicated on
+            ProtosHDFS.FileMetadata fileMeta = makeFileMeta(Filename, (int)file.length());
+            ProtosHDFS.Request request = ProtosHDFS.Request.newBuilder()
+                    .setRequestId(UUID.randomUUID().toString())
+                    .setRequestType(ProtosHDFS.Request.RequestType.OPEN)
+                    .setFileMeta(fileMeta)
+                    .setClientName(this.clientName)
+                    .build();
+            ProtosHDFS.Response response = ProtosHDFS.Response.parseFrom(NNStub.assignBlock(request.toByteArray()));
+            //Any locations cached for an older file of this name are gone now
+            this.locationCache.invalidate(Filename);
+            if(response.getResponseType() != ProtosHDFS.Response.ResponseType.SUCCESS){
+                System.out.println(response.getErrorMessage());
+                return;
+            }
 
-          File file = new File("FileName");
-          OutputStream out = new FileOutputStream(file);
-          out.write(FileName);
-          out.close();
+            //The file is sliced by the block size the Name Node assigned the blocks with, which can differ
+            //from this client's config once the Name Node has reloaded its own
+            int blockSize = response.getFileMeta().hasBlockSize()
+                    ? response.getFileMeta().getBlockSize() : this.blockSize;
+            for(int i = 0; i < response.getPipelinesCount(); i++){
+                int blockNumber = i + 1;
+                long offset = Math.min((long)i * blockSize, file.length());
+                long length = Math.min(blockSize, file.length() - offset);
 
-      }catch(Exception e){
-          System.out.println("Could not write file");
-      }
+                // The block goes to the first Data Node only, which forwards it down the rest of the pipeline
+                ProtosHDFS.Pipeline pipeline = response.getPipelines(i);
+                List<String> dataNodeIds = pipeline.getDataNodeIdList();
+                ProtosHDFS.DataNodeInfo firstDataNode = GetTransferInfo(dataNodeIds.get(0));
+                ProtosHDFS.Request.Builder writeRequestBuilder = makeTransferRequest(
+                        ProtosHDFS.Request.RequestType.WRITE,
+                        makeBlockMeta(fileMeta, pipeline, blockNumber, 1, dataNodeIds.get(0))).toBuilder();
+                for(String dataNodeId : dataNodeIds.subList(1, dataNodeIds.size())){
+                    writeRequestBuilder.addDataNodes(GetTransferInfo(dataNodeId));
+                }
 
+                // The block is streamed straight from the local file, one packet at a time
+                try(FileInputStream in = new FileInputStream(file)){
+                    in.getChannel().position(offset);
+                    ProtosHDFS.Response writeResponse = DataTransferProtocol.writeBlock(
+                            firstDataNode.getIpAddress(), firstDataNode.getTransferPort(),
+                            writeRequestBuilder.build(), in, length);
+                    System.out.println(writeResponse.getErrorMessage());
+                    //A block that did not reach the whole pipeline must not be committed, so the file is
+                    //deleted instead of closed
+                    if(writeResponse.getResponseType() != ProtosHDFS.Response.ResponseType.SUCCESS){
+                        System.out.println("Could not write block " + blockNumber + " of " + Filename);
+                        DeleteFile(Filename);
+                        return;
+                    }
+                }
+            }
+
+            //Tell the Name Node the file is complete
+            ProtosHDFS.Request closeRequest = ProtosHDFS.Request.newBuilder()
+                    .setRequestId(UUID.randomUUID().toString())
+                    .setRequestType(ProtosHDFS.Request.RequestType.CLOSE)
+                    .setFileMeta(fileMeta)
+                    .setClientName(this.clientName)
+                    .build();
+            ProtosHDFS.Response closeResponse = ProtosHDFS.Response.parseFrom(NNStub.closeFile(closeRequest.toByteArray()));
+            System.out.println(closeResponse.getErrorMessage());
+        }catch(Exception e){
+            System.out.println("Could not write file");
+        }finally{
+            this.filesBeingWritten.decrementAndGet();
+        }
     }
 
-    public void GetFile(String FileName) //Get File
+    public void DeleteFile(String FileName) //Delete File
+    {
+        try{
+            ProtosHDFS.Request request = ProtosHDFS.Request.newBuilder()
+                    .setRequestId(UUID.randomUUID().toString())
+                    .setRequestType(ProtosHDFS.Request.RequestType.DELETE)
+                    .setFileMeta(makeFileMeta(FileName, 0))
+                    .build();
+            ProtosHDFS.Response response = ProtosHDFS.Response.parseFrom(NNStub.deleteFile(request.toByteArray()));
+            this.locationCache.invalidate(FileName);
+            System.out.println(response.getErrorMessage());
+        }catch(Exception e){
+            System.out.println("Could not delete file");
+        }
+    }
+
+    //Locations of the file blocks from the NameNode, or null if it has none
+    //With cached locations whose TTL ran out, the NameNode only confirms they are still current
+    protected List<ProtosHDFS.Pipeline> GetBlockLocations(String FileName, BlockLocationCache.Entry cached)
+            throws IOException
     {
-      //Request to NameNode to open file
-      NNStub.openfile(FileName);
-      //Read File
-      DNStub.readBlock(FileName);
-      //write to localfilesystem
-      try{
+        ProtosHDFS.FileMetadata.Builder fileMetaBuilder = makeFileMeta(FileName, 0).toBuilder();
+        if(cached != null){
+            fileMetaBuilder.setGeneration(cached.getGeneration());
+        }
+        ProtosHDFS.Request request = ProtosHDFS.Request.newBuilder()
+                .setRequestId(UUID.randomUUID().toString())
+                .setRequestType(ProtosHDFS.Request.RequestType.OPEN)
+                .setFileMeta(fileMetaBuilder)
+                .build();
+        ProtosHDFS.Response response = ProtosHDFS.Response.parseFrom(NNStub.getBlockLocations(request.toByteArray()));
+        switch(response.getResponseType()){
+            case NOT_MODIFIED:
+                return this.locationCache.put(FileName, cached.getGeneration(), cached.getPipelines()).getPipelines();
+            case SUCCESS:
+                return this.locationCache.put(FileName, response.getFileMeta().getGeneration(),
+                        response.getPipelinesList()).getPipelines();
+            default:
+                this.locationCache.invalidate(FileName);
+                System.out.println(response.getErrorMessage());
+                return null;
+        }
+    }
 
-        File file = new File("FileName");
-        OutputStream out = new FileOutputStream(file);
-        out.write(FileName);
-        out.close();
+    public void GetFile(String FileName) //Get File
+    {
+        try{
+            //Fresh cached locations are used without asking the NameNode at all
+            ProtosHDFS.FileMetadata fileMeta = makeFileMeta(FileName, 0);
+            BlockLocationCache.Entry cached = this.locationCache.get(FileName);
+            List<ProtosHDFS.Pipeline> pipelines = (cached != null && cached.isFresh())
+                    ? cached.getPipelines() : GetBlockLocations(FileName, cached);
+            if(pipelines == null){
+                return;
+            }
 
-    }catch(Exception e){
-        System.out.println("Could not write file");
+            //A block missing from cached locations means they went stale, so they are fetched again once
+            boolean read = ReadBlocks(fileMeta, pipelines);
+            if(!read && cached != null){
+                pipelines = GetBlockLocations(FileName, null);
+                if(pipelines == null){
+                    return;
+                }
+                read = ReadBlocks(fileMeta, pipelines);
+            }
+            if(!read){
+                System.out.println(FileName + " could not be read from any replica");
+            }
+        }catch(Exception e){
+            System.out.println("Could not write file");
+        }
     }
-}
 
+    public void GetFiles(List<String> FileNames) //Get many files, looking their blocks up in batches
+    {
+        for(int start = 0; start < FileNames.size(); start += LOCATIONS_BATCH)
+        {
+            List<String> batch = FileNames.subList(start, Math.min(start + LOCATIONS_BATCH, FileNames.size()));
+            try{
+                //Files with fresh cached locations are read straight away, the rest are looked up together
+                ProtosHDFS.Request.Builder requestBuilder = ProtosHDFS.Request.newBuilder()
+                        .setRequestId(UUID.randomUUID().toString())
+                        .setRequestType(ProtosHDFS.Request.RequestType.OPEN);
+                for(String FileName : batch){
+                    BlockLocationCache.Entry cached = this.locationCache.get(FileName);
+                    if(cached != null && cached.isFresh()){
+                        GetFile(FileName);
+                    }else{
+                        requestBuilder.addFileMetas(makeFileMeta(FileName, 0));
+                    }
+                }
+                if(requestBuilder.getFileMetasCount() == 0){
+                    continue;
+                }
 
+                //One request to the NameNode for the block locations of the rest of the batch
+                ProtosHDFS.Response response = ProtosHDFS.Response.parseFrom(
+                        NNStub.getBlockLocationsBatch(requestBuilder.build().toByteArray()));
+                //A batch the NameNode turned down only costs its own files; the other batches still go ahead
+                if(response.getResponseType() != ProtosHDFS.Response.ResponseType.SUCCESS){
+                    System.out.println("Could not get " + batch + ": " + response.getErrorMessage());
+                    continue;
+                }
 
+                for(int i = 0; i < response.getLocationsCount(); i++){
+                    ProtosHDFS.BlockLocations locations = response.getLocations(i);
+                    if(locations.hasErrorMessage()){
+                        this.locationCache.invalidate(locations.getFileId());
+                        System.out.println(locations.getErrorMessage());
+                        continue;
+                    }
+                    this.locationCache.put(locations.getFileId(), locations.getGeneration(),
+                            locations.getPipelinesList());
+                    try{
+                        if(!ReadBlocks(requestBuilder.getFileMetas(i), locations.getPipelinesList())){
+                            System.out.println(locations.getFileId() + " could not be read from any replica");
+                        }
+                    }catch(IOException e){
+                        System.out.println("Could not write " + locations.getFileId());
+                    }
+                }
+            }catch(Exception e){
+                System.out.println("Could not get " + batch);
+            }
+        }
     }
 
-    public void List()  //Display List of Files
+    //Read every block from the first replica that answers and write it to the local file system
+    //Returns false if some block could not be read from any of its replicas
+    protected boolean ReadBlocks(ProtosHDFS.FileMetadata fileMeta, List<ProtosHDFS.Pipeline> pipelines)
+            throws IOException
     {
-      //Request to NameNode stub
-      NNStub.list()
+        try(FileOutputStream fileOutputStream = new FileOutputStream(new File(fileMeta.getFileName()))){
+            OutputStream out = new BufferedOutputStream(fileOutputStream);
+            for(int i = 0; i < pipelines.size(); i++){
+                int blockNumber = i + 1;
+                boolean blockRead = false;
+                for(String dataNodeId : pipelines.get(i).getDataNodeIdList()){
+                    ProtosHDFS.Request readRequest = makeTransferRequest(ProtosHDFS.Request.RequestType.READ,
+                            makeBlockMeta(fileMeta, pipelines.get(i), blockNumber, 0, dataNodeId));
+
+                    out.flush();
+                    long blockStart = fileOutputStream.getChannel().position();
+                    try{
+                        ProtosHDFS.DataNodeInfo dataNodeInfo = GetTransferInfo(dataNodeId);
+                        ProtosHDFS.Response readResponse = DataTransferProtocol.readBlock(
+                                dataNodeInfo.getIpAddress(), dataNodeInfo.getTransferPort(), readRequest, out);
+                        if(readResponse.getResponseType() == ProtosHDFS.Response.ResponseType.SUCCESS){
+                            blockRead = true;
+                            break;
+                        }
+                        // The Data Node no longer has the block, so the locations this read used are stale
+                        this.locationCache.invalidate(fileMeta.getFileId());
+                    }catch(IOException e){
+                        // Drop whatever part of the block made it out before the replica failed
+                        out.flush();
+                        fileOutputStream.getChannel().truncate(blockStart);
+                        fileOutputStream.getChannel().position(blockStart);
+                    }
+                }
+                if(!blockRead){
+                    return false;
+                }
+            }
+            out.flush();
+        }
+        return true;
+    }
 
+    public void List(String Directory, String Glob)  //Display List of Files, a page at a time as they arrive
+    {
+        //Request to NameNode stub, resuming each page after the last name of the one before
+        String StartAfter = null;
+        int Listed = 0;
+        try{
+            do
+            {
+                ProtosHDFS.ListOptions.Builder optionsBuilder = ProtosHDFS.ListOptions.newBuilder()
+                        .setPath(Directory);
+                if(Glob != null){
+                    optionsBuilder.setGlob(Glob);
+                }
+                if(StartAfter != null){
+                    optionsBuilder.setStartAfter(StartAfter);
+                }
+                ProtosHDFS.Request request = ProtosHDFS.Request.newBuilder()
+                        .setRequestId(UUID.randomUUID().toString())
+                        .setRequestType(ProtosHDFS.Request.RequestType.LIST)
+                        .setListOptions(optionsBuilder.build())
+                        .build();
+                ProtosHDFS.Response response = ProtosHDFS.Response.parseFrom(NNStub.list(request.toByteArray()));
+                if(response.getResponseType() != ProtosHDFS.Response.ResponseType.SUCCESS){
+                    System.out.println(response.getErrorMessage());
+                    return;
+                }
+                for(ProtosHDFS.DirectoryEntry entry : response.getEntriesList()){
+                    if(entry.getIsDirectory()){
+                        System.out.println(entry.getName() + "/");
+                    }else{
+                        System.out.println(entry.getName() + "\t" + entry.getFileMeta().getFileSize() + " bytes");
+                    }
+                }
+                Listed += response.getEntriesCount();
+                StartAfter = response.hasNextStartAfter() ? response.getNextStartAfter() : null;
+            }while(StartAfter != null);
+            System.out.println(Listed + " entries in " + Directory);
+        }catch(Exception e){
+            System.out.println("Could not list files");
+        }
     }
 
     public static void main(String[] args) throws RemoteException, UnknownHostException
     {
-       
+
         //Intitalize the Client
         Client client = new Client();
         System.out.println("Welcome to HDFS!!");
@@ -134,7 +479,9 @@ public class Client {
             {
                 System.out.println("The following are the Supported Commands");
                 System.out.println("1. put filename ## To put a file in HDFS");
-                System.out.println("2. get filename ## To get a file in HDFS"); System.out.println("2. list ## To get the list of files in HDFS");
+                System.out.println("2. get filename [filename ...] ## To get one or more files in HDFS");
+                System.out.println("3. list [directory] [glob] ## To get the list of files in HDFS");
+                System.out.println("4. delete filename ## To delete a file in HDFS");
             }
             else if(Split_Commands[0].equals("put"))  // put in Filename
             {
@@ -154,7 +501,23 @@ public class Client {
                 String Filename;
                 try{
                     Filename = Split_Commands[1];
-                    client.GetFile(Filename);
+                    if(Split_Commands.length > 2){
+                        client.GetFiles(Arrays.asList(Split_Commands).subList(1, Split_Commands.length));
+                    }else{
+                        client.GetFile(Filename);
+                    }
+                }catch(ArrayIndexOutOfBoundsException e){
+                    System.out.println("Please type 'help' for instructions");
+                    continue;
+                }
+            }
+            else if(Split_Commands[0].equals("delete"))
+            {
+                //Remove from hdfs
+                String Filename;
+                try{
+                    Filename = Split_Commands[1];
+                    client.DeleteFile(Filename);
                 }catch(ArrayIndexOutOfBoundsException e){
                     System.out.println("Please type 'help' for instructions");
                     continue;
@@ -163,8 +526,10 @@ public class Client {
             else if(Split_Commands[0].equals("list"))
             {
                 System.out.println("List request");
-                //Retrieve list
-                client.List();
+                //Retrieve list, of / unless a directory is given, optionally only names matching a glob
+                String Directory = (Split_Commands.length > 1) ? Split_Commands[1] : "/";
+                String Glob = (Split_Commands.length > 2) ? Split_Commands[2] : null;
+                client.List(Directory, Glob);
             }
             else
             {
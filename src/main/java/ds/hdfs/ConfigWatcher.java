@@ -0,0 +1,62 @@
+package ds.hdfs;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+// Watches a single config file and runs onChange whenever it is modified or replaced
+// Editors often save by writing a new file and renaming it over the old one, so creates count too
+public class ConfigWatcher implements Runnable {
+
+    protected final Path configFile;
+    protected final Runnable onChange;
+    protected final WatchService watchService;
+
+    public ConfigWatcher(Path configFile, Runnable onChange) throws IOException {
+        this.configFile = configFile.toAbsolutePath();
+        this.onChange = onChange;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.configFile.getParent().register(this.watchService,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+    }
+
+    public void start(){
+        Thread watcherThread = new Thread(this, "ConfigWatcher-" + this.configFile.getFileName());
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    public void run(){
+        try{
+            while(true){
+                WatchKey key = this.watchService.take();
+                boolean changed = false;
+                for(WatchEvent<?> event : key.pollEvents()){
+                    if(event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || this.configFile.getFileName().equals(event.context())){
+                        changed = true;
+                    }
+                }
+                // One save usually fires several events, so they are folded into a single reload
+                if(changed){
+                    this.onChange.run();
+                }
+                if(!key.reset()){
+                    System.err.println("Stopped watching " + this.configFile + ", its directory is gone");
+                    return;
+                }
+            }
+        }catch(InterruptedException | ClosedWatchServiceException e){
+            // Shutting down
+        }
+    }
+
+    public void close() throws IOException {
+        this.watchService.close();
+    }
+}
@@ -1,67 +1,317 @@
 package ds.hdfs;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import proto.ProtosHDFS;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Hashtable;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class DataNode implements DataNodeInterface {
 
     protected String dataNodeId;
     protected String ipAddress;
     protected int portNumber;
-    protected Hashtable<Integer, String> requests;
-    protected Hashtable<String, ProtosHDFS.BlockMetaData> blockMetas;
+    protected int transferPort;
+    // Responses of RMI block writes by request ID, so a retried write is not applied twice
+    protected RetryCache retryCache;
+    // Replicas on this Data Node by numeric block id
+    protected Hashtable<Long, ProtosHDFS.BlockMetaData> blockMetas;
+    protected DataXceiverServer xceiverServer;
+    protected final DataNodeMetrics metrics = new DataNodeMetrics();
+    // Latency of the block reads and writes served by the data transfer server
+    protected final RpcMetrics rpcMetrics = new RpcMetrics("readBlock", "writeBlock");
+
+    // Upper bound on concurrent streaming transfers served by this Data Node
+    protected static final int MAX_XCEIVERS = 256;
+
+    protected static final long RETRY_CACHE_TTL_MS = 10 * 60 * 1000;
+    protected static final int RETRY_CACHE_SIZE = 10000;
+
+    protected static final String BLOCK_FILE_PREFIX = "blk_";
+    protected static final String META_FILE_SUFFIX = ".meta";
+    protected static final String TEMP_FILE_SUFFIX = ".tmp";
+    // Blocks being received are written here and renamed into the working directory once complete
+    protected static final String RBW_DIR = "rbw";
+
+    // How often the Data Node tells the Name Node it is alive
+    protected static final long HEARTBEAT_INTERVAL_MS = 3 * 1000;
+    protected volatile NameNodeInterface nameNodeStub;
+    // Tells the Name Node about every block received, deleted or found corrupt
+    protected final BlockReporter blockReporter = new BlockReporter(this);
+
+    // Copies and deletes blocks when the Name Node asks for it in a heartbeat response
+    // The Name Node limits how many copies it gives one Data Node at a time; this only keeps them off the heartbeat thread
+    protected static final int REPLICATION_THREADS = 4;
+    protected final ExecutorService replicator = Executors.newFixedThreadPool(REPLICATION_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "BlockReplicator");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     protected DataNode() {
-        // Empty constructor, nothing to see here :)
+        this.retryCache = new RetryCache(RETRY_CACHE_TTL_MS, RETRY_CACHE_SIZE);
+        this.blockMetas = new Hashtable<>();
     }
 
-    // Helper method to construct DataNodeInfo Object for you
-    public ProtosHDFS.DataNodeInfo getDataNodeInfo(){
-        ProtosHDFS.DataNodeInfo.Builder dataInfoBuilder = ProtosHDFS.DataNodeInfo.newBuilder();
-        ArrayList<ProtosHDFS.BlockMetaData> blocksList = new ArrayList<>(this.blockMetas.values());
-        dataInfoBuilder.addAllBlockMetas(blocksList);
-        ProtosHDFS.DataNodeInfo dataNodeInfo = dataInfoBuilder.build();
-        dataInfoBuilder.clear();
-        return dataNodeInfo;
+    // Block files are named by block id alone, so finding one never depends on the file it belongs to
+    protected static File blockFile(long blockId){
+        return new File(BLOCK_FILE_PREFIX + blockId);
+    }
+
+    // The block's metadata, generation stamp included, is kept next to it so a restart can find it again
+    protected static File metaFile(long blockId){
+        return new File(BLOCK_FILE_PREFIX + blockId + META_FILE_SUFFIX);
+    }
+
+    // A new file in the rbw (replica being written) directory for a block being received; it only takes the
+    // block's name once it is complete, so a failed or repeated write never touches a replica already here
+    protected static File createTempBlockFile(long blockId) throws IOException {
+        File rbwDir = new File(RBW_DIR);
+        if(!rbwDir.isDirectory() && !rbwDir.mkdirs()){
+            throw new IOException("Could not create " + rbwDir.getAbsolutePath());
+        }
+        return File.createTempFile(BLOCK_FILE_PREFIX + blockId + "_", TEMP_FILE_SUFFIX, rbwDir);
+    }
+
+    // Rebuilds blockMetas from the block files left in the working directory, so the first full report after
+    // a restart names every replica still on disk. A block file without readable metadata was cut short
+    // before it was ever reported, so it is removed, as is everything left half written in rbw.
+    protected void loadBlocks(){
+        File[] tempFiles = new File(RBW_DIR).listFiles();
+        if(tempFiles != null){
+            for(File tempFile : tempFiles){
+                if(!tempFile.delete()){
+                    System.err.println("Could not remove " + tempFile.getPath());
+                }
+            }
+        }
+        File[] files = new File(".").listFiles();
+        if(files == null){
+            return;
+        }
+        for(File file : files){
+            String name = file.getName();
+            if(!file.isFile() || !name.startsWith(BLOCK_FILE_PREFIX) || name.endsWith(META_FILE_SUFFIX)){
+                continue;
+            }
+            long blockId;
+            try{
+                blockId = Long.parseLong(name.substring(BLOCK_FILE_PREFIX.length()));
+            }catch(NumberFormatException e){
+                continue;
+            }
+            try{
+                ProtosHDFS.BlockMetaData blockMeta = ProtosHDFS.BlockMetaData.parseFrom(
+                        Files.readAllBytes(metaFile(blockId).toPath()));
+                this.blockMetas.put(blockId, blockMeta.toBuilder().setLength(file.length()).build());
+            }catch(IOException e){
+                System.err.println("Removing block " + blockId + ", its metadata could not be read: " + e.toString());
+                try{
+                    Files.deleteIfExists(file.toPath());
+                    Files.deleteIfExists(metaFile(blockId).toPath());
+                }catch(IOException de){
+                    System.err.println("Could not remove block " + blockId + ": " + de.toString());
+                }
+            }
+        }
+        System.out.println("\n Loaded " + this.blockMetas.size() + " blocks from disk \n");
+    }
+
+    // Moves a block written completely, and synced, to tempFile into place, then registers it and queues it
+    // for the next block report. The metadata is synced and renamed first: a crash in between leaves either
+    // the replica that was here before, or a .meta file without a block, which loadBlocks ignores.
+    // tempFile is removed if the block cannot be moved into place.
+    protected void blockReceived(ProtosHDFS.BlockMetaData blockMeta, File tempFile) throws IOException {
+        long blockId = blockMeta.getNumericBlockId();
+        File tempMetaFile = new File(tempFile.getPath() + META_FILE_SUFFIX);
+        try{
+            try(FileOutputStream metaOut = new FileOutputStream(tempMetaFile)){
+                blockMeta.writeTo(metaOut);
+                metaOut.getFD().sync();
+            }
+            Files.move(tempMetaFile.toPath(), metaFile(blockId).toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile.toPath(), blockFile(blockId).toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }catch(IOException e){
+            Files.deleteIfExists(tempMetaFile.toPath());
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+        this.blockMetas.put(blockId, blockMeta);
+        this.blockReporter.blockReceived(blockMeta);
+    }
+
+    // Forgets a block whose file has gone missing or unreadable, so it is never offered again
+    protected void blockCorrupt(long blockId){
+        ProtosHDFS.BlockMetaData blockMeta = this.blockMetas.remove(blockId);
+        metaFile(blockId).delete();
+        if(blockMeta != null){
+            System.err.println("Block " + blockId + " is corrupt, reporting it to the Name Node");
+            this.blockReporter.blockCorrupt(blockMeta);
+        }
+    }
+
+    // Removes a block and its file from this Data Node
+    protected void deleteBlock(long blockId) throws IOException {
+        ProtosHDFS.BlockMetaData blockMeta = this.blockMetas.remove(blockId);
+        if(blockMeta != null){
+            Files.deleteIfExists(blockFile(blockId).toPath());
+            Files.deleteIfExists(metaFile(blockId).toPath());
+            this.blockReporter.blockDeleted(blockMeta);
+        }
+    }
+
+    // The replica of the block blockMeta asks for, or null if this Data Node has none or only one with another
+    // generation stamp; a replica whose file is gone is reported corrupt, then treated as not here
+    protected ProtosHDFS.BlockMetaData findReplica(ProtosHDFS.BlockMetaData blockMeta){
+        long blockId = blockMeta.getNumericBlockId();
+        ProtosHDFS.BlockMetaData replica = this.blockMetas.get(blockId);
+        if(replica == null || replica.getGenerationStamp() != blockMeta.getGenerationStamp()){
+            return null;
+        }
+        if(!blockFile(blockId).isFile()){
+            blockCorrupt(blockId);
+            return null;
+        }
+        return replica;
+    }
+
+    // Who this Data Node is and where it can be reached, without its block list
+    public ProtosHDFS.DataNodeInfo getIdentity(){
+        return ProtosHDFS.DataNodeInfo.newBuilder()
+                .setDataNodeId(this.dataNodeId)
+                .setIpAddress(this.ipAddress)
+                .setPortNumber(this.portNumber)
+                .setTransferPort(this.transferPort)
+                .build();
+    }
+
+    // Identity plus the load figures the Name Node places blocks by
+    // Block files live in the working directory, so that is the disk whose space is reported
+    public ProtosHDFS.DataNodeInfo getHeartbeatInfo(){
+        File storage = new File(".");
+        return getIdentity().toBuilder()
+                .setCapacity(storage.getTotalSpace())
+                .setRemaining(storage.getUsableSpace())
+                .setActiveTransfers((this.xceiverServer != null) ? this.xceiverServer.getActiveXceivers() : 0)
+                .build();
+    }
+
+    // Carries out the commands the Name Node sent back with a heartbeat
+    protected void processCommands(ProtosHDFS.Response response){
+        for(ProtosHDFS.DataNodeCommand command : response.getCommandsList()){
+            switch(command.getCommandType()){
+                case REPLICATE:
+                    this.replicator.execute(() -> replicateBlock(command));
+                    break;
+                case DELETE:
+                    this.replicator.execute(() -> {
+                        long blockId = command.getBlockMeta().getNumericBlockId();
+                        try{
+                            deleteBlock(blockId);
+                        }catch(IOException e){
+                            System.err.println("Could not delete block " + blockId + ": " + e.toString());
+                        }
+                    });
+                    break;
+                default:
+                    System.err.println("Ignoring unknown command " + command.getCommandType() + " from the Name Node");
+            }
+        }
+    }
+
+    // Streams a local block to the command's targets as one write pipeline, exactly like a client write
+    // The targets report the block once it is on their disks, which is how the Name Node learns the copy is done
+    protected void replicateBlock(ProtosHDFS.DataNodeCommand command){
+        ProtosHDFS.BlockMetaData blockMeta = command.getBlockMeta();
+        long blockId = blockMeta.getNumericBlockId();
+        if(findReplica(blockMeta) == null || command.getTargetsCount() == 0){
+            System.err.println("Cannot replicate block " + blockId + ", it is not on this Data Node");
+            return;
+        }
+        File file = blockFile(blockId);
+
+        ProtosHDFS.DataNodeInfo target = command.getTargets(0);
+        ProtosHDFS.Block block = ProtosHDFS.Block.newBuilder()
+                .setBlockMeta(blockMeta.toBuilder().setDataNodeId(target.getDataNodeId()))
+                .setBlockContents(ByteString.EMPTY)
+                .build();
+        ProtosHDFS.Request request = ProtosHDFS.Request.newBuilder()
+                .setRequestId(UUID.randomUUID().toString())
+                .setRequestType(ProtosHDFS.Request.RequestType.WRITE)
+                .setBlock(block)
+                .addAllDataNodes(command.getTargetsList().subList(1, command.getTargetsCount()))
+                .build();
+
+        try(FileInputStream in = new FileInputStream(file)){
+            ProtosHDFS.Response response = DataTransferProtocol.writeBlock(target.getIpAddress(),
+                    target.getTransferPort(), request, in, file.length());
+            if(response.getResponseType() != ProtosHDFS.Response.ResponseType.SUCCESS){
+                System.err.println("Replicating block " + blockId + " to " + target.getDataNodeId() + " failed: "
+                        + response.getErrorMessage());
+            }
+        }catch(IOException e){
+            // The Name Node times the copy out and schedules it again
+            System.err.println("Replicating block " + blockId + " to " + target.getDataNodeId() + " failed: "
+                    + e.toString());
+        }
+    }
+
+    // Tells clients where this Data Node's streaming data transfer server listens
+    public byte[] getTransferInfo(byte[] input) throws RemoteException {
+        return getIdentity().toByteArray();
     }
 
     public byte[] readBlock(byte[] input) throws IOException {
         // This parses the input as a Request object defined in the protobuf
         ProtosHDFS.Request request = ProtosHDFS.Request.parseFrom(input);
         String requestId = request.getRequestId();
-        Integer requestKey = requestId.hashCode();
 
         ProtosHDFS.Response response;
         ProtosHDFS.Response.Builder responseBuilder = ProtosHDFS.Response.newBuilder();
 
         ProtosHDFS.Block block = request.getBlock();
         ProtosHDFS.BlockMetaData blockMeta = block.getBlockMeta();
-        String fileId = blockMeta.getFileId();
         String fileName = blockMeta.getFileName();
         int blockNumber = blockMeta.getBlockNumber();
-        String blockKey = fileId + "_" + blockNumber;
 
-        // This searches for the block in the hashtable using fileId and blockNumber as the key
+        // This searches for the block in the hashtable using its numeric block id as the key
         // If it exists in the table, that means the file block could be read
         // If not, the file block is not present in the data node and should throw an error in response
-        if(this.blockMetas.containsKey(blockKey)){
-            File file = new File(blockKey);
+        ProtosHDFS.BlockMetaData replica = findReplica(blockMeta);
+        if(replica != null){
+            File file = blockFile(blockMeta.getNumericBlockId());
             byte[] fileContents = new byte[(int)file.length()];
-            FileInputStream fileInputStream = new FileInputStream(file);
-            int reachedEnd = fileInputStream.read(fileContents);
 
-            if(reachedEnd != -1){
+            // A single read() may return fewer bytes than asked for, so keep reading until
+            // the buffer is full or the file ends early
+            int bytesRead = 0;
+            try(FileInputStream fileInputStream = new FileInputStream(file)){
+                int count;
+                while(bytesRead < fileContents.length &&
+                        (count = fileInputStream.read(fileContents, bytesRead, fileContents.length - bytesRead)) != -1){
+                    bytesRead += count;
+                }
+            }
+
+            if(bytesRead != fileContents.length){
                 String errorMessage = fileName + " block " + blockNumber + " read partial";
                 responseBuilder.setResponseId(requestId);
                 responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.FAILURE);
@@ -71,8 +321,10 @@ public class DataNode implements DataNodeInterface {
 
                 // Read is successful, construct block that will be packaged in a response and sent back to client
                 ProtosHDFS.Block.Builder blockBuilder = ProtosHDFS.Block.newBuilder();
-                blockBuilder.setBlockMeta(this.blockMetas.get(blockKey));
-                blockBuilder.setBlockContents(Arrays.toString(fileContents));
+                blockBuilder.setBlockMeta(replica);
+                // The buffer is never touched again, so it is wrapped as-is instead of being copied
+                blockBuilder.setBlockContents(UnsafeByteOperations.unsafeWrap(fileContents));
+                this.metrics.incrBytesReadCopied(fileContents.length);
                 ProtosHDFS.Block responseBlock = blockBuilder.build();
                 blockBuilder.clear();
 
@@ -91,9 +343,9 @@ public class DataNode implements DataNodeInterface {
             responseBuilder.setErrorMessage(errorMessage);
         }
 
+        // Reads are idempotent and their responses hold a whole block, so they are never put in the retry cache
         response = responseBuilder.buildPartial();
         responseBuilder.clear();
-        this.requests.put(requestKey, requestId);
         return response.toByteArray();
     }
 
@@ -102,8 +354,22 @@ public class DataNode implements DataNodeInterface {
     public byte[] writeBlock(byte[] input) throws IOException {
         // This parses the input as a Request object defined in the protobuf
         ProtosHDFS.Request request = ProtosHDFS.Request.parseFrom(input);
+
+        // A retried write is answered with the original response instead of being written again,
+        // after waiting for it if the first attempt is still being written
+        byte[] cachedResponse = this.retryCache.begin(request.getRequestId());
+        if(cachedResponse != null){
+            return cachedResponse;
+        }
+        try{
+            return writeBlock(request);
+        }finally{
+            this.retryCache.abandon(request.getRequestId());
+        }
+    }
+
+    private byte[] writeBlock(ProtosHDFS.Request request) throws IOException {
         String requestId = request.getRequestId();
-        Integer requestKey = requestId.hashCode();
 
         ProtosHDFS.Response response;
         ProtosHDFS.Response.Builder responseBuilder = ProtosHDFS.Response.newBuilder();
@@ -112,31 +378,30 @@ public class DataNode implements DataNodeInterface {
         // and initializes a FileOutputStream to write block contents to that fos
         ProtosHDFS.Block block = request.getBlock();
         ProtosHDFS.BlockMetaData blockMeta = block.getBlockMeta();
-        String fileId = blockMeta.getFileId();
         int blockNumber = blockMeta.getBlockNumber();
-
-        String blockName = fileId + "_" + blockNumber;
         String fileName = blockMeta.getFileName();
-        File file = new File(blockName);
-        FileOutputStream fileOutputStream;
-
-        if(file.exists() || file.createNewFile()){
-            fileOutputStream = new FileOutputStream(file);
-            String blockContents = block.getBlockContents();
-            fileOutputStream.write(blockContents.getBytes());
-            fileOutputStream.flush();
-            fileOutputStream.close();
+        // The block only takes its name once it is complete and synced, so a failed write leaves no trace
+        try{
+            File file = createTempBlockFile(blockMeta.getNumericBlockId());
+            // Raw block bytes go straight from the request to the file
+            try(FileOutputStream fileOutputStream = new FileOutputStream(file)){
+                block.getBlockContents().writeTo(fileOutputStream);
+                fileOutputStream.getFD().sync();
+            }catch(IOException e){
+                Files.deleteIfExists(file.toPath());
+                throw e;
+            }
 
-            // Puts the metadata of block in hash table with blockName as key and
-            // and block metadata as value
-            this.blockMetas.put(blockName, blockMeta);
+            // Puts the metadata of block in hash table with its block id as key and
+            // and block metadata as value, and lets the Name Node know it is here
+            blockReceived(blockMeta.toBuilder().setLength(block.getBlockContents().size()).build(), file);
 
             String errorMessage = fileName + " block " + blockNumber + " write successful";
             responseBuilder.setResponseId(requestId);
             responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS);
             responseBuilder.setErrorMessage(errorMessage);
-        }else{
-            String errorMessage = fileName + " block " + blockNumber + " write failed";
+        }catch(IOException e){
+            String errorMessage = fileName + " block " + blockNumber + " write failed (" + e.getMessage() + ")";
             responseBuilder.setResponseId(requestId);
             responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.FAILURE);
             responseBuilder.setErrorMessage(errorMessage);
@@ -144,8 +409,9 @@ public class DataNode implements DataNodeInterface {
 
         response = responseBuilder.buildPartial();
         responseBuilder.clear();
-        this.requests.put(requestKey, requestId);
-        return response.toByteArray();
+        byte[] responseBytes = response.toByteArray();
+        this.retryCache.put(requestId, responseBytes);
+        return responseBytes;
     }
 
     // This method binds the Data Node to the server so the client can access it and use its services (methods)
@@ -172,6 +438,15 @@ public class DataNode implements DataNodeInterface {
         }
     }
 
+    // This method starts the streaming data transfer server on its own thread
+    // Block data moves over this socket while the RMI interface carries the control calls
+    public void startDataTransferServer(int transferPort) throws IOException {
+        this.xceiverServer = new DataXceiverServer(this, transferPort, MAX_XCEIVERS);
+        Thread serverThread = new Thread(this.xceiverServer, "DataXceiverServer");
+        serverThread.start();
+        System.out.println("\n Data transfer server listening on port " + transferPort + " \n");
+    }
+
     // This method finds the Name Node and returns a stub (Remote to the Name Node) with which the Data Node
     // could use to invoke functions on the Name Node
     public NameNodeInterface getNNStub(String nameId, String nameIp, int namePort){
@@ -190,9 +465,81 @@ public class DataNode implements DataNodeInterface {
         }
     }
 
+    // Sends a heartbeat to the Name Node every HEARTBEAT_INTERVAL_MS on a background thread
+    // A failed heartbeat looks the Name Node up again, in case it restarted
+    public void startHeartbeats(String nameId, String nameIp, int namePort){
+        this.nameNodeStub = getNNStub(nameId, nameIp, namePort);
+        Thread heartbeatThread = new Thread(() -> {
+            while(true){
+                ProtosHDFS.Heartbeat heartbeat = ProtosHDFS.Heartbeat.newBuilder()
+                        .setHeartbeatId(UUID.randomUUID().toString())
+                        .setTimestamp(System.currentTimeMillis())
+                        .setDataNodeInfo(getHeartbeatInfo())
+                        .build();
+                try{
+                    processCommands(ProtosHDFS.Response.parseFrom(this.nameNodeStub.heartBeat(heartbeat.toByteArray())));
+                }catch(IOException e){
+                    System.err.println("Heartbeat to Name Node failed: " + e.toString());
+                    this.nameNodeStub = getNNStub(nameId, nameIp, namePort);
+                }
+
+                try{
+                    Thread.sleep(HEARTBEAT_INTERVAL_MS);
+                }catch(InterruptedException e){
+                    return;
+                }
+            }
+        }, "Heartbeat");
+        heartbeatThread.setDaemon(true);
+        heartbeatThread.start();
+    }
+
+    // Starts sending block reports; needs the Name Node stub from startHeartbeats
+    public void startBlockReports(){
+        Thread reportThread = new Thread(this.blockReporter, "BlockReporter");
+        reportThread.setDaemon(true);
+        reportThread.start();
+    }
+
     // All setup for the Data Node will be done in the main function
     public static void main(String[] args){
+        Properties prop = new Properties();
+        try(InputStream fileInputStream = new FileInputStream("dataConfig.properties")){
+            prop.load(fileInputStream);
+        }catch(IOException e){
+            System.err.println("Could not read dataConfig.properties: " + e.toString());
+            return;
+        }
 
+        DataNode dataNode = new DataNode();
+        dataNode.dataNodeId = prop.getProperty("server_name");
+        dataNode.ipAddress = prop.getProperty("server_ip");
+        dataNode.portNumber = Integer.parseInt(prop.getProperty("server_port"));
+        dataNode.transferPort = Integer.parseInt(prop.getProperty("transfer_port"));
+        dataNode.loadBlocks();
+
+        dataNode.bindServer(dataNode.dataNodeId, dataNode.ipAddress, dataNode.portNumber);
+        dataNode.metrics.register(dataNode.dataNodeId);
+        dataNode.rpcMetrics.register("DataNodeRpc", dataNode.dataNodeId);
+        dataNode.rpcMetrics.startDump(dataNode.dataNodeId, RpcMetrics.DUMP_INTERVAL_MS);
+        dataNode.retryCache.register(dataNode.dataNodeId);
+        try{
+            dataNode.startDataTransferServer(dataNode.transferPort);
+        }catch(IOException e){
+            System.err.println("Could not start data transfer server: " + e.toString());
+        }
+
+        // The Name Node only places blocks on Data Nodes it hears from
+        Properties nameProp = new Properties();
+        try(InputStream fileInputStream = new FileInputStream("nameConfig.properties")){
+            nameProp.load(fileInputStream);
+        }catch(IOException e){
+            System.err.println("Could not read nameConfig.properties: " + e.toString());
+            return;
+        }
+        dataNode.startHeartbeats(nameProp.getProperty("server_name"), nameProp.getProperty("server_ip"),
+                Integer.parseInt(nameProp.getProperty("server_port")));
+        dataNode.startBlockReports();
     }
 
 }
@@ -15,4 +15,7 @@ public interface DataNodeInterface extends Remote {
     /* Method to write data to a specific block */
     byte[] writeBlock(byte[] inp) throws IOException;
 
+    /* Method to get the address of the streaming data transfer server (DataNodeInfo) */
+    byte[] getTransferInfo(byte[] inp) throws RemoteException;
+
 }
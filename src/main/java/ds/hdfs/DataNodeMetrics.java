@@ -0,0 +1,50 @@
+package ds.hdfs;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Counters updated by the read and write paths of a Data Node
+// LongAdder keeps concurrent transfers from contending on a single counter
+public class DataNodeMetrics implements DataNodeMetricsMXBean {
+
+    private final LongAdder bytesReadZeroCopy = new LongAdder();
+    private final LongAdder bytesReadCopied = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    public void incrBytesReadZeroCopy(long bytes){
+        this.bytesReadZeroCopy.add(bytes);
+    }
+
+    public void incrBytesReadCopied(long bytes){
+        this.bytesReadCopied.add(bytes);
+    }
+
+    public void incrBytesWritten(long bytes){
+        this.bytesWritten.add(bytes);
+    }
+
+    public long getBytesReadZeroCopy(){
+        return this.bytesReadZeroCopy.sum();
+    }
+
+    public long getBytesReadCopied(){
+        return this.bytesReadCopied.sum();
+    }
+
+    public long getBytesWritten(){
+        return this.bytesWritten.sum();
+    }
+
+    // Registers the counters with the platform MBean server under ds.hdfs:type=DataNodeMetrics
+    public void register(String dataNodeId){
+        try{
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            mBeanServer.registerMBean(this, new ObjectName("ds.hdfs:type=DataNodeMetrics,name=" + dataNodeId));
+        }catch(JMException e){
+            System.err.println("Could not register Data Node metrics: " + e.toString());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ds.hdfs;
+
+// Data Node counters visible through JMX (jconsole, jmc, ...)
+public interface DataNodeMetricsMXBean {
+
+    /* Block bytes sent to readers with FileChannel.transferTo, never entering the Java heap */
+    long getBytesReadZeroCopy();
+
+    /* Block bytes sent to readers after being copied through a heap buffer */
+    long getBytesReadCopied();
+
+    /* Block bytes received from writers and upstream pipeline nodes and written to disk */
+    long getBytesWritten();
+
+}
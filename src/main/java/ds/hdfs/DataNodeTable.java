@@ -0,0 +1,94 @@
+package ds.hdfs;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Small integer indexes for Data Nodes, so the block map can store where a replica is as one int
+//
+// A Data Node gets the next index the first time the Name Node hears of it and keeps it until the Name Node
+// restarts; indexes are never reused. Its address is kept here once, instead of in every replica it holds.
+// Lookups by index read a volatile array without locking, since every RPC that returns block locations
+// makes one per replica.
+public class DataNodeTable {
+
+    public static final class DataNode {
+        private final int index;
+        private final String dataNodeId;
+        private volatile String ipAddress = "";
+        private volatile int portNumber;
+
+        DataNode(int index, String dataNodeId){
+            this.index = index;
+            this.dataNodeId = dataNodeId;
+        }
+
+        public int getIndex(){
+            return this.index;
+        }
+
+        public String getDataNodeId(){
+            return this.dataNodeId;
+        }
+
+        // Address of the Data Node's RMI registry, or an empty string until it has heartbeated
+        public String getIpAddress(){
+            return this.ipAddress;
+        }
+
+        public int getPortNumber(){
+            return this.portNumber;
+        }
+    }
+
+    private final ConcurrentHashMap<String, DataNode> byId = new ConcurrentHashMap<>();
+    // Grown, and written, only under this; read without locking
+    private volatile DataNode[] byIndex = new DataNode[16];
+    private int size;
+
+    // The index of dataNodeId, handing it a new one if it has none yet
+    public int getIndex(String dataNodeId){
+        DataNode dataNode = this.byId.get(dataNodeId);
+        return (dataNode != null) ? dataNode.index : add(dataNodeId).index;
+    }
+
+    // The index of dataNodeId, or -1 if it has never been seen
+    public int findIndex(String dataNodeId){
+        DataNode dataNode = this.byId.get(dataNodeId);
+        return (dataNode != null) ? dataNode.index : -1;
+    }
+
+    private synchronized DataNode add(String dataNodeId){
+        DataNode dataNode = this.byId.get(dataNodeId);
+        if(dataNode != null){
+            return dataNode;
+        }
+        DataNode[] byIndex = this.byIndex;
+        if(this.size == byIndex.length){
+            byIndex = Arrays.copyOf(byIndex, byIndex.length * 2);
+        }
+        dataNode = new DataNode(this.size, dataNodeId);
+        byIndex[this.size++] = dataNode;
+        this.byIndex = byIndex;
+        this.byId.put(dataNodeId, dataNode);
+        return dataNode;
+    }
+
+    public DataNode get(int index){
+        return this.byIndex[index];
+    }
+
+    public String getDataNodeId(int index){
+        return this.byIndex[index].dataNodeId;
+    }
+
+    // Records where dataNodeId can be reached, as its heartbeats tell
+    public void update(String dataNodeId, String ipAddress, int portNumber){
+        DataNode dataNode = this.byIndex[getIndex(dataNodeId)];
+        dataNode.ipAddress = ipAddress;
+        dataNode.portNumber = portNumber;
+    }
+
+    public synchronized int size(){
+        return this.size;
+    }
+}
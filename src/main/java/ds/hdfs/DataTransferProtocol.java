@@ -0,0 +1,167 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+// Streaming data transfer protocol spoken on a Data Node's transfer port, next to the RMI control interface
+//
+// Every connection starts with a length-delimited Request (READ or WRITE plus the block metadata),
+// which the Data Node answers with a length-delimited Response. Block data then follows as packets:
+//     packet = int seqno, int length, length bytes of block data
+// A packet with length 0 marks the end of the block.
+//
+// A write Request may list further targets in dataNodes. The Data Node then forwards every packet
+// to the first of them (passing on the rest of the list), so the block travels through a chain of
+// Data Nodes and the writer sends it only once. Each packet is acknowledged once it is on disk
+// on this Data Node and every Data Node after it:
+//     ack = int seqno, byte count, count status bytes (this Data Node first, then downstream)
+// Only one packet is ever held in memory per transfer, whatever the block size.
+public class DataTransferProtocol {
+
+    public static final int PACKET_SIZE = 64 * 1024;
+
+    // Number of packets a writer may have in flight before it waits for an ack
+    public static final int MAX_UNACKED_PACKETS = 16;
+
+    public static final byte ACK_SUCCESS = 0;
+    public static final byte ACK_ERROR = 1;
+
+    public static final int SOCKET_TIMEOUT = 60 * 1000;
+
+    public static void writePacket(DataOutputStream out, int seqno, byte[] buf, int length) throws IOException {
+        out.writeInt(seqno);
+        out.writeInt(length);
+        out.write(buf, 0, length);
+    }
+
+    // Reads the next packet into buf and returns its length, which is 0 for the last packet of the block
+    public static int readPacket(DataInputStream in, int expectedSeqno, byte[] buf) throws IOException {
+        int seqno = in.readInt();
+        int length = in.readInt();
+        if(seqno != expectedSeqno){
+            throw new IOException("Out of order packet " + seqno + ", expected " + expectedSeqno);
+        }
+        if(length < 0 || length > buf.length){
+            throw new IOException("Bad packet length " + length);
+        }
+        in.readFully(buf, 0, length);
+        return length;
+    }
+
+    public static void writeAck(DataOutputStream out, int seqno, byte[] statuses) throws IOException {
+        out.writeInt(seqno);
+        out.writeByte(statuses.length);
+        out.write(statuses);
+    }
+
+    // Reads the next ack and returns the status of every Data Node from the sender down the pipeline
+    public static byte[] readAck(DataInputStream in, int expectedSeqno) throws IOException {
+        int seqno = in.readInt();
+        byte[] statuses = new byte[in.readUnsignedByte()];
+        in.readFully(statuses);
+        if(seqno != expectedSeqno){
+            throw new IOException("Out of order ack " + seqno + ", expected " + expectedSeqno);
+        }
+        for(int i = 0; i < statuses.length; i++){
+            if(statuses[i] != ACK_SUCCESS){
+                throw new IOException("Data Node " + (i + 1) + " of the pipeline failed to write packet " + seqno);
+            }
+        }
+        return statuses;
+    }
+
+    protected static Socket connect(String host, int port) throws IOException {
+        Socket socket = new Socket();
+        socket.connect(new InetSocketAddress(host, port), SOCKET_TIMEOUT);
+        socket.setSoTimeout(SOCKET_TIMEOUT);
+        socket.setTcpNoDelay(true);
+        return socket;
+    }
+
+    protected static ProtosHDFS.Response sendHeader(ProtosHDFS.Request request, DataOutputStream out,
+                                                    DataInputStream in) throws IOException {
+        request.writeDelimitedTo(out);
+        out.flush();
+        ProtosHDFS.Response response = ProtosHDFS.Response.parseDelimitedFrom(in);
+        if(response == null){
+            throw new EOFException("Data Node closed the connection before answering");
+        }
+        return response;
+    }
+
+    // Client side of a block read: streams the block named in the request into out packet by packet
+    // The Data Node's response is returned as-is; nothing is written to out if it is a FAILURE
+    public static ProtosHDFS.Response readBlock(String host, int port, ProtosHDFS.Request request,
+                                                OutputStream out) throws IOException {
+        try(Socket socket = connect(host, port)){
+            DataOutputStream socketOut = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream socketIn = new DataInputStream(new BufferedInputStream(socket.getInputStream(), PACKET_SIZE));
+
+            ProtosHDFS.Response response = sendHeader(request, socketOut, socketIn);
+            if(response.getResponseType() != ProtosHDFS.Response.ResponseType.SUCCESS){
+                return response;
+            }
+
+            byte[] buf = new byte[PACKET_SIZE];
+            int seqno = 0;
+            int length;
+            while((length = readPacket(socketIn, seqno++, buf)) > 0){
+                out.write(buf, 0, length);
+            }
+            return response;
+        }
+    }
+
+    // Client side of a block write: streams length bytes from in to the first Data Node packet by packet
+    // Any Data Nodes listed in the request receive the block through the pipeline
+    // Returns once every packet has been acknowledged by the whole pipeline
+    public static ProtosHDFS.Response writeBlock(String host, int port, ProtosHDFS.Request request,
+                                                 InputStream in, long length) throws IOException {
+        try(Socket socket = connect(host, port)){
+            DataOutputStream socketOut = new DataOutputStream(
+                    new BufferedOutputStream(socket.getOutputStream(), PACKET_SIZE + 8));
+            DataInputStream socketIn = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            ProtosHDFS.Response response = sendHeader(request, socketOut, socketIn);
+            if(response.getResponseType() != ProtosHDFS.Response.ResponseType.SUCCESS){
+                return response;
+            }
+
+            byte[] buf = new byte[PACKET_SIZE];
+            int seqno = 0;
+            int acked = 0;
+            long remaining = length;
+            while(remaining > 0){
+                int count = in.read(buf, 0, (int)Math.min(buf.length, remaining));
+                if(count == -1){
+                    throw new EOFException("Source ended " + remaining + " bytes before the end of the block");
+                }
+                writePacket(socketOut, seqno++, buf, count);
+                remaining -= count;
+
+                // Bound the data in flight, waiting for the oldest ack once the window is full
+                if(seqno - acked >= MAX_UNACKED_PACKETS){
+                    socketOut.flush();
+                    readAck(socketIn, acked++);
+                }
+            }
+            writePacket(socketOut, seqno++, buf, 0);
+            socketOut.flush();
+
+            while(acked < seqno){
+                readAck(socketIn, acked++);
+            }
+            return response;
+        }
+    }
+}
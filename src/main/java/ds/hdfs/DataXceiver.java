@@ -0,0 +1,370 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// Serves a single data transfer connection: reads the Request header, then streams
+// the block to or from the local file system in DataTransferProtocol packets
+public class DataXceiver implements Runnable {
+
+    protected final DataNode dataNode;
+    protected final DataXceiverServer server;
+    protected final Socket socket;
+
+    // How long sendBlockZeroCopy waits before trying again when the socket takes nothing
+    protected static final long ZERO_COPY_BACKOFF_MS = 1;
+
+    public DataXceiver(DataNode dataNode, DataXceiverServer server, Socket socket) {
+        this.dataNode = dataNode;
+        this.server = server;
+        this.socket = socket;
+    }
+
+    public void run(){
+        RpcMetrics.MethodMetrics opMetrics = null;
+        long startNanos = 0;
+        try{
+            this.socket.setSoTimeout(DataTransferProtocol.SOCKET_TIMEOUT);
+            this.socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(this.socket.getInputStream(), DataTransferProtocol.PACKET_SIZE));
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(this.socket.getOutputStream(), DataTransferProtocol.PACKET_SIZE + 8));
+
+            ProtosHDFS.Request request = ProtosHDFS.Request.parseDelimitedFrom(in);
+            if(request == null){
+                return;
+            }
+
+            startNanos = System.nanoTime();
+            switch(request.getRequestType()){
+                case READ:
+                    opMetrics = this.dataNode.rpcMetrics.get("readBlock");
+                    readBlock(request, out);
+                    break;
+                case WRITE:
+                    opMetrics = this.dataNode.rpcMetrics.get("writeBlock");
+                    writeBlock(request, in, out);
+                    break;
+                default:
+                    sendResponse(out, request.getRequestId(), ProtosHDFS.Response.ResponseType.FAILURE,
+                            request.getRequestType() + " is not a data transfer operation");
+            }
+        }catch(IOException e){
+            if(opMetrics != null){
+                opMetrics.recordError();
+            }
+            System.err.println("Data transfer with " + this.socket.getRemoteSocketAddress() + " failed: " + e.toString());
+        }finally{
+            if(opMetrics != null){
+                opMetrics.record(startNanos);
+            }
+            try{
+                this.socket.close();
+            }catch(IOException ignored){
+            }
+            this.server.xceiverDone();
+        }
+    }
+
+    protected void sendResponse(DataOutputStream out, String requestId,
+                                ProtosHDFS.Response.ResponseType responseType, String errorMessage) throws IOException {
+        ProtosHDFS.Response response = ProtosHDFS.Response.newBuilder()
+                .setResponseId(requestId)
+                .setResponseType(responseType)
+                .setErrorMessage(errorMessage)
+                .buildPartial();
+        response.writeDelimitedTo(out);
+        out.flush();
+    }
+
+    // Streams the block file to the client one packet at a time, so the first bytes go out
+    // before the rest of the block has been read from disk
+    protected void readBlock(ProtosHDFS.Request request, DataOutputStream out) throws IOException {
+        ProtosHDFS.BlockMetaData blockMeta = request.getBlock().getBlockMeta();
+        String fileName = blockMeta.getFileName();
+        int blockNumber = blockMeta.getBlockNumber();
+
+        // A block we think we hold but whose file is gone is reported corrupt, then treated as not found
+        if(this.dataNode.findReplica(blockMeta) == null){
+            sendResponse(out, request.getRequestId(), ProtosHDFS.Response.ResponseType.FAILURE,
+                    fileName + " block " + blockNumber + " read fail (block not found)");
+            return;
+        }
+
+        try(FileInputStream fileInputStream = new FileInputStream(DataNode.blockFile(blockMeta.getNumericBlockId()))){
+            sendResponse(out, request.getRequestId(), ProtosHDFS.Response.ResponseType.SUCCESS,
+                    fileName + " block " + blockNumber + " read successful");
+
+            SocketChannel socketChannel = this.socket.getChannel();
+            int lastSeqno;
+            if(socketChannel != null){
+                lastSeqno = sendBlockZeroCopy(fileInputStream.getChannel(), socketChannel);
+            }else{
+                lastSeqno = sendBlockCopied(fileInputStream, out);
+            }
+            DataTransferProtocol.writePacket(out, lastSeqno, new byte[0], 0);
+            out.flush();
+        }
+    }
+
+    // Each packet header is written to the socket directly and the packet data follows with
+    // transferTo (sendfile), going from the page cache to the socket without a user-space copy
+    // Returns the sequence number left for the end-of-block packet
+    protected int sendBlockZeroCopy(FileChannel fileChannel, SocketChannel socketChannel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(8);
+        long blockLength = fileChannel.size();
+        long position = 0;
+        int seqno = 0;
+
+        while(position < blockLength){
+            int length = (int)Math.min(DataTransferProtocol.PACKET_SIZE, blockLength - position);
+            header.clear();
+            header.putInt(seqno++).putInt(length).flip();
+            while(header.hasRemaining()){
+                socketChannel.write(header);
+            }
+
+            long sent = 0;
+            long stalledSinceMs = 0;
+            while(sent < length){
+                long count = fileChannel.transferTo(position + sent, length - sent, socketChannel);
+                if(count > 0){
+                    sent += count;
+                    stalledSinceMs = 0;
+                    continue;
+                }
+                // No progress: at the end of the file the block was cut short; otherwise the socket is full,
+                // which is waited out with a short back-off for no longer than a read would wait
+                if(position + sent >= fileChannel.size()){
+                    throw new IOException("Block file shrank while it was being sent");
+                }
+                long nowMs = System.currentTimeMillis();
+                if(stalledSinceMs == 0){
+                    stalledSinceMs = nowMs;
+                }else if(nowMs - stalledSinceMs > DataTransferProtocol.SOCKET_TIMEOUT){
+                    throw new IOException("No progress sending block for "
+                            + DataTransferProtocol.SOCKET_TIMEOUT + " ms");
+                }
+                try{
+                    Thread.sleep(ZERO_COPY_BACKOFF_MS);
+                }catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while sending block");
+                }
+            }
+            position += length;
+            this.dataNode.metrics.incrBytesReadZeroCopy(length);
+        }
+        return seqno;
+    }
+
+    // Fallback for sockets without a channel: copy each packet through a heap buffer
+    protected int sendBlockCopied(FileInputStream fileInputStream, DataOutputStream out) throws IOException {
+        byte[] buf = new byte[DataTransferProtocol.PACKET_SIZE];
+        int seqno = 0;
+        int length;
+        while((length = fileInputStream.read(buf)) != -1){
+            DataTransferProtocol.writePacket(out, seqno++, buf, length);
+            this.dataNode.metrics.incrBytesReadCopied(length);
+        }
+        return seqno;
+    }
+
+    // Writes each packet to the block file as it arrives and, when the Request lists more targets,
+    // forwards it to the next Data Node in the pipeline at the same time
+    // The block only becomes visible to readers after the last packet is on disk
+    protected void writeBlock(ProtosHDFS.Request request, DataInputStream in, DataOutputStream out) throws IOException {
+        ProtosHDFS.BlockMetaData blockMeta = request.getBlock().getBlockMeta();
+        String fileName = blockMeta.getFileName();
+        int blockNumber = blockMeta.getBlockNumber();
+
+        Socket mirrorSocket = null;
+        try{
+            DataOutputStream mirrorOut = null;
+            DataInputStream mirrorIn = null;
+
+            // The first remaining target becomes our mirror and receives the rest of the target list
+            if(request.getDataNodesCount() > 0){
+                ProtosHDFS.DataNodeInfo mirror = request.getDataNodes(0);
+                ProtosHDFS.Response mirrorResponse;
+                try{
+                    mirrorSocket = DataTransferProtocol.connect(mirror.getIpAddress(), mirror.getTransferPort());
+                    mirrorOut = new DataOutputStream(
+                            new BufferedOutputStream(mirrorSocket.getOutputStream(), DataTransferProtocol.PACKET_SIZE + 8));
+                    mirrorIn = new DataInputStream(new BufferedInputStream(mirrorSocket.getInputStream()));
+                    mirrorResponse = DataTransferProtocol.sendHeader(makeMirrorRequest(request, mirror), mirrorOut, mirrorIn);
+                }catch(IOException e){
+                    sendResponse(out, request.getRequestId(), ProtosHDFS.Response.ResponseType.FAILURE,
+                            fileName + " block " + blockNumber + " write failed (could not reach "
+                                    + mirror.getDataNodeId() + ")");
+                    return;
+                }
+                if(mirrorResponse.getResponseType() != ProtosHDFS.Response.ResponseType.SUCCESS){
+                    sendResponse(out, request.getRequestId(), ProtosHDFS.Response.ResponseType.FAILURE,
+                            mirrorResponse.getErrorMessage());
+                    return;
+                }
+            }
+
+            // Packets go to a temporary file, so a write that fails or repeats one already done never
+            // truncates the replica this Data Node may hold
+            File file;
+            try{
+                file = DataNode.createTempBlockFile(blockMeta.getNumericBlockId());
+            }catch(IOException e){
+                sendResponse(out, request.getRequestId(), ProtosHDFS.Response.ResponseType.FAILURE,
+                        fileName + " block " + blockNumber + " write failed (" + e.getMessage() + ")");
+                return;
+            }
+            sendResponse(out, request.getRequestId(), ProtosHDFS.Response.ResponseType.SUCCESS,
+                    fileName + " block " + blockNumber + " ready for write");
+            receivePackets(blockMeta, file, in, out, mirrorOut, mirrorIn);
+        }finally{
+            if(mirrorSocket != null){
+                mirrorSocket.close();
+            }
+        }
+    }
+
+    // Header for the next Data Node: same block, addressed to the mirror, minus the mirror itself in the targets
+    protected ProtosHDFS.Request makeMirrorRequest(ProtosHDFS.Request request, ProtosHDFS.DataNodeInfo mirror){
+        ProtosHDFS.Block block = request.getBlock();
+        ProtosHDFS.BlockMetaData mirrorMeta = block.getBlockMeta().toBuilder()
+                .setOrdReplication(block.getBlockMeta().getOrdReplication() + 1)
+                .setDataNodeId(mirror.getDataNodeId())
+                .setIpAddress(mirror.getIpAddress())
+                .setPortNumber(mirror.getPortNumber())
+                .build();
+        return request.toBuilder()
+                .setBlock(block.toBuilder().setBlockMeta(mirrorMeta))
+                .clearDataNodes()
+                .addAllDataNodes(request.getDataNodesList().subList(1, request.getDataNodesCount()))
+                .build();
+    }
+
+    // Receiver side of the pipeline: each packet is forwarded downstream before it is written locally,
+    // so the mirror's disk write overlaps ours, and the PacketResponder acks it once both are done
+    // file is the temporary file the block is received into; it is synced and moved into place once the
+    // last packet is in, and removed if the write fails
+    protected void receivePackets(ProtosHDFS.BlockMetaData blockMeta, File file,
+                                  DataInputStream in, DataOutputStream out,
+                                  DataOutputStream mirrorOut, DataInputStream mirrorIn) throws IOException {
+        PacketResponder responder = new PacketResponder(out, mirrorIn);
+        Thread responderThread = new Thread(responder, "PacketResponder-" + blockMeta.getNumericBlockId());
+        responderThread.setDaemon(true);
+        responderThread.start();
+
+        try{
+            byte[] buf = new byte[DataTransferProtocol.PACKET_SIZE];
+            int seqno = 0;
+            long received = 0;
+            try(FileOutputStream fileOutputStream = new FileOutputStream(file)){
+                while(true){
+                    int length = DataTransferProtocol.readPacket(in, seqno, buf);
+                    if(mirrorOut != null){
+                        DataTransferProtocol.writePacket(mirrorOut, seqno, buf, length);
+                        mirrorOut.flush();
+                    }
+                    if(length == 0){
+                        break;
+                    }
+                    fileOutputStream.write(buf, 0, length);
+                    received += length;
+                    this.dataNode.metrics.incrBytesWritten(length);
+                    responder.enqueue(seqno++);
+                }
+                fileOutputStream.getFD().sync();
+            }catch(IOException e){
+                Files.deleteIfExists(file.toPath());
+                throw e;
+            }
+
+            // The length reported lets the Name Node tell a complete replica from one cut short
+            this.dataNode.blockReceived(blockMeta.toBuilder().setLength(received).build(), file);
+            responder.enqueue(seqno);
+        }finally{
+            // Lets the responder exit after the acks queued so far, on success or failure
+            responder.enqueue(PacketResponder.DONE);
+        }
+
+        try{
+            responderThread.join();
+        }catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the last ack of block "
+                    + blockMeta.getNumericBlockId());
+        }
+        if(responder.failure != null){
+            throw responder.failure;
+        }
+    }
+
+    // Sends acks upstream in packet order, each combining our status with the statuses from the mirror
+    // The queue never holds more than the upstream's window of unacked packets
+    protected class PacketResponder implements Runnable {
+
+        static final int DONE = -1;
+
+        private final DataOutputStream upstreamOut;
+        private final DataInputStream mirrorIn;
+        private final LinkedBlockingQueue<Integer> ackQueue = new LinkedBlockingQueue<>();
+        private volatile IOException failure;
+
+        PacketResponder(DataOutputStream upstreamOut, DataInputStream mirrorIn){
+            this.upstreamOut = upstreamOut;
+            this.mirrorIn = mirrorIn;
+        }
+
+        void enqueue(int seqno){
+            this.ackQueue.add(seqno);
+        }
+
+        public void run(){
+            try{
+                while(true){
+                    int seqno = this.ackQueue.take();
+                    if(seqno == DONE){
+                        return;
+                    }
+
+                    byte[] statuses;
+                    if(this.mirrorIn == null){
+                        statuses = new byte[]{DataTransferProtocol.ACK_SUCCESS};
+                    }else{
+                        byte[] mirrorStatuses = DataTransferProtocol.readAck(this.mirrorIn, seqno);
+                        statuses = new byte[mirrorStatuses.length + 1];
+                        statuses[0] = DataTransferProtocol.ACK_SUCCESS;
+                        System.arraycopy(mirrorStatuses, 0, statuses, 1, mirrorStatuses.length);
+                    }
+                    DataTransferProtocol.writeAck(this.upstreamOut, seqno, statuses);
+                    this.upstreamOut.flush();
+                }
+            }catch(IOException e){
+                // Closing our socket unblocks the receiver so the whole pipeline fails fast
+                this.failure = e;
+                try{
+                    DataXceiver.this.socket.close();
+                }catch(IOException ignored){
+                }
+            }catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
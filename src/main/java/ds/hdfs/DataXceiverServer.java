@@ -0,0 +1,70 @@
+package ds.hdfs;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Accepts data transfer connections on the Data Node's transfer port and hands each one
+// to its own DataXceiver thread, up to maxXceivers concurrent transfers
+// Connections are accepted as blocking SocketChannels so reads can use FileChannel.transferTo
+public class DataXceiverServer implements Runnable {
+
+    protected final DataNode dataNode;
+    protected final ServerSocketChannel serverChannel;
+    protected final int maxXceivers;
+    protected final AtomicInteger activeXceivers = new AtomicInteger();
+
+    public DataXceiverServer(DataNode dataNode, int transferPort, int maxXceivers) throws IOException {
+        this.dataNode = dataNode;
+        this.maxXceivers = maxXceivers;
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.socket().setReuseAddress(true);
+        this.serverChannel.bind(new InetSocketAddress(transferPort));
+    }
+
+    public int getActiveXceivers(){
+        return this.activeXceivers.get();
+    }
+
+    void xceiverDone(){
+        this.activeXceivers.decrementAndGet();
+    }
+
+    public void run(){
+        while(this.serverChannel.isOpen()){
+            Socket socket;
+            try{
+                SocketChannel socketChannel = this.serverChannel.accept();
+                socket = socketChannel.socket();
+            }catch(IOException e){
+                if(this.serverChannel.isOpen()){
+                    System.err.println("Data transfer server accept failed: " + e.toString());
+                }
+                continue;
+            }
+
+            // Refuse the connection rather than queueing it when too many transfers are running
+            if(this.activeXceivers.incrementAndGet() > this.maxXceivers){
+                this.activeXceivers.decrementAndGet();
+                System.err.println("Too many concurrent transfers, refusing " + socket.getRemoteSocketAddress());
+                try{
+                    socket.close();
+                }catch(IOException ignored){
+                }
+                continue;
+            }
+
+            Thread xceiver = new Thread(new DataXceiver(this.dataNode, this, socket),
+                    "DataXceiver-" + socket.getRemoteSocketAddress());
+            xceiver.setDaemon(true);
+            xceiver.start();
+        }
+    }
+
+    public void close() throws IOException {
+        this.serverChannel.close();
+    }
+}
@@ -0,0 +1,309 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// Append-only write-ahead log of namespace mutations
+//
+// Each record on disk is: int length, length bytes of EditLogOp, int CRC32 of those bytes.
+//
+// Mutations are serialized into an in-memory buffer under the log's monitor, which is cheap, and made
+// durable by logSync() with group commit: whichever caller syncs first swaps the buffers and writes
+// and forces everything logged so far, while everyone who logged in the meantime just waits for that
+// one force to cover them. Concurrent mutations therefore share a single FileChannel.force.
+public class EditLog implements Closeable {
+
+    // When edits are forced to disk:
+    // ALWAYS   - logSync() returns only once the edit is on disk (group committed)
+    // PERIODIC - a background thread writes and forces every sync interval; callers never wait
+    // NONE     - a background thread writes every sync interval but never forces; the OS decides
+    public enum SyncPolicy {
+        ALWAYS, PERIODIC, NONE
+    }
+
+    // Upper bound on a single record, anything larger on replay is treated as corruption
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+    // The log is split into segments named after the first txId they hold; a checkpoint starts a new
+    // segment so every older one is covered by the fsimage and can be deleted
+    private static final String SEGMENT_PREFIX = "edits_";
+
+    // ByteArrayOutputStream that hands out its contents without copying them
+    private static final class EditBuffer extends ByteArrayOutputStream {
+        EditBuffer(){
+            super(64 * 1024);
+        }
+
+        ByteBuffer asByteBuffer(){
+            return ByteBuffer.wrap(this.buf, 0, this.count);
+        }
+    }
+
+    private final Path file;
+    private final FileChannel channel;
+    private final SyncPolicy syncPolicy;
+    private final CRC32 crc = new CRC32();
+
+    // Loggers append to currentBuffer while the syncer writes out readyBuffer
+    private EditBuffer currentBuffer = new EditBuffer();
+    private EditBuffer readyBuffer = new EditBuffer();
+    private DataOutputStream currentOut = new DataOutputStream(currentBuffer);
+
+    private long lastTxId;
+    private long syncedTxId;
+    private boolean syncRunning;
+    private IOException syncFailure;
+    private Thread syncer;
+    private volatile boolean closed;
+
+    // Opens the log for appending after replay() has brought the namespace up to lastTxId
+    public EditLog(Path file, long lastTxId, SyncPolicy syncPolicy, long syncIntervalMs) throws IOException {
+        this.file = file;
+        this.lastTxId = lastTxId;
+        this.syncedTxId = lastTxId;
+        this.syncPolicy = syncPolicy;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.channel.position(this.channel.size());
+
+        if(syncPolicy != SyncPolicy.ALWAYS){
+            this.syncer = new Thread(() -> runSyncer(syncIntervalMs), "EditLogSyncer");
+            this.syncer.setDaemon(true);
+            this.syncer.start();
+        }
+    }
+
+    public static String segmentName(long firstTxId){
+        return String.format(SEGMENT_PREFIX + "%019d", firstTxId);
+    }
+
+    // Returns the first txId of a segment from its file name, or -1 if the name is not a segment
+    public static long getSegmentFirstTxId(Path file){
+        String name = file.getFileName().toString();
+        if(!name.startsWith(SEGMENT_PREFIX)){
+            return -1;
+        }
+        try{
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length()));
+        }catch(NumberFormatException e){
+            return -1;
+        }
+    }
+
+    // Returns every segment in dir, oldest first
+    public static List<Path> findSegments(Path dir) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*")){
+            for(Path segment : stream){
+                if(getSegmentFirstTxId(segment) >= 0){
+                    segments.add(segment);
+                }
+            }
+        }
+        segments.sort(Comparator.comparingLong(EditLog::getSegmentFirstTxId));
+        return segments;
+    }
+
+    // Reads every intact record of the log in order and hands it to apply
+    // A torn or corrupt tail (from a crash mid-write) is cut off so new edits follow the last good one
+    // Returns the txId of the last record applied, or 0 for an empty or missing log
+    public static long replay(Path file, Consumer<ProtosHDFS.EditLogOp> apply) throws IOException {
+        if(!Files.exists(file)){
+            return 0;
+        }
+
+        long lastTxId = 0;
+        long goodLength = 0;
+        CRC32 crc = new CRC32();
+        try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))){
+            while(true){
+                int length;
+                try{
+                    length = in.readInt();
+                }catch(EOFException e){
+                    break;
+                }
+                if(length < 0 || length > MAX_RECORD_SIZE){
+                    System.err.println("Edit log " + file + " has a bad record length after txId " + lastTxId);
+                    break;
+                }
+
+                byte[] record = new byte[length];
+                int checksum;
+                try{
+                    in.readFully(record);
+                    checksum = in.readInt();
+                }catch(EOFException e){
+                    System.err.println("Edit log " + file + " ends with a partial record after txId " + lastTxId);
+                    break;
+                }
+                crc.reset();
+                crc.update(record, 0, length);
+                if((int)crc.getValue() != checksum){
+                    System.err.println("Edit log " + file + " has a checksum mismatch after txId " + lastTxId);
+                    break;
+                }
+
+                ProtosHDFS.EditLogOp op = ProtosHDFS.EditLogOp.parseFrom(record);
+                if(lastTxId != 0 && op.getTxId() != lastTxId + 1){
+                    throw new IOException("Edit log " + file + " skips from txId " + lastTxId + " to " + op.getTxId());
+                }
+                apply.accept(op);
+                lastTxId = op.getTxId();
+                goodLength += 4 + length + 4;
+            }
+        }
+
+        if(goodLength < Files.size(file)){
+            try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)){
+                channel.truncate(goodLength);
+            }
+        }
+        return lastTxId;
+    }
+
+    // Assigns the next txId to op and buffers it; nothing is written to disk until the next sync
+    // Callers apply the returned edit to the namespace and then call logSync with its txId
+    public synchronized ProtosHDFS.EditLogOp logEdit(ProtosHDFS.EditLogOp.Builder op) throws IOException {
+        if(this.syncFailure != null){
+            throw new IOException("Edit log is unusable after a failed sync", this.syncFailure);
+        }
+        ProtosHDFS.EditLogOp edit = op.setTxId(this.lastTxId + 1).build();
+        byte[] record = edit.toByteArray();
+        this.crc.reset();
+        this.crc.update(record, 0, record.length);
+
+        this.currentOut.writeInt(record.length);
+        this.currentOut.write(record);
+        this.currentOut.writeInt((int)this.crc.getValue());
+        this.lastTxId = edit.getTxId();
+        return edit;
+    }
+
+    // Makes sure txId is durable before returning, under the ALWAYS policy
+    // Under PERIODIC and NONE the background syncer takes care of it and this returns straight away
+    public void logSync(long txId) throws IOException {
+        if(this.syncPolicy == SyncPolicy.ALWAYS){
+            sync(txId);
+        }
+    }
+
+    private void sync(long txId) throws IOException {
+        EditBuffer toFlush;
+        long flushTxId;
+        synchronized(this){
+            // Another thread's sync may already cover our edit; if so there is nothing left to do
+            while(this.syncRunning && txId > this.syncedTxId){
+                try{
+                    wait();
+                }catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for edit log sync");
+                }
+            }
+            if(this.syncFailure != null){
+                throw new IOException("Edit log is unusable after a failed sync", this.syncFailure);
+            }
+            if(txId <= this.syncedTxId){
+                return;
+            }
+
+            // Take everything logged so far; new edits go to the other buffer while we write
+            this.syncRunning = true;
+            toFlush = this.currentBuffer;
+            this.currentBuffer = this.readyBuffer;
+            this.readyBuffer = toFlush;
+            this.currentOut = new DataOutputStream(this.currentBuffer);
+            flushTxId = this.lastTxId;
+        }
+
+        try{
+            ByteBuffer data = toFlush.asByteBuffer();
+            while(data.hasRemaining()){
+                this.channel.write(data);
+            }
+            if(this.syncPolicy != SyncPolicy.NONE){
+                this.channel.force(false);
+            }
+            toFlush.reset();
+        }catch(IOException e){
+            synchronized(this){
+                this.syncFailure = e;
+                this.syncRunning = false;
+                notifyAll();
+            }
+            throw e;
+        }
+
+        synchronized(this){
+            this.syncedTxId = flushTxId;
+            this.syncRunning = false;
+            notifyAll();
+        }
+    }
+
+    // The syncer is stopped with a flag rather than an interrupt: interrupting a thread
+    // in the middle of a FileChannel write closes the channel
+    private void runSyncer(long syncIntervalMs){
+        while(!this.closed){
+            LockSupport.parkNanos(syncIntervalMs * 1000000L);
+            try{
+                sync(getLastTxId());
+            }catch(IOException e){
+                System.err.println("Edit log sync to " + this.file + " failed: " + e.toString());
+                return;
+            }
+        }
+    }
+
+    public synchronized long getLastTxId(){
+        return this.lastTxId;
+    }
+
+    public synchronized long getSyncedTxId(){
+        return this.syncedTxId;
+    }
+
+    public Path getFile(){
+        return this.file;
+    }
+
+    // Flushes and forces whatever is still buffered, whatever the policy, then closes the file
+    public void close() throws IOException {
+        this.closed = true;
+        if(this.syncer != null){
+            LockSupport.unpark(this.syncer);
+            try{
+                this.syncer.join();
+            }catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        }
+        try{
+            sync(getLastTxId());
+            // NONE never forces while running, so a clean shutdown does it once
+            this.channel.force(false);
+        }finally{
+            this.channel.close();
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// The namespace as a tree of inodes: directories hold their children, files hold their FileMetadata
+//
+// Each directory keeps its children in an array sorted by name, so resolving a path is one binary search
+// per component, done on the path string in place without cutting it into component strings, and
+// anything scoped to a directory touches only its children, never the rest of the namespace.
+// Arrays grow by half when full, so a directory costs a few references per child and nothing more.
+//
+// Directories are implied by the files in them: creating a file creates its missing parent directories.
+// Only files are logged and saved, so a directory left empty by deletes is gone after a restart.
+//
+// Path locks keep a file and its parent directory consistent, but siblings in one directory are created
+// concurrently, so each directory also guards its own array: writers take its StampedLock exclusively,
+// and readers search optimistically and only take it shared if a writer got in the way.
+public class FSDirectory {
+
+    private static final INode[] NO_CHILDREN = new INode[0];
+    private static final String[] NO_NAMES = new String[0];
+
+    public abstract static class INode {
+        final String name;
+
+        INode(String name){
+            this.name = name;
+        }
+
+        public String getName(){
+            return this.name;
+        }
+    }
+
+    public static final class INodeFile extends INode {
+        // Replaced as a whole on every change, never modified in place
+        volatile ProtosHDFS.FileMetadata fileMeta;
+
+        INodeFile(String name, ProtosHDFS.FileMetadata fileMeta){
+            super(name);
+            this.fileMeta = fileMeta;
+        }
+
+        public ProtosHDFS.FileMetadata getFileMeta(){
+            return this.fileMeta;
+        }
+    }
+
+    public static final class INodeDirectory extends INode {
+        private final StampedLock lock = new StampedLock();
+        // names[i] is children[i]'s name, kept alongside so a search never has to touch the inodes
+        private INode[] children = NO_CHILDREN;
+        private String[] names = NO_NAMES;
+        private int size;
+
+        INodeDirectory(String name){
+            super(name);
+        }
+
+        // Orders name against path.substring(start, end) like String.compareTo, without the substring
+        private static int compare(String name, String path, int start, int end){
+            int length = end - start;
+            int common = Math.min(name.length(), length);
+            for(int i = 0; i < common; i++){
+                int diff = name.charAt(i) - path.charAt(start + i);
+                if(diff != 0){
+                    return diff;
+                }
+            }
+            return name.length() - length;
+        }
+
+        // Index of the child named path[start, end), or -(insertion point) - 1 if there is none
+        private static int search(String[] names, int size, String path, int start, int end){
+            int low = 0;
+            int high = Math.min(size, names.length) - 1;
+            while(low <= high){
+                int mid = (low + high) >>> 1;
+                String name = names[mid];
+                // A null means a writer is shifting the array; the stamp will not validate either way
+                int cmp = (name == null) ? 1 : compare(name, path, start, end);
+                if(cmp < 0){
+                    low = mid + 1;
+                }else if(cmp > 0){
+                    high = mid - 1;
+                }else{
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        INode getChild(String path, int start, int end){
+            long stamp = this.lock.tryOptimisticRead();
+            if(stamp != 0){
+                INode[] children = this.children;
+                int index = search(this.names, this.size, path, start, end);
+                INode child = (index >= 0 && index < children.length) ? children[index] : null;
+                if(this.lock.validate(stamp)){
+                    return child;
+                }
+            }
+            stamp = this.lock.readLock();
+            try{
+                int index = search(this.names, this.size, path, start, end);
+                return (index >= 0) ? this.children[index] : null;
+            }finally{
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        // Returns the child named path[start, end), adding the one made by create if there is none
+        INode getOrAddChild(String path, int start, int end, Function<String, INode> create){
+            long stamp = this.lock.writeLock();
+            try{
+                int index = search(this.names, this.size, path, start, end);
+                if(index >= 0){
+                    return this.children[index];
+                }
+                int insertAt = -index - 1;
+                if(this.size == this.children.length){
+                    int capacity = Math.max(4, this.size + (this.size >> 1));
+                    INode[] grownChildren = new INode[capacity];
+                    String[] grownNames = new String[capacity];
+                    System.arraycopy(this.children, 0, grownChildren, 0, insertAt);
+                    System.arraycopy(this.names, 0, grownNames, 0, insertAt);
+                    System.arraycopy(this.children, insertAt, grownChildren, insertAt + 1, this.size - insertAt);
+                    System.arraycopy(this.names, insertAt, grownNames, insertAt + 1, this.size - insertAt);
+                    this.children = grownChildren;
+                    this.names = grownNames;
+                }else{
+                    System.arraycopy(this.children, insertAt, this.children, insertAt + 1, this.size - insertAt);
+                    System.arraycopy(this.names, insertAt, this.names, insertAt + 1, this.size - insertAt);
+                }
+                INode child = create.apply(path.substring(start, end));
+                this.children[insertAt] = child;
+                this.names[insertAt] = child.name;
+                this.size++;
+                return child;
+            }finally{
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean removeChild(INode child){
+            long stamp = this.lock.writeLock();
+            try{
+                int index = search(this.names, this.size, child.name, 0, child.name.length());
+                if(index < 0 || this.children[index] != child){
+                    return false;
+                }
+                System.arraycopy(this.children, index + 1, this.children, index, this.size - index - 1);
+                System.arraycopy(this.names, index + 1, this.names, index, this.size - index - 1);
+                this.size--;
+                this.children[this.size] = null;
+                this.names[this.size] = null;
+                return true;
+            }finally{
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        // A copy of the children in name order, consistent as of some moment during the call
+        public INode[] getChildren(){
+            long stamp = this.lock.readLock();
+            try{
+                INode[] copy = new INode[this.size];
+                System.arraycopy(this.children, 0, copy, 0, this.size);
+                return copy;
+            }finally{
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        // Up to limit children in name order that are named after startAfter (from the first if it is null)
+        // and start with prefix; the binary search skips straight to them, so a page costs O(log n + limit)
+        public INode[] getChildren(String startAfter, String prefix, int limit){
+            long stamp = this.lock.readLock();
+            try{
+                int from = 0;
+                if(startAfter != null){
+                    int index = search(this.names, this.size, startAfter, 0, startAfter.length());
+                    from = (index >= 0) ? index + 1 : -index - 1;
+                }
+                int index = search(this.names, this.size, prefix, 0, prefix.length());
+                from = Math.max(from, (index >= 0) ? index : -index - 1);
+                int to = from;
+                while(to < this.size && to - from < limit && this.names[to].startsWith(prefix)){
+                    to++;
+                }
+                return Arrays.copyOfRange(this.children, from, to);
+            }finally{
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        public int getChildCount(){
+            long stamp = this.lock.readLock();
+            try{
+                return this.size;
+            }finally{
+                this.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    private final INodeDirectory root = new INodeDirectory("");
+    private final AtomicInteger fileCount = new AtomicInteger();
+    // Files by generation, which identifies a file for as long as it exists, so a block can refer to its file
+    // by a number instead of a path
+    private final ConcurrentHashMap<Long, INodeFile> filesByGeneration = new ConcurrentHashMap<>();
+
+    // Start of the first path component at or after from, skipping slashes; path.length() if there is none
+    private static int nextComponent(String path, int from){
+        while(from < path.length() && path.charAt(from) == '/'){
+            from++;
+        }
+        return from;
+    }
+
+    private static int componentEnd(String path, int start){
+        int slash = path.indexOf('/', start);
+        return (slash < 0) ? path.length() : slash;
+    }
+
+    // The inode at path, or null; paths are taken from the root whether or not they start with a slash
+    public INode getINode(String path){
+        INode node = this.root;
+        for(int start = nextComponent(path, 0); start < path.length(); start = nextComponent(path, start)){
+            if(!(node instanceof INodeDirectory)){
+                return null;
+            }
+            int end = componentEnd(path, start);
+            node = ((INodeDirectory)node).getChild(path, start, end);
+            if(node == null){
+                return null;
+            }
+            start = end;
+        }
+        return node;
+    }
+
+    public ProtosHDFS.FileMetadata getFile(String path){
+        INode node = getINode(path);
+        return (node instanceof INodeFile) ? ((INodeFile)node).fileMeta : null;
+    }
+
+    public INodeDirectory getDirectory(String path){
+        INode node = getINode(path);
+        return (node instanceof INodeDirectory) ? (INodeDirectory)node : null;
+    }
+
+    // True if a file can be created at path: nothing but directories on the way, and no directory at path
+    public boolean canCreateFile(String path){
+        INode node = this.root;
+        for(int start = nextComponent(path, 0); start < path.length(); start = nextComponent(path, start)){
+            if(!(node instanceof INodeDirectory)){
+                return false;
+            }
+            int end = componentEnd(path, start);
+            node = ((INodeDirectory)node).getChild(path, start, end);
+            if(node == null){
+                return true;
+            }
+            start = end;
+        }
+        return node instanceof INodeFile;
+    }
+
+    // Adds the file at path, or replaces the metadata of the file already there, creating missing parent
+    // directories on the way. Returns false, changing nothing, if a file is in the way or path is a directory.
+    public boolean addFile(String path, ProtosHDFS.FileMetadata fileMeta){
+        INodeDirectory parent = this.root;
+        int start = nextComponent(path, 0);
+        if(start == path.length()){
+            return false;
+        }
+        while(true){
+            int end = componentEnd(path, start);
+            int next = nextComponent(path, end);
+            if(next == path.length()){
+                boolean[] added = new boolean[1];
+                INode node = parent.getOrAddChild(path, start, end, name -> {
+                    added[0] = true;
+                    return new INodeFile(name, fileMeta);
+                });
+                if(!(node instanceof INodeFile)){
+                    return false;
+                }
+                INodeFile file = (INodeFile)node;
+                if(added[0]){
+                    this.fileCount.incrementAndGet();
+                }else{
+                    ProtosHDFS.FileMetadata replaced = file.fileMeta;
+                    file.fileMeta = fileMeta;
+                    if(replaced.hasGeneration() && replaced.getGeneration() != fileMeta.getGeneration()){
+                        this.filesByGeneration.remove(replaced.getGeneration(), file);
+                    }
+                }
+                if(fileMeta.hasGeneration()){
+                    this.filesByGeneration.put(fileMeta.getGeneration(), file);
+                }
+                return true;
+            }
+
+            INode node = parent.getChild(path, start, end);
+            if(node == null){
+                node = parent.getOrAddChild(path, start, end, INodeDirectory::new);
+            }
+            if(!(node instanceof INodeDirectory)){
+                return false;
+            }
+            parent = (INodeDirectory)node;
+            start = next;
+        }
+    }
+
+    // Removes the file at path and returns its metadata, or null if there is no file there
+    public ProtosHDFS.FileMetadata removeFile(String path){
+        int end = path.length();
+        while(end > 0 && path.charAt(end - 1) == '/'){
+            end--;
+        }
+        int slash = path.lastIndexOf('/', end - 1);
+        INodeDirectory parent = (slash < 0) ? this.root : getDirectory(path.substring(0, slash));
+        if(parent == null){
+            return null;
+        }
+        INode node = parent.getChild(path, slash + 1, end);
+        if(!(node instanceof INodeFile) || !parent.removeChild(node)){
+            return null;
+        }
+        this.fileCount.decrementAndGet();
+        ProtosHDFS.FileMetadata fileMeta = ((INodeFile)node).fileMeta;
+        if(fileMeta.hasGeneration()){
+            this.filesByGeneration.remove(fileMeta.getGeneration(), node);
+        }
+        return fileMeta;
+    }
+
+    // The file with the given generation, or null if it was deleted or created again since
+    public ProtosHDFS.FileMetadata getFileByGeneration(long generation){
+        INodeFile file = this.filesByGeneration.get(generation);
+        return (file != null) ? file.fileMeta : null;
+    }
+
+    // The characters of glob before its first wildcard, which every name it matches starts with
+    public static String globPrefix(String glob){
+        for(int i = 0; i < glob.length(); i++){
+            char c = glob.charAt(i);
+            if(c == '*' || c == '?' || c == '[' || c == '\\'){
+                return glob.substring(0, i);
+            }
+        }
+        return glob;
+    }
+
+    private static void appendLiteral(StringBuilder regex, char c){
+        if(!Character.isLetterOrDigit(c)){
+            regex.append('\\');
+        }
+        regex.append(c);
+    }
+
+    // A regex matching the names glob matches: * is any characters, ? one, [abc] and [a-z] one of a set,
+    // [!abc] one not in it, and \ makes the next character literal
+    public static Pattern compileGlob(String glob){
+        StringBuilder regex = new StringBuilder();
+        for(int i = 0; i < glob.length(); i++){
+            char c = glob.charAt(i);
+            if(c == '*'){
+                regex.append(".*");
+            }else if(c == '?'){
+                regex.append('.');
+            }else if(c == '['){
+                int close = glob.indexOf(']', i + 2);
+                if(close < 0){
+                    throw new IllegalArgumentException("Unclosed [ in " + glob);
+                }
+                String set = glob.substring(i + 1, close);
+                regex.append('[');
+                if(set.startsWith("!")){
+                    regex.append('^');
+                    set = set.substring(1);
+                }
+                for(char member : set.toCharArray()){
+                    if(member == '-'){
+                        regex.append(member);
+                    }else{
+                        appendLiteral(regex, member);
+                    }
+                }
+                regex.append(']');
+                i = close;
+            }else if(c == '\\' && i + 1 < glob.length()){
+                appendLiteral(regex, glob.charAt(++i));
+            }else{
+                appendLiteral(regex, c);
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    public int getFileCount(){
+        return this.fileCount.get();
+    }
+
+    // Every file in the tree; consistent only while nothing changes it, as during a checkpoint
+    public List<ProtosHDFS.FileMetadata> getFiles(){
+        List<ProtosHDFS.FileMetadata> files = new ArrayList<>(getFileCount());
+        List<INodeDirectory> pending = new ArrayList<>();
+        pending.add(this.root);
+        while(!pending.isEmpty()){
+            for(INode child : pending.remove(pending.size() - 1).getChildren()){
+                if(child instanceof INodeFile){
+                    files.add(((INodeFile)child).fileMeta);
+                }else{
+                    pending.add((INodeDirectory)child);
+                }
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,144 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+// Measures the inode tree against the flat map of files it replaced, at namespace sizes up to 10M files:
+// create and lookup throughput from several threads, and the cost of listing one directory, which the
+// tree answers from the directory's children and the flat map only by scanning every file.
+// Files are spread over directories of filesPerDir files each, as /bench/d<dir>/f<file>. Every file shares
+// one FileMetadata, so the numbers show the namespace structure and not protobuf allocation.
+// 10M files need a heap of about 4 GB (-Xmx4g).
+// Usage: FSDirectoryBenchmark [files] [filesPerDir] [threads]
+public class FSDirectoryBenchmark {
+
+    private interface Work {
+        void run(int thread) throws Exception;
+    }
+
+    // Runs work on threads threads at once and returns the seconds until the last one finished
+    private static double timeParallel(int threads, Work work) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for(int t = 0; t < threads; t++){
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                try{
+                    start.await();
+                    work.run(thread);
+                }catch(Exception e){
+                    throw new RuntimeException(e);
+                }
+            }, "bench-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for(Thread worker : workers){
+            worker.join();
+        }
+        return (System.nanoTime() - startNanos) / 1e9;
+    }
+
+    // The same pseudo-random file indexes for both structures, without a shared Random to contend on
+    private static int nextIndex(long[] state, int files){
+        long x = state[0];
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        state[0] = x;
+        return (int)((x >>> 1) % files);
+    }
+
+    private static String dirOf(int file, int filesPerDir){
+        return "/bench/d" + (file / filesPerDir);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int files = (args.length > 0) ? Integer.parseInt(args[0]) : 10000000;
+        int filesPerDir = (args.length > 1) ? Integer.parseInt(args[1]) : 1000;
+        int threads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int listings = 20;
+
+        String[] paths = new String[files];
+        for(int i = 0; i < files; i++){
+            paths[i] = dirOf(i, filesPerDir) + "/f" + i;
+        }
+        ProtosHDFS.FileMetadata fileMeta = ProtosHDFS.FileMetadata.newBuilder()
+                .setFileId("/bench/file")
+                .setFileName("/bench/file")
+                .setFileSize(1024)
+                .setParentDirectory("/bench")
+                .build();
+        System.out.printf("%,d files in directories of %,d, %d threads%n%n", files, filesPerDir, threads);
+        System.out.printf("%-10s %16s %16s %22s%n", "namespace", "creates/s", "lookups/s", "list one directory ms");
+
+        for(String structure : new String[]{"tree", "flat map"}){
+            FSDirectory tree = new FSDirectory();
+            ConcurrentHashMap<String, ProtosHDFS.FileMetadata> flat = new ConcurrentHashMap<>();
+            boolean isTree = structure.equals("tree");
+
+            // Each thread creates every threads'th file, so threads share directories as real clients would
+            double createSeconds = timeParallel(threads, thread -> {
+                for(int i = thread; i < files; i += threads){
+                    if(isTree){
+                        tree.addFile(paths[i], fileMeta);
+                    }else{
+                        flat.put(paths[i], fileMeta);
+                    }
+                }
+            });
+
+            int lookupsPerThread = Math.max(1, files / threads);
+            double lookupSeconds = timeParallel(threads, thread -> {
+                long[] state = {thread * 0x9E3779B97F4A7C15L + 1};
+                int found = 0;
+                for(int i = 0; i < lookupsPerThread; i++){
+                    // A path decoded from a request is a new string, without the hash code
+                    // the stored one has cached
+                    String path = new String(paths[nextIndex(state, files)]);
+                    if((isTree ? tree.getFile(path) : flat.get(path)) != null){
+                        found++;
+                    }
+                }
+                if(found != lookupsPerThread){
+                    throw new IllegalStateException(structure + " lost " + (lookupsPerThread - found) + " files");
+                }
+            });
+
+            // Listing collects the files in one directory; the flat map has to look at every file to find them
+            long[] state = {42};
+            long listNanos = 0;
+            for(int l = 0; l < listings; l++){
+                String dir = dirOf(nextIndex(state, files), filesPerDir);
+                long startNanos = System.nanoTime();
+                List<ProtosHDFS.FileMetadata> listing = new ArrayList<>();
+                if(isTree){
+                    for(FSDirectory.INode child : tree.getDirectory(dir).getChildren()){
+                        listing.add(((FSDirectory.INodeFile)child).getFileMeta());
+                    }
+                }else{
+                    for(Map.Entry<String, ProtosHDFS.FileMetadata> entry : flat.entrySet()){
+                        String path = entry.getKey();
+                        if(path.startsWith(dir) && path.lastIndexOf('/') == dir.length()){
+                            listing.add(entry.getValue());
+                        }
+                    }
+                }
+                listNanos += System.nanoTime() - startNanos;
+                if(listing.isEmpty()){
+                    throw new IllegalStateException(structure + " listed nothing in " + dir);
+                }
+            }
+
+            System.out.printf("%-10s %,16.0f %,16.0f %22.3f%n", structure, files / createSeconds,
+                    (double)lookupsPerThread * threads / lookupSeconds, listNanos / 1e6 / listings);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+// Checkpoint of the whole namespace (files and the block map) as of one edit log txId
+//
+// Layout of an fsimage_<txId> file:
+//     header  = int magic, int version, long txId, long last generation, long last block id, int section count
+//     section table, one entry per section = byte type, int entries, long offset, long length, int CRC32
+//     sections, each a run of records = int length, length bytes of FileMetadata or ImageBlock
+// Entries are split into sections of at most SECTION_ENTRIES so startup can map every section
+// on its own and decode them in parallel, and a single section never comes near the 2GB mapping limit.
+public class FSImage implements Closeable {
+
+    private static final int MAGIC = 0x4653494D;
+    private static final int VERSION = 4;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 4;
+    private static final int SECTION_ENTRY_SIZE = 1 + 4 + 8 + 8 + 4;
+
+    private static final byte FILES_SECTION = 0;
+    private static final byte BLOCKS_SECTION = 1;
+
+    protected static final int SECTION_ENTRIES = 100000;
+
+    private static final String IMAGE_PREFIX = "fsimage_";
+
+    private static final class Section {
+        byte type;
+        int entries;
+        long offset;
+        long length;
+        int checksum;
+    }
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long txId;
+    private final long lastGeneration;
+    private final long lastBlockId;
+    private final List<Section> sections = new ArrayList<>();
+
+    private FSImage(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try{
+            ByteBuffer header = readFully(0, HEADER_SIZE);
+            if(header.getInt() != MAGIC){
+                throw new IOException(file + " is not an fsimage");
+            }
+            int version = header.getInt();
+            if(version != VERSION){
+                throw new IOException(file + " has unsupported fsimage version " + version);
+            }
+            this.txId = header.getLong();
+            this.lastGeneration = header.getLong();
+            this.lastBlockId = header.getLong();
+            int sectionCount = header.getInt();
+
+            ByteBuffer table = readFully(HEADER_SIZE, sectionCount * SECTION_ENTRY_SIZE);
+            for(int i = 0; i < sectionCount; i++){
+                Section section = new Section();
+                section.type = table.get();
+                section.entries = table.getInt();
+                section.offset = table.getLong();
+                section.length = table.getLong();
+                section.checksum = table.getInt();
+                if(section.offset + section.length > this.channel.size()){
+                    throw new IOException(file + " is truncated");
+                }
+                this.sections.add(section);
+            }
+        }catch(IOException e){
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(length);
+        while(buf.hasRemaining()){
+            if(this.channel.read(buf, position + buf.position()) == -1){
+                throw new IOException(this.file + " is truncated");
+            }
+        }
+        buf.flip();
+        return buf;
+    }
+
+    public static FSImage open(Path file) throws IOException {
+        return new FSImage(file);
+    }
+
+    public static String imageName(long txId){
+        return String.format(IMAGE_PREFIX + "%019d", txId);
+    }
+
+    // Returns the txId an fsimage file name stands for, or -1 if the name is not an fsimage
+    public static long getImageTxId(Path file){
+        String name = file.getFileName().toString();
+        if(!name.startsWith(IMAGE_PREFIX)){
+            return -1;
+        }
+        try{
+            return Long.parseLong(name.substring(IMAGE_PREFIX.length()));
+        }catch(NumberFormatException e){
+            return -1;
+        }
+    }
+
+    // Returns the newest fsimage in dir, or null if no checkpoint has been saved yet
+    public static Path findLatest(Path dir) throws IOException {
+        Path latest = null;
+        long latestTxId = -1;
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(dir, IMAGE_PREFIX + "*")){
+            for(Path image : stream){
+                long txId = getImageTxId(image);
+                if(txId > latestTxId){
+                    latest = image;
+                    latestTxId = txId;
+                }
+            }
+        }
+        return latest;
+    }
+
+    // Writes files and blocks as they stood at txId to dir/fsimage_<txId> and returns its path, along with
+    // the last generation and block id handed out, which deleted files may have taken and must not be reused
+    // blocks must not change while it is written; dataNodes names the Data Nodes its replicas are on
+    // The image is written to a temporary file, forced and then renamed, so a crash never leaves
+    // a half written image behind under the real name
+    public static Path save(Path dir, long txId, long lastGeneration, long lastBlockId,
+                            List<ProtosHDFS.FileMetadata> files, BlockMap blocks, DataNodeTable dataNodes)
+            throws IOException {
+        Path image = dir.resolve(imageName(txId));
+        Path tmp = dir.resolve(imageName(txId) + ".tmp");
+
+        int fileSections = (files.size() + SECTION_ENTRIES - 1) / SECTION_ENTRIES;
+        int blockCount = blocks.size();
+        int blockSections = (blockCount + SECTION_ENTRIES - 1) / SECTION_ENTRIES;
+        List<Section> sections = new ArrayList<>();
+        long dataStart = HEADER_SIZE + (long)(fileSections + blockSections) * SECTION_ENTRY_SIZE;
+
+        try(FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)){
+            channel.position(dataStart);
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 256 * 1024);
+            long offset = dataStart;
+
+            for(int start = 0; start < files.size(); start += SECTION_ENTRIES){
+                Section section = new Section();
+                section.type = FILES_SECTION;
+                section.offset = offset;
+                CRC32 crc = new CRC32();
+                DataOutputStream sectionOut = new DataOutputStream(new CheckedOutputStream(out, crc));
+                for(ProtosHDFS.FileMetadata fileMeta : files.subList(start, Math.min(start + SECTION_ENTRIES, files.size()))){
+                    section.length += writeRecord(sectionOut, fileMeta.toByteArray());
+                    section.entries++;
+                }
+                section.checksum = (int)crc.getValue();
+                offset += section.length;
+                sections.add(section);
+            }
+
+            ProtosHDFS.ImageBlock.Builder blockBuilder = ProtosHDFS.ImageBlock.newBuilder();
+            ProtosHDFS.ImageReplica.Builder replicaBuilder = ProtosHDFS.ImageReplica.newBuilder();
+            Iterator<BlockMap.Block> blockIterator = blocks.iterator();
+            for(int start = 0; start < blockCount; start += SECTION_ENTRIES){
+                Section section = new Section();
+                section.type = BLOCKS_SECTION;
+                section.offset = offset;
+                CRC32 crc = new CRC32();
+                DataOutputStream sectionOut = new DataOutputStream(new CheckedOutputStream(out, crc));
+                while(section.entries < SECTION_ENTRIES && blockIterator.hasNext()){
+                    BlockMap.Block block = blockIterator.next();
+                    blockBuilder.setBlockId(block.getBlockId())
+                            .setFileGeneration(block.getFileGeneration())
+                            .setBlockNumber(block.getBlockNumber());
+                    for(int replica = 0; replica < block.getReplicaCount(); replica++){
+                        blockBuilder.addReplicas(replicaBuilder
+                                .setDataNodeId(dataNodes.getDataNodeId(block.getDataNode(replica)))
+                                .setLength(block.getLength(replica))
+                                .build());
+                    }
+                    byte[] record = blockBuilder.build().toByteArray();
+                    blockBuilder.clear();
+                    section.length += writeRecord(sectionOut, record);
+                    section.entries++;
+                }
+                section.checksum = (int)crc.getValue();
+                offset += section.length;
+                sections.add(section);
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate((int)dataStart);
+            header.putInt(MAGIC).putInt(VERSION).putLong(txId).putLong(lastGeneration).putLong(lastBlockId)
+                    .putInt(sections.size());
+            for(Section section : sections){
+                header.put(section.type).putInt(section.entries).putLong(section.offset)
+                        .putLong(section.length).putInt(section.checksum);
+            }
+            header.flip();
+            while(header.hasRemaining()){
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+
+        Files.move(tmp, image, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return image;
+    }
+
+    private static int writeRecord(DataOutputStream out, byte[] record) throws IOException {
+        out.writeInt(record.length);
+        out.write(record);
+        return 4 + record.length;
+    }
+
+    public long getTxId(){
+        return this.txId;
+    }
+
+    public long getLastGeneration(){
+        return this.lastGeneration;
+    }
+
+    public long getLastBlockId(){
+        return this.lastBlockId;
+    }
+
+    public int getFileCount(){
+        return countEntries(FILES_SECTION);
+    }
+
+    public int getBlockCount(){
+        return countEntries(BLOCKS_SECTION);
+    }
+
+    private int countEntries(byte type){
+        int count = 0;
+        for(Section section : this.sections){
+            if(section.type == type){
+                count += section.entries;
+            }
+        }
+        return count;
+    }
+
+    // Memory maps every section and decodes them on up to threads threads straight into the given
+    // namespace and block map, adding the Data Nodes the replicas are on to dataNodes
+    public void loadInto(FSDirectory files, BlockMap blocks, DataNodeTable dataNodes, int threads)
+            throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, this.sections.size())));
+        try{
+            List<Future<?>> loads = new ArrayList<>();
+            for(Section section : this.sections){
+                MappedByteBuffer data = this.channel.map(FileChannel.MapMode.READ_ONLY, section.offset, section.length);
+                loads.add(pool.submit(() -> {
+                    loadSection(section, data, files, blocks, dataNodes);
+                    return null;
+                }));
+            }
+            for(Future<?> load : loads){
+                load.get();
+            }
+        }catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading " + this.file);
+        }catch(ExecutionException e){
+            if(e.getCause() instanceof IOException){
+                throw (IOException)e.getCause();
+            }
+            throw new IOException("Could not load " + this.file, e.getCause());
+        }finally{
+            pool.shutdownNow();
+        }
+    }
+
+    private void loadSection(Section section, ByteBuffer data, FSDirectory files, BlockMap blocks,
+                             DataNodeTable dataNodes) throws IOException {
+        int[] replicaNodes = new int[BlockMap.MAX_REPLICAS];
+        int[] replicaLengths = new int[BlockMap.MAX_REPLICAS];
+        CRC32 crc = new CRC32();
+        crc.update(data.duplicate());
+        if((int)crc.getValue() != section.checksum){
+            throw new IOException(this.file + " has a checksum mismatch in the section at " + section.offset);
+        }
+
+        // Records are parsed straight out of the mapping, without copying them onto the heap first
+        for(int i = 0; i < section.entries; i++){
+            int length = data.getInt();
+            ByteBuffer recordData = data.slice();
+            recordData.limit(length);
+            data.position(data.position() + length);
+            if(section.type == FILES_SECTION){
+                ProtosHDFS.FileMetadata fileMeta = ProtosHDFS.FileMetadata.parseFrom(recordData);
+                files.addFile(fileMeta.getFileId(), fileMeta);
+            }else{
+                ProtosHDFS.ImageBlock imageBlock = ProtosHDFS.ImageBlock.parseFrom(recordData);
+                int replicas = Math.min(imageBlock.getReplicasCount(), BlockMap.MAX_REPLICAS);
+                for(int replica = 0; replica < replicas; replica++){
+                    replicaNodes[replica] = dataNodes.getIndex(imageBlock.getReplicas(replica).getDataNodeId());
+                    replicaLengths[replica] = imageBlock.getReplicas(replica).getLength();
+                }
+                blocks.put(imageBlock.getBlockId(), imageBlock.getFileGeneration(), imageBlock.getBlockNumber(),
+                        replicaNodes, replicaLengths, replicas);
+            }
+        }
+    }
+
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -0,0 +1,149 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Measures Name Node startup time against namespace size: replaying a full edit log versus loading
+// an fsimage of the same namespace on one thread and on every core
+// Usage: FSImageBenchmark [blockCounts, comma separated] [blocksPerFile] [replicas]
+public class FSImageBenchmark {
+
+    private static List<ProtosHDFS.BlockMetaData> makeReplicas(ProtosHDFS.FileMetadata fileMeta, int blockNumber,
+                                                               int replicas){
+        String fileId = fileMeta.getFileId();
+        List<ProtosHDFS.BlockMetaData> blockMetas = new ArrayList<>();
+        for(int ord = 1; ord <= replicas; ord++){
+            blockMetas.add(ProtosHDFS.BlockMetaData.newBuilder()
+                    .setNumericBlockId(NameNode.blockId(fileMeta, blockNumber))
+                    .setGenerationStamp(fileMeta.getGeneration())
+                    .setFileId(fileId)
+                    .setFileName(fileId)
+                    .setBlockNumber(blockNumber)
+                    .setOrdReplication(ord)
+                    .setDataNodeId("datanode-" + ((blockNumber * 7 + ord) % 100))
+                    .setIpAddress("127.0.0.1")
+                    .setPortNumber(1099)
+                    .build());
+        }
+        return blockMetas;
+    }
+
+    // Writes the namespace to dir both ways: as the edit log that would have built it, and as an fsimage
+    private static void buildNamespace(Path dir, int blockCount, int blocksPerFile, int replicas) throws IOException {
+        List<ProtosHDFS.FileMetadata> files = new ArrayList<>();
+        BlockMap blockMap = new BlockMap(blockCount);
+        DataNodeTable dataNodes = new DataNodeTable();
+
+        try(EditLog editLog = new EditLog(dir.resolve(EditLog.segmentName(1)), 0, EditLog.SyncPolicy.NONE, 1000)){
+            for(int block = 0; block < blockCount; block += blocksPerFile){
+                String fileId = "/bench/file" + block;
+                ProtosHDFS.FileMetadata fileMeta = ProtosHDFS.FileMetadata.newBuilder()
+                        .setFileId(fileId)
+                        .setFileName(fileId)
+                        .setFileSize(blocksPerFile * 64 * 1024 * 1024)
+                        .setParentDirectory("/bench")
+                        .setGeneration(files.size() + 1)
+                        .setFirstBlockId(block + 1)
+                        .setBlockCount(blocksPerFile)
+                        .build();
+                files.add(fileMeta);
+                editLog.logEdit(ProtosHDFS.EditLogOp.newBuilder()
+                        .setOpCode(ProtosHDFS.EditLogOp.OpCode.CREATE)
+                        .setFileMeta(fileMeta));
+                for(int blockNumber = 1; blockNumber <= blocksPerFile; blockNumber++){
+                    List<ProtosHDFS.BlockMetaData> replicaMetas = makeReplicas(fileMeta, blockNumber, replicas);
+                    int[] replicaNodes = new int[replicas];
+                    int[] replicaLengths = new int[replicas];
+                    for(int replica = 0; replica < replicas; replica++){
+                        replicaNodes[replica] = dataNodes.getIndex(replicaMetas.get(replica).getDataNodeId());
+                        replicaLengths[replica] = -1;
+                    }
+                    blockMap.put(NameNode.blockId(fileMeta, blockNumber), fileMeta.getGeneration(), blockNumber,
+                            replicaNodes, replicaLengths, replicas);
+                    editLog.logEdit(ProtosHDFS.EditLogOp.newBuilder()
+                            .setOpCode(ProtosHDFS.EditLogOp.OpCode.ASSIGN_BLOCK)
+                            .addAllBlockMetas(replicaMetas));
+                }
+            }
+        }
+        FSImage.save(dir, files.size() + blockMap.size(), files.size(), blockCount, files, blockMap, dataNodes);
+    }
+
+    private static NameNode newNameNode(){
+        return new NameNode(new NameNodeConfig("bench", "127.0.0.1", 1099, 64 * 1024 * 1024, 3));
+    }
+
+    private static long replayEditLog(Path dir) throws IOException {
+        NameNode nameNode = newNameNode();
+        long start = System.nanoTime();
+        for(Path segment : EditLog.findSegments(dir)){
+            EditLog.replay(segment, nameNode::applyEdit);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long loadImage(Path dir, int threads) throws IOException {
+        long start = System.nanoTime();
+        try(FSImage fsImage = FSImage.open(FSImage.findLatest(dir))){
+            FSDirectory files = new FSDirectory();
+            BlockMap blockMap = new BlockMap(fsImage.getBlockCount());
+            fsImage.loadInto(files, blockMap, new DataNodeTable(), threads);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long sizeOf(Path dir, String glob) throws IOException {
+        long size = 0;
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(dir, glob)){
+            for(Path file : stream){
+                size += Files.size(file);
+            }
+        }
+        return size;
+    }
+
+    private static void deleteAll(Path dir) throws IOException {
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(dir)){
+            for(Path file : stream){
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    public static void main(String[] args) throws IOException {
+        String[] blockCounts = ((args.length > 0) ? args[0] : "100000,1000000").split(",");
+        int blocksPerFile = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+        int replicas = (args.length > 2) ? Integer.parseInt(args[2]) : 3;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("%12s %12s %12s %14s %14s %14s%n", "blocks", "edits MB", "image MB",
+                "replay ms", "image 1t ms", "image " + threads + "t ms");
+        for(String blockCountArg : blockCounts){
+            int blockCount = Integer.parseInt(blockCountArg.trim());
+            Path dir = Files.createTempDirectory("fsimage-bench");
+            try{
+                buildNamespace(dir, blockCount, blocksPerFile, replicas);
+
+                // One untimed pass of each so the JIT has compiled them before timing
+                replayEditLog(dir);
+                loadImage(dir, threads);
+
+                long replayNanos = replayEditLog(dir);
+                long singleNanos = loadImage(dir, 1);
+                long parallelNanos = loadImage(dir, threads);
+                System.out.printf("%,12d %12.1f %12.1f %,14d %,14d %,14d%n", blockCount,
+                        sizeOf(dir, "edits_*") / (1024.0 * 1024), sizeOf(dir, "fsimage_*") / (1024.0 * 1024),
+                        replayNanos / 1000000, singleNanos / 1000000, parallelNanos / 1000000);
+            }finally{
+                deleteAll(dir);
+            }
+        }
+    }
+}
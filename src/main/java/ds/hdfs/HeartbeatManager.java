@@ -0,0 +1,185 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Tracks which Data Nodes are alive from the heartbeats they send the Name Node
+//
+// A Data Node is live from its first heartbeat until timeoutMs pass without another one.
+// Expiry uses a hashed timing wheel: every live node sits in the slot of the tick its deadline falls in,
+// and the monitor thread only looks at the one slot whose tick has come, never at every node.
+// A heartbeat just stamps the node's receive time without touching the wheel; when the node's slot
+// comes up and the stamp shows a newer heartbeat, the node is moved on to the slot of its new deadline.
+// Each node is therefore visited about once per timeout, whatever the heartbeat rate.
+//
+// Heartbeats are timed by the Name Node's clock when they arrive, not the timestamp the Data Node
+// put in them, so clock skew between machines cannot make a node look dead or alive.
+public class HeartbeatManager {
+
+    public static class DataNodeDescriptor {
+        protected final String dataNodeId;
+        protected volatile ProtosHDFS.DataNodeInfo dataNodeInfo;
+        protected volatile long lastHeartbeatMs;
+        // Blocks placed on the node since its last heartbeat, which its reported numbers do not show yet
+        protected final AtomicInteger pendingBlocks = new AtomicInteger();
+
+        DataNodeDescriptor(ProtosHDFS.DataNodeInfo dataNodeInfo, long nowMs){
+            this.dataNodeId = dataNodeInfo.getDataNodeId();
+            this.dataNodeInfo = dataNodeInfo;
+            this.lastHeartbeatMs = nowMs;
+        }
+
+        public String getDataNodeId(){
+            return this.dataNodeId;
+        }
+
+        public ProtosHDFS.DataNodeInfo getDataNodeInfo(){
+            return this.dataNodeInfo;
+        }
+
+        public long getLastHeartbeatMs(){
+            return this.lastHeartbeatMs;
+        }
+
+        public int getPendingBlocks(){
+            return this.pendingBlocks.get();
+        }
+
+        public void addPendingBlock(){
+            this.pendingBlocks.incrementAndGet();
+        }
+    }
+
+    private final long timeoutMs;
+    private final long tickMs;
+    private final ConcurrentHashMap<String, DataNodeDescriptor> liveNodes = new ConcurrentHashMap<>();
+    // The same live nodes as an array, rebuilt whenever one joins or expires, so placement can
+    // pick nodes at random in O(1) without copying the node list per block
+    private volatile DataNodeDescriptor[] liveNodeArray = new DataNodeDescriptor[0];
+
+    // Guarded by this; one slot per tick, and enough slots that a deadline never wraps past the current tick
+    private final List<ArrayList<DataNodeDescriptor>> wheel;
+    private long lastTick;
+    private Thread monitor;
+
+    public HeartbeatManager(long timeoutMs, long tickMs) {
+        this.timeoutMs = timeoutMs;
+        this.tickMs = tickMs;
+        int slots = (int)(timeoutMs / tickMs) + 2;
+        this.wheel = new ArrayList<>(slots);
+        for(int i = 0; i < slots; i++){
+            this.wheel.add(new ArrayList<>());
+        }
+        this.lastTick = now() / tickMs;
+    }
+
+    private static long now(){
+        return System.nanoTime() / 1000000;
+    }
+
+    // Records a heartbeat; the first one from a Data Node (or the first after it expired) makes it live
+    public void heartbeat(ProtosHDFS.Heartbeat heartbeat){
+        ProtosHDFS.DataNodeInfo dataNodeInfo = heartbeat.getDataNodeInfo();
+        long nowMs = now();
+        DataNodeDescriptor node = this.liveNodes.get(dataNodeInfo.getDataNodeId());
+        if(node != null){
+            // Common case, no locking: the wheel catches up with the new stamp when the node's slot comes up
+            // If the node expires right now anyway, its next heartbeat registers it again
+            node.dataNodeInfo = dataNodeInfo;
+            node.lastHeartbeatMs = nowMs;
+            node.pendingBlocks.set(0);
+            return;
+        }
+
+        synchronized(this){
+            node = this.liveNodes.get(dataNodeInfo.getDataNodeId());
+            if(node == null){
+                node = new DataNodeDescriptor(dataNodeInfo, nowMs);
+                this.liveNodes.put(node.dataNodeId, node);
+                this.liveNodeArray = this.liveNodes.values().toArray(new DataNodeDescriptor[0]);
+                schedule(node);
+                System.out.println("\n Data Node " + node.dataNodeId + " is live \n");
+            }else{
+                node.dataNodeInfo = dataNodeInfo;
+                node.lastHeartbeatMs = nowMs;
+                node.pendingBlocks.set(0);
+            }
+        }
+    }
+
+    // Puts node in the slot of the tick its current deadline falls in, rounded up
+    private void schedule(DataNodeDescriptor node){
+        long deadlineTick = (node.lastHeartbeatMs + this.timeoutMs + this.tickMs - 1) / this.tickMs;
+        this.wheel.get((int)(deadlineTick % this.wheel.size())).add(node);
+    }
+
+    // Advances the wheel to the current time, expiring every node whose deadline has passed
+    protected synchronized void tick(){
+        long nowMs = now();
+        long currentTick = nowMs / this.tickMs;
+        boolean expired = false;
+        while(this.lastTick < currentTick){
+            this.lastTick++;
+            ArrayList<DataNodeDescriptor> slot = this.wheel.get((int)(this.lastTick % this.wheel.size()));
+            if(slot.isEmpty()){
+                continue;
+            }
+            ArrayList<DataNodeDescriptor> due = new ArrayList<>(slot);
+            slot.clear();
+            for(DataNodeDescriptor node : due){
+                if(nowMs - node.lastHeartbeatMs >= this.timeoutMs){
+                    this.liveNodes.remove(node.dataNodeId, node);
+                    expired = true;
+                    System.out.println("\n Data Node " + node.dataNodeId + " is dead, no heartbeat for "
+                            + (nowMs - node.lastHeartbeatMs) + " ms \n");
+                }else{
+                    schedule(node);
+                }
+            }
+        }
+        if(expired){
+            this.liveNodeArray = this.liveNodes.values().toArray(new DataNodeDescriptor[0]);
+        }
+    }
+
+    public void start(){
+        this.monitor = new Thread(() -> {
+            while(true){
+                try{
+                    Thread.sleep(this.tickMs);
+                }catch(InterruptedException e){
+                    return;
+                }
+                tick();
+            }
+        }, "HeartbeatMonitor");
+        this.monitor.setDaemon(true);
+        this.monitor.start();
+    }
+
+    public boolean isAlive(String dataNodeId){
+        return this.liveNodes.containsKey(dataNodeId);
+    }
+
+    public DataNodeDescriptor getDataNode(String dataNodeId){
+        return this.liveNodes.get(dataNodeId);
+    }
+
+    // IDs of every Data Node that is currently live, in no particular order
+    public List<String> getLiveNodes(){
+        return new ArrayList<>(this.liveNodes.keySet());
+    }
+
+    // Snapshot of the live nodes; callers must not modify it
+    public DataNodeDescriptor[] getLiveNodeArray(){
+        return this.liveNodeArray;
+    }
+
+    public int getLiveNodeCount(){
+        return this.liveNodes.size();
+    }
+}
@@ -0,0 +1,106 @@
+package ds.hdfs;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free latency histogram with HDR-style log-linear buckets
+//
+// A latency in nanoseconds is bucketed by its power of two, and every power of two is split into
+// SUB_BUCKETS linear sub-buckets, so each value is known to within 1/SUB_BUCKETS (about 3%) anywhere
+// from a nanosecond to minutes, in a fixed array of counters. Recording is an atomic increment of one
+// counter and allocates nothing. Percentiles are computed from a snapshot of the counters when asked for,
+// and two snapshots can be subtracted to get the histogram of just the calls in between.
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Latencies of 2^MAX_EXPONENT ns (about 18 minutes) and more all land in the last bucket
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalNanos = new LongAdder();
+
+    private static int bucket(long nanos){
+        if(nanos < SUB_BUCKETS){
+            return (nanos < 0) ? 0 : (int)nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if(exponent > MAX_EXPONENT){
+            return BUCKETS - 1;
+        }
+        int subBucket = (int)(nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // The largest latency that falls in bucket, so percentiles never understate
+    private static long highestValue(int bucket){
+        if(bucket < SUB_BUCKETS){
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long)(SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    public void record(long nanos){
+        this.counts.incrementAndGet(bucket(nanos));
+        this.totalNanos.add(nanos);
+    }
+
+    // Copies the counters; concurrent records may or may not be in it, but none is half in it
+    public long[] snapshot(){
+        long[] snapshot = new long[BUCKETS];
+        for(int i = 0; i < BUCKETS; i++){
+            snapshot[i] = this.counts.get(i);
+        }
+        return snapshot;
+    }
+
+    public long getTotalNanos(){
+        return this.totalNanos.sum();
+    }
+
+    public static long count(long[] snapshot){
+        long count = 0;
+        for(long bucketCount : snapshot){
+            count += bucketCount;
+        }
+        return count;
+    }
+
+    // The latency in nanoseconds that percentile % of the calls in snapshot took at most; 0 if it is empty
+    public static long percentile(long[] snapshot, double percentile){
+        long count = count(snapshot);
+        if(count == 0){
+            return 0;
+        }
+        long rank = Math.max(1, (long)Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for(int i = 0; i < snapshot.length; i++){
+            seen += snapshot[i];
+            if(seen >= rank){
+                return highestValue(i);
+            }
+        }
+        return highestValue(snapshot.length - 1);
+    }
+
+    public static long max(long[] snapshot){
+        for(int i = snapshot.length - 1; i >= 0; i--){
+            if(snapshot[i] > 0){
+                return highestValue(i);
+            }
+        }
+        return 0;
+    }
+
+    // The calls recorded in current but not yet in previous, an older snapshot of the same histogram
+    public static long[] difference(long[] current, long[] previous){
+        long[] difference = new long[current.length];
+        for(int i = 0; i < current.length; i++){
+            difference[i] = current[i] - previous[i];
+        }
+        return difference;
+    }
+}
@@ -0,0 +1,146 @@
+package ds.hdfs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Single-writer leases on files under construction
+//
+// A client gets a lease on a file when it creates it and gives it up when it closes it. Leases are held
+// per client, not per file: one renewLease call renews every file the client is writing, so a client with
+// thousands of open files costs the Name Node one small RPC per renewal interval.
+//
+// Another client may take over a file whose lease has not been renewed for SOFT_LIMIT_MS. After
+// HARD_LIMIT_MS the writer is taken for dead and the Name Node recovers the file itself, closing it with
+// the blocks its Data Nodes reported. Leases are kept sorted by last renewal, so every LEASE_CHECK_MS the
+// monitor only looks at the oldest leases, never at every open file.
+public class LeaseManager implements Runnable {
+
+    protected static final long SOFT_LIMIT_MS = 60 * 1000;
+    protected static final long HARD_LIMIT_MS = 60 * 60 * 1000;
+    protected static final long LEASE_CHECK_MS = 2 * 1000;
+
+    protected static class Lease {
+        final String holder;
+        final Set<String> paths = new HashSet<>();
+        long lastRenewedMs;
+
+        Lease(String holder, long lastRenewedMs){
+            this.holder = holder;
+            this.lastRenewedMs = lastRenewedMs;
+        }
+    }
+
+    private final NameNode nameNode;
+
+    // All guarded by this
+    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Lease> leasesByPath = new HashMap<>();
+    private final TreeSet<Lease> sortedLeases = new TreeSet<>(
+            Comparator.<Lease>comparingLong(lease -> lease.lastRenewedMs).thenComparing(lease -> lease.holder));
+
+    public LeaseManager(NameNode nameNode) {
+        this.nameNode = nameNode;
+    }
+
+    private static long now(){
+        return System.nanoTime() / 1000000;
+    }
+
+    // Gives holder the lease on path, taking it from whoever had it
+    public synchronized void addLease(String holder, String path){
+        removeLease(path);
+        Lease lease = this.leases.get(holder);
+        if(lease == null){
+            lease = new Lease(holder, now());
+            this.leases.put(holder, lease);
+            this.sortedLeases.add(lease);
+        }
+        lease.paths.add(path);
+        this.leasesByPath.put(path, lease);
+    }
+
+    // Renews every lease holder has; false if it holds none, so the client knows its files were recovered
+    public synchronized boolean renewLease(String holder){
+        Lease lease = this.leases.get(holder);
+        if(lease == null){
+            return false;
+        }
+        // The sort key changes, so the lease has to leave the set first
+        this.sortedLeases.remove(lease);
+        lease.lastRenewedMs = now();
+        this.sortedLeases.add(lease);
+        return true;
+    }
+
+    public synchronized void removeLease(String path){
+        Lease lease = this.leasesByPath.remove(path);
+        if(lease == null){
+            return;
+        }
+        lease.paths.remove(path);
+        if(lease.paths.isEmpty()){
+            this.leases.remove(lease.holder);
+            this.sortedLeases.remove(lease);
+        }
+    }
+
+    // The client writing path, or null if nobody is
+    public synchronized String getHolder(String path){
+        Lease lease = this.leasesByPath.get(path);
+        return (lease == null) ? null : lease.holder;
+    }
+
+    // True if path has no writer, or one that has not renewed its lease within the soft limit
+    public synchronized boolean canTakeOver(String path){
+        Lease lease = this.leasesByPath.get(path);
+        return lease == null || now() - lease.lastRenewedMs >= SOFT_LIMIT_MS;
+    }
+
+    // Files whose writer has not renewed within the hard limit; only the oldest leases are looked at
+    protected synchronized List<String> getExpiredPaths(){
+        long now = now();
+        List<String> expired = new ArrayList<>();
+        for(Lease lease : this.sortedLeases){
+            if(now - lease.lastRenewedMs < HARD_LIMIT_MS){
+                break;
+            }
+            expired.addAll(lease.paths);
+        }
+        return expired;
+    }
+
+    public synchronized int getLeaseCount(){
+        return this.leases.size();
+    }
+
+    public synchronized int getOpenFileCount(){
+        return this.leasesByPath.size();
+    }
+
+    public void run(){
+        while(true){
+            try{
+                Thread.sleep(LEASE_CHECK_MS);
+            }catch(InterruptedException e){
+                return;
+            }
+
+            // Recovery takes path locks and logs edits, so it runs outside the lease manager's lock
+            for(String path : getExpiredPaths()){
+                try{
+                    this.nameNode.recoverLease(path);
+                }catch(IOException | RuntimeException e){
+                    // The lease stays, so recovery is tried again on the next check
+                    System.err.println("Could not recover the lease on " + path + ": " + e.toString());
+                }
+            }
+        }
+    }
+}
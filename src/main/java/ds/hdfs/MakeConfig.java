@@ -16,6 +16,12 @@ public class MakeConfig {
 
     public static void setNodeConfig(String port, String configType,
                                      String blockSize, String repFactor) throws IOException {
+        // Data transfer server defaults to the port right after the RMI port
+        setNodeConfig(port, configType, blockSize, repFactor, String.valueOf(Integer.parseInt(port) + 1));
+    }
+
+    public static void setNodeConfig(String port, String configType, String blockSize,
+                                     String repFactor, String transferPort) throws IOException {
         Properties props = new Properties();
         // If it doesn't match any of the enum values, the program would catch IllegalArgumentException
         ConfigType config = ConfigType.valueOf(configType);
@@ -31,13 +37,20 @@ public class MakeConfig {
         props.setProperty("server_port", port);
         props.setProperty("block_size", blockSize);
         props.setProperty("replication_factor", repFactor);
+        if(config == ConfigType.DATA_NODE){
+            props.setProperty("transfer_port", transferPort);
+        }
 
         props.store(out, null);
     }
 
     public static void main(String[] args){
         try {
-            setNodeConfig(args[0], args[1], args[2], args[3]);
+            if(args.length > 4){
+                setNodeConfig(args[0], args[1], args[2], args[3], args[4]);
+            }else{
+                setNodeConfig(args[0], args[1], args[2], args[3]);
+            }
         } catch (IOException e) {
             e.printStackTrace();
         }
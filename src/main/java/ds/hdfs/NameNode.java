@@ -3,145 +3,1219 @@ package ds.hdfs;
 import com.google.protobuf.InvalidProtocolBufferException;
 import proto.ProtosHDFS;
 
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.rmi.RemoteException;
+import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
+import java.rmi.server.RemoteServer;
+import java.rmi.server.ServerNotActiveException;
+import java.rmi.server.UnicastRemoteObject;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
 
 public class NameNode implements NameNodeInterface {
 
     protected Registry serverRegistry;
-    protected ConcurrentHashMap<String, ProtosHDFS.FileMetadata> files;
-    protected ConcurrentHashMap<String, ArrayList<ProtosHDFS.BlockMetaData>> blockMetas;
-    protected Hashtable<Integer, String> requests;
+    // Every file by path, in a tree of directories
+    protected FSDirectory fsDirectory;
+    // Every block and where its replicas are, off the heap; replicas are Data Node indexes into dataNodes
+    protected BlockMap blockMap;
+    protected final DataNodeTable dataNodes = new DataNodeTable();
+    // Last generation handed to a created file; generations only grow, so a re-created file never
+    // matches what a client cached for the old one, and a block's generation stamp is its file's generation
+    protected final AtomicLong lastGeneration = new AtomicLong();
+    // Last block id handed out; a created file takes the next consecutive ids for its blocks, and ids are
+    // never reused, so a replica left behind by a deleted file cannot be taken for a block of a new one
+    protected final AtomicLong lastBlockId = new AtomicLong();
+    // Responses of non-idempotent RPCs by request ID, so retries are not executed twice
+    protected RetryCache retryCache;
+
+    protected static final long RETRY_CACHE_TTL_MS = 10 * 60 * 1000;
+    protected static final int RETRY_CACHE_SIZE = 100000;
+
+    // Current configuration snapshot, replaced as a whole whenever nameConfig.properties changes
+    protected volatile NameNodeConfig config;
+    protected ConfigWatcher configWatcher;
+
+    // Write-ahead log of every namespace mutation, replayed by loadNamespace on startup
+    // Replaced by a fresh segment on every checkpoint, always while holding namespaceLock exclusively
+    protected volatile EditLog editLog;
+    // Held shared while an edit is logged and applied, and exclusively while a checkpoint rolls the log,
+    // so a checkpoint sees every logged edit applied and none half done
+    // Edits of one path are ordered by its path lock; edits of different paths commute, so they need no order
+    protected final ReentrantReadWriteLock namespaceLock = new ReentrantReadWriteLock();
+
+    // Per-path locks: lookups take a path shared, mutations take it exclusively
+    protected PathLocks pathLocks = new PathLocks(NAMESPACE_LOCK_STRIPES);
+    protected static final int NAMESPACE_LOCK_STRIPES = 1024;
+    // Most files one getBlockLocationsBatch call may look up, which bounds the response size
+    protected static final int MAX_LOCATIONS_BATCH = 10000;
+    // Children in a page of a listing when the client does not ask for fewer, and the most it may ask for
+    protected static final int LIST_PAGE_SIZE = 1000;
+    protected static final int MAX_LIST_PAGE_SIZE = 10000;
+    // Most names one page looks at for a glob that matches few of them; the page then ends early with a cursor
+    protected static final int MAX_LIST_SCAN = 100000;
+
+    // Held for the whole of a checkpoint so two never run at once
+    protected final Object checkpointLock = new Object();
+    protected volatile long lastCheckpointTxId;
+    protected volatile long lastCheckpointTime;
+    protected Thread checkpointer;
+
+    protected static final long CHECKPOINT_CHECK_MS = 10 * 1000;
+
+    // Data Nodes heartbeat every DataNode.HEARTBEAT_INTERVAL_MS and count as dead after missing ten in a row
+    protected HeartbeatManager heartbeatManager;
+
+    protected static final long HEARTBEAT_TIMEOUT_MS = 10 * DataNode.HEARTBEAT_INTERVAL_MS;
+    protected static final long HEARTBEAT_TICK_MS = 1000;
+
+    protected BlockPlacementPolicy placementPolicy;
+    protected NetworkTopology topology;
+    protected ProximitySorter proximitySorter;
+    protected ReplicationMonitor replicationMonitor;
+    protected Balancer balancer;
+    // Who is writing each file under construction; files whose writer stopped renewing are recovered
+    protected LeaseManager leaseManager;
+    // Latency and call counts of every RPC clients and Data Nodes make to the Name Node
+    protected final RpcMetrics rpcMetrics = new RpcMetrics(NameNodeRpcServer.methodNames());
+    protected NameNodeRpcServer rpcServer;
+
+    // Commands for each Data Node, handed over in the response to its next heartbeat
+    protected final ConcurrentHashMap<String, ConcurrentLinkedQueue<ProtosHDFS.DataNodeCommand>> commands =
+            new ConcurrentHashMap<>();
+
+    // Full block reports in progress by Data Node ID, holding every block reported by the chunks so far
+    protected final ConcurrentHashMap<String, FullBlockReport> fullReports = new ConcurrentHashMap<>();
+
+    protected static class FullBlockReport {
+        final String reportId;
+        final HashSet<Long> reported = new HashSet<>();
+        int nextChunk;
+
+        FullBlockReport(String reportId){
+            this.reportId = reportId;
+        }
+    }
+
+    public NameNode(NameNodeConfig config) {
+        this.config = config;
+        this.fsDirectory = new FSDirectory();
+        this.blockMap = new BlockMap(0);
+        this.retryCache = new RetryCache(RETRY_CACHE_TTL_MS, RETRY_CACHE_SIZE);
+        this.heartbeatManager = new HeartbeatManager(HEARTBEAT_TIMEOUT_MS, HEARTBEAT_TICK_MS);
+        this.topology = loadTopology(config.getTopologyFile());
+        this.placementPolicy = newPlacementPolicy(config.getBlockPlacementPolicy());
+        this.placementPolicy.initialize(this.heartbeatManager, this.topology);
+        this.proximitySorter = new ProximitySorter(this.topology, this.heartbeatManager);
+        this.replicationMonitor = new ReplicationMonitor(this);
+        this.balancer = new Balancer(this);
+        this.leaseManager = new LeaseManager(this);
+    }
+
+    protected static NetworkTopology loadTopology(String topologyFile){
+        if(topologyFile.isEmpty()){
+            return new NetworkTopology();
+        }
+        try{
+            return NetworkTopology.load(Paths.get(topologyFile));
+        }catch(IOException e){
+            throw new IllegalArgumentException("Cannot read topology_file " + topologyFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Address of the client making the current RMI call, or null outside of one
+    protected static String getClientHost(){
+        try{
+            return RemoteServer.getClientHost();
+        }catch(ServerNotActiveException e){
+            return null;
+        }
+    }
+
+    protected static BlockPlacementPolicy newPlacementPolicy(String className){
+        try{
+            return (BlockPlacementPolicy)Class.forName(className).getDeclaredConstructor().newInstance();
+        }catch(ReflectiveOperationException | ClassCastException e){
+            throw new IllegalArgumentException("Cannot use " + className + " as block_placement_policy: " + e, e);
+        }
+    }
+
+    // Re-reads the config file and swaps in the new snapshot
+    // A file that does not parse leaves the previous snapshot in place
+    public void reloadConfig(Path configFile){
+        try{
+            NameNodeConfig newConfig = NameNodeConfig.load(configFile);
+            this.config = newConfig;
+            System.out.println("\n Reloaded " + configFile + ": " + newConfig + " \n");
+        }catch(IOException e){
+            System.err.println("Keeping previous configuration, could not reload " + configFile + ": " + e.getMessage());
+        }
+    }
+
+    // Starts watching the config file so block size and replication changes apply without a restart
+    public void watchConfig(Path configFile) throws IOException {
+        this.configWatcher = new ConfigWatcher(configFile, () -> reloadConfig(configFile));
+        this.configWatcher.start();
+    }
+
+    // Rebuilds files and blockMap from the newest fsimage in name_dir plus the edits logged after it,
+    // then starts a new edit log segment for new edits
+    public void loadNamespace() throws IOException {
+        NameNodeConfig config = this.config;
+        Path nameDir = Paths.get(config.getNameDir());
+        Files.createDirectories(nameDir);
+        long startTime = System.nanoTime();
+
+        long imageTxId = 0;
+        Path image = FSImage.findLatest(nameDir);
+        if(image != null){
+            try(FSImage fsImage = FSImage.open(image)){
+                // Size the block map up front so the parallel load never waits on a resize
+                this.fsDirectory = new FSDirectory();
+                this.blockMap = new BlockMap(fsImage.getBlockCount());
+                fsImage.loadInto(this.fsDirectory, this.blockMap, this.dataNodes,
+                        Runtime.getRuntime().availableProcessors());
+                imageTxId = fsImage.getTxId();
+                this.lastGeneration.set(fsImage.getLastGeneration());
+                this.lastBlockId.set(fsImage.getLastBlockId());
+            }
+        }
+
+        // Only the edits after the image are replayed; segments it fully covers are skipped unread
+        final long loadedTxId = imageTxId;
+        long lastTxId = imageTxId;
+        List<Path> segments = EditLog.findSegments(nameDir);
+        for(int i = 0; i < segments.size(); i++){
+            if(i + 1 < segments.size() && EditLog.getSegmentFirstTxId(segments.get(i + 1)) <= imageTxId + 1){
+                continue;
+            }
+            long firstTxId = EditLog.getSegmentFirstTxId(segments.get(i));
+            if(firstTxId > lastTxId + 1){
+                throw new IOException("Edits " + (lastTxId + 1) + " to " + (firstTxId - 1) + " are missing from " + nameDir);
+            }
+            long segmentLastTxId = EditLog.replay(segments.get(i), op -> {
+                if(op.getTxId() > loadedTxId){
+                    applyEdit(op);
+                }
+            });
+            lastTxId = Math.max(lastTxId, segmentLastTxId);
+        }
+
+        this.editLog = new EditLog(nameDir.resolve(EditLog.segmentName(lastTxId + 1)), lastTxId,
+                config.getEditLogSyncPolicy(), config.getEditLogSyncIntervalMs());
+        this.lastCheckpointTxId = imageTxId;
+        this.lastCheckpointTime = System.currentTimeMillis();
+        for(ProtosHDFS.FileMetadata fileMeta : this.fsDirectory.getFiles()){
+            // Leases are not saved; writers get a full lease period from the restart to renew or be recovered
+            if(fileMeta.hasClientName()){
+                this.leaseManager.addLease(fileMeta.getClientName(), fileMeta.getFileId());
+            }
+        }
+        System.out.println("\n Loaded " + this.fsDirectory.getFileCount() + " files and " + this.blockMap.size()
+                + " blocks from " + nameDir + " up to txId " + lastTxId + " (image at txId " + imageTxId + ") in "
+                + (System.nanoTime() - startTime) / 1000000 + " ms \n");
+    }
+
+    // Saves the namespace to a new fsimage and drops the edit log segments and image it replaces
+    // Writers are held up only while the edit log rolls to a new segment, the files are listed and the
+    // block map's memory is copied; the image itself is written from those copies while edits carry on.
+    // File metadata is never modified in place (applyEdit always puts new ones), so the list stays consistent.
+    public void saveCheckpoint() throws IOException {
+        synchronized(this.checkpointLock){
+            if(this.editLog == null){
+                throw new IOException("The namespace has not been loaded");
+            }
+            NameNodeConfig config = this.config;
+            Path nameDir = Paths.get(config.getNameDir());
+            long startTime = System.nanoTime();
+
+            long txId;
+            List<ProtosHDFS.FileMetadata> fileSnapshot;
+            BlockMap blockSnapshot;
+            long lastGeneration;
+            long lastBlockId;
+            this.namespaceLock.writeLock().lock();
+            try{
+                txId = this.editLog.getLastTxId();
+                this.editLog.close();
+                this.editLog = new EditLog(nameDir.resolve(EditLog.segmentName(txId + 1)), txId,
+                        config.getEditLogSyncPolicy(), config.getEditLogSyncIntervalMs());
+                fileSnapshot = this.fsDirectory.getFiles();
+                blockSnapshot = this.blockMap.copy();
+                // A generation or block id taken by a create that is not logged yet is saved as used,
+                // which only leaves a gap
+                lastGeneration = this.lastGeneration.get();
+                lastBlockId = this.lastBlockId.get();
+            }finally{
+                this.namespaceLock.writeLock().unlock();
+            }
+
+            Path image = FSImage.save(nameDir, txId, lastGeneration, lastBlockId, fileSnapshot, blockSnapshot,
+                    this.dataNodes);
+
+            // Everything before the new segment is now in the image
+            for(Path segment : EditLog.findSegments(nameDir)){
+                if(EditLog.getSegmentFirstTxId(segment) <= txId){
+                    Files.delete(segment);
+                }
+            }
+            try(DirectoryStream<Path> stream = Files.newDirectoryStream(nameDir, "fsimage_*")){
+                for(Path oldImage : stream){
+                    if(!oldImage.equals(image)){
+                        Files.delete(oldImage);
+                    }
+                }
+            }
+
+            this.lastCheckpointTxId = txId;
+            this.lastCheckpointTime = System.currentTimeMillis();
+            System.out.println("\n Saved checkpoint " + image + " with " + fileSnapshot.size() + " files and "
+                    + blockSnapshot.size() + " blocks in " + (System.nanoTime() - startTime) / 1000000 + " ms \n");
+        }
+    }
+
+    // Starts a background thread that saves a checkpoint whenever checkpoint_period_ms or checkpoint_txns
+    // have passed, whichever comes first, so startup only ever has a short edit log tail to replay
+    public void startCheckpointer(){
+        this.checkpointer = new Thread(() -> {
+            while(true){
+                try{
+                    Thread.sleep(CHECKPOINT_CHECK_MS);
+                }catch(InterruptedException e){
+                    return;
+                }
+                NameNodeConfig config = this.config;
+                long txns = this.editLog.getLastTxId() - this.lastCheckpointTxId;
+                long elapsed = System.currentTimeMillis() - this.lastCheckpointTime;
+                if(txns >= config.getCheckpointTxns() || (txns > 0 && elapsed >= config.getCheckpointPeriodMs())){
+                    try{
+                        saveCheckpoint();
+                    }catch(IOException e){
+                        System.err.println("Checkpoint failed: " + e.toString());
+                    }
+                }
+            }
+        }, "Checkpointer");
+        this.checkpointer.setDaemon(true);
+        this.checkpointer.start();
+    }
+
+    // Starts re-replicating blocks that are short of live replicas on a background thread
+    public void startReplicationMonitor(){
+        Thread monitorThread = new Thread(this.replicationMonitor, "ReplicationMonitor");
+        monitorThread.setDaemon(true);
+        monitorThread.start();
+    }
+
+    // Starts recovering files whose writer let its lease expire
+    public void startLeaseMonitor(){
+        Thread leaseThread = new Thread(this.leaseManager, "LeaseMonitor");
+        leaseThread.setDaemon(true);
+        leaseThread.start();
+    }
+
+    // Starts the balancer thread, which stays idle until balancer_threshold is set
+    public void startBalancer(){
+        Thread balancerThread = new Thread(this.balancer, "Balancer");
+        balancerThread.setDaemon(true);
+        balancerThread.start();
+    }
+
+    // Applies one logged mutation to the in-memory namespace, both while serving and on replay
+    protected void applyEdit(ProtosHDFS.EditLogOp op){
+        ProtosHDFS.FileMetadata fileMeta = op.getFileMeta();
+        switch(op.getOpCode()){
+            case CREATE:
+                // On replay, generations and block ids of files deleted later must still count as used
+                this.lastGeneration.accumulateAndGet(fileMeta.getGeneration(), Math::max);
+                this.lastBlockId.accumulateAndGet(blockId(fileMeta, fileMeta.getBlockCount()), Math::max);
+                // Creating over an existing file replaces it, so its old blocks go too
+                ProtosHDFS.FileMetadata existing = this.fsDirectory.getFile(fileMeta.getFileId());
+                if(!this.fsDirectory.addFile(fileMeta.getFileId(), fileMeta)){
+                    System.err.println("Could not create " + fileMeta.getFileName() + " at txId " + op.getTxId()
+                            + ", a file is in the way");
+                    break;
+                }
+                if(existing != null){
+                    removeBlocks(existing);
+                }
+                break;
+            case ASSIGN_BLOCK:
+                // assignBlock never logs a block without targets
+                ProtosHDFS.BlockMetaData firstReplica = op.getBlockMetas(0);
+                // A file whose CREATE could not be applied was never added, so neither are its blocks
+                if(this.fsDirectory.getFile(firstReplica.getFileId()) == null){
+                    break;
+                }
+                putBlock(op.getBlockMetasList());
+                break;
+            case CLOSE:
+                this.fsDirectory.addFile(fileMeta.getFileId(), fileMeta);
+                // The final replicas of each settled block are merged into what the block has, since block
+                // reports do not take the file's lock and may have added replicas since completeFile looked
+                Map<Long, List<ProtosHDFS.BlockMetaData>> settled = new HashMap<>();
+                for(ProtosHDFS.BlockMetaData replica : op.getBlockMetasList()){
+                    settled.computeIfAbsent(replica.getNumericBlockId(), blockId -> new ArrayList<>()).add(replica);
+                }
+                for(List<ProtosHDFS.BlockMetaData> replicas : settled.values()){
+                    settleBlock(replicas);
+                }
+                break;
+            case DELETE:
+                ProtosHDFS.FileMetadata removed = this.fsDirectory.removeFile(fileMeta.getFileId());
+                if(removed != null){
+                    removeBlocks(removed);
+                }
+                break;
+        }
+    }
+
+    // The id of block blockNumber of fileMeta, counting from 1
+    protected static long blockId(ProtosHDFS.FileMetadata fileMeta, int blockNumber){
+        return fileMeta.getFirstBlockId() + blockNumber - 1;
+    }
+
+    // Puts replicas, all of one block, into blockMap in place of whatever it had for the block
+    private void putBlock(List<ProtosHDFS.BlockMetaData> replicas){
+        int count = Math.min(replicas.size(), BlockMap.MAX_REPLICAS);
+        int[] replicaNodes = new int[count];
+        int[] replicaLengths = new int[count];
+        for(int i = 0; i < count; i++){
+            ProtosHDFS.BlockMetaData replica = replicas.get(i);
+            replicaNodes[i] = this.dataNodes.getIndex(replica.getDataNodeId());
+            replicaLengths[i] = replica.hasLength() ? (int)replica.getLength() : -1;
+        }
+        ProtosHDFS.BlockMetaData first = replicas.get(0);
+        this.blockMap.put(first.getNumericBlockId(), first.getGenerationStamp(), first.getBlockNumber(),
+                replicaNodes, replicaLengths, count);
+    }
+
+    // Merges the replicas a close kept, all of one block, into blockMap: they are added if missing, and
+    // replicas whose reported length differs from the longest of them are dropped
+    private void settleBlock(List<ProtosHDFS.BlockMetaData> replicas){
+        int count = Math.min(replicas.size(), BlockMap.MAX_REPLICAS);
+        int[] replicaNodes = new int[count];
+        int[] replicaLengths = new int[count];
+        int length = -1;
+        for(int i = 0; i < count; i++){
+            ProtosHDFS.BlockMetaData replica = replicas.get(i);
+            replicaNodes[i] = this.dataNodes.getIndex(replica.getDataNodeId());
+            replicaLengths[i] = replica.hasLength() ? (int)replica.getLength() : -1;
+            length = Math.max(length, replicaLengths[i]);
+        }
+        if(length < 0){
+            return;
+        }
+        this.blockMap.settle(replicas.get(0).getNumericBlockId(), length, replicaNodes, replicaLengths, count);
+    }
+
+    private void removeBlocks(ProtosHDFS.FileMetadata fileMeta){
+        for(int i = 1; i <= fileMeta.getBlockCount(); i++){
+            this.blockMap.remove(blockId(fileMeta, i));
+        }
+    }
+
+    // The BlockMetaData Data Nodes know one replica of block by, for commands and the edit log,
+    // or null if the block's file is gone
+    protected ProtosHDFS.BlockMetaData toBlockMeta(BlockMap.Block block, int replica){
+        ProtosHDFS.FileMetadata fileMeta = this.fsDirectory.getFileByGeneration(block.getFileGeneration());
+        if(fileMeta == null){
+            return null;
+        }
+        DataNodeTable.DataNode dataNode = this.dataNodes.get(block.getDataNode(replica));
+        ProtosHDFS.BlockMetaData.Builder blockMetaBuilder = ProtosHDFS.BlockMetaData.newBuilder()
+                .setNumericBlockId(block.getBlockId())
+                .setGenerationStamp(block.getFileGeneration())
+                .setFileId(fileMeta.getFileId())
+                .setFileName(fileMeta.getFileName())
+                .setBlockNumber(block.getBlockNumber())
+                .setOrdReplication(replica + 1)
+                .setDataNodeId(dataNode.getDataNodeId())
+                .setIpAddress(dataNode.getIpAddress())
+                .setPortNumber(dataNode.getPortNumber());
+        if(block.getLength(replica) >= 0){
+            blockMetaBuilder.setLength(block.getLength(replica));
+        }
+        return blockMetaBuilder.build();
+    }
+
+    // IDs of the Data Nodes holding block, in replica order
+    protected List<String> getDataNodeIds(BlockMap.Block block){
+        List<String> dataNodeIds = new ArrayList<>(block.getReplicaCount());
+        for(int replica = 0; replica < block.getReplicaCount(); replica++){
+            dataNodeIds.add(this.dataNodes.getDataNodeId(block.getDataNode(replica)));
+        }
+        return dataNodeIds;
+    }
+
+    // Logs op and applies it to the namespace; the caller still has to logSync the returned txId
+    // Without an edit log (loadNamespace never called) the namespace is kept in memory only
+    // The caller holds the path lock of the file op changes
+    protected long logAndApply(ProtosHDFS.EditLogOp.Builder op) throws IOException {
+        this.namespaceLock.readLock().lock();
+        try{
+            if(this.editLog == null){
+                applyEdit(op.setTxId(0).build());
+                return 0;
+            }
+            ProtosHDFS.EditLogOp edit = this.editLog.logEdit(op);
+            applyEdit(edit);
+            return edit.getTxId();
+        }finally{
+            this.namespaceLock.readLock().unlock();
+        }
+    }
+
+    protected void logSync(long txId) throws IOException {
+        if(this.editLog != null){
+            this.editLog.logSync(txId);
+        }
+    }
 
     public byte[] openFile(byte[] inp) throws IOException {
         ProtosHDFS.Request request = ProtosHDFS.Request.parseFrom(inp);
-        String requestId = request.getRequestId();
-        Integer requestKey = requestId.hashCode();
-
         ProtosHDFS.FileMetadata fileMeta = request.getFileMeta();
         String fileKey = fileMeta.getFileId();
-        if(this.files.containsKey(fileKey)){
-            // If file already exists, get the blocks the file has been written to
-            // To do so, we call getBlockLocations
-            return getBlockLocations(inp);
-        }else{
-            // If file doesn't exist yet, we need to create the file blocks first and write to them
-            // To do so, we need to call assignBlocks first
-            return assignBlock(inp);
+        try(PathLocks.Locked locked = this.pathLocks.lockForRead(fileKey)){
+            if(this.fsDirectory.getFile(fileKey) != null){
+                // If file already exists, get the blocks the file has been written to
+                // To do so, we call getBlockLocations
+                return getBlockLocations(inp);
+            }
         }
-    }
 
-    public byte[] closeFile(byte[] inp) throws RemoteException {
-        return new byte[0];
+        // A read lock cannot be upgraded, so the check is repeated under the write lock:
+        // of two clients opening the same new file, only one creates it and the other reads it
+        try(PathLocks.Locked locked = this.pathLocks.lockForWrite(fileKey)){
+            if(this.fsDirectory.getFile(fileKey) != null){
+                return getBlockLocations(inp);
+            }else{
+                // If file doesn't exist yet, we need to create the file blocks first and write to them
+                // To do so, we need to call assignBlocks first
+                return assignBlock(inp);
+            }
+        }
     }
 
-    public byte[] getBlockLocations(byte[] inp) throws IOException {
+    public byte[] closeFile(byte[] inp) throws IOException {
         ProtosHDFS.Request request = ProtosHDFS.Request.parseFrom(inp);
         String requestId = request.getRequestId();
-        ProtosHDFS.FileMetadata fileMeta = request.getFileMeta();
+        String fileId = request.getFileMeta().getFileId();
+
+        ProtosHDFS.Response.Builder responseBuilder = ProtosHDFS.Response.newBuilder().setResponseId(requestId);
+        ProtosHDFS.FileMetadata fileMeta;
+        long txId;
+        try(PathLocks.Locked locked = this.pathLocks.lockForWrite(fileId)){
+            fileMeta = this.fsDirectory.getFile(fileId);
+            if(fileMeta == null){
+                return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                        .setErrorMessage(fileId + " does not exist")
+                        .buildPartial().toByteArray();
+            }
+            // Closing twice, as a retried close does, changes nothing
+            if(!fileMeta.hasClientName()){
+                return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
+                        .setErrorMessage(fileMeta.getFileName() + " has been closed successfully")
+                        .buildPartial().toByteArray();
+            }
+            // Only the lease holder may close; a writer whose file was recovered or taken over is told so
+            if(!fileMeta.getClientName().equals(request.getClientName())){
+                return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                        .setErrorMessage(fileId + " is being written by " + fileMeta.getClientName())
+                        .buildPartial().toByteArray();
+            }
+
+            txId = completeFile(fileMeta, request.getFileMeta().getFileSize());
+        }
+        // Synced outside the lock, so other writers of the path do not wait for the disk
+        logSync(txId);
+
+        return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
+                .setErrorMessage(fileMeta.getFileName() + " has been closed successfully")
+                .buildPartial().toByteArray();
+    }
+
+    // Closes a file whose writer let its lease expire, keeping what its Data Nodes reported
+    protected void recoverLease(String fileId) throws IOException {
+        ProtosHDFS.FileMetadata fileMeta;
+        long txId;
+        try(PathLocks.Locked locked = this.pathLocks.lockForWrite(fileId)){
+            fileMeta = this.fsDirectory.getFile(fileId);
+            if(fileMeta == null || !fileMeta.hasClientName()){
+                this.leaseManager.removeLease(fileId);
+                return;
+            }
+            txId = completeFile(fileMeta, -1);
+        }
+        logSync(txId);
+        System.out.println("\n Recovered " + fileMeta.getFileName() + " from " + fileMeta.getClientName()
+                + ", whose lease expired \n");
+    }
+
+    // Logs the close of a file under construction and releases its lease; the caller holds its write lock
+    // and still has to logSync the returned txId. A block is settled once any replica has reported its
+    // length: replicas that reported less than the longest are dropped and deleted, while replicas that
+    // have not reported yet are kept. A fileSize of -1 takes the size from the blocks when all are settled.
+    private long completeFile(ProtosHDFS.FileMetadata fileMeta, int fileSize) throws IOException {
         String fileId = fileMeta.getFileId();
+        ProtosHDFS.EditLogOp.Builder closeOp = ProtosHDFS.EditLogOp.newBuilder()
+                .setOpCode(ProtosHDFS.EditLogOp.OpCode.CLOSE);
+        List<Long> shrunk = new ArrayList<>();
+        long settledSize = 0;
+        boolean allSettled = true;
 
-        InputStream fileInputStream = new FileInputStream("nameConfig.properties");
-        Properties prop = new Properties();
-        prop.load(fileInputStream);
-        int blockSize = Integer.parseInt(prop.getProperty("block_size"));
-        int fileSize = fileMeta.getFileSize();
-        int numBlocks = fileSize/blockSize + 1;
+        for(int i = 1; i <= fileMeta.getBlockCount(); i++){
+            BlockMap.Block block = this.blockMap.get(blockId(fileMeta, i));
+            if(block == null){
+                break;
+            }
+            int length = block.getLength();
+            if(length < 0){
+                allSettled = false;
+                continue;
+            }
+            settledSize += length;
+
+            for(int replica = 0; replica < block.getReplicaCount(); replica++){
+                ProtosHDFS.BlockMetaData replicaMeta = toBlockMeta(block, replica);
+                if(block.getLength(replica) < 0 || block.getLength(replica) == length){
+                    closeOp.addBlockMetas(replicaMeta);
+                }else{
+                    queueCommand(replicaMeta.getDataNodeId(), ProtosHDFS.DataNodeCommand.newBuilder()
+                            .setCommandType(ProtosHDFS.DataNodeCommand.CommandType.DELETE)
+                            .setBlockMeta(replicaMeta)
+                            .build());
+                    shrunk.add(block.getBlockId());
+                }
+            }
+        }
+
+        if(fileSize < 0){
+            fileSize = allSettled ? (int)settledSize : fileMeta.getFileSize();
+        }
+        long txId = logAndApply(closeOp.setFileMeta(fileMeta.toBuilder().setFileSize(fileSize).clearClientName()));
+        this.leaseManager.removeLease(fileId);
+        for(long blockId : shrunk){
+            this.replicationMonitor.checkBlock(blockId);
+        }
+        return txId;
+    }
 
-        List<String> blockKeys = new ArrayList<>();
-        for(int i = 1; i <= numBlocks; i++){
-            String blockKey = fileId + "_" + i;
-            blockKeys.add(blockKey);
+    // Renews every lease the client holds, however many files it is writing
+    public byte[] renewLease(byte[] inp) throws IOException {
+        ProtosHDFS.Request request = ProtosHDFS.Request.parseFrom(inp);
+        ProtosHDFS.Response.Builder responseBuilder = ProtosHDFS.Response.newBuilder()
+                .setResponseId(request.getRequestId());
+        if(!this.leaseManager.renewLease(request.getClientName())){
+            return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                    .setErrorMessage(request.getClientName() + " holds no leases")
+                    .buildPartial().toByteArray();
         }
+        return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
+                .setErrorMessage("Leases of " + request.getClientName() + " renewed")
+                .buildPartial().toByteArray();
+    }
 
-        ArrayList<ProtosHDFS.Pipeline> pipelines = new ArrayList<>();
-        for(String blockKey : blockKeys){
-            ArrayList<ProtosHDFS.BlockMetaData> blockMetas = this.blockMetas.get(blockKey);
-            blockMetas.sort(new ReplicationSorter());
-            ArrayList<String> dataNodes = new ArrayList<>();
-            ProtosHDFS.Pipeline.Builder pipelineBuilder = ProtosHDFS.Pipeline.newBuilder();
-            for(ProtosHDFS.BlockMetaData blockMeta : blockMetas){
-                String dataNodeId = blockMeta.getDataNodeId();
-                dataNodes.add(dataNodeId);
+    public byte[] deleteFile(byte[] inp) throws IOException {
+        ProtosHDFS.Request request = ProtosHDFS.Request.parseFrom(inp);
+
+        // A retried delete must not fail just because the first attempt already removed the file,
+        // and one that arrives while the first attempt is still running waits for its answer
+        byte[] cachedResponse = this.retryCache.begin(request.getRequestId());
+        if(cachedResponse != null){
+            return cachedResponse;
+        }
+        try{
+            return deleteFile(request);
+        }finally{
+            // Only successes are cached; after a failure a retry runs again
+            this.retryCache.abandon(request.getRequestId());
+        }
+    }
+
+    private byte[] deleteFile(ProtosHDFS.Request request) throws IOException {
+        String requestId = request.getRequestId();
+        String fileId = request.getFileMeta().getFileId();
+
+        ProtosHDFS.Response.Builder responseBuilder = ProtosHDFS.Response.newBuilder().setResponseId(requestId);
+        ProtosHDFS.FileMetadata fileMeta;
+        long txId;
+        try(PathLocks.Locked locked = this.pathLocks.lockForWrite(fileId)){
+            fileMeta = this.fsDirectory.getFile(fileId);
+            if(fileMeta == null){
+                return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                        .setErrorMessage(fileId + " does not exist")
+                        .buildPartial().toByteArray();
             }
-            ProtosHDFS.Pipeline pipeline = pipelineBuilder.addAllDataNodeId(dataNodes).build();
-            pipelines.add(pipeline);
+
+            // Only the namespace entry goes away; the replicas stay on the Data Nodes until they next report
+            // them, when addReplica has each one deleted
+            txId = logAndApply(ProtosHDFS.EditLogOp.newBuilder()
+                    .setOpCode(ProtosHDFS.EditLogOp.OpCode.DELETE)
+                    .setFileMeta(fileMeta));
+            this.leaseManager.removeLease(fileId);
+        }
+        logSync(txId);
+
+        byte[] responseBytes = responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
+                .setErrorMessage(fileMeta.getFileName() + " has been deleted successfully")
+                .buildPartial().toByteArray();
+        this.retryCache.put(requestId, responseBytes);
+        return responseBytes;
+    }
+
+    // One pipeline per block of fileId, nearest replicas to reader first, or an error if there is no such file
+    // The caller holds the path lock of fileId, so a concurrent re-create cannot mix old and new blocks
+    private ProtosHDFS.BlockLocations locateBlocks(String fileId, String reader){
+        ProtosHDFS.BlockLocations.Builder locationsBuilder = ProtosHDFS.BlockLocations.newBuilder().setFileId(fileId);
+        // Block locations come from the namespace, not from the size the client happens to send
+        ProtosHDFS.FileMetadata fileMeta = this.fsDirectory.getFile(fileId);
+        if(fileMeta == null){
+            return locationsBuilder.setErrorMessage(fileId + " does not exist").build();
+        }
+        locationsBuilder.setGeneration(fileMeta.getGeneration());
+
+        ProtosHDFS.Pipeline.Builder pipelineBuilder = ProtosHDFS.Pipeline.newBuilder();
+        for(int i = 1; i <= fileMeta.getBlockCount(); i++){
+            BlockMap.Block block = this.blockMap.get(blockId(fileMeta, i));
+            if(block == null){
+                break;
+            }
+            pipelineBuilder.setNumericBlockId(block.getBlockId()).setGenerationStamp(block.getFileGeneration());
+            pipelineBuilder.addAllDataNodeId(this.proximitySorter.sort(getDataNodeIds(block), reader));
+            locationsBuilder.addPipelines(pipelineBuilder.build());
             pipelineBuilder.clear();
         }
+        return locationsBuilder.build();
+    }
 
-        ProtosHDFS.Response.Builder responseBuilder = ProtosHDFS.Response.newBuilder();
-        ProtosHDFS.Response response = responseBuilder.setResponseId(requestId)
-                .setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
+    public byte[] getBlockLocations(byte[] inp) throws IOException {
+        ProtosHDFS.Request request = ProtosHDFS.Request.parseFrom(inp);
+        String requestId = request.getRequestId();
+        String fileId = request.getFileMeta().getFileId();
+
+        // Each reader gets the replicas nearest to it first, so reads spread over every copy of a block
+        String reader = getClientHost();
+        ProtosHDFS.BlockLocations locations = null;
+        ProtosHDFS.FileMetadata fileMeta;
+        try(PathLocks.Locked locked = this.pathLocks.lockForRead(fileId)){
+            fileMeta = this.fsDirectory.getFile(fileId);
+            // A client revalidating its cached locations sends the generation it has; if the file has not
+            // been created again since, its blocks are the same and the locations are not sent again
+            if(fileMeta == null || !request.getFileMeta().hasGeneration()
+                    || request.getFileMeta().getGeneration() != fileMeta.getGeneration()){
+                locations = locateBlocks(fileId, reader);
+            }
+        }
+
+        ProtosHDFS.Response.Builder responseBuilder = ProtosHDFS.Response.newBuilder().setResponseId(requestId);
+        if(locations == null){
+            return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.NOT_MODIFIED)
+                    .setErrorMessage(fileMeta.getFileName() + " has not changed")
+                    .setFileMeta(fileMeta)
+                    .buildPartial().toByteArray();
+        }
+        if(locations.hasErrorMessage()){
+            return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                    .setErrorMessage(locations.getErrorMessage())
+                    .buildPartial().toByteArray();
+        }
+
+        // Block locations are read-only, so a retry simply runs again instead of going through the retry cache
+        return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
                 .setErrorMessage("Blocks for " + fileMeta.getFileName() + " successfully found")
-                .addAllPipelines(pipelines)
-                .buildPartial();
-        responseBuilder.clear();
-        this.requests.put(requestId.hashCode(), requestId);
+                .setFileMeta(fileMeta)
+                .addAllPipelines(locations.getPipelinesList())
+                .buildPartial().toByteArray();
+    }
 
-        return response.toByteArray();
+    public byte[] getBlockLocationsBatch(byte[] inp) throws IOException {
+        ProtosHDFS.Request request = ProtosHDFS.Request.parseFrom(inp);
+        String requestId = request.getRequestId();
+        List<ProtosHDFS.FileMetadata> fileMetas = request.getFileMetasList();
+
+        ProtosHDFS.Response.Builder responseBuilder = ProtosHDFS.Response.newBuilder().setResponseId(requestId);
+        if(fileMetas.size() > MAX_LOCATIONS_BATCH){
+            return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                    .setErrorMessage("At most " + MAX_LOCATIONS_BATCH + " files can be looked up at once")
+                    .buildPartial().toByteArray();
+        }
+
+        // Files are grouped by lock stripe, so each stripe is locked once however many of the files fall in it,
+        // and stripes are visited in order so the batch never holds more than one of them
+        TreeMap<Integer, List<Integer>> byStripe = new TreeMap<>();
+        for(int i = 0; i < fileMetas.size(); i++){
+            int stripe = this.pathLocks.stripe(fileMetas.get(i).getFileId());
+            byStripe.computeIfAbsent(stripe, k -> new ArrayList<>()).add(i);
+        }
+
+        String reader = getClientHost();
+        ProtosHDFS.BlockLocations[] locations = new ProtosHDFS.BlockLocations[fileMetas.size()];
+        for(Map.Entry<Integer, List<Integer>> entry : byStripe.entrySet()){
+            try(PathLocks.Locked locked = this.pathLocks.lockStripeForRead(entry.getKey())){
+                for(int i : entry.getValue()){
+                    locations[i] = locateBlocks(fileMetas.get(i).getFileId(), reader);
+                }
+            }
+        }
+
+        // Results come back in request order; a missing file fails only its own entry, not the batch
+        return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
+                .setErrorMessage("Blocks for " + locations.length + " files looked up")
+                .addAllLocations(Arrays.asList(locations))
+                .buildPartial().toByteArray();
     }
 
     public byte[] assignBlock(byte[] inp) throws IOException {
         ProtosHDFS.Request request = ProtosHDFS.Request.parseFrom(inp);
+
+        // A retried request gets the blocks it was assigned the first time instead of new ones, waiting
+        // for them if the first attempt is still running
+        byte[] cachedResponse = this.retryCache.begin(request.getRequestId());
+        if(cachedResponse != null){
+            return cachedResponse;
+        }
+        try{
+            return assignBlock(request);
+        }finally{
+            // Only successes are cached; after a failure a retry runs again
+            this.retryCache.abandon(request.getRequestId());
+        }
+    }
+
+    private byte[] assignBlock(ProtosHDFS.Request request) throws IOException {
         String requestId = request.getRequestId();
         ProtosHDFS.FileMetadata fileMeta = request.getFileMeta();
 
-        InputStream fileInputStream = new FileInputStream("nameConfig.properties");
-        Properties prop = new Properties();
-        prop.load(fileInputStream);
-        int blockSize = Integer.parseInt(prop.getProperty("block_size"));
-        int repFactor = Integer.parseInt(prop.getProperty("replication_factor"));
+        // Read the snapshot once so the whole call sees a single consistent configuration
+        NameNodeConfig config = this.config;
+        int blockSize = config.getBlockSize();
+        int repFactor = config.getReplicationFactor();
         int fileSize = fileMeta.getFileSize();
-        int numBlocks = fileSize/blockSize + 1;
+        // One block per whole or partial blockSize, and a single empty block for an empty file; a file that
+        // fills its last block exactly gets no empty block after it, which no replica would ever report
+        int numBlocks = (int)Math.max(1, ((long)fileSize + blockSize - 1) / blockSize);
 
         ProtosHDFS.Pipeline.Builder pipelineBuilder = ProtosHDFS.Pipeline.newBuilder();
         ProtosHDFS.Response.Builder responseBuilder = ProtosHDFS.Response.newBuilder();
+        if(fileSize < 0){
+            return responseBuilder.setResponseId(requestId)
+                    .setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                    .setErrorMessage(fileMeta.getFileName() + " has a negative size")
+                    .buildPartial().toByteArray();
+        }
         List<ProtosHDFS.Pipeline> pipelines = new ArrayList<>();
-        String[] dataNodeIds = this.serverRegistry.list();
-        List<String> dataNodeCopy = Arrays.asList(dataNodeIds.clone());
 
+        // The placement policy only offers live Data Nodes, so writes never wait on a dead target,
+        // and orders each pipeline starting from the node nearest the writer
+        String writer = getClientHost();
         for(int i = 0; i < numBlocks; i++){
-            Collections.shuffle(dataNodeCopy);
-            List<String> dataNodes = dataNodeCopy.subList(0, repFactor);
+            List<String> dataNodes = this.placementPolicy.chooseTargets(repFactor, blockSize, writer,
+                    Collections.<String>emptyList());
+            if(dataNodes.isEmpty()){
+                return responseBuilder.setResponseId(requestId)
+                        .setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                        .setErrorMessage("No live Data Node has room for " + fileMeta.getFileName())
+                        .buildPartial().toByteArray();
+            }
             ProtosHDFS.Pipeline pipeline = pipelineBuilder.addAllDataNodeId(dataNodes).build();
             pipelines.add(pipeline);
             pipelineBuilder.clear();
         }
 
+        // Record the file and where each of its blocks went before anyone is told about them
+        // Under the file's write lock a reader sees either the old file or the new one with all its blocks
+        long txId;
+        try(PathLocks.Locked locked = this.pathLocks.lockForWrite(fileMeta.getFileId())){
+            // A file being written can only be created again by its writer, or once the writer's lease lapsed
+            if(!this.fsDirectory.canCreateFile(fileMeta.getFileId())){
+                return responseBuilder.setResponseId(requestId)
+                        .setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                        .setErrorMessage(fileMeta.getFileName() + " is a directory or is inside a file")
+                        .buildPartial().toByteArray();
+            }
+            ProtosHDFS.FileMetadata existing = this.fsDirectory.getFile(fileMeta.getFileId());
+            if(existing != null && existing.hasClientName() && !existing.getClientName().equals(request.getClientName())
+                    && !this.leaseManager.canTakeOver(fileMeta.getFileId())){
+                return responseBuilder.setResponseId(requestId)
+                        .setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                        .setErrorMessage(fileMeta.getFileName() + " is being written by " + existing.getClientName())
+                        .buildPartial().toByteArray();
+            }
+
+            // The generation and block ids are logged with the file, so they survive restarts, and so is
+            // its writer, so a file still under construction after a restart can be recovered
+            // The block size goes with them, since block_size can be reloaded before the writer is done
+            ProtosHDFS.FileMetadata.Builder createdBuilder = fileMeta.toBuilder()
+                    .setGeneration(this.lastGeneration.incrementAndGet())
+                    .setFirstBlockId(this.lastBlockId.getAndAdd(numBlocks) + 1)
+                    .setBlockCount(numBlocks)
+                    .setBlockSize(blockSize)
+                    .clearClientName();
+            if(request.hasClientName()){
+                createdBuilder.setClientName(request.getClientName());
+            }
+            fileMeta = createdBuilder.build();
+            txId = logAndApply(ProtosHDFS.EditLogOp.newBuilder()
+                    .setOpCode(ProtosHDFS.EditLogOp.OpCode.CREATE)
+                    .setFileMeta(fileMeta));
+            // The path locks keep other mutations off every directory above the file, so nothing should get
+            // in the way between canCreateFile and the create; the file is checked for all the same, so a
+            // create that did not happen is never answered with pipelines and a lease
+            ProtosHDFS.FileMetadata created = this.fsDirectory.getFile(fileMeta.getFileId());
+            if(created == null || created.getGeneration() != fileMeta.getGeneration()){
+                return responseBuilder.setResponseId(requestId)
+                        .setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                        .setErrorMessage(fileMeta.getFileName() + " could not be created")
+                        .buildPartial().toByteArray();
+            }
+            if(fileMeta.hasClientName()){
+                this.leaseManager.addLease(fileMeta.getClientName(), fileMeta.getFileId());
+            }else{
+                this.leaseManager.removeLease(fileMeta.getFileId());
+            }
+            for(int i = 0; i < numBlocks; i++){
+                long blockId = blockId(fileMeta, i + 1);
+                pipelines.set(i, pipelines.get(i).toBuilder()
+                        .setNumericBlockId(blockId)
+                        .setGenerationStamp(fileMeta.getGeneration())
+                        .build());
+                ProtosHDFS.EditLogOp.Builder assignOp = ProtosHDFS.EditLogOp.newBuilder()
+                        .setOpCode(ProtosHDFS.EditLogOp.OpCode.ASSIGN_BLOCK);
+                List<String> dataNodes = pipelines.get(i).getDataNodeIdList();
+                for(int ord = 0; ord < dataNodes.size(); ord++){
+                    // Each replica carries the address of the Data Node it was placed on, as last heartbeated
+                    DataNodeTable.DataNode dataNode = this.dataNodes.get(this.dataNodes.getIndex(dataNodes.get(ord)));
+                    assignOp.addBlockMetas(ProtosHDFS.BlockMetaData.newBuilder()
+                            .setNumericBlockId(blockId)
+                            .setGenerationStamp(fileMeta.getGeneration())
+                            .setFileId(fileMeta.getFileId())
+                            .setFileName(fileMeta.getFileName())
+                            .setBlockNumber(i + 1)
+                            .setOrdReplication(ord + 1)
+                            .setDataNodeId(dataNode.getDataNodeId())
+                            .setIpAddress(dataNode.getIpAddress())
+                            .setPortNumber(dataNode.getPortNumber())
+                            .build());
+                }
+                txId = logAndApply(assignOp);
+            }
+        }
+        // One sync covers the whole file; concurrent callers share it through group commit
+        logSync(txId);
+
+        // Blocks that got fewer Data Nodes than asked for are topped up in the background
+        for(int i = 0; i < numBlocks; i++){
+            if(pipelines.get(i).getDataNodeIdCount() < repFactor){
+                this.replicationMonitor.checkBlock(blockId(fileMeta, i + 1));
+            }
+        }
+
         ProtosHDFS.Response response = responseBuilder.setResponseId(requestId)
                 .setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
                 .setErrorMessage("Blocks for " + fileMeta.getFileName() + " have been assigned successfully")
+                .setFileMeta(fileMeta)
                 .addAllPipelines(pipelines)
                 .buildPartial();
         responseBuilder.clear();
-        this.requests.put(requestId.hashCode(), requestId);
 
-        return response.toByteArray();
+        byte[] responseBytes = response.toByteArray();
+        this.retryCache.put(requestId, responseBytes);
+        return responseBytes;
     }
 
-    public byte[] list(byte[] inp) throws RemoteException {
-        return new byte[0];
+    // Lists one directory a page at a time, resuming after the last child of the previous page
+    // Each page is read from the directory's sorted children in chunks, locking only the directory and only
+    // while one chunk is copied, so listing a huge directory holds up nothing else and never builds more
+    // than a page. Prefixes and globs are evaluated here, so only matching children are sent back.
+    public byte[] list(byte[] inp) throws IOException {
+        ProtosHDFS.Request request = ProtosHDFS.Request.parseFrom(inp);
+        String requestId = request.getRequestId();
+        ProtosHDFS.ListOptions options = request.getListOptions();
+        String path = options.hasPath() ? options.getPath() : "/";
+
+        ProtosHDFS.Response.Builder responseBuilder = ProtosHDFS.Response.newBuilder().setResponseId(requestId);
+        FSDirectory.INodeDirectory directory = this.fsDirectory.getDirectory(path);
+        if(directory == null){
+            return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                    .setErrorMessage(path + " is not a directory")
+                    .buildPartial().toByteArray();
+        }
+
+        // A glob narrows the range to search by its literal start, on top of any prefix asked for
+        String prefix = options.getPrefix();
+        Pattern glob = null;
+        if(options.hasGlob()){
+            try{
+                glob = FSDirectory.compileGlob(options.getGlob());
+            }catch(IllegalArgumentException e){
+                return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.FAILURE)
+                        .setErrorMessage("Bad glob " + options.getGlob() + ": " + e.getMessage())
+                        .buildPartial().toByteArray();
+            }
+            String globPrefix = FSDirectory.globPrefix(options.getGlob());
+            if(globPrefix.startsWith(prefix)){
+                prefix = globPrefix;
+            }else if(!prefix.startsWith(globPrefix)){
+                prefix = null;
+            }
+        }
+
+        int pageSize = (options.getPageSize() > 0) ? Math.min(options.getPageSize(), MAX_LIST_PAGE_SIZE)
+                : LIST_PAGE_SIZE;
+        String cursor = options.hasStartAfter() ? options.getStartAfter() : null;
+        int listed = 0;
+        int scanned = 0;
+        boolean exhausted = (prefix == null);
+        while(!exhausted && listed < pageSize && scanned < MAX_LIST_SCAN){
+            int chunkSize = Math.min(pageSize, MAX_LIST_SCAN - scanned);
+            FSDirectory.INode[] chunk = directory.getChildren(cursor, prefix, chunkSize);
+            exhausted = chunk.length < chunkSize;
+            for(int i = 0; i < chunk.length && listed < pageSize; i++){
+                FSDirectory.INode child = chunk[i];
+                cursor = child.getName();
+                scanned++;
+                if(glob != null && !glob.matcher(cursor).matches()){
+                    continue;
+                }
+                ProtosHDFS.DirectoryEntry.Builder entryBuilder = ProtosHDFS.DirectoryEntry.newBuilder()
+                        .setName(cursor)
+                        .setIsDirectory(child instanceof FSDirectory.INodeDirectory);
+                if(child instanceof FSDirectory.INodeFile){
+                    entryBuilder.setFileMeta(((FSDirectory.INodeFile)child).getFileMeta());
+                }
+                responseBuilder.addEntries(entryBuilder.build());
+                listed++;
+                if(listed == pageSize && i < chunk.length - 1){
+                    exhausted = false;
+                }
+            }
+        }
+
+        // Without nextStartAfter the listing is complete; with it, the client asks for the next page
+        if(!exhausted && cursor != null){
+            responseBuilder.setNextStartAfter(cursor);
+        }
+        return responseBuilder.setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
+                .setErrorMessage(listed + " entries in " + path)
+                .buildPartial().toByteArray();
     }
 
     /*
 		Datanode <-> Namenode interaction methods
 	*/
 
-    public byte[] blockReport(byte[] inp) throws RemoteException {
-        return new byte[0];
+    // Data Nodes report block changes as they happen (INCREMENTAL) and everything they hold only rarely (FULL)
+    // blockMap starts out with the targets assignBlock chose; reports add the replicas that actually
+    // arrived and drop the ones that were deleted, went corrupt or were never there.
+    public byte[] blockReport(byte[] inp) throws IOException {
+        ProtosHDFS.BlockReport report = ProtosHDFS.BlockReport.parseFrom(inp);
+        String dataNodeId = report.getDataNodeId();
+
+        if(report.getReportType() == ProtosHDFS.BlockReport.ReportType.FULL){
+            processFullReportChunk(report);
+        }else{
+            // A block that arrives while a full report is in progress must not be dropped as stale at its end
+            FullBlockReport fullReport = this.fullReports.get(dataNodeId);
+            for(ProtosHDFS.BlockMetaData blockMeta : report.getReceivedList()){
+                long blockId = addReplica(blockMeta, dataNodeId);
+                if(fullReport != null && blockId != 0){
+                    fullReport.reported.add(blockId);
+                }
+            }
+            for(ProtosHDFS.BlockMetaData blockMeta : report.getDeletedList()){
+                removeReplica(blockMeta.getNumericBlockId(), dataNodeId);
+            }
+            for(ProtosHDFS.BlockMetaData blockMeta : report.getCorruptList()){
+                System.err.println("Data Node " + dataNodeId + " has a corrupt replica of " + blockMeta.getFileName()
+                        + " block " + blockMeta.getBlockNumber());
+                removeReplica(blockMeta.getNumericBlockId(), dataNodeId);
+            }
+        }
+
+        ProtosHDFS.Response response = ProtosHDFS.Response.newBuilder()
+                .setResponseId(report.getReportId())
+                .setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
+                .buildPartial();
+        return response.toByteArray();
     }
 
-    public byte[] heartBeat(byte[] inp) throws RemoteException {
-        return new byte[0];
+    // Each chunk of a full report is applied on its own, so no single RPC ever walks a whole Data Node
+    // Once the last chunk is in, replicas the Data Node was thought to hold but did not report are dropped
+    protected void processFullReportChunk(ProtosHDFS.BlockReport report){
+        String dataNodeId = report.getDataNodeId();
+        FullBlockReport fullReport;
+        if(report.getChunkIndex() == 0){
+            fullReport = new FullBlockReport(report.getReportId());
+            this.fullReports.put(dataNodeId, fullReport);
+        }else{
+            fullReport = this.fullReports.get(dataNodeId);
+            if(fullReport == null || !fullReport.reportId.equals(report.getReportId())
+                    || fullReport.nextChunk != report.getChunkIndex()){
+                // A chunk went missing; the replicas reported are still added, but nothing is dropped
+                // as stale until a later full report arrives complete
+                this.fullReports.remove(dataNodeId);
+                for(ProtosHDFS.BlockMetaData blockMeta : report.getReceivedList()){
+                    addReplica(blockMeta, dataNodeId);
+                }
+                return;
+            }
+        }
+
+        for(ProtosHDFS.BlockMetaData blockMeta : report.getReceivedList()){
+            long blockId = addReplica(blockMeta, dataNodeId);
+            if(blockId != 0){
+                fullReport.reported.add(blockId);
+            }
+        }
+        fullReport.nextChunk++;
+
+        if(fullReport.nextChunk == report.getChunkCount()){
+            this.fullReports.remove(dataNodeId, fullReport);
+            int stale = 0;
+            int dataNode = this.dataNodes.getIndex(dataNodeId);
+            for(long blockId : this.blockMap.getBlockIds(dataNode)){
+                if(!fullReport.reported.contains(blockId)){
+                    removeReplica(blockId, dataNodeId);
+                    stale++;
+                }
+            }
+            System.out.println("\n Full block report from " + dataNodeId + ": " + fullReport.reported.size()
+                    + " blocks, " + stale + " stale replicas dropped \n");
+        }
+    }
+
+    // Records that dataNodeId holds the block and returns the block's id, or 0 if the namespace does not
+    // know the block (its file was deleted) or knows it under another generation stamp; such an orphan is
+    // deleted from the Data Node. A block with MAX_REPLICAS replicas already does not take another.
+    protected long addReplica(ProtosHDFS.BlockMetaData blockMeta, String dataNodeId){
+        long blockId = blockMeta.getNumericBlockId();
+        int length = blockMeta.hasLength() ? (int)blockMeta.getLength() : -1;
+        int added = this.blockMap.addReplica(blockId, blockMeta.getGenerationStamp(),
+                this.dataNodes.getIndex(dataNodeId), length);
+        if(added == BlockMap.NO_SUCH_BLOCK || added == BlockMap.STALE){
+            queueCommand(dataNodeId, ProtosHDFS.DataNodeCommand.newBuilder()
+                    .setCommandType(ProtosHDFS.DataNodeCommand.CommandType.DELETE)
+                    .setBlockMeta(blockMeta)
+                    .build());
+            return 0;
+        }
+        if(added == BlockMap.FULL){
+            System.err.println("Not recording the replica of " + blockMeta.getFileName() + " block "
+                    + blockMeta.getBlockNumber() + " on " + dataNodeId + ", the block has "
+                    + BlockMap.MAX_REPLICAS + " already");
+            return blockId;
+        }
+        this.replicationMonitor.replicaAdded(blockId, dataNodeId);
+        this.balancer.replicaAdded(blockId, dataNodeId);
+        return blockId;
+    }
+
+    // Forgets dataNodeId's replica of the block; a block that loses every replica stays in blockMap
+    // and is queued for replication like any other block left short of replicas
+    protected void removeReplica(long blockId, String dataNodeId){
+        int dataNode = this.dataNodes.findIndex(dataNodeId);
+        if(dataNode >= 0){
+            this.blockMap.removeReplica(blockId, dataNode);
+        }
+        this.replicationMonitor.checkBlock(blockId);
+    }
+
+    protected void queueCommand(String dataNodeId, ProtosHDFS.DataNodeCommand command){
+        this.commands.computeIfAbsent(dataNodeId, id -> new ConcurrentLinkedQueue<>()).add(command);
+    }
+
+    // Hands over every command queued for a Data Node
+    protected List<ProtosHDFS.DataNodeCommand> takeCommands(String dataNodeId){
+        ConcurrentLinkedQueue<ProtosHDFS.DataNodeCommand> queue = this.commands.get(dataNodeId);
+        List<ProtosHDFS.DataNodeCommand> due = new ArrayList<>();
+        ProtosHDFS.DataNodeCommand command;
+        while(queue != null && (command = queue.poll()) != null){
+            due.add(command);
+        }
+        return due;
+    }
+
+    public byte[] heartBeat(byte[] inp) throws IOException {
+        ProtosHDFS.Heartbeat heartbeat = ProtosHDFS.Heartbeat.parseFrom(inp);
+        this.heartbeatManager.heartbeat(heartbeat);
+        ProtosHDFS.DataNodeInfo dataNodeInfo = heartbeat.getDataNodeInfo();
+        this.dataNodes.update(dataNodeInfo.getDataNodeId(), dataNodeInfo.getIpAddress(), dataNodeInfo.getPortNumber());
+
+        // Work for the Data Node rides back on the response instead of needing a call of its own
+        ProtosHDFS.Response response = ProtosHDFS.Response.newBuilder()
+                .setResponseId(heartbeat.getHeartbeatId())
+                .setResponseType(ProtosHDFS.Response.ResponseType.SUCCESS)
+                .addAllCommands(takeCommands(dataNodeInfo.getDataNodeId()))
+                .buildPartial();
+        return response.toByteArray();
+    }
+
+    // This method binds the Name Node to the RMI registry so clients and Data Nodes can reach it
+    public void bindServer(String nameId, String nameIp, int namePort){
+        try{
+            // Calls come in through the RPC server, which times each of them
+            this.rpcServer = new NameNodeRpcServer(this, this.rpcMetrics);
+            NameNodeInterface nameNodeStub = (NameNodeInterface)UnicastRemoteObject.exportObject(this.rpcServer, 0);
+            System.setProperty("java.rmi.server.hostname", nameIp);
+
+            // Data Nodes bind into the same registry, which is where clients look them up
+            this.serverRegistry = LocateRegistry.getRegistry(namePort);
+            this.serverRegistry.rebind(nameId, nameNodeStub);
+
+            System.out.println("\n Name Node connected to RMI registry \n");
+        }catch(Exception e){
+            System.err.println("Server Exception: " + e.toString());
+            e.printStackTrace();
+        }
     }
 
     public static void main(String[] args){
+        Path configFile = Paths.get("nameConfig.properties");
+        NameNodeConfig config;
+        try{
+            config = NameNodeConfig.load(configFile);
+        }catch(IOException e){
+            System.err.println("Could not read " + configFile + ": " + e.getMessage());
+            return;
+        }
 
+        NameNode nameNode;
+        try{
+            nameNode = new NameNode(config);
+        }catch(IllegalArgumentException e){
+            System.err.println(e.getMessage());
+            return;
+        }
+        try{
+            nameNode.loadNamespace();
+        }catch(IOException e){
+            System.err.println("Could not load the namespace from " + config.getNameDir() + ": " + e.toString());
+            return;
+        }
+        nameNode.startCheckpointer();
+        nameNode.heartbeatManager.start();
+        nameNode.startReplicationMonitor();
+        nameNode.startBalancer();
+        nameNode.startLeaseMonitor();
+        nameNode.retryCache.register(config.getServerName());
+        nameNode.rpcMetrics.register("NameNodeRpc", config.getServerName());
+        nameNode.rpcMetrics.startDump(config.getServerName(), RpcMetrics.DUMP_INTERVAL_MS);
+        try{
+            nameNode.watchConfig(configFile);
+        }catch(IOException e){
+            System.err.println("Config changes will need a restart, could not watch " + configFile + ": " + e.toString());
+        }
+        nameNode.bindServer(config.getServerName(), config.getServerIp(), config.getServerPort());
     }
 }
@@ -0,0 +1,185 @@
+package ds.hdfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+// Immutable, typed snapshot of nameConfig.properties
+// The Name Node holds the current snapshot in a volatile field, so hot paths read it without
+// locking or parsing and a reload simply swaps in a new instance
+public final class NameNodeConfig {
+
+    private final String serverName;
+    private final String serverIp;
+    private final int serverPort;
+    private final int blockSize;
+    private final int replicationFactor;
+
+    // Where the edit log lives and how it is synced; read once at startup
+    private final String nameDir;
+    private final EditLog.SyncPolicy editLogSyncPolicy;
+    private final long editLogSyncIntervalMs;
+
+    // A checkpoint is saved once either this much time or this many edits have passed since the last one
+    private final long checkpointPeriodMs;
+    private final long checkpointTxns;
+
+    // Class name of the BlockPlacementPolicy assignBlock uses, and the rack map it places by; read once at startup
+    private final String blockPlacementPolicy;
+    private final String topologyFile;
+
+    // The balancer runs while balancer_threshold is above 0, moving blocks until every Data Node is within
+    // that many percentage points of the cluster's average utilization, at no more than balancer_bandwidth
+    // bytes per second across the whole cluster; both take effect on reload
+    private final double balancerThreshold;
+    private final long balancerBandwidth;
+
+    public NameNodeConfig(String serverName, String serverIp, int serverPort,
+                          int blockSize, int replicationFactor) {
+        this(serverName, serverIp, serverPort, blockSize, replicationFactor,
+                ".", EditLog.SyncPolicy.ALWAYS, 1000, 60 * 60 * 1000, 1000000,
+                RackAwarePlacementPolicy.class.getName(), "", 0, 10 * 1024 * 1024);
+    }
+
+    public NameNodeConfig(String serverName, String serverIp, int serverPort,
+                          int blockSize, int replicationFactor, String nameDir,
+                          EditLog.SyncPolicy editLogSyncPolicy, long editLogSyncIntervalMs,
+                          long checkpointPeriodMs, long checkpointTxns, String blockPlacementPolicy,
+                          String topologyFile, double balancerThreshold, long balancerBandwidth) {
+        if(blockSize <= 0){
+            throw new IllegalArgumentException("block_size must be positive, got " + blockSize);
+        }
+        if(replicationFactor <= 0 || replicationFactor > BlockMap.MAX_REPLICAS){
+            throw new IllegalArgumentException("replication_factor must be from 1 to " + BlockMap.MAX_REPLICAS
+                    + ", got " + replicationFactor);
+        }
+        if(checkpointPeriodMs <= 0 || checkpointTxns <= 0){
+            throw new IllegalArgumentException("checkpoint_period_ms and checkpoint_txns must be positive");
+        }
+        if(balancerThreshold < 0 || balancerThreshold >= 100){
+            throw new IllegalArgumentException("balancer_threshold must be from 0 to 100, got " + balancerThreshold);
+        }
+        if(balancerBandwidth <= 0){
+            throw new IllegalArgumentException("balancer_bandwidth must be positive, got " + balancerBandwidth);
+        }
+        this.serverName = serverName;
+        this.serverIp = serverIp;
+        this.serverPort = serverPort;
+        this.blockSize = blockSize;
+        this.replicationFactor = replicationFactor;
+        this.nameDir = nameDir;
+        this.editLogSyncPolicy = editLogSyncPolicy;
+        this.editLogSyncIntervalMs = editLogSyncIntervalMs;
+        this.checkpointPeriodMs = checkpointPeriodMs;
+        this.checkpointTxns = checkpointTxns;
+        this.blockPlacementPolicy = blockPlacementPolicy;
+        this.topologyFile = topologyFile;
+        this.balancerThreshold = balancerThreshold;
+        this.balancerBandwidth = balancerBandwidth;
+    }
+
+    public static NameNodeConfig load(Path configFile) throws IOException {
+        Properties prop = new Properties();
+        try(InputStream fileInputStream = Files.newInputStream(configFile)){
+            prop.load(fileInputStream);
+        }
+        try{
+            return new NameNodeConfig(
+                    prop.getProperty("server_name"),
+                    prop.getProperty("server_ip"),
+                    getInt(prop, "server_port"),
+                    getInt(prop, "block_size"),
+                    getInt(prop, "replication_factor"),
+                    prop.getProperty("name_dir", "."),
+                    EditLog.SyncPolicy.valueOf(prop.getProperty("edit_log_sync", "ALWAYS").trim()),
+                    Long.parseLong(prop.getProperty("edit_log_sync_interval_ms", "1000").trim()),
+                    Long.parseLong(prop.getProperty("checkpoint_period_ms", "3600000").trim()),
+                    Long.parseLong(prop.getProperty("checkpoint_txns", "1000000").trim()),
+                    prop.getProperty("block_placement_policy", RackAwarePlacementPolicy.class.getName()).trim(),
+                    prop.getProperty("topology_file", "").trim(),
+                    Double.parseDouble(prop.getProperty("balancer_threshold", "0").trim()),
+                    Long.parseLong(prop.getProperty("balancer_bandwidth", "10485760").trim()));
+        }catch(IllegalArgumentException e){
+            throw new IOException("Invalid " + configFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static int getInt(Properties prop, String key){
+        String value = prop.getProperty(key);
+        if(value == null){
+            throw new IllegalArgumentException(key + " is missing");
+        }
+        try{
+            return Integer.parseInt(value.trim());
+        }catch(NumberFormatException e){
+            throw new IllegalArgumentException(key + " is not a number: " + value);
+        }
+    }
+
+    public String getServerName() {
+        return serverName;
+    }
+
+    public String getServerIp() {
+        return serverIp;
+    }
+
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public int getReplicationFactor() {
+        return replicationFactor;
+    }
+
+    public String getNameDir() {
+        return nameDir;
+    }
+
+    public EditLog.SyncPolicy getEditLogSyncPolicy() {
+        return editLogSyncPolicy;
+    }
+
+    public long getEditLogSyncIntervalMs() {
+        return editLogSyncIntervalMs;
+    }
+
+    public long getCheckpointPeriodMs() {
+        return checkpointPeriodMs;
+    }
+
+    public long getCheckpointTxns() {
+        return checkpointTxns;
+    }
+
+    public String getBlockPlacementPolicy() {
+        return blockPlacementPolicy;
+    }
+
+    // Empty when no topology file is configured and every node is on one rack
+    public String getTopologyFile() {
+        return topologyFile;
+    }
+
+    // 0 when the balancer is off
+    public double getBalancerThreshold() {
+        return balancerThreshold;
+    }
+
+    public long getBalancerBandwidth() {
+        return balancerBandwidth;
+    }
+
+    @Override
+    public String toString() {
+        return "block_size=" + blockSize + ", replication_factor=" + replicationFactor
+                + ", checkpoint_period_ms=" + checkpointPeriodMs + ", checkpoint_txns=" + checkpointTxns
+                + ", balancer_threshold=" + balancerThreshold + ", balancer_bandwidth=" + balancerBandwidth;
+    }
+}
@@ -12,25 +12,34 @@ public interface NameNodeInterface extends Remote {
     /* Method to open a file given file name with read-write flag*/
     byte[] openFile(byte[] inp) throws IOException;
 
-    byte[] closeFile(byte[] inp ) throws RemoteException;
+    byte[] closeFile(byte[] inp ) throws IOException;
+
+    /* Renews the leases on every file the client in clientName is writing */
+    byte[] renewLease(byte[] inp ) throws IOException;
+
+    /* Method to remove a file and its blocks from the namespace */
+    byte[] deleteFile(byte[] inp ) throws IOException;
 
     /* Method to get block locations given an array of block numbers */
     byte[] getBlockLocations(byte[] inp ) throws IOException;
 
+    /* Block locations of every file in fileMetas, in one call; files that do not exist get an error message */
+    byte[] getBlockLocationsBatch(byte[] inp ) throws IOException;
+
     /* Method to assign a block which will return the replicated block locations */
     byte[] assignBlock(byte[] inp ) throws IOException;
 
-    /* List the file names (no directories needed for current implementation */
-    byte[] list(byte[] inp ) throws RemoteException;
+    /* Lists the children of a directory in pages, optionally only those matching a prefix or glob */
+    byte[] list(byte[] inp ) throws IOException;
 
 	/*
 		Datanode <-> Namenode interaction methods
 	*/
 
     /* Get the status for blocks */
-    byte[] blockReport(byte[] inp ) throws RemoteException;
+    byte[] blockReport(byte[] inp ) throws IOException;
 
     /* Heartbeat messages between NameNode and DataNode */
-    byte[] heartBeat(byte[] inp ) throws RemoteException;
+    byte[] heartBeat(byte[] inp ) throws IOException;
 
 }
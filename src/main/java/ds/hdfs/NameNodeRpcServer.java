@@ -0,0 +1,161 @@
+package ds.hdfs;
+
+import java.io.IOException;
+
+// The Name Node as exported over RMI: every call is passed straight to the NameNode and timed
+// Calls the Name Node makes to itself, such as openFile creating a file through assignBlock,
+// do not come through here, so each RPC is counted once under the method the client called
+public class NameNodeRpcServer implements NameNodeInterface {
+
+    private final NameNode nameNode;
+    private final RpcMetrics.MethodMetrics openFileMetrics;
+    private final RpcMetrics.MethodMetrics closeFileMetrics;
+    private final RpcMetrics.MethodMetrics renewLeaseMetrics;
+    private final RpcMetrics.MethodMetrics deleteFileMetrics;
+    private final RpcMetrics.MethodMetrics getBlockLocationsMetrics;
+    private final RpcMetrics.MethodMetrics getBlockLocationsBatchMetrics;
+    private final RpcMetrics.MethodMetrics assignBlockMetrics;
+    private final RpcMetrics.MethodMetrics listMetrics;
+    private final RpcMetrics.MethodMetrics blockReportMetrics;
+    private final RpcMetrics.MethodMetrics heartBeatMetrics;
+
+    public NameNodeRpcServer(NameNode nameNode, RpcMetrics metrics) {
+        this.nameNode = nameNode;
+        this.openFileMetrics = metrics.get("openFile");
+        this.closeFileMetrics = metrics.get("closeFile");
+        this.renewLeaseMetrics = metrics.get("renewLease");
+        this.deleteFileMetrics = metrics.get("deleteFile");
+        this.getBlockLocationsMetrics = metrics.get("getBlockLocations");
+        this.getBlockLocationsBatchMetrics = metrics.get("getBlockLocationsBatch");
+        this.assignBlockMetrics = metrics.get("assignBlock");
+        this.listMetrics = metrics.get("list");
+        this.blockReportMetrics = metrics.get("blockReport");
+        this.heartBeatMetrics = metrics.get("heartBeat");
+    }
+
+    // The RPC methods of NameNodeInterface, for building the RpcMetrics this server records into
+    public static String[] methodNames(){
+        return new String[]{"openFile", "closeFile", "renewLease", "deleteFile", "getBlockLocations",
+                "getBlockLocationsBatch", "assignBlock", "list", "blockReport", "heartBeat"};
+    }
+
+    public byte[] openFile(byte[] inp) throws IOException {
+        long startNanos = System.nanoTime();
+        try{
+            return this.nameNode.openFile(inp);
+        }catch(IOException | RuntimeException e){
+            this.openFileMetrics.recordError();
+            throw e;
+        }finally{
+            this.openFileMetrics.record(startNanos);
+        }
+    }
+
+    public byte[] closeFile(byte[] inp) throws IOException {
+        long startNanos = System.nanoTime();
+        try{
+            return this.nameNode.closeFile(inp);
+        }catch(IOException | RuntimeException e){
+            this.closeFileMetrics.recordError();
+            throw e;
+        }finally{
+            this.closeFileMetrics.record(startNanos);
+        }
+    }
+
+    public byte[] renewLease(byte[] inp) throws IOException {
+        long startNanos = System.nanoTime();
+        try{
+            return this.nameNode.renewLease(inp);
+        }catch(IOException | RuntimeException e){
+            this.renewLeaseMetrics.recordError();
+            throw e;
+        }finally{
+            this.renewLeaseMetrics.record(startNanos);
+        }
+    }
+
+    public byte[] deleteFile(byte[] inp) throws IOException {
+        long startNanos = System.nanoTime();
+        try{
+            return this.nameNode.deleteFile(inp);
+        }catch(IOException | RuntimeException e){
+            this.deleteFileMetrics.recordError();
+            throw e;
+        }finally{
+            this.deleteFileMetrics.record(startNanos);
+        }
+    }
+
+    public byte[] getBlockLocations(byte[] inp) throws IOException {
+        long startNanos = System.nanoTime();
+        try{
+            return this.nameNode.getBlockLocations(inp);
+        }catch(IOException | RuntimeException e){
+            this.getBlockLocationsMetrics.recordError();
+            throw e;
+        }finally{
+            this.getBlockLocationsMetrics.record(startNanos);
+        }
+    }
+
+    public byte[] getBlockLocationsBatch(byte[] inp) throws IOException {
+        long startNanos = System.nanoTime();
+        try{
+            return this.nameNode.getBlockLocationsBatch(inp);
+        }catch(IOException | RuntimeException e){
+            this.getBlockLocationsBatchMetrics.recordError();
+            throw e;
+        }finally{
+            this.getBlockLocationsBatchMetrics.record(startNanos);
+        }
+    }
+
+    public byte[] assignBlock(byte[] inp) throws IOException {
+        long startNanos = System.nanoTime();
+        try{
+            return this.nameNode.assignBlock(inp);
+        }catch(IOException | RuntimeException e){
+            this.assignBlockMetrics.recordError();
+            throw e;
+        }finally{
+            this.assignBlockMetrics.record(startNanos);
+        }
+    }
+
+    public byte[] list(byte[] inp) throws IOException {
+        long startNanos = System.nanoTime();
+        try{
+            return this.nameNode.list(inp);
+        }catch(IOException | RuntimeException e){
+            this.listMetrics.recordError();
+            throw e;
+        }finally{
+            this.listMetrics.record(startNanos);
+        }
+    }
+
+    public byte[] blockReport(byte[] inp) throws IOException {
+        long startNanos = System.nanoTime();
+        try{
+            return this.nameNode.blockReport(inp);
+        }catch(IOException | RuntimeException e){
+            this.blockReportMetrics.recordError();
+            throw e;
+        }finally{
+            this.blockReportMetrics.record(startNanos);
+        }
+    }
+
+    public byte[] heartBeat(byte[] inp) throws IOException {
+        long startNanos = System.nanoTime();
+        try{
+            return this.nameNode.heartBeat(inp);
+        }catch(IOException | RuntimeException e){
+            this.heartBeatMetrics.recordError();
+            throw e;
+        }finally{
+            this.heartBeatMetrics.record(startNanos);
+        }
+    }
+}
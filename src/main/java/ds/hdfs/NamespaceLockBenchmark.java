@@ -0,0 +1,120 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Measures Name Node metadata throughput under contention: N threads each open (creating) and then look up
+// files, in a directory of their own, in one directory shared by all of them, or all on the same few files.
+// Each case runs with the striped path locks and with a single stripe, which is one global lock.
+// The namespace is kept in memory, so the numbers show locking rather than edit log syncs.
+// The creates column counts files actually created: openFile must create each file exactly once
+// however many threads race to open it.
+// Usage: NamespaceLockBenchmark [filesPerThread] [maxThreads]
+public class NamespaceLockBenchmark {
+
+    private static final int SHARED_FILES = 16;
+
+    private static NameNode newNameNode(int stripes) throws IOException {
+        NameNode nameNode = new NameNode(new NameNodeConfig("bench", "127.0.0.1", 1099, 64 * 1024 * 1024, 3));
+        nameNode.pathLocks = new PathLocks(stripes);
+        for(int node = 0; node < 10; node++){
+            nameNode.heartBeat(ProtosHDFS.Heartbeat.newBuilder()
+                    .setHeartbeatId("benchmark")
+                    .setTimestamp(System.currentTimeMillis())
+                    .setDataNodeInfo(ProtosHDFS.DataNodeInfo.newBuilder()
+                            .setDataNodeId("datanode-" + node)
+                            .setIpAddress("10.0.0." + (node + 1))
+                            .build())
+                    .build().toByteArray());
+        }
+        return nameNode;
+    }
+
+    private static String path(String layout, int thread, int file){
+        switch(layout){
+            case "disjoint":
+                return "/bench/dir" + thread + "/file" + file;
+            case "shared dir":
+                return "/bench/shared/t" + thread + "-file" + file;
+            default:
+                return "/bench/hot/file" + (file % SHARED_FILES);
+        }
+    }
+
+    private static byte[] request(String path){
+        return ProtosHDFS.Request.newBuilder()
+                .setRequestId(UUID.randomUUID().toString())
+                .setRequestType(ProtosHDFS.Request.RequestType.OPEN)
+                .setFileMeta(ProtosHDFS.FileMetadata.newBuilder()
+                        .setFileId(path)
+                        .setFileName(path)
+                        .setFileSize(1024)
+                        .setParentDirectory(PathLocks.getParent(path)))
+                .build().toByteArray();
+    }
+
+    // Returns operations per second; creates is set to the number of files openFile created
+    private static double run(NameNode nameNode, String layout, int threads, int filesPerThread,
+                              AtomicInteger creates) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for(int t = 0; t < threads; t++){
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                try{
+                    start.await();
+                    for(int file = 0; file < filesPerThread; file++){
+                        byte[] request = request(path(layout, thread, file));
+                        ProtosHDFS.Response response = ProtosHDFS.Response.parseFrom(nameNode.openFile(request));
+                        if(response.getErrorMessage().endsWith("assigned successfully")){
+                            creates.incrementAndGet();
+                        }
+                        nameNode.getBlockLocations(request);
+                    }
+                }catch(IOException | InterruptedException e){
+                    throw new RuntimeException(e);
+                }
+            }, "bench-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for(Thread worker : workers){
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        return 2.0 * threads * filesPerThread / (elapsed / 1e9);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int filesPerThread = (args.length > 0) ? Integer.parseInt(args[0]) : 20000;
+        int maxThreads = (args.length > 1) ? Integer.parseInt(args[1])
+                : Runtime.getRuntime().availableProcessors() * 2;
+
+        System.out.printf("%-12s %8s %16s %10s %16s %10s%n", "layout", "threads", "striped ops/s", "creates",
+                "global ops/s", "creates");
+        for(String layout : new String[]{"disjoint", "shared dir", "same files"}){
+            for(int threads = 1; threads <= maxThreads; threads *= 2){
+                // One untimed run so the JIT has compiled everything before timing
+                run(newNameNode(NameNode.NAMESPACE_LOCK_STRIPES), layout, threads, filesPerThread / 10,
+                        new AtomicInteger());
+
+                AtomicInteger stripedCreates = new AtomicInteger();
+                double striped = run(newNameNode(NameNode.NAMESPACE_LOCK_STRIPES), layout, threads, filesPerThread,
+                        stripedCreates);
+                AtomicInteger globalCreates = new AtomicInteger();
+                double global = run(newNameNode(1), layout, threads, filesPerThread, globalCreates);
+                System.out.printf("%-12s %8d %,16.0f %10d %,16.0f %10d%n", layout, threads, striped,
+                        stripedCreates.get(), global, globalCreates.get());
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package ds.hdfs;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Where each machine sits in the network, read from the file named by topology_file
+//
+// Every line of the file maps a Data Node ID, host name or IP address to a location path:
+//     10.0.1.15        /dc1/rack1
+//     datanode-7       /dc1/rack2
+// Blank lines and lines starting with # are ignored, and anything not listed is on DEFAULT_RACK.
+//
+// The distance between two machines is the number of hops up to their closest common ancestor and
+// back down, counting each machine as a leaf below its rack: 0 for the same machine, 2 within a rack,
+// 4 between racks of one data center and so on.
+public class NetworkTopology {
+
+    public static final String DEFAULT_RACK = "/default-rack";
+
+    private final Map<String, String[]> locations = new HashMap<>();
+    private static final String[] DEFAULT_LOCATION = split(DEFAULT_RACK);
+
+    // Everything on DEFAULT_RACK
+    public NetworkTopology() {
+    }
+
+    public static NetworkTopology load(Path topologyFile) throws IOException {
+        NetworkTopology topology = new NetworkTopology();
+        try(BufferedReader reader = Files.newBufferedReader(topologyFile, StandardCharsets.UTF_8)){
+            String line;
+            int lineNumber = 0;
+            while((line = reader.readLine()) != null){
+                lineNumber++;
+                line = line.trim();
+                if(line.isEmpty() || line.startsWith("#")){
+                    continue;
+                }
+                String[] fields = line.split("\\s+");
+                if(fields.length != 2 || !fields[1].startsWith("/")){
+                    throw new IOException(topologyFile + " line " + lineNumber + " should be '<host> /<location>': " + line);
+                }
+                topology.locations.put(fields[0], split(fields[1]));
+            }
+        }
+        return topology;
+    }
+
+    private static String[] split(String location){
+        return location.substring(1).split("/");
+    }
+
+    // The location of a machine known by any of the given names, tried in order
+    public String[] getLocation(String... names){
+        for(String name : names){
+            if(name != null){
+                String[] location = this.locations.get(name);
+                if(location != null){
+                    return location;
+                }
+            }
+        }
+        return DEFAULT_LOCATION;
+    }
+
+    public static String rackName(String[] location){
+        return "/" + String.join("/", location);
+    }
+
+    public static boolean sameRack(String[] a, String[] b){
+        return a == b || Arrays.equals(a, b);
+    }
+
+    // Distance between two machines given their locations and whether they are in fact the same machine
+    public static int distance(String[] a, String[] b, boolean sameNode){
+        if(sameNode){
+            return 0;
+        }
+        int common = 0;
+        while(common < a.length && common < b.length && a[common].equals(b[common])){
+            common++;
+        }
+        // One hop from each machine up to its rack, then up to the common ancestor
+        return (a.length - common) + (b.length - common) + 2;
+    }
+}
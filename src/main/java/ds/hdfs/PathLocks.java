@@ -0,0 +1,102 @@
+package ds.hdfs;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Striped read/write locks over namespace paths
+//
+// Every path hashes to one of a fixed number of ReentrantReadWriteLocks, so the Name Node needs no lock
+// object per file and operations on unrelated paths almost never wait for each other. Reads of a path
+// take its lock shared, mutations take it exclusively along with the locks of all its ancestor directories
+// shared, so creates in one directory run in parallel while anything that changes one of the directories
+// themselves waits.
+//
+// Two paths can share a stripe, so locks are always taken in stripe order and a stripe needed both
+// shared and exclusively is taken exclusively once; no two threads can then wait on each other.
+public class PathLocks {
+
+    private final ReentrantReadWriteLock[] stripes;
+    private final int mask;
+
+    // Held locks in the order they were taken; close releases them in reverse
+    public static class Locked implements AutoCloseable {
+        private final Lock[] locks;
+
+        Locked(Lock... locks){
+            this.locks = locks;
+        }
+
+        @Override
+        public void close(){
+            for(int i = this.locks.length - 1; i >= 0; i--){
+                this.locks[i].unlock();
+            }
+        }
+    }
+
+    // stripes is rounded up to a power of two
+    public PathLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new ReentrantReadWriteLock[size];
+        for(int i = 0; i < size; i++){
+            this.stripes[i] = new ReentrantReadWriteLock();
+        }
+        this.mask = size - 1;
+    }
+
+    // Paths with the same stripe share one lock
+    public int stripe(String path){
+        int hash = path.hashCode();
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+
+    // The directory a path is in; paths without a directory part are in /
+    public static String getParent(String path){
+        int slash = path.lastIndexOf('/');
+        return (slash <= 0) ? "/" : path.substring(0, slash);
+    }
+
+    public Locked lockForRead(String path){
+        Lock lock = this.stripes[stripe(path)].readLock();
+        lock.lock();
+        return new Locked(lock);
+    }
+
+    // Locks a whole stripe shared, so any number of paths in it can be looked up for one acquisition
+    public Locked lockStripeForRead(int stripe){
+        Lock lock = this.stripes[stripe].readLock();
+        lock.lock();
+        return new Locked(lock);
+    }
+
+    // Locks path exclusively and every directory above it shared, so while it is held no other mutation can
+    // turn one of those directories into a file or put a file under path
+    public Locked lockForWrite(String path){
+        // Stripes in ascending order, each with whether it is needed exclusively
+        TreeMap<Integer, Boolean> needed = new TreeMap<>();
+        needed.put(stripe(path), true);
+        for(String directory = path; !directory.equals("/"); ){
+            directory = getParent(directory);
+            needed.putIfAbsent(stripe(directory), false);
+        }
+
+        Lock[] locks = new Lock[needed.size()];
+        int taken = 0;
+        try{
+            for(Map.Entry<Integer, Boolean> entry : needed.entrySet()){
+                ReentrantReadWriteLock stripe = this.stripes[entry.getKey()];
+                Lock lock = entry.getValue() ? stripe.writeLock() : stripe.readLock();
+                lock.lock();
+                locks[taken++] = lock;
+            }
+        }catch(RuntimeException | Error e){
+            for(int i = taken - 1; i >= 0; i--){
+                locks[i].unlock();
+            }
+            throw e;
+        }
+        return new Locked(locks);
+    }
+}
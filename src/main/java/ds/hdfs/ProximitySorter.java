@@ -0,0 +1,72 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Orders the replicas of a block for one reader: nearest first by network distance, then least loaded
+// by the transfer counts in the Data Nodes' heartbeats, and at random among replicas that are still tied.
+// The random tie break is what spreads reads; sorting by replica number alone would send every
+// reader to replica 1 of every block. Replicas on Data Nodes that are not live go last.
+public class ProximitySorter {
+
+    private final NetworkTopology topology;
+    private final HeartbeatManager heartbeatManager;
+
+    private static final class Candidate {
+        final String dataNodeId;
+        final boolean live;
+        final int distance;
+        final int load;
+
+        Candidate(String dataNodeId, boolean live, int distance, int load){
+            this.dataNodeId = dataNodeId;
+            this.live = live;
+            this.distance = distance;
+            this.load = load;
+        }
+    }
+
+    private static final Comparator<Candidate> ORDER = Comparator
+            .comparing((Candidate candidate) -> !candidate.live)
+            .thenComparingInt(candidate -> candidate.distance)
+            .thenComparingInt(candidate -> candidate.load);
+
+    public ProximitySorter(NetworkTopology topology, HeartbeatManager heartbeatManager) {
+        this.topology = topology;
+        this.heartbeatManager = heartbeatManager;
+    }
+
+    // Returns the Data Nodes holding replicas in the order reader should try them; reader is an address,
+    // or null if unknown
+    public List<String> sort(List<String> dataNodeIds, String reader){
+        String[] readerLocation = this.topology.getLocation(reader);
+        List<Candidate> candidates = new ArrayList<>(dataNodeIds.size());
+        for(String dataNodeId : dataNodeIds){
+            HeartbeatManager.DataNodeDescriptor node = this.heartbeatManager.getDataNode(dataNodeId);
+            if(node == null){
+                candidates.add(new Candidate(dataNodeId, false, Integer.MAX_VALUE, Integer.MAX_VALUE));
+                continue;
+            }
+            ProtosHDFS.DataNodeInfo info = node.getDataNodeInfo();
+            String[] location = this.topology.getLocation(node.getDataNodeId(), info.getIpAddress());
+            boolean sameNode = reader != null && reader.equals(info.getIpAddress());
+            candidates.add(new Candidate(dataNodeId, true, NetworkTopology.distance(readerLocation, location, sameNode),
+                    info.getActiveTransfers()));
+        }
+
+        // Shuffle first; the sort is stable, so replicas that compare equal stay in random order
+        Collections.shuffle(candidates, ThreadLocalRandom.current());
+        candidates.sort(ORDER);
+
+        List<String> sorted = new ArrayList<>(candidates.size());
+        for(Candidate candidate : candidates){
+            sorted.add(candidate.dataNodeId);
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,152 @@
+package ds.hdfs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Spreads the replicas of a block over racks, then orders them into the cheapest write pipeline
+//
+// The first replica goes on the writer's own Data Node if it has one, the second on another rack,
+// the third on the second's rack and any further ones wherever their rack is not yet overloaded.
+// A block therefore survives the loss of a whole rack while only one copy crosses between racks.
+// Within each of those constraints nodes are still picked by UtilizationPlacementPolicy's weighting,
+// and when a constraint cannot be met (a single rack, say) it is dropped rather than failing the block.
+//
+// The chosen nodes are then chained nearest first starting from the writer, so each hop of the
+// pipeline is as short as it can be.
+//
+// Extra replicas of an under-replicated block follow the same rules, counting the replicas it still has.
+public class RackAwarePlacementPolicy extends UtilizationPlacementPolicy {
+
+    protected NetworkTopology topology;
+
+    // Live nodes with their locations and grouped by rack, rebuilt only when the set of live nodes changes
+    private static final class RackIndex {
+        final HeartbeatManager.DataNodeDescriptor[] nodes;
+        final IdentityHashMap<HeartbeatManager.DataNodeDescriptor, String[]> locations = new IdentityHashMap<>();
+        final Map<String, HeartbeatManager.DataNodeDescriptor> byAddress = new HashMap<>();
+        final Map<String, HeartbeatManager.DataNodeDescriptor[]> byRack = new HashMap<>();
+
+        RackIndex(HeartbeatManager.DataNodeDescriptor[] nodes, NetworkTopology topology){
+            this.nodes = nodes;
+            Map<String, List<HeartbeatManager.DataNodeDescriptor>> racks = new HashMap<>();
+            for(HeartbeatManager.DataNodeDescriptor node : nodes){
+                String ipAddress = node.getDataNodeInfo().getIpAddress();
+                String[] location = topology.getLocation(node.getDataNodeId(), ipAddress);
+                this.locations.put(node, location);
+                this.byAddress.put(ipAddress, node);
+                racks.computeIfAbsent(NetworkTopology.rackName(location), rack -> new ArrayList<>()).add(node);
+            }
+            for(Map.Entry<String, List<HeartbeatManager.DataNodeDescriptor>> rack : racks.entrySet()){
+                this.byRack.put(rack.getKey(), rack.getValue().toArray(new HeartbeatManager.DataNodeDescriptor[0]));
+            }
+        }
+    }
+
+    private volatile RackIndex rackIndex;
+
+    @Override
+    public void initialize(HeartbeatManager heartbeatManager, NetworkTopology topology){
+        super.initialize(heartbeatManager, topology);
+        this.topology = topology;
+    }
+
+    private RackIndex getRackIndex(){
+        HeartbeatManager.DataNodeDescriptor[] nodes = this.heartbeatManager.getLiveNodeArray();
+        RackIndex index = this.rackIndex;
+        if(index == null || index.nodes != nodes){
+            index = new RackIndex(nodes, this.topology);
+            this.rackIndex = index;
+        }
+        return index;
+    }
+
+    @Override
+    public List<String> chooseTargets(int replicas, long blockSize, String writer, List<String> existing){
+        RackIndex index = getRackIndex();
+        // Replicas that already exist take the first places, so the rules below add to them
+        List<HeartbeatManager.DataNodeDescriptor> chosen = existingNodes(existing, replicas);
+        chosen.removeIf(node -> !index.locations.containsKey(node));
+        int first = chosen.size();
+        int wanted = first + replicas;
+        HeartbeatManager.DataNodeDescriptor writerNode = (writer != null) ? index.byAddress.get(writer) : null;
+        int maxPerRack = (wanted - 1) / Math.max(1, index.byRack.size()) + 2;
+
+        while(chosen.size() < wanted){
+            HeartbeatManager.DataNodeDescriptor node = null;
+            if(chosen.isEmpty()){
+                if(writerNode != null && hasSpace(writerNode, blockSize)){
+                    node = writerNode;
+                }
+            }else if(chosen.size() == 1){
+                String[] firstLocation = index.locations.get(chosen.get(0));
+                node = chooseNode(index.nodes, chosen, blockSize,
+                        candidate -> !NetworkTopology.sameRack(index.locations.get(candidate), firstLocation));
+            }else if(chosen.size() == 2){
+                String[] firstLocation = index.locations.get(chosen.get(0));
+                String[] secondLocation = index.locations.get(chosen.get(1));
+                if(NetworkTopology.sameRack(firstLocation, secondLocation)){
+                    // Only when the first two ended up together, e.g. the rest of an under-replicated block
+                    node = chooseNode(index.nodes, chosen, blockSize,
+                            candidate -> !NetworkTopology.sameRack(index.locations.get(candidate), firstLocation));
+                }else{
+                    node = chooseNode(index.byRack.get(NetworkTopology.rackName(secondLocation)), chosen, blockSize,
+                            candidate -> true);
+                }
+            }else{
+                node = chooseNode(index.nodes, chosen, blockSize,
+                        candidate -> countOnRack(index, chosen, index.locations.get(candidate)) < maxPerRack);
+            }
+
+            if(node == null){
+                node = chooseNode(index.nodes, chosen, blockSize, candidate -> true);
+                if(node == null){
+                    break;
+                }
+            }
+            chosen.add(node);
+            node.addPendingBlock();
+        }
+
+        return orderPipeline(index, chosen.subList(first, chosen.size()), writerNode, writer);
+    }
+
+    private static int countOnRack(RackIndex index, List<HeartbeatManager.DataNodeDescriptor> chosen, String[] location){
+        int count = 0;
+        for(HeartbeatManager.DataNodeDescriptor node : chosen){
+            if(NetworkTopology.sameRack(index.locations.get(node), location)){
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Chains the targets nearest first, starting from the writer
+    private List<String> orderPipeline(RackIndex index, List<HeartbeatManager.DataNodeDescriptor> targets,
+                                       HeartbeatManager.DataNodeDescriptor writerNode, String writer){
+        List<HeartbeatManager.DataNodeDescriptor> remaining = new ArrayList<>(targets);
+        List<String> pipeline = new ArrayList<>(targets.size());
+        HeartbeatManager.DataNodeDescriptor current = writerNode;
+        String[] currentLocation = (writerNode != null) ? index.locations.get(writerNode)
+                : this.topology.getLocation(writer);
+
+        while(!remaining.isEmpty()){
+            HeartbeatManager.DataNodeDescriptor nearest = null;
+            int nearestDistance = Integer.MAX_VALUE;
+            for(HeartbeatManager.DataNodeDescriptor node : remaining){
+                int distance = NetworkTopology.distance(currentLocation, index.locations.get(node), node == current);
+                if(distance < nearestDistance){
+                    nearest = node;
+                    nearestDistance = distance;
+                }
+            }
+            remaining.remove(nearest);
+            pipeline.add(nearest.getDataNodeId());
+            current = nearest;
+            currentLocation = index.locations.get(nearest);
+        }
+        return pipeline;
+    }
+}
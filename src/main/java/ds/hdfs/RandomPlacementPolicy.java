@@ -0,0 +1,37 @@
+package ds.hdfs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Places replicas on live Data Nodes uniformly at random, ignoring how full or busy they are
+// Nodes are drawn one at a time and redrawn on a repeat, which costs O(replicas) instead of
+// shuffling the whole node list for every block
+public class RandomPlacementPolicy implements BlockPlacementPolicy {
+
+    protected HeartbeatManager heartbeatManager;
+
+    public void initialize(HeartbeatManager heartbeatManager, NetworkTopology topology){
+        this.heartbeatManager = heartbeatManager;
+    }
+
+    public List<String> chooseTargets(int replicas, long blockSize, String writer, List<String> existing){
+        HeartbeatManager.DataNodeDescriptor[] nodes = this.heartbeatManager.getLiveNodeArray();
+        int eligible = nodes.length;
+        for(HeartbeatManager.DataNodeDescriptor node : nodes){
+            if(existing.contains(node.getDataNodeId())){
+                eligible--;
+            }
+        }
+        int count = Math.min(replicas, eligible);
+        List<String> targets = new ArrayList<>(count);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while(targets.size() < count){
+            String dataNodeId = nodes[random.nextInt(nodes.length)].getDataNodeId();
+            if(!targets.contains(dataNodeId) && !existing.contains(dataNodeId)){
+                targets.add(dataNodeId);
+            }
+        }
+        return targets;
+    }
+}
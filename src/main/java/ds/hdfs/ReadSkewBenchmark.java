@@ -0,0 +1,139 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Measures how evenly reads spread over Data Nodes when replicas are ordered by replica number (as
+// getBlockLocations used to) versus by ProximitySorter, and how many reads leave the reader's rack
+// Blocks are placed by RackAwarePlacementPolicy from random writers; readers are random Data Nodes,
+// plus one read in four from an address outside the cluster. Every read goes to the first replica listed.
+// Usage: ReadSkewBenchmark [dataNodes] [racks] [blocks] [reads]
+public class ReadSkewBenchmark {
+
+    private static String address(int node){
+        return "10.0." + (node / 250) + "." + (node % 250 + 1);
+    }
+
+    private static void report(String name, Map<String, Integer> served, int dataNodes, int reads, int offRack){
+        int max = 0;
+        int min = Integer.MAX_VALUE;
+        double sumSquares = 0;
+        double mean = (double)reads / dataNodes;
+        for(int node = 0; node < dataNodes; node++){
+            int count = served.getOrDefault("datanode-" + node, 0);
+            max = Math.max(max, count);
+            min = Math.min(min, count);
+            sumSquares += (count - mean) * (count - mean);
+        }
+        double stdDev = Math.sqrt(sumSquares / dataNodes);
+        System.out.printf("%-20s %10d %10d %10.2f %10.3f %11.1f%%%n", name, min, max, max / mean, stdDev / mean,
+                100.0 * offRack / reads);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int dataNodes = (args.length > 0) ? Integer.parseInt(args[0]) : 40;
+        int racks = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+        int blocks = (args.length > 2) ? Integer.parseInt(args[2]) : 2000;
+        int reads = (args.length > 3) ? Integer.parseInt(args[3]) : 200000;
+        Random random = new Random(417);
+
+        Path topologyFile = Files.createTempFile("topology", ".txt");
+        try{
+            try(PrintWriter writer = new PrintWriter(Files.newBufferedWriter(topologyFile, StandardCharsets.UTF_8))){
+                for(int node = 0; node < dataNodes; node++){
+                    writer.println(address(node) + " /dc1/rack" + (node % racks));
+                }
+            }
+            NetworkTopology topology = NetworkTopology.load(topologyFile);
+
+            HeartbeatManager heartbeatManager = new HeartbeatManager(60 * 1000, 1000);
+            for(int node = 0; node < dataNodes; node++){
+                heartbeatManager.heartbeat(ProtosHDFS.Heartbeat.newBuilder()
+                        .setHeartbeatId("benchmark")
+                        .setTimestamp(System.currentTimeMillis())
+                        .setDataNodeInfo(ProtosHDFS.DataNodeInfo.newBuilder()
+                                .setDataNodeId("datanode-" + node)
+                                .setIpAddress(address(node))
+                                .setPortNumber(1099)
+                                .setCapacity(1L << 40)
+                                .setRemaining(1L << 39)
+                                .build())
+                        .build());
+            }
+
+            // Place every block the way assignBlock would, replica numbers in pipeline order
+            RackAwarePlacementPolicy placementPolicy = new RackAwarePlacementPolicy();
+            placementPolicy.initialize(heartbeatManager, topology);
+            List<List<ProtosHDFS.BlockMetaData>> blockMetas = new ArrayList<>(blocks);
+            for(int block = 0; block < blocks; block++){
+                List<String> targets = placementPolicy.chooseTargets(3, 64 * 1024 * 1024,
+                        address(random.nextInt(dataNodes)), Collections.<String>emptyList());
+                List<ProtosHDFS.BlockMetaData> replicas = new ArrayList<>();
+                for(int ord = 0; ord < targets.size(); ord++){
+                    replicas.add(ProtosHDFS.BlockMetaData.newBuilder()
+                            .setBlockId("block" + block)
+                            .setFileId("/bench/file" + block)
+                            .setFileName("/bench/file" + block)
+                            .setBlockNumber(1)
+                            .setOrdReplication(ord + 1)
+                            .setDataNodeId(targets.get(ord))
+                            .setIpAddress("127.0.0.1")
+                            .setPortNumber(1099)
+                            .build());
+                }
+                blockMetas.add(replicas);
+            }
+
+            ProximitySorter proximitySorter = new ProximitySorter(topology, heartbeatManager);
+            ReplicationSorter replicationSorter = new ReplicationSorter();
+            Map<String, Integer> byReplica = new HashMap<>();
+            Map<String, Integer> byProximity = new HashMap<>();
+            int byReplicaOffRack = 0;
+            int byProximityOffRack = 0;
+            for(int read = 0; read < reads; read++){
+                List<ProtosHDFS.BlockMetaData> replicas = blockMetas.get(random.nextInt(blocks));
+                String reader = (random.nextInt(4) == 0) ? "192.168.0.1" : address(random.nextInt(dataNodes));
+                String[] readerLocation = topology.getLocation(reader);
+
+                List<ProtosHDFS.BlockMetaData> ordered = new ArrayList<>(replicas);
+                ordered.sort(replicationSorter);
+                String first = ordered.get(0).getDataNodeId();
+                byReplica.merge(first, 1, Integer::sum);
+                if(!NetworkTopology.sameRack(readerLocation, topology.getLocation(first,
+                        heartbeatManager.getDataNode(first).getDataNodeInfo().getIpAddress()))){
+                    byReplicaOffRack++;
+                }
+
+                List<String> dataNodeIds = new ArrayList<>(replicas.size());
+                for(ProtosHDFS.BlockMetaData replica : replicas){
+                    dataNodeIds.add(replica.getDataNodeId());
+                }
+                first = proximitySorter.sort(dataNodeIds, reader).get(0);
+                byProximity.merge(first, 1, Integer::sum);
+                if(!NetworkTopology.sameRack(readerLocation, topology.getLocation(first,
+                        heartbeatManager.getDataNode(first).getDataNodeInfo().getIpAddress()))){
+                    byProximityOffRack++;
+                }
+            }
+
+            System.out.println(dataNodes + " Data Nodes on " + racks + " racks, " + blocks + " blocks, " + reads + " reads");
+            System.out.printf("%-20s %10s %10s %10s %10s %12s%n", "order", "min reads", "max reads", "max/mean",
+                    "stddev/mean", "off rack");
+            report("replica number", byReplica, dataNodes, reads, byReplicaOffRack);
+            report("proximity", byProximity, dataNodes, reads, byProximityOffRack);
+        }finally{
+            Files.deleteIfExists(topologyFile);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+// Finds blocks with fewer live replicas than replication_factor and has Data Nodes copy them
+//
+// Under-replicated blocks wait in one queue per priority, most endangered first: blocks down to a single
+// live replica, then blocks with under a third of theirs, then the rest. Blocks with no live replica at all
+// are kept aside until a Data Node holding one comes back. A block gets queued when a Data Node holding it
+// dies, when a replica is reported deleted or corrupt, and when it was written to fewer nodes than asked.
+//
+// Every REPLICATION_INTERVAL_MS the monitor takes up to WORK_PER_NODE blocks per live Data Node off the
+// queues, picks a live replica as the source and new targets from the placement policy, and queues a
+// REPLICATE command for the source. Commands go out in the response to the source's next heartbeat.
+// A Data Node is the source of at most MAX_REPLICATION_STREAMS copies at a time, or
+// MAX_REPLICATION_STREAMS_HARD for blocks down to their last replica, so recovery never swamps a node.
+//
+// A copy counts as pending until every target has reported the block; one that takes longer than
+// PENDING_TIMEOUT_MS is given up on and its block is queued again.
+public class ReplicationMonitor implements Runnable {
+
+    protected static final long REPLICATION_INTERVAL_MS = 3 * 1000;
+    protected static final int WORK_PER_NODE = 2;
+    protected static final int MAX_REPLICATION_STREAMS = 2;
+    protected static final int MAX_REPLICATION_STREAMS_HARD = 4;
+    protected static final long PENDING_TIMEOUT_MS = 5 * 60 * 1000;
+    // Until then the Data Nodes have not all heartbeated and sent their first full report, so
+    // nearly every block would look under-replicated; the first scan of the whole namespace waits for it
+    protected static final long STARTUP_DELAY_MS = 3 * 60 * 1000;
+
+    protected static final int QUEUE_HIGHEST_PRIORITY = 0;
+    protected static final int QUEUE_VERY_UNDER_REPLICATED = 1;
+    protected static final int QUEUE_UNDER_REPLICATED = 2;
+    protected static final int QUEUE_WITH_NO_LIVE_REPLICA = 3;
+
+    protected static class PendingReplication {
+        final String source;
+        final Set<String> targets;
+        final long deadlineMs;
+
+        PendingReplication(String source, List<String> targets, long deadlineMs){
+            this.source = source;
+            this.targets = new HashSet<>(targets);
+            this.deadlineMs = deadlineMs;
+        }
+    }
+
+    private final NameNode nameNode;
+
+    // All guarded by this
+    private final List<LinkedHashSet<Long>> queues = new ArrayList<>();
+    private final Map<Long, PendingReplication> pending = new HashMap<>();
+    private final Map<String, Integer> streamsBySource = new HashMap<>();
+    private Set<String> lastLiveNodes = new HashSet<>();
+    private HeartbeatManager.DataNodeDescriptor[] lastLiveNodeArray;
+
+    public ReplicationMonitor(NameNode nameNode) {
+        this.nameNode = nameNode;
+        for(int level = QUEUE_HIGHEST_PRIORITY; level <= QUEUE_WITH_NO_LIVE_REPLICA; level++){
+            this.queues.add(new LinkedHashSet<>());
+        }
+    }
+
+    private static long now(){
+        return System.nanoTime() / 1000000;
+    }
+
+    // The queue a block belongs in, or -1 if it has enough replicas counting the copies under way
+    protected static int getPriority(int liveReplicas, int pendingReplicas, int expectedReplicas){
+        if(liveReplicas + pendingReplicas >= expectedReplicas){
+            return -1;
+        }else if(liveReplicas == 0){
+            return QUEUE_WITH_NO_LIVE_REPLICA;
+        }else if(liveReplicas == 1){
+            return QUEUE_HIGHEST_PRIORITY;
+        }else if(liveReplicas * 3 < expectedReplicas){
+            return QUEUE_VERY_UNDER_REPLICATED;
+        }
+        return QUEUE_UNDER_REPLICATED;
+    }
+
+    private List<String> liveReplicas(BlockMap.Block block){
+        List<String> live = new ArrayList<>(block.getReplicaCount());
+        for(String dataNodeId : this.nameNode.getDataNodeIds(block)){
+            if(this.nameNode.heartbeatManager.isAlive(dataNodeId)){
+                live.add(dataNodeId);
+            }
+        }
+        return live;
+    }
+
+    // Re-checks one block and moves it to the queue it now belongs in, if any
+    public synchronized void checkBlock(long blockId){
+        for(LinkedHashSet<Long> queue : this.queues){
+            queue.remove(blockId);
+        }
+        BlockMap.Block block = this.nameNode.blockMap.get(blockId);
+        if(block == null){
+            return;
+        }
+        PendingReplication replication = this.pending.get(blockId);
+        int priority = getPriority(liveReplicas(block).size(), (replication != null) ? replication.targets.size() : 0,
+                this.nameNode.config.getReplicationFactor());
+        if(priority >= 0){
+            this.queues.get(priority).add(blockId);
+        }
+    }
+
+    // Called when dataNodeId reports the block, which completes its part of a pending copy
+    public synchronized void replicaAdded(long blockId, String dataNodeId){
+        PendingReplication replication = this.pending.get(blockId);
+        if(replication != null && replication.targets.remove(dataNodeId) && replication.targets.isEmpty()){
+            finish(blockId, replication);
+        }
+    }
+
+    private void finish(long blockId, PendingReplication replication){
+        this.pending.remove(blockId);
+        this.streamsBySource.merge(replication.source, -1,
+                (streams, change) -> (streams + change > 0) ? streams + change : null);
+    }
+
+    // Blocks in every queue, for status output
+    public synchronized int getUnderReplicatedCount(){
+        int count = 0;
+        for(LinkedHashSet<Long> queue : this.queues){
+            count += queue.size();
+        }
+        return count;
+    }
+
+    public synchronized int getPendingCount(){
+        return this.pending.size();
+    }
+
+    // Queues every block that is short of replicas, done outside the lock: with deadNodes null, one pass
+    // over the namespace; otherwise only the blocks the dead nodes held, found through the block map's
+    // blocks by Data Node
+    protected void scanBlocks(Set<String> deadNodes){
+        if(deadNodes == null){
+            List<Long> affected = new ArrayList<>();
+            for(BlockMap.Block block : this.nameNode.blockMap){
+                affected.add(block.getBlockId());
+            }
+            for(long blockId : affected){
+                checkBlock(blockId);
+            }
+            return;
+        }
+        Set<Long> affected = new HashSet<>();
+        for(String dataNodeId : deadNodes){
+            int dataNode = this.nameNode.dataNodes.findIndex(dataNodeId);
+            for(long blockId : this.nameNode.blockMap.getBlockIds(dataNode)){
+                if(affected.add(blockId)){
+                    checkBlock(blockId);
+                }
+            }
+        }
+    }
+
+    // Compares the live Data Nodes with the last round: the blocks of nodes that died are queued,
+    // and blocks with no live replica are looked at again if any node joined
+    // Returns the Data Nodes that died
+    private synchronized Set<String> updateLiveNodes(){
+        HeartbeatManager.DataNodeDescriptor[] liveNodeArray = this.nameNode.heartbeatManager.getLiveNodeArray();
+        if(liveNodeArray == this.lastLiveNodeArray){
+            return new HashSet<>();
+        }
+        this.lastLiveNodeArray = liveNodeArray;
+        Set<String> liveNodes = new HashSet<>();
+        for(HeartbeatManager.DataNodeDescriptor node : liveNodeArray){
+            liveNodes.add(node.getDataNodeId());
+        }
+        Set<String> deadNodes = new HashSet<>(this.lastLiveNodes);
+        deadNodes.removeAll(liveNodes);
+        boolean joined = !this.lastLiveNodes.containsAll(liveNodes);
+        this.lastLiveNodes = liveNodes;
+
+        if(joined){
+            for(long blockId : new ArrayList<>(this.queues.get(QUEUE_WITH_NO_LIVE_REPLICA))){
+                checkBlock(blockId);
+            }
+        }
+        return deadNodes;
+    }
+
+    // Gives up on copies that are taking too long and queues their blocks again
+    private synchronized void expirePending(){
+        long nowMs = now();
+        List<Long> expired = new ArrayList<>();
+        for(Map.Entry<Long, PendingReplication> entry : this.pending.entrySet()){
+            if(nowMs >= entry.getValue().deadlineMs){
+                expired.add(entry.getKey());
+            }
+        }
+        for(long blockId : expired){
+            System.err.println("Replication of block " + blockId + " timed out, trying again");
+            finish(blockId, this.pending.get(blockId));
+            checkBlock(blockId);
+        }
+    }
+
+    // Takes blocks off the queues, most endangered first, and schedules a copy for each one a source can serve
+    protected synchronized int computeReplicationWork(){
+        int budget = this.nameNode.heartbeatManager.getLiveNodeCount() * WORK_PER_NODE;
+        int scheduled = 0;
+        for(int level = QUEUE_HIGHEST_PRIORITY; level < QUEUE_WITH_NO_LIVE_REPLICA && scheduled < budget; level++){
+            Iterator<Long> blocks = this.queues.get(level).iterator();
+            while(blocks.hasNext() && scheduled < budget){
+                long blockId = blocks.next();
+                BlockMap.Block block = this.nameNode.blockMap.get(blockId);
+                if(block == null){
+                    blocks.remove();
+                    continue;
+                }
+
+                // Replicas may have come or gone since the block was queued
+                List<String> live = liveReplicas(block);
+                PendingReplication replication = this.pending.get(blockId);
+                int pendingReplicas = (replication != null) ? replication.targets.size() : 0;
+                int priority = getPriority(live.size(), pendingReplicas, this.nameNode.config.getReplicationFactor());
+                if(priority != level){
+                    blocks.remove();
+                    if(priority >= 0){
+                        this.queues.get(priority).add(blockId);
+                    }
+                    continue;
+                }
+
+                // One copy per block at a time; the block stays queued until it can have another
+                if(replication == null && scheduleReplication(block, live, level)){
+                    blocks.remove();
+                    scheduled++;
+                }
+            }
+        }
+        return scheduled;
+    }
+
+    private boolean scheduleReplication(BlockMap.Block block, List<String> live, int level){
+        int needed = this.nameNode.config.getReplicationFactor() - live.size();
+
+        // The least busy live replica below its stream limit sends the copy
+        int maxStreams = (level == QUEUE_HIGHEST_PRIORITY) ? MAX_REPLICATION_STREAMS_HARD : MAX_REPLICATION_STREAMS;
+        String source = null;
+        int sourceStreams = maxStreams;
+        for(String dataNodeId : live){
+            int streams = this.streamsBySource.getOrDefault(dataNodeId, 0);
+            if(streams < sourceStreams){
+                source = dataNodeId;
+                sourceStreams = streams;
+            }
+        }
+        HeartbeatManager.DataNodeDescriptor sourceNode =
+                (source != null) ? this.nameNode.heartbeatManager.getDataNode(source) : null;
+        if(sourceNode == null){
+            return false;
+        }
+
+        List<String> targets = this.nameNode.placementPolicy.chooseTargets(needed, this.nameNode.config.getBlockSize(),
+                sourceNode.getDataNodeInfo().getIpAddress(), live);
+        if(targets.isEmpty()){
+            return false;
+        }
+
+        ProtosHDFS.BlockMetaData sourceMeta =
+                this.nameNode.toBlockMeta(block, block.indexOf(this.nameNode.dataNodes.findIndex(source)));
+        if(sourceMeta == null){
+            return false;
+        }
+        ProtosHDFS.DataNodeCommand.Builder command = ProtosHDFS.DataNodeCommand.newBuilder()
+                .setCommandType(ProtosHDFS.DataNodeCommand.CommandType.REPLICATE)
+                .setBlockMeta(sourceMeta.toBuilder().setOrdReplication(block.getReplicaCount() + 1));
+        for(String target : targets){
+            HeartbeatManager.DataNodeDescriptor targetNode = this.nameNode.heartbeatManager.getDataNode(target);
+            if(targetNode == null){
+                return false;
+            }
+            command.addTargets(targetNode.getDataNodeInfo());
+        }
+
+        this.pending.put(block.getBlockId(), new PendingReplication(source, targets, now() + PENDING_TIMEOUT_MS));
+        this.streamsBySource.merge(source, 1, Integer::sum);
+        this.nameNode.queueCommand(source, command.build());
+        return true;
+    }
+
+    public void run(){
+        long startMs = now();
+        boolean scanned = false;
+        while(true){
+            try{
+                Thread.sleep(REPLICATION_INTERVAL_MS);
+            }catch(InterruptedException e){
+                return;
+            }
+
+            try{
+                Set<String> deadNodes = updateLiveNodes();
+                if(!scanned && now() - startMs >= STARTUP_DELAY_MS){
+                    scanBlocks(null);
+                    scanned = true;
+                }else if(!deadNodes.isEmpty()){
+                    System.out.println("\n Queueing the blocks of dead Data Nodes " + deadNodes + " for replication \n");
+                    scanBlocks(deadNodes);
+                }
+                expirePending();
+                int scheduled = computeReplicationWork();
+                if(scheduled > 0){
+                    System.out.println("\n Scheduled " + scheduled + " block replications, " + getUnderReplicatedCount()
+                            + " blocks still under-replicated \n");
+                }
+            }catch(RuntimeException e){
+                // One bad round must not stop replication for good
+                System.err.println("Replication monitor round failed: " + e.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package ds.hdfs;
+
+import java.io.InterruptedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Remembers the serialized response of each non-idempotent RPC by its full request ID, so that a
+// client retrying after a lost reply gets the original answer instead of the operation running twice
+//
+// Entries expire after a fixed TTL and each segment holds at most maxEntries / SEGMENTS of them.
+// The cache is split into independently locked segments so concurrent RPCs rarely contend,
+// and each segment keeps insertion order, which with a single TTL is also expiry order:
+// expired entries are always at the head and are trimmed on every insert.
+//
+// A request is marked in progress by begin before it runs, so a retry that arrives while the first attempt
+// is still running waits for its response instead of running the operation alongside it.
+public class RetryCache implements RetryCacheMXBean {
+
+    private static final int SEGMENTS = 16;
+
+    private static final class Entry {
+        // null while the request is in progress
+        final byte[] response;
+        final long expiresAt;
+
+        Entry(byte[] response, long expiresAt){
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final LinkedHashMap<String, Entry>[] segments;
+    private final long ttlNanos;
+    private final int maxEntriesPerSegment;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public RetryCache(long ttlMillis, int maxEntries) {
+        this.ttlNanos = ttlMillis * 1000000L;
+        this.maxEntriesPerSegment = Math.max(1, maxEntries / SEGMENTS);
+        this.segments = new LinkedHashMap[SEGMENTS];
+        for(int i = 0; i < SEGMENTS; i++){
+            this.segments[i] = new LinkedHashMap<>();
+        }
+    }
+
+    private LinkedHashMap<String, Entry> segmentFor(String requestId){
+        int hash = requestId.hashCode();
+        // Spread the high bits so request IDs differing only there still land in different segments
+        hash ^= (hash >>> 16);
+        return this.segments[hash & (SEGMENTS - 1)];
+    }
+
+    // Returns the cached response for this request ID, waiting first if another attempt at the request is
+    // in progress. Returns null if the request has not been answered yet: it is then marked in progress,
+    // and the caller has to run it and finish with put, or with abandon if it has no response to keep.
+    public byte[] begin(String requestId) throws InterruptedIOException {
+        LinkedHashMap<String, Entry> segment = segmentFor(requestId);
+        synchronized(segment){
+            while(true){
+                long now = System.nanoTime();
+                Entry entry = segment.get(requestId);
+                if(entry != null && entry.expiresAt - now <= 0){
+                    segment.remove(requestId);
+                    this.evictions.increment();
+                    entry = null;
+                }
+                if(entry == null){
+                    this.misses.increment();
+                    insert(segment, requestId, new Entry(null, now + this.ttlNanos), now);
+                    return null;
+                }
+                if(entry.response != null){
+                    this.hits.increment();
+                    return entry.response;
+                }
+                try{
+                    segment.wait();
+                }catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted waiting for request " + requestId);
+                }
+            }
+        }
+    }
+
+    // Gives up a request begin marked in progress without a response, so the next attempt runs it again;
+    // does nothing once the request has a response
+    public void abandon(String requestId){
+        LinkedHashMap<String, Entry> segment = segmentFor(requestId);
+        synchronized(segment){
+            Entry entry = segment.get(requestId);
+            if(entry != null && entry.response == null){
+                segment.remove(requestId);
+            }
+            segment.notifyAll();
+        }
+    }
+
+    public void put(String requestId, byte[] response){
+        LinkedHashMap<String, Entry> segment = segmentFor(requestId);
+        long now = System.nanoTime();
+        synchronized(segment){
+            insert(segment, requestId, new Entry(response, now + this.ttlNanos), now);
+            segment.notifyAll();
+        }
+    }
+
+    // The caller holds the segment's monitor
+    private void insert(LinkedHashMap<String, Entry> segment, String requestId, Entry newEntry, long now){
+        Iterator<Map.Entry<String, Entry>> it = segment.entrySet().iterator();
+        while(it.hasNext() && it.next().getValue().expiresAt - now <= 0){
+            it.remove();
+            this.evictions.increment();
+        }
+
+        // Re-inserting moves a recomputed entry to the tail, keeping the segment in expiry order
+        segment.remove(requestId);
+        segment.put(requestId, newEntry);
+
+        it = segment.entrySet().iterator();
+        while(segment.size() > this.maxEntriesPerSegment){
+            it.next();
+            it.remove();
+            this.evictions.increment();
+        }
+    }
+
+    public long getHits(){
+        return this.hits.sum();
+    }
+
+    public long getMisses(){
+        return this.misses.sum();
+    }
+
+    public long getEvictions(){
+        return this.evictions.sum();
+    }
+
+    public int getSize(){
+        int size = 0;
+        for(LinkedHashMap<String, Entry> segment : this.segments){
+            synchronized(segment){
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    // Registers the counters with the platform MBean server under ds.hdfs:type=RetryCache
+    public void register(String nodeId){
+        try{
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            mBeanServer.registerMBean(this, new ObjectName("ds.hdfs:type=RetryCache,name=" + nodeId));
+        }catch(JMException e){
+            System.err.println("Could not register retry cache metrics: " + e.toString());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ds.hdfs;
+
+// Retry cache counters visible through JMX
+public interface RetryCacheMXBean {
+
+    /* Retried requests answered from the cache */
+    long getHits();
+
+    /* Lookups for request IDs that were not cached (first attempts, or entries already evicted) */
+    long getMisses();
+
+    /* Entries dropped because they expired or their segment was full */
+    long getEvictions();
+
+    /* Entries currently cached */
+    int getSize();
+
+}
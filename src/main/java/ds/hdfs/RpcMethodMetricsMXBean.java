@@ -0,0 +1,23 @@
+package ds.hdfs;
+
+// Call count, errors and latency of one RPC method, visible through JMX (jconsole, jmc, ...)
+// Latencies cover every call since the node started and are in microseconds
+public interface RpcMethodMetricsMXBean {
+
+    /* Calls completed, whether they succeeded or threw */
+    long getCalls();
+
+    /* Calls that threw an exception back to the caller */
+    long getErrors();
+
+    double getMeanMicros();
+
+    long getP50Micros();
+
+    long getP99Micros();
+
+    long getP999Micros();
+
+    long getMaxMicros();
+
+}
@@ -0,0 +1,132 @@
+package ds.hdfs;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Latency histograms and call counters for the RPC methods a node serves
+//
+// The methods are fixed when the node starts, so recording a call is a map lookup, one histogram
+// increment and nothing else. Every method is registered with JMX, and a dump thread prints
+// each method's calls per second and latency percentiles over the last interval to the log, which
+// shows tail latency as it happens rather than averaged over the node's whole life.
+public class RpcMetrics {
+
+    protected static final long DUMP_INTERVAL_MS = 60 * 1000;
+
+    public static class MethodMetrics implements RpcMethodMetricsMXBean {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+
+        // Records a call that started at startNanos (System.nanoTime) and has just finished
+        public void record(long startNanos){
+            this.latency.record(System.nanoTime() - startNanos);
+        }
+
+        public void recordError(){
+            this.errors.increment();
+        }
+
+        public long getCalls(){
+            return LatencyHistogram.count(this.latency.snapshot());
+        }
+
+        public long getErrors(){
+            return this.errors.sum();
+        }
+
+        public double getMeanMicros(){
+            long calls = getCalls();
+            return (calls == 0) ? 0 : this.latency.getTotalNanos() / 1000.0 / calls;
+        }
+
+        public long getP50Micros(){
+            return LatencyHistogram.percentile(this.latency.snapshot(), 50) / 1000;
+        }
+
+        public long getP99Micros(){
+            return LatencyHistogram.percentile(this.latency.snapshot(), 99) / 1000;
+        }
+
+        public long getP999Micros(){
+            return LatencyHistogram.percentile(this.latency.snapshot(), 99.9) / 1000;
+        }
+
+        public long getMaxMicros(){
+            return LatencyHistogram.max(this.latency.snapshot()) / 1000;
+        }
+    }
+
+    private final Map<String, MethodMetrics> methods;
+
+    public RpcMetrics(String... methodNames) {
+        Map<String, MethodMetrics> methods = new LinkedHashMap<>();
+        for(String methodName : methodNames){
+            methods.put(methodName, new MethodMetrics());
+        }
+        this.methods = Collections.unmodifiableMap(methods);
+    }
+
+    public MethodMetrics get(String methodName){
+        return this.methods.get(methodName);
+    }
+
+    // Registers every method with the platform MBean server under ds.hdfs:type=type,name=nodeId,method=...
+    public void register(String type, String nodeId){
+        try{
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            for(Map.Entry<String, MethodMetrics> method : this.methods.entrySet()){
+                mBeanServer.registerMBean(method.getValue(),
+                        new ObjectName("ds.hdfs:type=" + type + ",name=" + nodeId + ",method=" + method.getKey()));
+            }
+        }catch(JMException e){
+            System.err.println("Could not register RPC metrics: " + e.toString());
+        }
+    }
+
+    // Prints the methods called during each interval, with their rate and latency over just that interval
+    public void startDump(String nodeId, long intervalMs){
+        Thread dumpThread = new Thread(() -> {
+            Map<String, long[]> previous = new HashMap<>();
+            for(Map.Entry<String, MethodMetrics> method : this.methods.entrySet()){
+                previous.put(method.getKey(), method.getValue().latency.snapshot());
+            }
+            while(true){
+                try{
+                    Thread.sleep(intervalMs);
+                }catch(InterruptedException e){
+                    return;
+                }
+
+                StringBuilder dump = new StringBuilder();
+                for(Map.Entry<String, MethodMetrics> method : this.methods.entrySet()){
+                    long[] current = method.getValue().latency.snapshot();
+                    long[] interval = LatencyHistogram.difference(current, previous.get(method.getKey()));
+                    previous.put(method.getKey(), current);
+                    long calls = LatencyHistogram.count(interval);
+                    if(calls > 0){
+                        dump.append(String.format("%n   %-22s %10.1f calls/s  p50 %8.3f ms  p99 %8.3f ms"
+                                        + "  p99.9 %8.3f ms  max %8.3f ms",
+                                method.getKey(), calls * 1000.0 / intervalMs,
+                                LatencyHistogram.percentile(interval, 50) / 1e6,
+                                LatencyHistogram.percentile(interval, 99) / 1e6,
+                                LatencyHistogram.percentile(interval, 99.9) / 1e6,
+                                LatencyHistogram.max(interval) / 1e6));
+                    }
+                }
+                if(dump.length() > 0){
+                    System.out.println("\n RPC metrics of " + nodeId + " over the last " + intervalMs / 1000 + " s:"
+                            + dump + "\n");
+                }
+            }
+        }, "RpcMetricsDump");
+        dumpThread.setDaemon(true);
+        dumpThread.start();
+    }
+}
@@ -0,0 +1,117 @@
+package ds.hdfs;
+
+import proto.ProtosHDFS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+// Places replicas on Data Nodes with free space and spare transfer capacity, from their heartbeats
+//
+// Each replica goes to the better of CHOICES nodes drawn at random ("power of two choices"):
+// a node's weight is the fraction of its disk still free divided by the transfers it is serving.
+// Picking the best of a couple of random nodes keeps full or busy nodes out of the way almost as
+// well as always picking the emptiest node would, but costs O(replicas) per block instead of a pass
+// over every node, and does not send a whole burst of writes to the one node that looked best.
+//
+// Reported numbers are only as fresh as the last heartbeat, so blocks placed on a node since then
+// count against its free space and load until the next heartbeat brings the real figures.
+public class UtilizationPlacementPolicy implements BlockPlacementPolicy {
+
+    protected static final int CHOICES = 2;
+    // Random draws per replica before falling back to a scan for any node that still fits
+    protected static final int MAX_DRAWS = 10;
+
+    protected HeartbeatManager heartbeatManager;
+
+    public void initialize(HeartbeatManager heartbeatManager, NetworkTopology topology){
+        this.heartbeatManager = heartbeatManager;
+    }
+
+    public List<String> chooseTargets(int replicas, long blockSize, String writer, List<String> existing){
+        HeartbeatManager.DataNodeDescriptor[] nodes = this.heartbeatManager.getLiveNodeArray();
+        List<HeartbeatManager.DataNodeDescriptor> chosen = existingNodes(existing, replicas);
+        int wanted = chosen.size() + replicas;
+        while(chosen.size() < wanted){
+            HeartbeatManager.DataNodeDescriptor node = chooseNode(nodes, chosen, blockSize, candidate -> true);
+            if(node == null){
+                break;
+            }
+            chosen.add(node);
+            node.addPendingBlock();
+        }
+
+        List<String> targets = new ArrayList<>(replicas);
+        for(HeartbeatManager.DataNodeDescriptor node : chosen.subList(wanted - replicas, chosen.size())){
+            targets.add(node.getDataNodeId());
+        }
+        return targets;
+    }
+
+    // The live nodes among existing, with room for replicas more; chooseNode then never picks them again
+    protected List<HeartbeatManager.DataNodeDescriptor> existingNodes(List<String> existing, int replicas){
+        List<HeartbeatManager.DataNodeDescriptor> chosen = new ArrayList<>(existing.size() + replicas);
+        for(String dataNodeId : existing){
+            HeartbeatManager.DataNodeDescriptor node = this.heartbeatManager.getDataNode(dataNodeId);
+            if(node != null){
+                chosen.add(node);
+            }
+        }
+        return chosen;
+    }
+
+    // Picks the better of CHOICES random candidates that are not chosen yet, have room and pass allowed
+    // Returns null if no candidate at all qualifies
+    protected HeartbeatManager.DataNodeDescriptor chooseNode(HeartbeatManager.DataNodeDescriptor[] candidates,
+                                                             List<HeartbeatManager.DataNodeDescriptor> chosen,
+                                                             long blockSize,
+                                                             Predicate<HeartbeatManager.DataNodeDescriptor> allowed){
+        if(candidates.length == 0){
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HeartbeatManager.DataNodeDescriptor best = null;
+        double bestWeight = 0;
+        int drawn = 0;
+        for(int draw = 0; draw < MAX_DRAWS && drawn < CHOICES; draw++){
+            HeartbeatManager.DataNodeDescriptor node = candidates[random.nextInt(candidates.length)];
+            if(chosen.contains(node) || !hasSpace(node, blockSize) || !allowed.test(node)){
+                continue;
+            }
+            drawn++;
+            double weight = weight(node, blockSize);
+            if(best == null || weight > bestWeight){
+                best = node;
+                bestWeight = weight;
+            }
+        }
+
+        // Nearly every candidate is full, already chosen or ruled out; look through all of them once
+        if(best == null){
+            for(HeartbeatManager.DataNodeDescriptor node : candidates){
+                if(!chosen.contains(node) && hasSpace(node, blockSize) && allowed.test(node)){
+                    return node;
+                }
+            }
+        }
+        return best;
+    }
+
+    // Free bytes left once the blocks placed since the last heartbeat are accounted for
+    protected static long remaining(HeartbeatManager.DataNodeDescriptor node, long blockSize){
+        return node.getDataNodeInfo().getRemaining() - node.getPendingBlocks() * blockSize;
+    }
+
+    // A node that has not reported its capacity yet is given the benefit of the doubt
+    protected static boolean hasSpace(HeartbeatManager.DataNodeDescriptor node, long blockSize){
+        ProtosHDFS.DataNodeInfo info = node.getDataNodeInfo();
+        return info.getCapacity() <= 0 || remaining(node, blockSize) >= blockSize;
+    }
+
+    protected static double weight(HeartbeatManager.DataNodeDescriptor node, long blockSize){
+        ProtosHDFS.DataNodeInfo info = node.getDataNodeInfo();
+        double free = (info.getCapacity() > 0) ? (double)remaining(node, blockSize) / info.getCapacity() : 0.5;
+        return free / (1 + info.getActiveTransfers() + node.getPendingBlocks());
+    }
+}
@@ -19,17 +19,17 @@ public final class ProtosHDFS {
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string blockId = 1;</code>
+     * <code>optional string blockId = 1;</code>
      * @return Whether the blockId field is set.
      */
     boolean hasBlockId();
     /**
-     * <code>required string blockId = 1;</code>
+     * <code>optional string blockId = 1;</code>
      * @return The blockId.
      */
     java.lang.String getBlockId();
     /**
-     * <code>required string blockId = 1;</code>
+     * <code>optional string blockId = 1;</code>
      * @return The bytes for blockId.
      */
     com.google.protobuf.ByteString
@@ -135,11 +135,44 @@ public final class ProtosHDFS {
      * @return The portNumber.
      */
     int getPortNumber();
+
+    /**
+     * <code>optional int64 length = 9;</code>
+     * @return Whether the length field is set.
+     */
+    boolean hasLength();
+    /**
+     * <code>optional int64 length = 9;</code>
+     * @return The length.
+     */
+    long getLength();
+
+    /**
+     * <code>optional int64 numericBlockId = 10;</code>
+     * @return Whether the numericBlockId field is set.
+     */
+    boolean hasNumericBlockId();
+    /**
+     * <code>optional int64 numericBlockId = 10;</code>
+     * @return The numericBlockId.
+     */
+    long getNumericBlockId();
+
+    /**
+     * <code>optional int64 generationStamp = 11;</code>
+     * @return Whether the generationStamp field is set.
+     */
+    boolean hasGenerationStamp();
+    /**
+     * <code>optional int64 generationStamp = 11;</code>
+     * @return The generationStamp.
+     */
+    long getGenerationStamp();
   }
   /**
    * <pre>
    * Each BlockMetaData contains information such as:
-   * 1. The Block ID
+   * 1. The Block ID as fileId_blockNumber; no longer set, blocks are found by their numeric ID (10)
    * 2. The File ID
    * 3. Name of File
    * 4. Which block of the file it is
@@ -147,6 +180,10 @@ public final class ProtosHDFS {
    * 6. Which Data Node this block is in
    * 7. The IP address of said Data Node
    * 8. Port Number of said DataNode
+   * 9. Bytes in the replica, once the Data Node holding it has reported it; unset for replicas only assigned so far
+   * 10. The numeric block ID the name node allocated, which Data Nodes key replicas and name block files by
+   * 11. The generation stamp, the generation of the file the block was written for; a replica whose
+   *     stamp differs from the one asked for is stale
    * </pre>
    *
    * Protobuf type {@code proto.BlockMetaData}
@@ -244,6 +281,21 @@ public final class ProtosHDFS {
               portNumber_ = input.readInt32();
               break;
             }
+            case 72: {
+              bitField0_ |= 0x00000100;
+              length_ = input.readInt64();
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000200;
+              numericBlockId_ = input.readInt64();
+              break;
+            }
+            case 88: {
+              bitField0_ |= 0x00000400;
+              generationStamp_ = input.readInt64();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -280,14 +332,14 @@ public final class ProtosHDFS {
     public static final int BLOCKID_FIELD_NUMBER = 1;
     private volatile java.lang.Object blockId_;
     /**
-     * <code>required string blockId = 1;</code>
+     * <code>optional string blockId = 1;</code>
      * @return Whether the blockId field is set.
      */
     public boolean hasBlockId() {
       return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>required string blockId = 1;</code>
+     * <code>optional string blockId = 1;</code>
      * @return The blockId.
      */
     public java.lang.String getBlockId() {
@@ -305,7 +357,7 @@ public final class ProtosHDFS {
       }
     }
     /**
-     * <code>required string blockId = 1;</code>
+     * <code>optional string blockId = 1;</code>
      * @return The bytes for blockId.
      */
     public com.google.protobuf.ByteString
@@ -553,6 +605,57 @@ public final class ProtosHDFS {
       return portNumber_;
     }
 
+    public static final int LENGTH_FIELD_NUMBER = 9;
+    private long length_;
+    /**
+     * <code>optional int64 length = 9;</code>
+     * @return Whether the length field is set.
+     */
+    public boolean hasLength() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <code>optional int64 length = 9;</code>
+     * @return The length.
+     */
+    public long getLength() {
+      return length_;
+    }
+
+    public static final int NUMERICBLOCKID_FIELD_NUMBER = 10;
+    private long numericBlockId_;
+    /**
+     * <code>optional int64 numericBlockId = 10;</code>
+     * @return Whether the numericBlockId field is set.
+     */
+    public boolean hasNumericBlockId() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <code>optional int64 numericBlockId = 10;</code>
+     * @return The numericBlockId.
+     */
+    public long getNumericBlockId() {
+      return numericBlockId_;
+    }
+
+    public static final int GENERATIONSTAMP_FIELD_NUMBER = 11;
+    private long generationStamp_;
+    /**
+     * <code>optional int64 generationStamp = 11;</code>
+     * @return Whether the generationStamp field is set.
+     */
+    public boolean hasGenerationStamp() {
+      return ((bitField0_ & 0x00000400) != 0);
+    }
+    /**
+     * <code>optional int64 generationStamp = 11;</code>
+     * @return The generationStamp.
+     */
+    public long getGenerationStamp() {
+      return generationStamp_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -560,10 +663,6 @@ public final class ProtosHDFS {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasBlockId()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       if (!hasFileId()) {
         memoizedIsInitialized = 0;
         return false;
@@ -623,6 +722,15 @@ public final class ProtosHDFS {
       if (((bitField0_ & 0x00000080) != 0)) {
         output.writeInt32(8, portNumber_);
       }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeInt64(9, length_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        output.writeInt64(10, numericBlockId_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        output.writeInt64(11, generationStamp_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -659,6 +767,18 @@ public final class ProtosHDFS {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(8, portNumber_);
       }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(9, length_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(10, numericBlockId_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(11, generationStamp_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -714,6 +834,21 @@ public final class ProtosHDFS {
         if (getPortNumber()
             != other.getPortNumber()) return false;
       }
+      if (hasLength() != other.hasLength()) return false;
+      if (hasLength()) {
+        if (getLength()
+            != other.getLength()) return false;
+      }
+      if (hasNumericBlockId() != other.hasNumericBlockId()) return false;
+      if (hasNumericBlockId()) {
+        if (getNumericBlockId()
+            != other.getNumericBlockId()) return false;
+      }
+      if (hasGenerationStamp() != other.hasGenerationStamp()) return false;
+      if (hasGenerationStamp()) {
+        if (getGenerationStamp()
+            != other.getGenerationStamp()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -757,6 +892,21 @@ public final class ProtosHDFS {
         hash = (37 * hash) + PORTNUMBER_FIELD_NUMBER;
         hash = (53 * hash) + getPortNumber();
       }
+      if (hasLength()) {
+        hash = (37 * hash) + LENGTH_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getLength());
+      }
+      if (hasNumericBlockId()) {
+        hash = (37 * hash) + NUMERICBLOCKID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getNumericBlockId());
+      }
+      if (hasGenerationStamp()) {
+        hash = (37 * hash) + GENERATIONSTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getGenerationStamp());
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -855,7 +1005,7 @@ public final class ProtosHDFS {
     /**
      * <pre>
      * Each BlockMetaData contains information such as:
-     * 1. The Block ID
+     * 1. The Block ID as fileId_blockNumber; no longer set, blocks are found by their numeric ID (10)
      * 2. The File ID
      * 3. Name of File
      * 4. Which block of the file it is
@@ -863,6 +1013,10 @@ public final class ProtosHDFS {
      * 6. Which Data Node this block is in
      * 7. The IP address of said Data Node
      * 8. Port Number of said DataNode
+     * 9. Bytes in the replica, once the Data Node holding it has reported it; unset for replicas only assigned so far
+     * 10. The numeric block ID the name node allocated, which Data Nodes key replicas and name block files by
+     * 11. The generation stamp, the generation of the file the block was written for; a replica whose
+     *     stamp differs from the one asked for is stale
      * </pre>
      *
      * Protobuf type {@code proto.BlockMetaData}
@@ -918,6 +1072,12 @@ public final class ProtosHDFS {
         bitField0_ = (bitField0_ & ~0x00000040);
         portNumber_ = 0;
         bitField0_ = (bitField0_ & ~0x00000080);
+        length_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        numericBlockId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000200);
+        generationStamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000400);
         return this;
       }
 
@@ -978,6 +1138,18 @@ public final class ProtosHDFS {
           result.portNumber_ = portNumber_;
           to_bitField0_ |= 0x00000080;
         }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.length_ = length_;
+          to_bitField0_ |= 0x00000100;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.numericBlockId_ = numericBlockId_;
+          to_bitField0_ |= 0x00000200;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.generationStamp_ = generationStamp_;
+          to_bitField0_ |= 0x00000400;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1061,6 +1233,15 @@ public final class ProtosHDFS {
         if (other.hasPortNumber()) {
           setPortNumber(other.getPortNumber());
         }
+        if (other.hasLength()) {
+          setLength(other.getLength());
+        }
+        if (other.hasNumericBlockId()) {
+          setNumericBlockId(other.getNumericBlockId());
+        }
+        if (other.hasGenerationStamp()) {
+          setGenerationStamp(other.getGenerationStamp());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -1068,9 +1249,6 @@ public final class ProtosHDFS {
 
       @java.lang.Override
       public final boolean isInitialized() {
-        if (!hasBlockId()) {
-          return false;
-        }
         if (!hasFileId()) {
           return false;
         }
@@ -1117,14 +1295,14 @@ public final class ProtosHDFS {
 
       private java.lang.Object blockId_ = "";
       /**
-       * <code>required string blockId = 1;</code>
+       * <code>optional string blockId = 1;</code>
        * @return Whether the blockId field is set.
        */
       public boolean hasBlockId() {
         return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>required string blockId = 1;</code>
+       * <code>optional string blockId = 1;</code>
        * @return The blockId.
        */
       public java.lang.String getBlockId() {
@@ -1142,7 +1320,7 @@ public final class ProtosHDFS {
         }
       }
       /**
-       * <code>required string blockId = 1;</code>
+       * <code>optional string blockId = 1;</code>
        * @return The bytes for blockId.
        */
       public com.google.protobuf.ByteString
@@ -1159,7 +1337,7 @@ public final class ProtosHDFS {
         }
       }
       /**
-       * <code>required string blockId = 1;</code>
+       * <code>optional string blockId = 1;</code>
        * @param value The blockId to set.
        * @return This builder for chaining.
        */
@@ -1174,7 +1352,7 @@ public final class ProtosHDFS {
         return this;
       }
       /**
-       * <code>required string blockId = 1;</code>
+       * <code>optional string blockId = 1;</code>
        * @return This builder for chaining.
        */
       public Builder clearBlockId() {
@@ -1184,7 +1362,7 @@ public final class ProtosHDFS {
         return this;
       }
       /**
-       * <code>required string blockId = 1;</code>
+       * <code>optional string blockId = 1;</code>
        * @param value The bytes for blockId to set.
        * @return This builder for chaining.
        */
@@ -1645,6 +1823,117 @@ public final class ProtosHDFS {
         onChanged();
         return this;
       }
+
+      private long length_ ;
+      /**
+       * <code>optional int64 length = 9;</code>
+       * @return Whether the length field is set.
+       */
+      public boolean hasLength() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>optional int64 length = 9;</code>
+       * @return The length.
+       */
+      public long getLength() {
+        return length_;
+      }
+      /**
+       * <code>optional int64 length = 9;</code>
+       * @param value The length to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLength(long value) {
+        bitField0_ |= 0x00000100;
+        length_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 length = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        length_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long numericBlockId_ ;
+      /**
+       * <code>optional int64 numericBlockId = 10;</code>
+       * @return Whether the numericBlockId field is set.
+       */
+      public boolean hasNumericBlockId() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <code>optional int64 numericBlockId = 10;</code>
+       * @return The numericBlockId.
+       */
+      public long getNumericBlockId() {
+        return numericBlockId_;
+      }
+      /**
+       * <code>optional int64 numericBlockId = 10;</code>
+       * @param value The numericBlockId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNumericBlockId(long value) {
+        bitField0_ |= 0x00000200;
+        numericBlockId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 numericBlockId = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNumericBlockId() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        numericBlockId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long generationStamp_ ;
+      /**
+       * <code>optional int64 generationStamp = 11;</code>
+       * @return Whether the generationStamp field is set.
+       */
+      public boolean hasGenerationStamp() {
+        return ((bitField0_ & 0x00000400) != 0);
+      }
+      /**
+       * <code>optional int64 generationStamp = 11;</code>
+       * @return The generationStamp.
+       */
+      public long getGenerationStamp() {
+        return generationStamp_;
+      }
+      /**
+       * <code>optional int64 generationStamp = 11;</code>
+       * @param value The generationStamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGenerationStamp(long value) {
+        bitField0_ |= 0x00000400;
+        generationStamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 generationStamp = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGenerationStamp() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        generationStamp_ = 0L;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -1718,21 +2007,15 @@ public final class ProtosHDFS {
     proto.ProtosHDFS.BlockMetaDataOrBuilder getBlockMetaOrBuilder();
 
     /**
-     * <code>required string blockContents = 2;</code>
+     * <code>required bytes blockContents = 2;</code>
      * @return Whether the blockContents field is set.
      */
     boolean hasBlockContents();
     /**
-     * <code>required string blockContents = 2;</code>
+     * <code>required bytes blockContents = 2;</code>
      * @return The blockContents.
      */
-    java.lang.String getBlockContents();
-    /**
-     * <code>required string blockContents = 2;</code>
-     * @return The bytes for blockContents.
-     */
-    com.google.protobuf.ByteString
-        getBlockContentsBytes();
+    com.google.protobuf.ByteString getBlockContents();
   }
   /**
    * Protobuf type {@code proto.Block}
@@ -1747,7 +2030,7 @@ public final class ProtosHDFS {
       super(builder);
     }
     private Block() {
-      blockContents_ = "";
+      blockContents_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -1795,9 +2078,8 @@ public final class ProtosHDFS {
               break;
             }
             case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000002;
-              blockContents_ = bs;
+              blockContents_ = input.readBytes();
               break;
             }
             default: {
@@ -1857,48 +2139,20 @@ public final class ProtosHDFS {
     }
 
     public static final int BLOCKCONTENTS_FIELD_NUMBER = 2;
-    private volatile java.lang.Object blockContents_;
+    private com.google.protobuf.ByteString blockContents_;
     /**
-     * <code>required string blockContents = 2;</code>
+     * <code>required bytes blockContents = 2;</code>
      * @return Whether the blockContents field is set.
      */
     public boolean hasBlockContents() {
       return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>required string blockContents = 2;</code>
+     * <code>required bytes blockContents = 2;</code>
      * @return The blockContents.
      */
-    public java.lang.String getBlockContents() {
-      java.lang.Object ref = blockContents_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          blockContents_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>required string blockContents = 2;</code>
-     * @return The bytes for blockContents.
-     */
-    public com.google.protobuf.ByteString
-        getBlockContentsBytes() {
-      java.lang.Object ref = blockContents_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        blockContents_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ByteString getBlockContents() {
+      return blockContents_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -1931,7 +2185,7 @@ public final class ProtosHDFS {
         output.writeMessage(1, getBlockMeta());
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, blockContents_);
+        output.writeBytes(2, blockContents_);
       }
       unknownFields.writeTo(output);
     }
@@ -1947,7 +2201,8 @@ public final class ProtosHDFS {
           .computeMessageSize(1, getBlockMeta());
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, blockContents_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, blockContents_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2133,7 +2388,7 @@ public final class ProtosHDFS {
           blockMetaBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
-        blockContents_ = "";
+        blockContents_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
@@ -2228,9 +2483,7 @@ public final class ProtosHDFS {
           mergeBlockMeta(other.getBlockMeta());
         }
         if (other.hasBlockContents()) {
-          bitField0_ |= 0x00000002;
-          blockContents_ = other.blockContents_;
-          onChanged();
+          setBlockContents(other.getBlockContents());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -2391,56 +2644,27 @@ public final class ProtosHDFS {
         return blockMetaBuilder_;
       }
 
-      private java.lang.Object blockContents_ = "";
+      private com.google.protobuf.ByteString blockContents_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>required string blockContents = 2;</code>
+       * <code>required bytes blockContents = 2;</code>
        * @return Whether the blockContents field is set.
        */
       public boolean hasBlockContents() {
         return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>required string blockContents = 2;</code>
+       * <code>required bytes blockContents = 2;</code>
        * @return The blockContents.
        */
-      public java.lang.String getBlockContents() {
-        java.lang.Object ref = blockContents_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            blockContents_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>required string blockContents = 2;</code>
-       * @return The bytes for blockContents.
-       */
-      public com.google.protobuf.ByteString
-          getBlockContentsBytes() {
-        java.lang.Object ref = blockContents_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          blockContents_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public com.google.protobuf.ByteString getBlockContents() {
+        return blockContents_;
       }
       /**
-       * <code>required string blockContents = 2;</code>
+       * <code>required bytes blockContents = 2;</code>
        * @param value The blockContents to set.
        * @return This builder for chaining.
        */
-      public Builder setBlockContents(
-          java.lang.String value) {
+      public Builder setBlockContents(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
@@ -2450,7 +2674,7 @@ public final class ProtosHDFS {
         return this;
       }
       /**
-       * <code>required string blockContents = 2;</code>
+       * <code>required bytes blockContents = 2;</code>
        * @return This builder for chaining.
        */
       public Builder clearBlockContents() {
@@ -2459,21 +2683,6 @@ public final class ProtosHDFS {
         onChanged();
         return this;
       }
-      /**
-       * <code>required string blockContents = 2;</code>
-       * @param value The bytes for blockContents to set.
-       * @return This builder for chaining.
-       */
-      public Builder setBlockContentsBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        blockContents_ = value;
-        onChanged();
-        return this;
-      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2531,6 +2740,51 @@ public final class ProtosHDFS {
       // @@protoc_insertion_point(interface_extends:proto.DataNodeInfo)
       com.google.protobuf.MessageOrBuilder {
 
+    /**
+     * <code>optional string dataNodeId = 1;</code>
+     * @return Whether the dataNodeId field is set.
+     */
+    boolean hasDataNodeId();
+    /**
+     * <code>optional string dataNodeId = 1;</code>
+     * @return The dataNodeId.
+     */
+    java.lang.String getDataNodeId();
+    /**
+     * <code>optional string dataNodeId = 1;</code>
+     * @return The bytes for dataNodeId.
+     */
+    com.google.protobuf.ByteString
+        getDataNodeIdBytes();
+
+    /**
+     * <code>optional string ipAddress = 2;</code>
+     * @return Whether the ipAddress field is set.
+     */
+    boolean hasIpAddress();
+    /**
+     * <code>optional string ipAddress = 2;</code>
+     * @return The ipAddress.
+     */
+    java.lang.String getIpAddress();
+    /**
+     * <code>optional string ipAddress = 2;</code>
+     * @return The bytes for ipAddress.
+     */
+    com.google.protobuf.ByteString
+        getIpAddressBytes();
+
+    /**
+     * <code>optional int32 portNumber = 3;</code>
+     * @return Whether the portNumber field is set.
+     */
+    boolean hasPortNumber();
+    /**
+     * <code>optional int32 portNumber = 3;</code>
+     * @return The portNumber.
+     */
+    int getPortNumber();
+
     /**
      * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
      */
@@ -2554,10 +2808,62 @@ public final class ProtosHDFS {
      */
     proto.ProtosHDFS.BlockMetaDataOrBuilder getBlockMetasOrBuilder(
         int index);
+
+    /**
+     * <code>optional int32 transferPort = 5;</code>
+     * @return Whether the transferPort field is set.
+     */
+    boolean hasTransferPort();
+    /**
+     * <code>optional int32 transferPort = 5;</code>
+     * @return The transferPort.
+     */
+    int getTransferPort();
+
+    /**
+     * <code>optional int64 capacity = 6;</code>
+     * @return Whether the capacity field is set.
+     */
+    boolean hasCapacity();
+    /**
+     * <code>optional int64 capacity = 6;</code>
+     * @return The capacity.
+     */
+    long getCapacity();
+
+    /**
+     * <code>optional int64 remaining = 7;</code>
+     * @return Whether the remaining field is set.
+     */
+    boolean hasRemaining();
+    /**
+     * <code>optional int64 remaining = 7;</code>
+     * @return The remaining.
+     */
+    long getRemaining();
+
+    /**
+     * <code>optional int32 activeTransfers = 8;</code>
+     * @return Whether the activeTransfers field is set.
+     */
+    boolean hasActiveTransfers();
+    /**
+     * <code>optional int32 activeTransfers = 8;</code>
+     * @return The activeTransfers.
+     */
+    int getActiveTransfers();
   }
   /**
    * <pre>
-   * DataNodeInfo only contains list of BlockMetaData it holds
+   * DataNodeInfo identifies a data node and contains:
+   * 1. The Data Node ID
+   * 2. The IP address of said Data Node
+   * 3. The RMI port of said Data Node
+   * 4. List of BlockMetaData it holds
+   * 5. The port its streaming data transfer server listens on
+   * 6. Total bytes of the disk holding its blocks
+   * 7. Bytes still free on that disk
+   * 8. Number of block transfers it is serving right now
    * </pre>
    *
    * Protobuf type {@code proto.DataNodeInfo}
@@ -2572,6 +2878,8 @@ public final class ProtosHDFS {
       super(builder);
     }
     private DataNodeInfo() {
+      dataNodeId_ = "";
+      ipAddress_ = "";
       blockMetas_ = java.util.Collections.emptyList();
     }
 
@@ -2606,15 +2914,52 @@ public final class ProtosHDFS {
             case 0:
               done = true;
               break;
-            case 34: {
-              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
-                blockMetas_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>();
-                mutable_bitField0_ |= 0x00000001;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              dataNodeId_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              ipAddress_ = bs;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              portNumber_ = input.readInt32();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                blockMetas_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>();
+                mutable_bitField0_ |= 0x00000008;
               }
               blockMetas_.add(
                   input.readMessage(proto.ProtosHDFS.BlockMetaData.PARSER, extensionRegistry));
               break;
             }
+            case 40: {
+              bitField0_ |= 0x00000008;
+              transferPort_ = input.readInt32();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000010;
+              capacity_ = input.readInt64();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000020;
+              remaining_ = input.readInt64();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000040;
+              activeTransfers_ = input.readInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -2630,7 +2975,7 @@ public final class ProtosHDFS {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
           blockMetas_ = java.util.Collections.unmodifiableList(blockMetas_);
         }
         this.unknownFields = unknownFields.build();
@@ -2650,6 +2995,114 @@ public final class ProtosHDFS {
               proto.ProtosHDFS.DataNodeInfo.class, proto.ProtosHDFS.DataNodeInfo.Builder.class);
     }
 
+    private int bitField0_;
+    public static final int DATANODEID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object dataNodeId_;
+    /**
+     * <code>optional string dataNodeId = 1;</code>
+     * @return Whether the dataNodeId field is set.
+     */
+    public boolean hasDataNodeId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string dataNodeId = 1;</code>
+     * @return The dataNodeId.
+     */
+    public java.lang.String getDataNodeId() {
+      java.lang.Object ref = dataNodeId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          dataNodeId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string dataNodeId = 1;</code>
+     * @return The bytes for dataNodeId.
+     */
+    public com.google.protobuf.ByteString
+        getDataNodeIdBytes() {
+      java.lang.Object ref = dataNodeId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dataNodeId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IPADDRESS_FIELD_NUMBER = 2;
+    private volatile java.lang.Object ipAddress_;
+    /**
+     * <code>optional string ipAddress = 2;</code>
+     * @return Whether the ipAddress field is set.
+     */
+    public boolean hasIpAddress() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string ipAddress = 2;</code>
+     * @return The ipAddress.
+     */
+    public java.lang.String getIpAddress() {
+      java.lang.Object ref = ipAddress_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          ipAddress_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string ipAddress = 2;</code>
+     * @return The bytes for ipAddress.
+     */
+    public com.google.protobuf.ByteString
+        getIpAddressBytes() {
+      java.lang.Object ref = ipAddress_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        ipAddress_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PORTNUMBER_FIELD_NUMBER = 3;
+    private int portNumber_;
+    /**
+     * <code>optional int32 portNumber = 3;</code>
+     * @return Whether the portNumber field is set.
+     */
+    public boolean hasPortNumber() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int32 portNumber = 3;</code>
+     * @return The portNumber.
+     */
+    public int getPortNumber() {
+      return portNumber_;
+    }
+
     public static final int BLOCKMETAS_FIELD_NUMBER = 4;
     private java.util.List<proto.ProtosHDFS.BlockMetaData> blockMetas_;
     /**
@@ -2685,6 +3138,74 @@ public final class ProtosHDFS {
       return blockMetas_.get(index);
     }
 
+    public static final int TRANSFERPORT_FIELD_NUMBER = 5;
+    private int transferPort_;
+    /**
+     * <code>optional int32 transferPort = 5;</code>
+     * @return Whether the transferPort field is set.
+     */
+    public boolean hasTransferPort() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int32 transferPort = 5;</code>
+     * @return The transferPort.
+     */
+    public int getTransferPort() {
+      return transferPort_;
+    }
+
+    public static final int CAPACITY_FIELD_NUMBER = 6;
+    private long capacity_;
+    /**
+     * <code>optional int64 capacity = 6;</code>
+     * @return Whether the capacity field is set.
+     */
+    public boolean hasCapacity() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int64 capacity = 6;</code>
+     * @return The capacity.
+     */
+    public long getCapacity() {
+      return capacity_;
+    }
+
+    public static final int REMAINING_FIELD_NUMBER = 7;
+    private long remaining_;
+    /**
+     * <code>optional int64 remaining = 7;</code>
+     * @return Whether the remaining field is set.
+     */
+    public boolean hasRemaining() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional int64 remaining = 7;</code>
+     * @return The remaining.
+     */
+    public long getRemaining() {
+      return remaining_;
+    }
+
+    public static final int ACTIVETRANSFERS_FIELD_NUMBER = 8;
+    private int activeTransfers_;
+    /**
+     * <code>optional int32 activeTransfers = 8;</code>
+     * @return Whether the activeTransfers field is set.
+     */
+    public boolean hasActiveTransfers() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional int32 activeTransfers = 8;</code>
+     * @return The activeTransfers.
+     */
+    public int getActiveTransfers() {
+      return activeTransfers_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -2705,9 +3226,30 @@ public final class ProtosHDFS {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, dataNodeId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, ipAddress_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(3, portNumber_);
+      }
       for (int i = 0; i < blockMetas_.size(); i++) {
         output.writeMessage(4, blockMetas_.get(i));
       }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt32(5, transferPort_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt64(6, capacity_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeInt64(7, remaining_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeInt32(8, activeTransfers_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -2717,10 +3259,36 @@ public final class ProtosHDFS {
       if (size != -1) return size;
 
       size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, dataNodeId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, ipAddress_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, portNumber_);
+      }
       for (int i = 0; i < blockMetas_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(4, blockMetas_.get(i));
       }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, transferPort_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, capacity_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, remaining_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(8, activeTransfers_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2736,8 +3304,43 @@ public final class ProtosHDFS {
       }
       proto.ProtosHDFS.DataNodeInfo other = (proto.ProtosHDFS.DataNodeInfo) obj;
 
+      if (hasDataNodeId() != other.hasDataNodeId()) return false;
+      if (hasDataNodeId()) {
+        if (!getDataNodeId()
+            .equals(other.getDataNodeId())) return false;
+      }
+      if (hasIpAddress() != other.hasIpAddress()) return false;
+      if (hasIpAddress()) {
+        if (!getIpAddress()
+            .equals(other.getIpAddress())) return false;
+      }
+      if (hasPortNumber() != other.hasPortNumber()) return false;
+      if (hasPortNumber()) {
+        if (getPortNumber()
+            != other.getPortNumber()) return false;
+      }
       if (!getBlockMetasList()
           .equals(other.getBlockMetasList())) return false;
+      if (hasTransferPort() != other.hasTransferPort()) return false;
+      if (hasTransferPort()) {
+        if (getTransferPort()
+            != other.getTransferPort()) return false;
+      }
+      if (hasCapacity() != other.hasCapacity()) return false;
+      if (hasCapacity()) {
+        if (getCapacity()
+            != other.getCapacity()) return false;
+      }
+      if (hasRemaining() != other.hasRemaining()) return false;
+      if (hasRemaining()) {
+        if (getRemaining()
+            != other.getRemaining()) return false;
+      }
+      if (hasActiveTransfers() != other.hasActiveTransfers()) return false;
+      if (hasActiveTransfers()) {
+        if (getActiveTransfers()
+            != other.getActiveTransfers()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -2749,10 +3352,40 @@ public final class ProtosHDFS {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasDataNodeId()) {
+        hash = (37 * hash) + DATANODEID_FIELD_NUMBER;
+        hash = (53 * hash) + getDataNodeId().hashCode();
+      }
+      if (hasIpAddress()) {
+        hash = (37 * hash) + IPADDRESS_FIELD_NUMBER;
+        hash = (53 * hash) + getIpAddress().hashCode();
+      }
+      if (hasPortNumber()) {
+        hash = (37 * hash) + PORTNUMBER_FIELD_NUMBER;
+        hash = (53 * hash) + getPortNumber();
+      }
       if (getBlockMetasCount() > 0) {
         hash = (37 * hash) + BLOCKMETAS_FIELD_NUMBER;
         hash = (53 * hash) + getBlockMetasList().hashCode();
       }
+      if (hasTransferPort()) {
+        hash = (37 * hash) + TRANSFERPORT_FIELD_NUMBER;
+        hash = (53 * hash) + getTransferPort();
+      }
+      if (hasCapacity()) {
+        hash = (37 * hash) + CAPACITY_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getCapacity());
+      }
+      if (hasRemaining()) {
+        hash = (37 * hash) + REMAINING_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getRemaining());
+      }
+      if (hasActiveTransfers()) {
+        hash = (37 * hash) + ACTIVETRANSFERS_FIELD_NUMBER;
+        hash = (53 * hash) + getActiveTransfers();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2850,7 +3483,15 @@ public final class ProtosHDFS {
     }
     /**
      * <pre>
-     * DataNodeInfo only contains list of BlockMetaData it holds
+     * DataNodeInfo identifies a data node and contains:
+     * 1. The Data Node ID
+     * 2. The IP address of said Data Node
+     * 3. The RMI port of said Data Node
+     * 4. List of BlockMetaData it holds
+     * 5. The port its streaming data transfer server listens on
+     * 6. Total bytes of the disk holding its blocks
+     * 7. Bytes still free on that disk
+     * 8. Number of block transfers it is serving right now
      * </pre>
      *
      * Protobuf type {@code proto.DataNodeInfo}
@@ -2891,12 +3532,26 @@ public final class ProtosHDFS {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        dataNodeId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        ipAddress_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        portNumber_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
         if (blockMetasBuilder_ == null) {
           blockMetas_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+          bitField0_ = (bitField0_ & ~0x00000008);
         } else {
           blockMetasBuilder_.clear();
         }
+        transferPort_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        capacity_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        remaining_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        activeTransfers_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000080);
         return this;
       }
 
@@ -2924,16 +3579,46 @@ public final class ProtosHDFS {
       public proto.ProtosHDFS.DataNodeInfo buildPartial() {
         proto.ProtosHDFS.DataNodeInfo result = new proto.ProtosHDFS.DataNodeInfo(this);
         int from_bitField0_ = bitField0_;
-        if (blockMetasBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0)) {
-            blockMetas_ = java.util.Collections.unmodifiableList(blockMetas_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.blockMetas_ = blockMetas_;
-        } else {
-          result.blockMetas_ = blockMetasBuilder_.build();
-        }
-        onBuilt();
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.dataNodeId_ = dataNodeId_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.ipAddress_ = ipAddress_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.portNumber_ = portNumber_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (blockMetasBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            blockMetas_ = java.util.Collections.unmodifiableList(blockMetas_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.blockMetas_ = blockMetas_;
+        } else {
+          result.blockMetas_ = blockMetasBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.transferPort_ = transferPort_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.capacity_ = capacity_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.remaining_ = remaining_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.activeTransfers_ = activeTransfers_;
+          to_bitField0_ |= 0x00000040;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
         return result;
       }
 
@@ -2981,11 +3666,24 @@ public final class ProtosHDFS {
 
       public Builder mergeFrom(proto.ProtosHDFS.DataNodeInfo other) {
         if (other == proto.ProtosHDFS.DataNodeInfo.getDefaultInstance()) return this;
+        if (other.hasDataNodeId()) {
+          bitField0_ |= 0x00000001;
+          dataNodeId_ = other.dataNodeId_;
+          onChanged();
+        }
+        if (other.hasIpAddress()) {
+          bitField0_ |= 0x00000002;
+          ipAddress_ = other.ipAddress_;
+          onChanged();
+        }
+        if (other.hasPortNumber()) {
+          setPortNumber(other.getPortNumber());
+        }
         if (blockMetasBuilder_ == null) {
           if (!other.blockMetas_.isEmpty()) {
             if (blockMetas_.isEmpty()) {
               blockMetas_ = other.blockMetas_;
-              bitField0_ = (bitField0_ & ~0x00000001);
+              bitField0_ = (bitField0_ & ~0x00000008);
             } else {
               ensureBlockMetasIsMutable();
               blockMetas_.addAll(other.blockMetas_);
@@ -2998,7 +3696,7 @@ public final class ProtosHDFS {
               blockMetasBuilder_.dispose();
               blockMetasBuilder_ = null;
               blockMetas_ = other.blockMetas_;
-              bitField0_ = (bitField0_ & ~0x00000001);
+              bitField0_ = (bitField0_ & ~0x00000008);
               blockMetasBuilder_ = 
                 com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
                    getBlockMetasFieldBuilder() : null;
@@ -3007,6 +3705,18 @@ public final class ProtosHDFS {
             }
           }
         }
+        if (other.hasTransferPort()) {
+          setTransferPort(other.getTransferPort());
+        }
+        if (other.hasCapacity()) {
+          setCapacity(other.getCapacity());
+        }
+        if (other.hasRemaining()) {
+          setRemaining(other.getRemaining());
+        }
+        if (other.hasActiveTransfers()) {
+          setActiveTransfers(other.getActiveTransfers());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -3042,12 +3752,217 @@ public final class ProtosHDFS {
       }
       private int bitField0_;
 
+      private java.lang.Object dataNodeId_ = "";
+      /**
+       * <code>optional string dataNodeId = 1;</code>
+       * @return Whether the dataNodeId field is set.
+       */
+      public boolean hasDataNodeId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string dataNodeId = 1;</code>
+       * @return The dataNodeId.
+       */
+      public java.lang.String getDataNodeId() {
+        java.lang.Object ref = dataNodeId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dataNodeId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string dataNodeId = 1;</code>
+       * @return The bytes for dataNodeId.
+       */
+      public com.google.protobuf.ByteString
+          getDataNodeIdBytes() {
+        java.lang.Object ref = dataNodeId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dataNodeId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string dataNodeId = 1;</code>
+       * @param value The dataNodeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataNodeId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dataNodeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dataNodeId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataNodeId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dataNodeId_ = getDefaultInstance().getDataNodeId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dataNodeId = 1;</code>
+       * @param value The bytes for dataNodeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataNodeIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dataNodeId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object ipAddress_ = "";
+      /**
+       * <code>optional string ipAddress = 2;</code>
+       * @return Whether the ipAddress field is set.
+       */
+      public boolean hasIpAddress() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string ipAddress = 2;</code>
+       * @return The ipAddress.
+       */
+      public java.lang.String getIpAddress() {
+        java.lang.Object ref = ipAddress_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            ipAddress_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string ipAddress = 2;</code>
+       * @return The bytes for ipAddress.
+       */
+      public com.google.protobuf.ByteString
+          getIpAddressBytes() {
+        java.lang.Object ref = ipAddress_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ipAddress_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string ipAddress = 2;</code>
+       * @param value The ipAddress to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIpAddress(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        ipAddress_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string ipAddress = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIpAddress() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        ipAddress_ = getDefaultInstance().getIpAddress();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string ipAddress = 2;</code>
+       * @param value The bytes for ipAddress to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIpAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        ipAddress_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int portNumber_ ;
+      /**
+       * <code>optional int32 portNumber = 3;</code>
+       * @return Whether the portNumber field is set.
+       */
+      public boolean hasPortNumber() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int32 portNumber = 3;</code>
+       * @return The portNumber.
+       */
+      public int getPortNumber() {
+        return portNumber_;
+      }
+      /**
+       * <code>optional int32 portNumber = 3;</code>
+       * @param value The portNumber to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPortNumber(int value) {
+        bitField0_ |= 0x00000004;
+        portNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 portNumber = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPortNumber() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        portNumber_ = 0;
+        onChanged();
+        return this;
+      }
+
       private java.util.List<proto.ProtosHDFS.BlockMetaData> blockMetas_ =
         java.util.Collections.emptyList();
       private void ensureBlockMetasIsMutable() {
-        if (!((bitField0_ & 0x00000001) != 0)) {
+        if (!((bitField0_ & 0x00000008) != 0)) {
           blockMetas_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>(blockMetas_);
-          bitField0_ |= 0x00000001;
+          bitField0_ |= 0x00000008;
          }
       }
 
@@ -3197,7 +4112,7 @@ public final class ProtosHDFS {
       public Builder clearBlockMetas() {
         if (blockMetasBuilder_ == null) {
           blockMetas_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+          bitField0_ = (bitField0_ & ~0x00000008);
           onChanged();
         } else {
           blockMetasBuilder_.clear();
@@ -3274,18 +4189,166 @@ public final class ProtosHDFS {
           blockMetasBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
               proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder>(
                   blockMetas_,
-                  ((bitField0_ & 0x00000001) != 0),
+                  ((bitField0_ & 0x00000008) != 0),
                   getParentForChildren(),
                   isClean());
           blockMetas_ = null;
         }
         return blockMetasBuilder_;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
+
+      private int transferPort_ ;
+      /**
+       * <code>optional int32 transferPort = 5;</code>
+       * @return Whether the transferPort field is set.
+       */
+      public boolean hasTransferPort() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int32 transferPort = 5;</code>
+       * @return The transferPort.
+       */
+      public int getTransferPort() {
+        return transferPort_;
+      }
+      /**
+       * <code>optional int32 transferPort = 5;</code>
+       * @param value The transferPort to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTransferPort(int value) {
+        bitField0_ |= 0x00000010;
+        transferPort_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 transferPort = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTransferPort() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        transferPort_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long capacity_ ;
+      /**
+       * <code>optional int64 capacity = 6;</code>
+       * @return Whether the capacity field is set.
+       */
+      public boolean hasCapacity() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional int64 capacity = 6;</code>
+       * @return The capacity.
+       */
+      public long getCapacity() {
+        return capacity_;
+      }
+      /**
+       * <code>optional int64 capacity = 6;</code>
+       * @param value The capacity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCapacity(long value) {
+        bitField0_ |= 0x00000020;
+        capacity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 capacity = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCapacity() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        capacity_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long remaining_ ;
+      /**
+       * <code>optional int64 remaining = 7;</code>
+       * @return Whether the remaining field is set.
+       */
+      public boolean hasRemaining() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional int64 remaining = 7;</code>
+       * @return The remaining.
+       */
+      public long getRemaining() {
+        return remaining_;
+      }
+      /**
+       * <code>optional int64 remaining = 7;</code>
+       * @param value The remaining to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemaining(long value) {
+        bitField0_ |= 0x00000040;
+        remaining_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 remaining = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemaining() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        remaining_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int activeTransfers_ ;
+      /**
+       * <code>optional int32 activeTransfers = 8;</code>
+       * @return Whether the activeTransfers field is set.
+       */
+      public boolean hasActiveTransfers() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional int32 activeTransfers = 8;</code>
+       * @return The activeTransfers.
+       */
+      public int getActiveTransfers() {
+        return activeTransfers_;
+      }
+      /**
+       * <code>optional int32 activeTransfers = 8;</code>
+       * @param value The activeTransfers to set.
+       * @return This builder for chaining.
+       */
+      public Builder setActiveTransfers(int value) {
+        bitField0_ |= 0x00000080;
+        activeTransfers_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 activeTransfers = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearActiveTransfers() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        activeTransfers_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
 
       @java.lang.Override
       public final Builder mergeUnknownFields(
@@ -3423,6 +4486,67 @@ public final class ProtosHDFS {
      */
     proto.ProtosHDFS.BlockOrBuilder getPartitionsOrBuilder(
         int index);
+
+    /**
+     * <code>optional int64 generation = 6;</code>
+     * @return Whether the generation field is set.
+     */
+    boolean hasGeneration();
+    /**
+     * <code>optional int64 generation = 6;</code>
+     * @return The generation.
+     */
+    long getGeneration();
+
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return Whether the clientName field is set.
+     */
+    boolean hasClientName();
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return The clientName.
+     */
+    java.lang.String getClientName();
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return The bytes for clientName.
+     */
+    com.google.protobuf.ByteString
+        getClientNameBytes();
+
+    /**
+     * <code>optional int64 firstBlockId = 8;</code>
+     * @return Whether the firstBlockId field is set.
+     */
+    boolean hasFirstBlockId();
+    /**
+     * <code>optional int64 firstBlockId = 8;</code>
+     * @return The firstBlockId.
+     */
+    long getFirstBlockId();
+
+    /**
+     * <code>optional int32 blockCount = 9;</code>
+     * @return Whether the blockCount field is set.
+     */
+    boolean hasBlockCount();
+    /**
+     * <code>optional int32 blockCount = 9;</code>
+     * @return The blockCount.
+     */
+    int getBlockCount();
+
+    /**
+     * <code>optional int32 blockSize = 10;</code>
+     * @return Whether the blockSize field is set.
+     */
+    boolean hasBlockSize();
+    /**
+     * <code>optional int32 blockSize = 10;</code>
+     * @return The blockSize.
+     */
+    int getBlockSize();
   }
   /**
    * Protobuf type {@code proto.FileMetadata}
@@ -3441,6 +4565,7 @@ public final class ProtosHDFS {
       fileName_ = "";
       parentDirectory_ = "";
       partitions_ = java.util.Collections.emptyList();
+      clientName_ = "";
     }
 
     @java.lang.Override
@@ -3506,6 +4631,32 @@ public final class ProtosHDFS {
                   input.readMessage(proto.ProtosHDFS.Block.PARSER, extensionRegistry));
               break;
             }
+            case 48: {
+              bitField0_ |= 0x00000010;
+              generation_ = input.readInt64();
+              break;
+            }
+            case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000020;
+              clientName_ = bs;
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000040;
+              firstBlockId_ = input.readInt64();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000080;
+              blockCount_ = input.readInt32();
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000100;
+              blockSize_ = input.readInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -3729,6 +4880,119 @@ public final class ProtosHDFS {
       return partitions_.get(index);
     }
 
+    public static final int GENERATION_FIELD_NUMBER = 6;
+    private long generation_;
+    /**
+     * <code>optional int64 generation = 6;</code>
+     * @return Whether the generation field is set.
+     */
+    public boolean hasGeneration() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int64 generation = 6;</code>
+     * @return The generation.
+     */
+    public long getGeneration() {
+      return generation_;
+    }
+
+    public static final int CLIENTNAME_FIELD_NUMBER = 7;
+    private volatile java.lang.Object clientName_;
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return Whether the clientName field is set.
+     */
+    public boolean hasClientName() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return The clientName.
+     */
+    public java.lang.String getClientName() {
+      java.lang.Object ref = clientName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          clientName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return The bytes for clientName.
+     */
+    public com.google.protobuf.ByteString
+        getClientNameBytes() {
+      java.lang.Object ref = clientName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        clientName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FIRSTBLOCKID_FIELD_NUMBER = 8;
+    private long firstBlockId_;
+    /**
+     * <code>optional int64 firstBlockId = 8;</code>
+     * @return Whether the firstBlockId field is set.
+     */
+    public boolean hasFirstBlockId() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional int64 firstBlockId = 8;</code>
+     * @return The firstBlockId.
+     */
+    public long getFirstBlockId() {
+      return firstBlockId_;
+    }
+
+    public static final int BLOCKCOUNT_FIELD_NUMBER = 9;
+    private int blockCount_;
+    /**
+     * <code>optional int32 blockCount = 9;</code>
+     * @return Whether the blockCount field is set.
+     */
+    public boolean hasBlockCount() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional int32 blockCount = 9;</code>
+     * @return The blockCount.
+     */
+    public int getBlockCount() {
+      return blockCount_;
+    }
+
+    public static final int BLOCKSIZE_FIELD_NUMBER = 10;
+    private int blockSize_;
+    /**
+     * <code>optional int32 blockSize = 10;</code>
+     * @return Whether the blockSize field is set.
+     */
+    public boolean hasBlockSize() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <code>optional int32 blockSize = 10;</code>
+     * @return The blockSize.
+     */
+    public int getBlockSize() {
+      return blockSize_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -3780,6 +5044,21 @@ public final class ProtosHDFS {
       for (int i = 0; i < partitions_.size(); i++) {
         output.writeMessage(5, partitions_.get(i));
       }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt64(6, generation_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, clientName_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeInt64(8, firstBlockId_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeInt32(9, blockCount_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeInt32(10, blockSize_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -3806,6 +5085,25 @@ public final class ProtosHDFS {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(5, partitions_.get(i));
       }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, generation_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, clientName_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, firstBlockId_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, blockCount_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(10, blockSize_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3843,6 +5141,31 @@ public final class ProtosHDFS {
       }
       if (!getPartitionsList()
           .equals(other.getPartitionsList())) return false;
+      if (hasGeneration() != other.hasGeneration()) return false;
+      if (hasGeneration()) {
+        if (getGeneration()
+            != other.getGeneration()) return false;
+      }
+      if (hasClientName() != other.hasClientName()) return false;
+      if (hasClientName()) {
+        if (!getClientName()
+            .equals(other.getClientName())) return false;
+      }
+      if (hasFirstBlockId() != other.hasFirstBlockId()) return false;
+      if (hasFirstBlockId()) {
+        if (getFirstBlockId()
+            != other.getFirstBlockId()) return false;
+      }
+      if (hasBlockCount() != other.hasBlockCount()) return false;
+      if (hasBlockCount()) {
+        if (getBlockCount()
+            != other.getBlockCount()) return false;
+      }
+      if (hasBlockSize() != other.hasBlockSize()) return false;
+      if (hasBlockSize()) {
+        if (getBlockSize()
+            != other.getBlockSize()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -3874,6 +5197,28 @@ public final class ProtosHDFS {
         hash = (37 * hash) + PARTITIONS_FIELD_NUMBER;
         hash = (53 * hash) + getPartitionsList().hashCode();
       }
+      if (hasGeneration()) {
+        hash = (37 * hash) + GENERATION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getGeneration());
+      }
+      if (hasClientName()) {
+        hash = (37 * hash) + CLIENTNAME_FIELD_NUMBER;
+        hash = (53 * hash) + getClientName().hashCode();
+      }
+      if (hasFirstBlockId()) {
+        hash = (37 * hash) + FIRSTBLOCKID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getFirstBlockId());
+      }
+      if (hasBlockCount()) {
+        hash = (37 * hash) + BLOCKCOUNT_FIELD_NUMBER;
+        hash = (53 * hash) + getBlockCount();
+      }
+      if (hasBlockSize()) {
+        hash = (37 * hash) + BLOCKSIZE_FIELD_NUMBER;
+        hash = (53 * hash) + getBlockSize();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -4022,6 +5367,16 @@ public final class ProtosHDFS {
         } else {
           partitionsBuilder_.clear();
         }
+        generation_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        clientName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        firstBlockId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        blockCount_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        blockSize_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000200);
         return this;
       }
 
@@ -4075,6 +5430,26 @@ public final class ProtosHDFS {
         } else {
           result.partitions_ = partitionsBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.generation_ = generation_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.clientName_ = clientName_;
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.firstBlockId_ = firstBlockId_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.blockCount_ = blockCount_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.blockSize_ = blockSize_;
+          to_bitField0_ |= 0x00000100;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -4168,6 +5543,23 @@ public final class ProtosHDFS {
             }
           }
         }
+        if (other.hasGeneration()) {
+          setGeneration(other.getGeneration());
+        }
+        if (other.hasClientName()) {
+          bitField0_ |= 0x00000040;
+          clientName_ = other.clientName_;
+          onChanged();
+        }
+        if (other.hasFirstBlockId()) {
+          setFirstBlockId(other.getFirstBlockId());
+        }
+        if (other.hasBlockCount()) {
+          setBlockCount(other.getBlockCount());
+        }
+        if (other.hasBlockSize()) {
+          setBlockSize(other.getBlockSize());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -4743,11 +6135,243 @@ public final class ProtosHDFS {
         }
         return partitionsBuilder_;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
+
+      private long generation_ ;
+      /**
+       * <code>optional int64 generation = 6;</code>
+       * @return Whether the generation field is set.
+       */
+      public boolean hasGeneration() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional int64 generation = 6;</code>
+       * @return The generation.
+       */
+      public long getGeneration() {
+        return generation_;
+      }
+      /**
+       * <code>optional int64 generation = 6;</code>
+       * @param value The generation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGeneration(long value) {
+        bitField0_ |= 0x00000020;
+        generation_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 generation = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGeneration() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        generation_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object clientName_ = "";
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @return Whether the clientName field is set.
+       */
+      public boolean hasClientName() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @return The clientName.
+       */
+      public java.lang.String getClientName() {
+        java.lang.Object ref = clientName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            clientName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @return The bytes for clientName.
+       */
+      public com.google.protobuf.ByteString
+          getClientNameBytes() {
+        java.lang.Object ref = clientName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          clientName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @param value The clientName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClientName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        clientName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClientName() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        clientName_ = getDefaultInstance().getClientName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @param value The bytes for clientName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClientNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        clientName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long firstBlockId_ ;
+      /**
+       * <code>optional int64 firstBlockId = 8;</code>
+       * @return Whether the firstBlockId field is set.
+       */
+      public boolean hasFirstBlockId() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional int64 firstBlockId = 8;</code>
+       * @return The firstBlockId.
+       */
+      public long getFirstBlockId() {
+        return firstBlockId_;
+      }
+      /**
+       * <code>optional int64 firstBlockId = 8;</code>
+       * @param value The firstBlockId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFirstBlockId(long value) {
+        bitField0_ |= 0x00000080;
+        firstBlockId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 firstBlockId = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFirstBlockId() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        firstBlockId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int blockCount_ ;
+      /**
+       * <code>optional int32 blockCount = 9;</code>
+       * @return Whether the blockCount field is set.
+       */
+      public boolean hasBlockCount() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>optional int32 blockCount = 9;</code>
+       * @return The blockCount.
+       */
+      public int getBlockCount() {
+        return blockCount_;
+      }
+      /**
+       * <code>optional int32 blockCount = 9;</code>
+       * @param value The blockCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlockCount(int value) {
+        bitField0_ |= 0x00000100;
+        blockCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 blockCount = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlockCount() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        blockCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int blockSize_ ;
+      /**
+       * <code>optional int32 blockSize = 10;</code>
+       * @return Whether the blockSize field is set.
+       */
+      public boolean hasBlockSize() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <code>optional int32 blockSize = 10;</code>
+       * @return The blockSize.
+       */
+      public int getBlockSize() {
+        return blockSize_;
+      }
+      /**
+       * <code>optional int32 blockSize = 10;</code>
+       * @param value The blockSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlockSize(int value) {
+        bitField0_ |= 0x00000200;
+        blockSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 blockSize = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlockSize() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        blockSize_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
 
       @java.lang.Override
       public final Builder mergeUnknownFields(
@@ -4881,6 +6505,62 @@ public final class ProtosHDFS {
      */
     proto.ProtosHDFS.DataNodeInfoOrBuilder getDataNodesOrBuilder(
         int index);
+
+    /**
+     * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+     */
+    java.util.List<proto.ProtosHDFS.FileMetadata> 
+        getFileMetasList();
+    /**
+     * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+     */
+    proto.ProtosHDFS.FileMetadata getFileMetas(int index);
+    /**
+     * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+     */
+    int getFileMetasCount();
+    /**
+     * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.FileMetadataOrBuilder> 
+        getFileMetasOrBuilderList();
+    /**
+     * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+     */
+    proto.ProtosHDFS.FileMetadataOrBuilder getFileMetasOrBuilder(
+        int index);
+
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return Whether the clientName field is set.
+     */
+    boolean hasClientName();
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return The clientName.
+     */
+    java.lang.String getClientName();
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return The bytes for clientName.
+     */
+    com.google.protobuf.ByteString
+        getClientNameBytes();
+
+    /**
+     * <code>optional .proto.ListOptions listOptions = 8;</code>
+     * @return Whether the listOptions field is set.
+     */
+    boolean hasListOptions();
+    /**
+     * <code>optional .proto.ListOptions listOptions = 8;</code>
+     * @return The listOptions.
+     */
+    proto.ProtosHDFS.ListOptions getListOptions();
+    /**
+     * <code>optional .proto.ListOptions listOptions = 8;</code>
+     */
+    proto.ProtosHDFS.ListOptionsOrBuilder getListOptionsOrBuilder();
   }
   /**
    * Protobuf type {@code proto.Request}
@@ -4898,6 +6578,8 @@ public final class ProtosHDFS {
       requestId_ = "";
       requestType_ = 0;
       dataNodes_ = java.util.Collections.emptyList();
+      fileMetas_ = java.util.Collections.emptyList();
+      clientName_ = "";
     }
 
     @java.lang.Override
@@ -4984,6 +6666,34 @@ public final class ProtosHDFS {
                   input.readMessage(proto.ProtosHDFS.DataNodeInfo.PARSER, extensionRegistry));
               break;
             }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                fileMetas_ = new java.util.ArrayList<proto.ProtosHDFS.FileMetadata>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              fileMetas_.add(
+                  input.readMessage(proto.ProtosHDFS.FileMetadata.PARSER, extensionRegistry));
+              break;
+            }
+            case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              clientName_ = bs;
+              break;
+            }
+            case 66: {
+              proto.ProtosHDFS.ListOptions.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000020) != 0)) {
+                subBuilder = listOptions_.toBuilder();
+              }
+              listOptions_ = input.readMessage(proto.ProtosHDFS.ListOptions.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(listOptions_);
+                listOptions_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000020;
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -5002,6 +6712,9 @@ public final class ProtosHDFS {
         if (((mutable_bitField0_ & 0x00000010) != 0)) {
           dataNodes_ = java.util.Collections.unmodifiableList(dataNodes_);
         }
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          fileMetas_ = java.util.Collections.unmodifiableList(fileMetas_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -5306,6 +7019,109 @@ public final class ProtosHDFS {
       return dataNodes_.get(index);
     }
 
+    public static final int FILEMETAS_FIELD_NUMBER = 6;
+    private java.util.List<proto.ProtosHDFS.FileMetadata> fileMetas_;
+    /**
+     * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.FileMetadata> getFileMetasList() {
+      return fileMetas_;
+    }
+    /**
+     * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.FileMetadataOrBuilder> 
+        getFileMetasOrBuilderList() {
+      return fileMetas_;
+    }
+    /**
+     * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+     */
+    public int getFileMetasCount() {
+      return fileMetas_.size();
+    }
+    /**
+     * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+     */
+    public proto.ProtosHDFS.FileMetadata getFileMetas(int index) {
+      return fileMetas_.get(index);
+    }
+    /**
+     * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+     */
+    public proto.ProtosHDFS.FileMetadataOrBuilder getFileMetasOrBuilder(
+        int index) {
+      return fileMetas_.get(index);
+    }
+
+    public static final int CLIENTNAME_FIELD_NUMBER = 7;
+    private volatile java.lang.Object clientName_;
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return Whether the clientName field is set.
+     */
+    public boolean hasClientName() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return The clientName.
+     */
+    public java.lang.String getClientName() {
+      java.lang.Object ref = clientName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          clientName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string clientName = 7;</code>
+     * @return The bytes for clientName.
+     */
+    public com.google.protobuf.ByteString
+        getClientNameBytes() {
+      java.lang.Object ref = clientName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        clientName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LISTOPTIONS_FIELD_NUMBER = 8;
+    private proto.ProtosHDFS.ListOptions listOptions_;
+    /**
+     * <code>optional .proto.ListOptions listOptions = 8;</code>
+     * @return Whether the listOptions field is set.
+     */
+    public boolean hasListOptions() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional .proto.ListOptions listOptions = 8;</code>
+     * @return The listOptions.
+     */
+    public proto.ProtosHDFS.ListOptions getListOptions() {
+      return listOptions_ == null ? proto.ProtosHDFS.ListOptions.getDefaultInstance() : listOptions_;
+    }
+    /**
+     * <code>optional .proto.ListOptions listOptions = 8;</code>
+     */
+    public proto.ProtosHDFS.ListOptionsOrBuilder getListOptionsOrBuilder() {
+      return listOptions_ == null ? proto.ProtosHDFS.ListOptions.getDefaultInstance() : listOptions_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -5339,6 +7155,12 @@ public final class ProtosHDFS {
           return false;
         }
       }
+      for (int i = 0; i < getFileMetasCount(); i++) {
+        if (!getFileMetas(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -5361,6 +7183,15 @@ public final class ProtosHDFS {
       for (int i = 0; i < dataNodes_.size(); i++) {
         output.writeMessage(5, dataNodes_.get(i));
       }
+      for (int i = 0; i < fileMetas_.size(); i++) {
+        output.writeMessage(6, fileMetas_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, clientName_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeMessage(8, getListOptions());
+      }
       unknownFields.writeTo(output);
     }
 
@@ -5389,6 +7220,17 @@ public final class ProtosHDFS {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(5, dataNodes_.get(i));
       }
+      for (int i = 0; i < fileMetas_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, fileMetas_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, clientName_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getListOptions());
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -5425,6 +7267,18 @@ public final class ProtosHDFS {
       }
       if (!getDataNodesList()
           .equals(other.getDataNodesList())) return false;
+      if (!getFileMetasList()
+          .equals(other.getFileMetasList())) return false;
+      if (hasClientName() != other.hasClientName()) return false;
+      if (hasClientName()) {
+        if (!getClientName()
+            .equals(other.getClientName())) return false;
+      }
+      if (hasListOptions() != other.hasListOptions()) return false;
+      if (hasListOptions()) {
+        if (!getListOptions()
+            .equals(other.getListOptions())) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -5456,6 +7310,18 @@ public final class ProtosHDFS {
         hash = (37 * hash) + DATANODES_FIELD_NUMBER;
         hash = (53 * hash) + getDataNodesList().hashCode();
       }
+      if (getFileMetasCount() > 0) {
+        hash = (37 * hash) + FILEMETAS_FIELD_NUMBER;
+        hash = (53 * hash) + getFileMetasList().hashCode();
+      }
+      if (hasClientName()) {
+        hash = (37 * hash) + CLIENTNAME_FIELD_NUMBER;
+        hash = (53 * hash) + getClientName().hashCode();
+      }
+      if (hasListOptions()) {
+        hash = (37 * hash) + LISTOPTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getListOptions().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -5587,6 +7453,8 @@ public final class ProtosHDFS {
           getFileMetaFieldBuilder();
           getBlockFieldBuilder();
           getDataNodesFieldBuilder();
+          getFileMetasFieldBuilder();
+          getListOptionsFieldBuilder();
         }
       }
       @java.lang.Override
@@ -5614,6 +7482,20 @@ public final class ProtosHDFS {
         } else {
           dataNodesBuilder_.clear();
         }
+        if (fileMetasBuilder_ == null) {
+          fileMetas_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          fileMetasBuilder_.clear();
+        }
+        clientName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        if (listOptionsBuilder_ == null) {
+          listOptions_ = null;
+        } else {
+          listOptionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
         return this;
       }
 
@@ -5675,6 +7557,27 @@ public final class ProtosHDFS {
         } else {
           result.dataNodes_ = dataNodesBuilder_.build();
         }
+        if (fileMetasBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            fileMetas_ = java.util.Collections.unmodifiableList(fileMetas_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.fileMetas_ = fileMetas_;
+        } else {
+          result.fileMetas_ = fileMetasBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.clientName_ = clientName_;
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          if (listOptionsBuilder_ == null) {
+            result.listOptions_ = listOptions_;
+          } else {
+            result.listOptions_ = listOptionsBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000020;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -5764,6 +7667,40 @@ public final class ProtosHDFS {
             }
           }
         }
+        if (fileMetasBuilder_ == null) {
+          if (!other.fileMetas_.isEmpty()) {
+            if (fileMetas_.isEmpty()) {
+              fileMetas_ = other.fileMetas_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureFileMetasIsMutable();
+              fileMetas_.addAll(other.fileMetas_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.fileMetas_.isEmpty()) {
+            if (fileMetasBuilder_.isEmpty()) {
+              fileMetasBuilder_.dispose();
+              fileMetasBuilder_ = null;
+              fileMetas_ = other.fileMetas_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              fileMetasBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getFileMetasFieldBuilder() : null;
+            } else {
+              fileMetasBuilder_.addAllMessages(other.fileMetas_);
+            }
+          }
+        }
+        if (other.hasClientName()) {
+          bitField0_ |= 0x00000040;
+          clientName_ = other.clientName_;
+          onChanged();
+        }
+        if (other.hasListOptions()) {
+          mergeListOptions(other.getListOptions());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -5792,6 +7729,11 @@ public final class ProtosHDFS {
             return false;
           }
         }
+        for (int i = 0; i < getFileMetasCount(); i++) {
+          if (!getFileMetas(i).isInitialized()) {
+            return false;
+          }
+        }
         return true;
       }
 
@@ -6420,212 +8362,11884 @@ public final class ProtosHDFS {
         }
         return dataNodesBuilder_;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private java.util.List<proto.ProtosHDFS.FileMetadata> fileMetas_ =
+        java.util.Collections.emptyList();
+      private void ensureFileMetasIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          fileMetas_ = new java.util.ArrayList<proto.ProtosHDFS.FileMetadata>(fileMetas_);
+          bitField0_ |= 0x00000020;
+         }
       }
 
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder> fileMetasBuilder_;
 
-      // @@protoc_insertion_point(builder_scope:proto.Request)
-    }
-
-    // @@protoc_insertion_point(class_scope:proto.Request)
-    private static final proto.ProtosHDFS.Request DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new proto.ProtosHDFS.Request();
-    }
-
-    public static proto.ProtosHDFS.Request getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<Request>
-        PARSER = new com.google.protobuf.AbstractParser<Request>() {
-      @java.lang.Override
-      public Request parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Request(input, extensionRegistry);
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.FileMetadata> getFileMetasList() {
+        if (fileMetasBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(fileMetas_);
+        } else {
+          return fileMetasBuilder_.getMessageList();
+        }
       }
-    };
-
-    public static com.google.protobuf.Parser<Request> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<Request> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public proto.ProtosHDFS.Request getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface PipelineOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:proto.Pipeline)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>repeated string dataNodeId = 1;</code>
-     * @return A list containing the dataNodeId.
-     */
-    java.util.List<java.lang.String>
-        getDataNodeIdList();
-    /**
-     * <code>repeated string dataNodeId = 1;</code>
-     * @return The count of dataNodeId.
-     */
-    int getDataNodeIdCount();
-    /**
-     * <code>repeated string dataNodeId = 1;</code>
-     * @param index The index of the element to return.
-     * @return The dataNodeId at the given index.
-     */
-    java.lang.String getDataNodeId(int index);
-    /**
-     * <code>repeated string dataNodeId = 1;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the dataNodeId at the given index.
-     */
-    com.google.protobuf.ByteString
-        getDataNodeIdBytes(int index);
-  }
-  /**
-   * Protobuf type {@code proto.Pipeline}
-   */
-  public  static final class Pipeline extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:proto.Pipeline)
-      PipelineOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use Pipeline.newBuilder() to construct.
-    private Pipeline(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private Pipeline() {
-      dataNodeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-    }
-
-    @java.lang.Override
-    @SuppressWarnings({"unused"})
-    protected java.lang.Object newInstance(
-        UnusedPrivateParameter unused) {
-      return new Pipeline();
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private Pipeline(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public int getFileMetasCount() {
+        if (fileMetasBuilder_ == null) {
+          return fileMetas_.size();
+        } else {
+          return fileMetasBuilder_.getCount();
+        }
       }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
-                dataNodeId_ = new com.google.protobuf.LazyStringArrayList();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              dataNodeId_.add(bs);
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public proto.ProtosHDFS.FileMetadata getFileMetas(int index) {
+        if (fileMetasBuilder_ == null) {
+          return fileMetas_.get(index);
+        } else {
+          return fileMetasBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public Builder setFileMetas(
+          int index, proto.ProtosHDFS.FileMetadata value) {
+        if (fileMetasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureFileMetasIsMutable();
+          fileMetas_.set(index, value);
+          onChanged();
+        } else {
+          fileMetasBuilder_.setMessage(index, value);
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000001) != 0)) {
-          dataNodeId_ = dataNodeId_.getUnmodifiableView();
+        return this;
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public Builder setFileMetas(
+          int index, proto.ProtosHDFS.FileMetadata.Builder builderForValue) {
+        if (fileMetasBuilder_ == null) {
+          ensureFileMetasIsMutable();
+          fileMetas_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          fileMetasBuilder_.setMessage(index, builderForValue.build());
         }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
+        return this;
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return proto.ProtosHDFS.internal_static_proto_Pipeline_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return proto.ProtosHDFS.internal_static_proto_Pipeline_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              proto.ProtosHDFS.Pipeline.class, proto.ProtosHDFS.Pipeline.Builder.class);
-    }
-
-    public static final int DATANODEID_FIELD_NUMBER = 1;
-    private com.google.protobuf.LazyStringList dataNodeId_;
-    /**
-     * <code>repeated string dataNodeId = 1;</code>
-     * @return A list containing the dataNodeId.
-     */
-    public com.google.protobuf.ProtocolStringList
-        getDataNodeIdList() {
-      return dataNodeId_;
-    }
-    /**
-     * <code>repeated string dataNodeId = 1;</code>
-     * @return The count of dataNodeId.
-     */
-    public int getDataNodeIdCount() {
-      return dataNodeId_.size();
-    }
-    /**
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public Builder addFileMetas(proto.ProtosHDFS.FileMetadata value) {
+        if (fileMetasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFileMetasIsMutable();
+          fileMetas_.add(value);
+          onChanged();
+        } else {
+          fileMetasBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public Builder addFileMetas(
+          int index, proto.ProtosHDFS.FileMetadata value) {
+        if (fileMetasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFileMetasIsMutable();
+          fileMetas_.add(index, value);
+          onChanged();
+        } else {
+          fileMetasBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public Builder addFileMetas(
+          proto.ProtosHDFS.FileMetadata.Builder builderForValue) {
+        if (fileMetasBuilder_ == null) {
+          ensureFileMetasIsMutable();
+          fileMetas_.add(builderForValue.build());
+          onChanged();
+        } else {
+          fileMetasBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public Builder addFileMetas(
+          int index, proto.ProtosHDFS.FileMetadata.Builder builderForValue) {
+        if (fileMetasBuilder_ == null) {
+          ensureFileMetasIsMutable();
+          fileMetas_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          fileMetasBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public Builder addAllFileMetas(
+          java.lang.Iterable<? extends proto.ProtosHDFS.FileMetadata> values) {
+        if (fileMetasBuilder_ == null) {
+          ensureFileMetasIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, fileMetas_);
+          onChanged();
+        } else {
+          fileMetasBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public Builder clearFileMetas() {
+        if (fileMetasBuilder_ == null) {
+          fileMetas_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          fileMetasBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public Builder removeFileMetas(int index) {
+        if (fileMetasBuilder_ == null) {
+          ensureFileMetasIsMutable();
+          fileMetas_.remove(index);
+          onChanged();
+        } else {
+          fileMetasBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public proto.ProtosHDFS.FileMetadata.Builder getFileMetasBuilder(
+          int index) {
+        return getFileMetasFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public proto.ProtosHDFS.FileMetadataOrBuilder getFileMetasOrBuilder(
+          int index) {
+        if (fileMetasBuilder_ == null) {
+          return fileMetas_.get(index);  } else {
+          return fileMetasBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.FileMetadataOrBuilder> 
+           getFileMetasOrBuilderList() {
+        if (fileMetasBuilder_ != null) {
+          return fileMetasBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(fileMetas_);
+        }
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public proto.ProtosHDFS.FileMetadata.Builder addFileMetasBuilder() {
+        return getFileMetasFieldBuilder().addBuilder(
+            proto.ProtosHDFS.FileMetadata.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public proto.ProtosHDFS.FileMetadata.Builder addFileMetasBuilder(
+          int index) {
+        return getFileMetasFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.FileMetadata.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.FileMetadata fileMetas = 6;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.FileMetadata.Builder> 
+           getFileMetasBuilderList() {
+        return getFileMetasFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder> 
+          getFileMetasFieldBuilder() {
+        if (fileMetasBuilder_ == null) {
+          fileMetasBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder>(
+                  fileMetas_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          fileMetas_ = null;
+        }
+        return fileMetasBuilder_;
+      }
+
+      private java.lang.Object clientName_ = "";
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @return Whether the clientName field is set.
+       */
+      public boolean hasClientName() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @return The clientName.
+       */
+      public java.lang.String getClientName() {
+        java.lang.Object ref = clientName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            clientName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @return The bytes for clientName.
+       */
+      public com.google.protobuf.ByteString
+          getClientNameBytes() {
+        java.lang.Object ref = clientName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          clientName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @param value The clientName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClientName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        clientName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClientName() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        clientName_ = getDefaultInstance().getClientName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string clientName = 7;</code>
+       * @param value The bytes for clientName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClientNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        clientName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private proto.ProtosHDFS.ListOptions listOptions_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.ListOptions, proto.ProtosHDFS.ListOptions.Builder, proto.ProtosHDFS.ListOptionsOrBuilder> listOptionsBuilder_;
+      /**
+       * <code>optional .proto.ListOptions listOptions = 8;</code>
+       * @return Whether the listOptions field is set.
+       */
+      public boolean hasListOptions() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional .proto.ListOptions listOptions = 8;</code>
+       * @return The listOptions.
+       */
+      public proto.ProtosHDFS.ListOptions getListOptions() {
+        if (listOptionsBuilder_ == null) {
+          return listOptions_ == null ? proto.ProtosHDFS.ListOptions.getDefaultInstance() : listOptions_;
+        } else {
+          return listOptionsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .proto.ListOptions listOptions = 8;</code>
+       */
+      public Builder setListOptions(proto.ProtosHDFS.ListOptions value) {
+        if (listOptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          listOptions_ = value;
+          onChanged();
+        } else {
+          listOptionsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .proto.ListOptions listOptions = 8;</code>
+       */
+      public Builder setListOptions(
+          proto.ProtosHDFS.ListOptions.Builder builderForValue) {
+        if (listOptionsBuilder_ == null) {
+          listOptions_ = builderForValue.build();
+          onChanged();
+        } else {
+          listOptionsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .proto.ListOptions listOptions = 8;</code>
+       */
+      public Builder mergeListOptions(proto.ProtosHDFS.ListOptions value) {
+        if (listOptionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0) &&
+              listOptions_ != null &&
+              listOptions_ != proto.ProtosHDFS.ListOptions.getDefaultInstance()) {
+            listOptions_ =
+              proto.ProtosHDFS.ListOptions.newBuilder(listOptions_).mergeFrom(value).buildPartial();
+          } else {
+            listOptions_ = value;
+          }
+          onChanged();
+        } else {
+          listOptionsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .proto.ListOptions listOptions = 8;</code>
+       */
+      public Builder clearListOptions() {
+        if (listOptionsBuilder_ == null) {
+          listOptions_ = null;
+          onChanged();
+        } else {
+          listOptionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        return this;
+      }
+      /**
+       * <code>optional .proto.ListOptions listOptions = 8;</code>
+       */
+      public proto.ProtosHDFS.ListOptions.Builder getListOptionsBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return getListOptionsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .proto.ListOptions listOptions = 8;</code>
+       */
+      public proto.ProtosHDFS.ListOptionsOrBuilder getListOptionsOrBuilder() {
+        if (listOptionsBuilder_ != null) {
+          return listOptionsBuilder_.getMessageOrBuilder();
+        } else {
+          return listOptions_ == null ?
+              proto.ProtosHDFS.ListOptions.getDefaultInstance() : listOptions_;
+        }
+      }
+      /**
+       * <code>optional .proto.ListOptions listOptions = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.ListOptions, proto.ProtosHDFS.ListOptions.Builder, proto.ProtosHDFS.ListOptionsOrBuilder> 
+          getListOptionsFieldBuilder() {
+        if (listOptionsBuilder_ == null) {
+          listOptionsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              proto.ProtosHDFS.ListOptions, proto.ProtosHDFS.ListOptions.Builder, proto.ProtosHDFS.ListOptionsOrBuilder>(
+                  getListOptions(),
+                  getParentForChildren(),
+                  isClean());
+          listOptions_ = null;
+        }
+        return listOptionsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.Request)
+    private static final proto.ProtosHDFS.Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.Request();
+    }
+
+    public static proto.ProtosHDFS.Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Request>
+        PARSER = new com.google.protobuf.AbstractParser<Request>() {
+      @java.lang.Override
+      public Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Request(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ListOptionsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.ListOptions)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string path = 1;</code>
+     * @return Whether the path field is set.
+     */
+    boolean hasPath();
+    /**
+     * <code>optional string path = 1;</code>
+     * @return The path.
+     */
+    java.lang.String getPath();
+    /**
+     * <code>optional string path = 1;</code>
+     * @return The bytes for path.
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    /**
+     * <code>optional string startAfter = 2;</code>
+     * @return Whether the startAfter field is set.
+     */
+    boolean hasStartAfter();
+    /**
+     * <code>optional string startAfter = 2;</code>
+     * @return The startAfter.
+     */
+    java.lang.String getStartAfter();
+    /**
+     * <code>optional string startAfter = 2;</code>
+     * @return The bytes for startAfter.
+     */
+    com.google.protobuf.ByteString
+        getStartAfterBytes();
+
+    /**
+     * <code>optional string prefix = 3;</code>
+     * @return Whether the prefix field is set.
+     */
+    boolean hasPrefix();
+    /**
+     * <code>optional string prefix = 3;</code>
+     * @return The prefix.
+     */
+    java.lang.String getPrefix();
+    /**
+     * <code>optional string prefix = 3;</code>
+     * @return The bytes for prefix.
+     */
+    com.google.protobuf.ByteString
+        getPrefixBytes();
+
+    /**
+     * <code>optional string glob = 4;</code>
+     * @return Whether the glob field is set.
+     */
+    boolean hasGlob();
+    /**
+     * <code>optional string glob = 4;</code>
+     * @return The glob.
+     */
+    java.lang.String getGlob();
+    /**
+     * <code>optional string glob = 4;</code>
+     * @return The bytes for glob.
+     */
+    com.google.protobuf.ByteString
+        getGlobBytes();
+
+    /**
+     * <code>optional int32 pageSize = 5;</code>
+     * @return Whether the pageSize field is set.
+     */
+    boolean hasPageSize();
+    /**
+     * <code>optional int32 pageSize = 5;</code>
+     * @return The pageSize.
+     */
+    int getPageSize();
+  }
+  /**
+   * <pre>
+   * What a LIST request lists, one page at a time:
+   * 1. The directory whose children are listed; / if unset
+   * 2. The cursor: only children named after it are listed; the first page leaves it unset and every next page
+   *    sends the nextStartAfter of the page before
+   * 3. Only children whose names start with prefix
+   * 4. Only children whose names match the glob, with * for any characters, ? for one and [...] for one of a set
+   * 5. The most children in one page; the Name Node uses its own default and limit when unset or too large
+   * </pre>
+   *
+   * Protobuf type {@code proto.ListOptions}
+   */
+  public  static final class ListOptions extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.ListOptions)
+      ListOptionsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ListOptions.newBuilder() to construct.
+    private ListOptions(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ListOptions() {
+      path_ = "";
+      startAfter_ = "";
+      prefix_ = "";
+      glob_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ListOptions();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ListOptions(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              path_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              startAfter_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              prefix_ = bs;
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              glob_ = bs;
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              pageSize_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_ListOptions_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_ListOptions_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.ListOptions.class, proto.ProtosHDFS.ListOptions.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int PATH_FIELD_NUMBER = 1;
+    private volatile java.lang.Object path_;
+    /**
+     * <code>optional string path = 1;</code>
+     * @return Whether the path field is set.
+     */
+    public boolean hasPath() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string path = 1;</code>
+     * @return The path.
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          path_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string path = 1;</code>
+     * @return The bytes for path.
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STARTAFTER_FIELD_NUMBER = 2;
+    private volatile java.lang.Object startAfter_;
+    /**
+     * <code>optional string startAfter = 2;</code>
+     * @return Whether the startAfter field is set.
+     */
+    public boolean hasStartAfter() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string startAfter = 2;</code>
+     * @return The startAfter.
+     */
+    public java.lang.String getStartAfter() {
+      java.lang.Object ref = startAfter_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          startAfter_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string startAfter = 2;</code>
+     * @return The bytes for startAfter.
+     */
+    public com.google.protobuf.ByteString
+        getStartAfterBytes() {
+      java.lang.Object ref = startAfter_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        startAfter_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PREFIX_FIELD_NUMBER = 3;
+    private volatile java.lang.Object prefix_;
+    /**
+     * <code>optional string prefix = 3;</code>
+     * @return Whether the prefix field is set.
+     */
+    public boolean hasPrefix() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string prefix = 3;</code>
+     * @return The prefix.
+     */
+    public java.lang.String getPrefix() {
+      java.lang.Object ref = prefix_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          prefix_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string prefix = 3;</code>
+     * @return The bytes for prefix.
+     */
+    public com.google.protobuf.ByteString
+        getPrefixBytes() {
+      java.lang.Object ref = prefix_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        prefix_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int GLOB_FIELD_NUMBER = 4;
+    private volatile java.lang.Object glob_;
+    /**
+     * <code>optional string glob = 4;</code>
+     * @return Whether the glob field is set.
+     */
+    public boolean hasGlob() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string glob = 4;</code>
+     * @return The glob.
+     */
+    public java.lang.String getGlob() {
+      java.lang.Object ref = glob_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          glob_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string glob = 4;</code>
+     * @return The bytes for glob.
+     */
+    public com.google.protobuf.ByteString
+        getGlobBytes() {
+      java.lang.Object ref = glob_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        glob_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PAGESIZE_FIELD_NUMBER = 5;
+    private int pageSize_;
+    /**
+     * <code>optional int32 pageSize = 5;</code>
+     * @return Whether the pageSize field is set.
+     */
+    public boolean hasPageSize() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int32 pageSize = 5;</code>
+     * @return The pageSize.
+     */
+    public int getPageSize() {
+      return pageSize_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, path_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, startAfter_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, prefix_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, glob_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(5, pageSize_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, path_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, startAfter_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, prefix_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, glob_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, pageSize_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof proto.ProtosHDFS.ListOptions)) {
+        return super.equals(obj);
+      }
+      proto.ProtosHDFS.ListOptions other = (proto.ProtosHDFS.ListOptions) obj;
+
+      if (hasPath() != other.hasPath()) return false;
+      if (hasPath()) {
+        if (!getPath()
+            .equals(other.getPath())) return false;
+      }
+      if (hasStartAfter() != other.hasStartAfter()) return false;
+      if (hasStartAfter()) {
+        if (!getStartAfter()
+            .equals(other.getStartAfter())) return false;
+      }
+      if (hasPrefix() != other.hasPrefix()) return false;
+      if (hasPrefix()) {
+        if (!getPrefix()
+            .equals(other.getPrefix())) return false;
+      }
+      if (hasGlob() != other.hasGlob()) return false;
+      if (hasGlob()) {
+        if (!getGlob()
+            .equals(other.getGlob())) return false;
+      }
+      if (hasPageSize() != other.hasPageSize()) return false;
+      if (hasPageSize()) {
+        if (getPageSize()
+            != other.getPageSize()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasPath()) {
+        hash = (37 * hash) + PATH_FIELD_NUMBER;
+        hash = (53 * hash) + getPath().hashCode();
+      }
+      if (hasStartAfter()) {
+        hash = (37 * hash) + STARTAFTER_FIELD_NUMBER;
+        hash = (53 * hash) + getStartAfter().hashCode();
+      }
+      if (hasPrefix()) {
+        hash = (37 * hash) + PREFIX_FIELD_NUMBER;
+        hash = (53 * hash) + getPrefix().hashCode();
+      }
+      if (hasGlob()) {
+        hash = (37 * hash) + GLOB_FIELD_NUMBER;
+        hash = (53 * hash) + getGlob().hashCode();
+      }
+      if (hasPageSize()) {
+        hash = (37 * hash) + PAGESIZE_FIELD_NUMBER;
+        hash = (53 * hash) + getPageSize();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static proto.ProtosHDFS.ListOptions parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.ListOptions parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.ListOptions parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.ListOptions parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.ListOptions parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.ListOptions parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.ListOptions parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.ListOptions parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.ListOptions parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.ListOptions parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.ListOptions parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.ListOptions parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(proto.ProtosHDFS.ListOptions prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * What a LIST request lists, one page at a time:
+     * 1. The directory whose children are listed; / if unset
+     * 2. The cursor: only children named after it are listed; the first page leaves it unset and every next page
+     *    sends the nextStartAfter of the page before
+     * 3. Only children whose names start with prefix
+     * 4. Only children whose names match the glob, with * for any characters, ? for one and [...] for one of a set
+     * 5. The most children in one page; the Name Node uses its own default and limit when unset or too large
+     * </pre>
+     *
+     * Protobuf type {@code proto.ListOptions}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.ListOptions)
+        proto.ProtosHDFS.ListOptionsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.internal_static_proto_ListOptions_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return proto.ProtosHDFS.internal_static_proto_ListOptions_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                proto.ProtosHDFS.ListOptions.class, proto.ProtosHDFS.ListOptions.Builder.class);
+      }
+
+      // Construct using proto.ProtosHDFS.ListOptions.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        path_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startAfter_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        prefix_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        glob_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        pageSize_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return proto.ProtosHDFS.internal_static_proto_ListOptions_descriptor;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.ListOptions getDefaultInstanceForType() {
+        return proto.ProtosHDFS.ListOptions.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.ListOptions build() {
+        proto.ProtosHDFS.ListOptions result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.ListOptions buildPartial() {
+        proto.ProtosHDFS.ListOptions result = new proto.ProtosHDFS.ListOptions(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.path_ = path_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.startAfter_ = startAfter_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.prefix_ = prefix_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.glob_ = glob_;
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.pageSize_ = pageSize_;
+          to_bitField0_ |= 0x00000010;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof proto.ProtosHDFS.ListOptions) {
+          return mergeFrom((proto.ProtosHDFS.ListOptions)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(proto.ProtosHDFS.ListOptions other) {
+        if (other == proto.ProtosHDFS.ListOptions.getDefaultInstance()) return this;
+        if (other.hasPath()) {
+          bitField0_ |= 0x00000001;
+          path_ = other.path_;
+          onChanged();
+        }
+        if (other.hasStartAfter()) {
+          bitField0_ |= 0x00000002;
+          startAfter_ = other.startAfter_;
+          onChanged();
+        }
+        if (other.hasPrefix()) {
+          bitField0_ |= 0x00000004;
+          prefix_ = other.prefix_;
+          onChanged();
+        }
+        if (other.hasGlob()) {
+          bitField0_ |= 0x00000008;
+          glob_ = other.glob_;
+          onChanged();
+        }
+        if (other.hasPageSize()) {
+          setPageSize(other.getPageSize());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        proto.ProtosHDFS.ListOptions parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (proto.ProtosHDFS.ListOptions) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object path_ = "";
+      /**
+       * <code>optional string path = 1;</code>
+       * @return Whether the path field is set.
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       * @return The path.
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            path_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       * @return The bytes for path.
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       * @param value The path to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPath() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        path_ = getDefaultInstance().getPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       * @param value The bytes for path to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object startAfter_ = "";
+      /**
+       * <code>optional string startAfter = 2;</code>
+       * @return Whether the startAfter field is set.
+       */
+      public boolean hasStartAfter() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string startAfter = 2;</code>
+       * @return The startAfter.
+       */
+      public java.lang.String getStartAfter() {
+        java.lang.Object ref = startAfter_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            startAfter_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string startAfter = 2;</code>
+       * @return The bytes for startAfter.
+       */
+      public com.google.protobuf.ByteString
+          getStartAfterBytes() {
+        java.lang.Object ref = startAfter_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          startAfter_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string startAfter = 2;</code>
+       * @param value The startAfter to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartAfter(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        startAfter_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string startAfter = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStartAfter() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        startAfter_ = getDefaultInstance().getStartAfter();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string startAfter = 2;</code>
+       * @param value The bytes for startAfter to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartAfterBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        startAfter_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object prefix_ = "";
+      /**
+       * <code>optional string prefix = 3;</code>
+       * @return Whether the prefix field is set.
+       */
+      public boolean hasPrefix() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string prefix = 3;</code>
+       * @return The prefix.
+       */
+      public java.lang.String getPrefix() {
+        java.lang.Object ref = prefix_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            prefix_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string prefix = 3;</code>
+       * @return The bytes for prefix.
+       */
+      public com.google.protobuf.ByteString
+          getPrefixBytes() {
+        java.lang.Object ref = prefix_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          prefix_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string prefix = 3;</code>
+       * @param value The prefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPrefix(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        prefix_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string prefix = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPrefix() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        prefix_ = getDefaultInstance().getPrefix();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string prefix = 3;</code>
+       * @param value The bytes for prefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPrefixBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        prefix_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object glob_ = "";
+      /**
+       * <code>optional string glob = 4;</code>
+       * @return Whether the glob field is set.
+       */
+      public boolean hasGlob() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string glob = 4;</code>
+       * @return The glob.
+       */
+      public java.lang.String getGlob() {
+        java.lang.Object ref = glob_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            glob_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string glob = 4;</code>
+       * @return The bytes for glob.
+       */
+      public com.google.protobuf.ByteString
+          getGlobBytes() {
+        java.lang.Object ref = glob_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          glob_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string glob = 4;</code>
+       * @param value The glob to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGlob(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        glob_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string glob = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGlob() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        glob_ = getDefaultInstance().getGlob();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string glob = 4;</code>
+       * @param value The bytes for glob to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGlobBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        glob_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int pageSize_ ;
+      /**
+       * <code>optional int32 pageSize = 5;</code>
+       * @return Whether the pageSize field is set.
+       */
+      public boolean hasPageSize() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int32 pageSize = 5;</code>
+       * @return The pageSize.
+       */
+      public int getPageSize() {
+        return pageSize_;
+      }
+      /**
+       * <code>optional int32 pageSize = 5;</code>
+       * @param value The pageSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageSize(int value) {
+        bitField0_ |= 0x00000010;
+        pageSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 pageSize = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageSize() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        pageSize_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.ListOptions)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.ListOptions)
+    private static final proto.ProtosHDFS.ListOptions DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.ListOptions();
+    }
+
+    public static proto.ProtosHDFS.ListOptions getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<ListOptions>
+        PARSER = new com.google.protobuf.AbstractParser<ListOptions>() {
+      @java.lang.Override
+      public ListOptions parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ListOptions(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ListOptions> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ListOptions> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.ListOptions getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DirectoryEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.DirectoryEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    boolean hasName();
+    /**
+     * <code>required string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>required string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>required bool isDirectory = 2;</code>
+     * @return Whether the isDirectory field is set.
+     */
+    boolean hasIsDirectory();
+    /**
+     * <code>required bool isDirectory = 2;</code>
+     * @return The isDirectory.
+     */
+    boolean getIsDirectory();
+
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     * @return Whether the fileMeta field is set.
+     */
+    boolean hasFileMeta();
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     * @return The fileMeta.
+     */
+    proto.ProtosHDFS.FileMetadata getFileMeta();
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     */
+    proto.ProtosHDFS.FileMetadataOrBuilder getFileMetaOrBuilder();
+  }
+  /**
+   * <pre>
+   * One child in a page of a listing; fileMeta is set for files and unset for directories
+   * </pre>
+   *
+   * Protobuf type {@code proto.DirectoryEntry}
+   */
+  public  static final class DirectoryEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.DirectoryEntry)
+      DirectoryEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DirectoryEntry.newBuilder() to construct.
+    private DirectoryEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DirectoryEntry() {
+      name_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DirectoryEntry();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DirectoryEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              isDirectory_ = input.readBool();
+              break;
+            }
+            case 26: {
+              proto.ProtosHDFS.FileMetadata.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) != 0)) {
+                subBuilder = fileMeta_.toBuilder();
+              }
+              fileMeta_ = input.readMessage(proto.ProtosHDFS.FileMetadata.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fileMeta_);
+                fileMeta_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_DirectoryEntry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_DirectoryEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.DirectoryEntry.class, proto.ProtosHDFS.DirectoryEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>required string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string name = 1;</code>
+     * @return The name.
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string name = 1;</code>
+     * @return The bytes for name.
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ISDIRECTORY_FIELD_NUMBER = 2;
+    private boolean isDirectory_;
+    /**
+     * <code>required bool isDirectory = 2;</code>
+     * @return Whether the isDirectory field is set.
+     */
+    public boolean hasIsDirectory() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required bool isDirectory = 2;</code>
+     * @return The isDirectory.
+     */
+    public boolean getIsDirectory() {
+      return isDirectory_;
+    }
+
+    public static final int FILEMETA_FIELD_NUMBER = 3;
+    private proto.ProtosHDFS.FileMetadata fileMeta_;
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     * @return Whether the fileMeta field is set.
+     */
+    public boolean hasFileMeta() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     * @return The fileMeta.
+     */
+    public proto.ProtosHDFS.FileMetadata getFileMeta() {
+      return fileMeta_ == null ? proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+    }
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     */
+    public proto.ProtosHDFS.FileMetadataOrBuilder getFileMetaOrBuilder() {
+      return fileMeta_ == null ? proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasIsDirectory()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasFileMeta()) {
+        if (!getFileMeta().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBool(2, isDirectory_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeMessage(3, getFileMeta());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, isDirectory_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getFileMeta());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof proto.ProtosHDFS.DirectoryEntry)) {
+        return super.equals(obj);
+      }
+      proto.ProtosHDFS.DirectoryEntry other = (proto.ProtosHDFS.DirectoryEntry) obj;
+
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
+      }
+      if (hasIsDirectory() != other.hasIsDirectory()) return false;
+      if (hasIsDirectory()) {
+        if (getIsDirectory()
+            != other.getIsDirectory()) return false;
+      }
+      if (hasFileMeta() != other.hasFileMeta()) return false;
+      if (hasFileMeta()) {
+        if (!getFileMeta()
+            .equals(other.getFileMeta())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+      }
+      if (hasIsDirectory()) {
+        hash = (37 * hash) + ISDIRECTORY_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsDirectory());
+      }
+      if (hasFileMeta()) {
+        hash = (37 * hash) + FILEMETA_FIELD_NUMBER;
+        hash = (53 * hash) + getFileMeta().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static proto.ProtosHDFS.DirectoryEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.DirectoryEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(proto.ProtosHDFS.DirectoryEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * One child in a page of a listing; fileMeta is set for files and unset for directories
+     * </pre>
+     *
+     * Protobuf type {@code proto.DirectoryEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.DirectoryEntry)
+        proto.ProtosHDFS.DirectoryEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.internal_static_proto_DirectoryEntry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return proto.ProtosHDFS.internal_static_proto_DirectoryEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                proto.ProtosHDFS.DirectoryEntry.class, proto.ProtosHDFS.DirectoryEntry.Builder.class);
+      }
+
+      // Construct using proto.ProtosHDFS.DirectoryEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getFileMetaFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        isDirectory_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (fileMetaBuilder_ == null) {
+          fileMeta_ = null;
+        } else {
+          fileMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return proto.ProtosHDFS.internal_static_proto_DirectoryEntry_descriptor;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.DirectoryEntry getDefaultInstanceForType() {
+        return proto.ProtosHDFS.DirectoryEntry.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.DirectoryEntry build() {
+        proto.ProtosHDFS.DirectoryEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.DirectoryEntry buildPartial() {
+        proto.ProtosHDFS.DirectoryEntry result = new proto.ProtosHDFS.DirectoryEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.isDirectory_ = isDirectory_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          if (fileMetaBuilder_ == null) {
+            result.fileMeta_ = fileMeta_;
+          } else {
+            result.fileMeta_ = fileMetaBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof proto.ProtosHDFS.DirectoryEntry) {
+          return mergeFrom((proto.ProtosHDFS.DirectoryEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(proto.ProtosHDFS.DirectoryEntry other) {
+        if (other == proto.ProtosHDFS.DirectoryEntry.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasIsDirectory()) {
+          setIsDirectory(other.getIsDirectory());
+        }
+        if (other.hasFileMeta()) {
+          mergeFileMeta(other.getFileMeta());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          return false;
+        }
+        if (!hasIsDirectory()) {
+          return false;
+        }
+        if (hasFileMeta()) {
+          if (!getFileMeta().isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        proto.ProtosHDFS.DirectoryEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (proto.ProtosHDFS.DirectoryEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>required string name = 1;</code>
+       * @return Whether the name field is set.
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean isDirectory_ ;
+      /**
+       * <code>required bool isDirectory = 2;</code>
+       * @return Whether the isDirectory field is set.
+       */
+      public boolean hasIsDirectory() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required bool isDirectory = 2;</code>
+       * @return The isDirectory.
+       */
+      public boolean getIsDirectory() {
+        return isDirectory_;
+      }
+      /**
+       * <code>required bool isDirectory = 2;</code>
+       * @param value The isDirectory to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsDirectory(boolean value) {
+        bitField0_ |= 0x00000002;
+        isDirectory_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool isDirectory = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsDirectory() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        isDirectory_ = false;
+        onChanged();
+        return this;
+      }
+
+      private proto.ProtosHDFS.FileMetadata fileMeta_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder> fileMetaBuilder_;
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       * @return Whether the fileMeta field is set.
+       */
+      public boolean hasFileMeta() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       * @return The fileMeta.
+       */
+      public proto.ProtosHDFS.FileMetadata getFileMeta() {
+        if (fileMetaBuilder_ == null) {
+          return fileMeta_ == null ? proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+        } else {
+          return fileMetaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public Builder setFileMeta(proto.ProtosHDFS.FileMetadata value) {
+        if (fileMetaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fileMeta_ = value;
+          onChanged();
+        } else {
+          fileMetaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public Builder setFileMeta(
+          proto.ProtosHDFS.FileMetadata.Builder builderForValue) {
+        if (fileMetaBuilder_ == null) {
+          fileMeta_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileMetaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public Builder mergeFileMeta(proto.ProtosHDFS.FileMetadata value) {
+        if (fileMetaBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+              fileMeta_ != null &&
+              fileMeta_ != proto.ProtosHDFS.FileMetadata.getDefaultInstance()) {
+            fileMeta_ =
+              proto.ProtosHDFS.FileMetadata.newBuilder(fileMeta_).mergeFrom(value).buildPartial();
+          } else {
+            fileMeta_ = value;
+          }
+          onChanged();
+        } else {
+          fileMetaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public Builder clearFileMeta() {
+        if (fileMetaBuilder_ == null) {
+          fileMeta_ = null;
+          onChanged();
+        } else {
+          fileMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public proto.ProtosHDFS.FileMetadata.Builder getFileMetaBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getFileMetaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public proto.ProtosHDFS.FileMetadataOrBuilder getFileMetaOrBuilder() {
+        if (fileMetaBuilder_ != null) {
+          return fileMetaBuilder_.getMessageOrBuilder();
+        } else {
+          return fileMeta_ == null ?
+              proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+        }
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder> 
+          getFileMetaFieldBuilder() {
+        if (fileMetaBuilder_ == null) {
+          fileMetaBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder>(
+                  getFileMeta(),
+                  getParentForChildren(),
+                  isClean());
+          fileMeta_ = null;
+        }
+        return fileMetaBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.DirectoryEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.DirectoryEntry)
+    private static final proto.ProtosHDFS.DirectoryEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.DirectoryEntry();
+    }
+
+    public static proto.ProtosHDFS.DirectoryEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<DirectoryEntry>
+        PARSER = new com.google.protobuf.AbstractParser<DirectoryEntry>() {
+      @java.lang.Override
+      public DirectoryEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DirectoryEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DirectoryEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DirectoryEntry> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.DirectoryEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PipelineOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.Pipeline)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string dataNodeId = 1;</code>
+     * @return A list containing the dataNodeId.
+     */
+    java.util.List<java.lang.String>
+        getDataNodeIdList();
+    /**
+     * <code>repeated string dataNodeId = 1;</code>
+     * @return The count of dataNodeId.
+     */
+    int getDataNodeIdCount();
+    /**
+     * <code>repeated string dataNodeId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The dataNodeId at the given index.
+     */
+    java.lang.String getDataNodeId(int index);
+    /**
+     * <code>repeated string dataNodeId = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the dataNodeId at the given index.
+     */
+    com.google.protobuf.ByteString
+        getDataNodeIdBytes(int index);
+
+    /**
+     * <code>optional int64 numericBlockId = 2;</code>
+     * @return Whether the numericBlockId field is set.
+     */
+    boolean hasNumericBlockId();
+    /**
+     * <code>optional int64 numericBlockId = 2;</code>
+     * @return The numericBlockId.
+     */
+    long getNumericBlockId();
+
+    /**
+     * <code>optional int64 generationStamp = 3;</code>
+     * @return Whether the generationStamp field is set.
+     */
+    boolean hasGenerationStamp();
+    /**
+     * <code>optional int64 generationStamp = 3;</code>
+     * @return The generationStamp.
+     */
+    long getGenerationStamp();
+  }
+  /**
+   * <pre>
+   * The Data Nodes holding one block, in the order to use them, and the block's numeric ID and generation stamp
+   * </pre>
+   *
+   * Protobuf type {@code proto.Pipeline}
+   */
+  public  static final class Pipeline extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.Pipeline)
+      PipelineOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Pipeline.newBuilder() to construct.
+    private Pipeline(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Pipeline() {
+      dataNodeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Pipeline();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Pipeline(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                dataNodeId_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              dataNodeId_.add(bs);
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              numericBlockId_ = input.readInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              generationStamp_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          dataNodeId_ = dataNodeId_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_Pipeline_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_Pipeline_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.Pipeline.class, proto.ProtosHDFS.Pipeline.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int DATANODEID_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList dataNodeId_;
+    /**
+     * <code>repeated string dataNodeId = 1;</code>
+     * @return A list containing the dataNodeId.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getDataNodeIdList() {
+      return dataNodeId_;
+    }
+    /**
+     * <code>repeated string dataNodeId = 1;</code>
+     * @return The count of dataNodeId.
+     */
+    public int getDataNodeIdCount() {
+      return dataNodeId_.size();
+    }
+    /**
      * <code>repeated string dataNodeId = 1;</code>
      * @param index The index of the element to return.
      * @return The dataNodeId at the given index.
      */
-    public java.lang.String getDataNodeId(int index) {
-      return dataNodeId_.get(index);
+    public java.lang.String getDataNodeId(int index) {
+      return dataNodeId_.get(index);
+    }
+    /**
+     * <code>repeated string dataNodeId = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the dataNodeId at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getDataNodeIdBytes(int index) {
+      return dataNodeId_.getByteString(index);
+    }
+
+    public static final int NUMERICBLOCKID_FIELD_NUMBER = 2;
+    private long numericBlockId_;
+    /**
+     * <code>optional int64 numericBlockId = 2;</code>
+     * @return Whether the numericBlockId field is set.
+     */
+    public boolean hasNumericBlockId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional int64 numericBlockId = 2;</code>
+     * @return The numericBlockId.
+     */
+    public long getNumericBlockId() {
+      return numericBlockId_;
+    }
+
+    public static final int GENERATIONSTAMP_FIELD_NUMBER = 3;
+    private long generationStamp_;
+    /**
+     * <code>optional int64 generationStamp = 3;</code>
+     * @return Whether the generationStamp field is set.
+     */
+    public boolean hasGenerationStamp() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int64 generationStamp = 3;</code>
+     * @return The generationStamp.
+     */
+    public long getGenerationStamp() {
+      return generationStamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < dataNodeId_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, dataNodeId_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(2, numericBlockId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(3, generationStamp_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < dataNodeId_.size(); i++) {
+          dataSize += computeStringSizeNoTag(dataNodeId_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getDataNodeIdList().size();
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, numericBlockId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, generationStamp_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof proto.ProtosHDFS.Pipeline)) {
+        return super.equals(obj);
+      }
+      proto.ProtosHDFS.Pipeline other = (proto.ProtosHDFS.Pipeline) obj;
+
+      if (!getDataNodeIdList()
+          .equals(other.getDataNodeIdList())) return false;
+      if (hasNumericBlockId() != other.hasNumericBlockId()) return false;
+      if (hasNumericBlockId()) {
+        if (getNumericBlockId()
+            != other.getNumericBlockId()) return false;
+      }
+      if (hasGenerationStamp() != other.hasGenerationStamp()) return false;
+      if (hasGenerationStamp()) {
+        if (getGenerationStamp()
+            != other.getGenerationStamp()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getDataNodeIdCount() > 0) {
+        hash = (37 * hash) + DATANODEID_FIELD_NUMBER;
+        hash = (53 * hash) + getDataNodeIdList().hashCode();
+      }
+      if (hasNumericBlockId()) {
+        hash = (37 * hash) + NUMERICBLOCKID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getNumericBlockId());
+      }
+      if (hasGenerationStamp()) {
+        hash = (37 * hash) + GENERATIONSTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getGenerationStamp());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static proto.ProtosHDFS.Pipeline parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.Pipeline parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Pipeline parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.Pipeline parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Pipeline parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.Pipeline parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Pipeline parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.Pipeline parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Pipeline parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.Pipeline parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Pipeline parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.Pipeline parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(proto.ProtosHDFS.Pipeline prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * The Data Nodes holding one block, in the order to use them, and the block's numeric ID and generation stamp
+     * </pre>
+     *
+     * Protobuf type {@code proto.Pipeline}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.Pipeline)
+        proto.ProtosHDFS.PipelineOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.internal_static_proto_Pipeline_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return proto.ProtosHDFS.internal_static_proto_Pipeline_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                proto.ProtosHDFS.Pipeline.class, proto.ProtosHDFS.Pipeline.Builder.class);
+      }
+
+      // Construct using proto.ProtosHDFS.Pipeline.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        dataNodeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        numericBlockId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        generationStamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return proto.ProtosHDFS.internal_static_proto_Pipeline_descriptor;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.Pipeline getDefaultInstanceForType() {
+        return proto.ProtosHDFS.Pipeline.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.Pipeline build() {
+        proto.ProtosHDFS.Pipeline result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.Pipeline buildPartial() {
+        proto.ProtosHDFS.Pipeline result = new proto.ProtosHDFS.Pipeline(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          dataNodeId_ = dataNodeId_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.dataNodeId_ = dataNodeId_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.numericBlockId_ = numericBlockId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.generationStamp_ = generationStamp_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof proto.ProtosHDFS.Pipeline) {
+          return mergeFrom((proto.ProtosHDFS.Pipeline)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(proto.ProtosHDFS.Pipeline other) {
+        if (other == proto.ProtosHDFS.Pipeline.getDefaultInstance()) return this;
+        if (!other.dataNodeId_.isEmpty()) {
+          if (dataNodeId_.isEmpty()) {
+            dataNodeId_ = other.dataNodeId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureDataNodeIdIsMutable();
+            dataNodeId_.addAll(other.dataNodeId_);
+          }
+          onChanged();
+        }
+        if (other.hasNumericBlockId()) {
+          setNumericBlockId(other.getNumericBlockId());
+        }
+        if (other.hasGenerationStamp()) {
+          setGenerationStamp(other.getGenerationStamp());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        proto.ProtosHDFS.Pipeline parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (proto.ProtosHDFS.Pipeline) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList dataNodeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureDataNodeIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          dataNodeId_ = new com.google.protobuf.LazyStringArrayList(dataNodeId_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string dataNodeId = 1;</code>
+       * @return A list containing the dataNodeId.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getDataNodeIdList() {
+        return dataNodeId_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string dataNodeId = 1;</code>
+       * @return The count of dataNodeId.
+       */
+      public int getDataNodeIdCount() {
+        return dataNodeId_.size();
+      }
+      /**
+       * <code>repeated string dataNodeId = 1;</code>
+       * @param index The index of the element to return.
+       * @return The dataNodeId at the given index.
+       */
+      public java.lang.String getDataNodeId(int index) {
+        return dataNodeId_.get(index);
+      }
+      /**
+       * <code>repeated string dataNodeId = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the dataNodeId at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getDataNodeIdBytes(int index) {
+        return dataNodeId_.getByteString(index);
+      }
+      /**
+       * <code>repeated string dataNodeId = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The dataNodeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataNodeId(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDataNodeIdIsMutable();
+        dataNodeId_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string dataNodeId = 1;</code>
+       * @param value The dataNodeId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDataNodeId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDataNodeIdIsMutable();
+        dataNodeId_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string dataNodeId = 1;</code>
+       * @param values The dataNodeId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDataNodeId(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureDataNodeIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dataNodeId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string dataNodeId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataNodeId() {
+        dataNodeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string dataNodeId = 1;</code>
+       * @param value The bytes of the dataNodeId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDataNodeIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDataNodeIdIsMutable();
+        dataNodeId_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private long numericBlockId_ ;
+      /**
+       * <code>optional int64 numericBlockId = 2;</code>
+       * @return Whether the numericBlockId field is set.
+       */
+      public boolean hasNumericBlockId() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int64 numericBlockId = 2;</code>
+       * @return The numericBlockId.
+       */
+      public long getNumericBlockId() {
+        return numericBlockId_;
+      }
+      /**
+       * <code>optional int64 numericBlockId = 2;</code>
+       * @param value The numericBlockId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNumericBlockId(long value) {
+        bitField0_ |= 0x00000002;
+        numericBlockId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 numericBlockId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNumericBlockId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        numericBlockId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long generationStamp_ ;
+      /**
+       * <code>optional int64 generationStamp = 3;</code>
+       * @return Whether the generationStamp field is set.
+       */
+      public boolean hasGenerationStamp() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 generationStamp = 3;</code>
+       * @return The generationStamp.
+       */
+      public long getGenerationStamp() {
+        return generationStamp_;
+      }
+      /**
+       * <code>optional int64 generationStamp = 3;</code>
+       * @param value The generationStamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGenerationStamp(long value) {
+        bitField0_ |= 0x00000004;
+        generationStamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 generationStamp = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGenerationStamp() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        generationStamp_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.Pipeline)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.Pipeline)
+    private static final proto.ProtosHDFS.Pipeline DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.Pipeline();
+    }
+
+    public static proto.ProtosHDFS.Pipeline getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Pipeline>
+        PARSER = new com.google.protobuf.AbstractParser<Pipeline>() {
+      @java.lang.Override
+      public Pipeline parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Pipeline(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Pipeline> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Pipeline> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.Pipeline getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BlockLocationsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.BlockLocations)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string fileId = 1;</code>
+     * @return Whether the fileId field is set.
+     */
+    boolean hasFileId();
+    /**
+     * <code>required string fileId = 1;</code>
+     * @return The fileId.
+     */
+    java.lang.String getFileId();
+    /**
+     * <code>required string fileId = 1;</code>
+     * @return The bytes for fileId.
+     */
+    com.google.protobuf.ByteString
+        getFileIdBytes();
+
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 2;</code>
+     */
+    java.util.List<proto.ProtosHDFS.Pipeline> 
+        getPipelinesList();
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 2;</code>
+     */
+    proto.ProtosHDFS.Pipeline getPipelines(int index);
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 2;</code>
+     */
+    int getPipelinesCount();
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 2;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.PipelineOrBuilder> 
+        getPipelinesOrBuilderList();
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 2;</code>
+     */
+    proto.ProtosHDFS.PipelineOrBuilder getPipelinesOrBuilder(
+        int index);
+
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return Whether the errorMessage field is set.
+     */
+    boolean hasErrorMessage();
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return The errorMessage.
+     */
+    java.lang.String getErrorMessage();
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return The bytes for errorMessage.
+     */
+    com.google.protobuf.ByteString
+        getErrorMessageBytes();
+
+    /**
+     * <code>optional int64 generation = 4;</code>
+     * @return Whether the generation field is set.
+     */
+    boolean hasGeneration();
+    /**
+     * <code>optional int64 generation = 4;</code>
+     * @return The generation.
+     */
+    long getGeneration();
+  }
+  /**
+   * <pre>
+   * Block locations of one file in a batched lookup: a pipeline per block, or errorMessage if there is no such file
+   * </pre>
+   *
+   * Protobuf type {@code proto.BlockLocations}
+   */
+  public  static final class BlockLocations extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.BlockLocations)
+      BlockLocationsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BlockLocations.newBuilder() to construct.
+    private BlockLocations(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BlockLocations() {
+      fileId_ = "";
+      pipelines_ = java.util.Collections.emptyList();
+      errorMessage_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BlockLocations();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BlockLocations(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              fileId_ = bs;
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                pipelines_ = new java.util.ArrayList<proto.ProtosHDFS.Pipeline>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              pipelines_.add(
+                  input.readMessage(proto.ProtosHDFS.Pipeline.PARSER, extensionRegistry));
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              errorMessage_ = bs;
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000004;
+              generation_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          pipelines_ = java.util.Collections.unmodifiableList(pipelines_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_BlockLocations_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_BlockLocations_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.BlockLocations.class, proto.ProtosHDFS.BlockLocations.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int FILEID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object fileId_;
+    /**
+     * <code>required string fileId = 1;</code>
+     * @return Whether the fileId field is set.
+     */
+    public boolean hasFileId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string fileId = 1;</code>
+     * @return The fileId.
+     */
+    public java.lang.String getFileId() {
+      java.lang.Object ref = fileId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          fileId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string fileId = 1;</code>
+     * @return The bytes for fileId.
+     */
+    public com.google.protobuf.ByteString
+        getFileIdBytes() {
+      java.lang.Object ref = fileId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PIPELINES_FIELD_NUMBER = 2;
+    private java.util.List<proto.ProtosHDFS.Pipeline> pipelines_;
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 2;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.Pipeline> getPipelinesList() {
+      return pipelines_;
+    }
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 2;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.PipelineOrBuilder> 
+        getPipelinesOrBuilderList() {
+      return pipelines_;
+    }
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 2;</code>
+     */
+    public int getPipelinesCount() {
+      return pipelines_.size();
+    }
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 2;</code>
+     */
+    public proto.ProtosHDFS.Pipeline getPipelines(int index) {
+      return pipelines_.get(index);
+    }
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 2;</code>
+     */
+    public proto.ProtosHDFS.PipelineOrBuilder getPipelinesOrBuilder(
+        int index) {
+      return pipelines_.get(index);
+    }
+
+    public static final int ERRORMESSAGE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object errorMessage_;
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return Whether the errorMessage field is set.
+     */
+    public boolean hasErrorMessage() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return The errorMessage.
+     */
+    public java.lang.String getErrorMessage() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          errorMessage_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return The bytes for errorMessage.
+     */
+    public com.google.protobuf.ByteString
+        getErrorMessageBytes() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorMessage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int GENERATION_FIELD_NUMBER = 4;
+    private long generation_;
+    /**
+     * <code>optional int64 generation = 4;</code>
+     * @return Whether the generation field is set.
+     */
+    public boolean hasGeneration() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int64 generation = 4;</code>
+     * @return The generation.
+     */
+    public long getGeneration() {
+      return generation_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasFileId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, fileId_);
+      }
+      for (int i = 0; i < pipelines_.size(); i++) {
+        output.writeMessage(2, pipelines_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, errorMessage_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(4, generation_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, fileId_);
+      }
+      for (int i = 0; i < pipelines_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, pipelines_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, errorMessage_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, generation_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof proto.ProtosHDFS.BlockLocations)) {
+        return super.equals(obj);
+      }
+      proto.ProtosHDFS.BlockLocations other = (proto.ProtosHDFS.BlockLocations) obj;
+
+      if (hasFileId() != other.hasFileId()) return false;
+      if (hasFileId()) {
+        if (!getFileId()
+            .equals(other.getFileId())) return false;
+      }
+      if (!getPipelinesList()
+          .equals(other.getPipelinesList())) return false;
+      if (hasErrorMessage() != other.hasErrorMessage()) return false;
+      if (hasErrorMessage()) {
+        if (!getErrorMessage()
+            .equals(other.getErrorMessage())) return false;
+      }
+      if (hasGeneration() != other.hasGeneration()) return false;
+      if (hasGeneration()) {
+        if (getGeneration()
+            != other.getGeneration()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasFileId()) {
+        hash = (37 * hash) + FILEID_FIELD_NUMBER;
+        hash = (53 * hash) + getFileId().hashCode();
+      }
+      if (getPipelinesCount() > 0) {
+        hash = (37 * hash) + PIPELINES_FIELD_NUMBER;
+        hash = (53 * hash) + getPipelinesList().hashCode();
+      }
+      if (hasErrorMessage()) {
+        hash = (37 * hash) + ERRORMESSAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getErrorMessage().hashCode();
+      }
+      if (hasGeneration()) {
+        hash = (37 * hash) + GENERATION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getGeneration());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static proto.ProtosHDFS.BlockLocations parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.BlockLocations parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(proto.ProtosHDFS.BlockLocations prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Block locations of one file in a batched lookup: a pipeline per block, or errorMessage if there is no such file
+     * </pre>
+     *
+     * Protobuf type {@code proto.BlockLocations}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.BlockLocations)
+        proto.ProtosHDFS.BlockLocationsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.internal_static_proto_BlockLocations_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return proto.ProtosHDFS.internal_static_proto_BlockLocations_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                proto.ProtosHDFS.BlockLocations.class, proto.ProtosHDFS.BlockLocations.Builder.class);
+      }
+
+      // Construct using proto.ProtosHDFS.BlockLocations.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPipelinesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        fileId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (pipelinesBuilder_ == null) {
+          pipelines_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          pipelinesBuilder_.clear();
+        }
+        errorMessage_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        generation_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return proto.ProtosHDFS.internal_static_proto_BlockLocations_descriptor;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.BlockLocations getDefaultInstanceForType() {
+        return proto.ProtosHDFS.BlockLocations.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.BlockLocations build() {
+        proto.ProtosHDFS.BlockLocations result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.BlockLocations buildPartial() {
+        proto.ProtosHDFS.BlockLocations result = new proto.ProtosHDFS.BlockLocations(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.fileId_ = fileId_;
+        if (pipelinesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            pipelines_ = java.util.Collections.unmodifiableList(pipelines_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.pipelines_ = pipelines_;
+        } else {
+          result.pipelines_ = pipelinesBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.errorMessage_ = errorMessage_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.generation_ = generation_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof proto.ProtosHDFS.BlockLocations) {
+          return mergeFrom((proto.ProtosHDFS.BlockLocations)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(proto.ProtosHDFS.BlockLocations other) {
+        if (other == proto.ProtosHDFS.BlockLocations.getDefaultInstance()) return this;
+        if (other.hasFileId()) {
+          bitField0_ |= 0x00000001;
+          fileId_ = other.fileId_;
+          onChanged();
+        }
+        if (pipelinesBuilder_ == null) {
+          if (!other.pipelines_.isEmpty()) {
+            if (pipelines_.isEmpty()) {
+              pipelines_ = other.pipelines_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensurePipelinesIsMutable();
+              pipelines_.addAll(other.pipelines_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.pipelines_.isEmpty()) {
+            if (pipelinesBuilder_.isEmpty()) {
+              pipelinesBuilder_.dispose();
+              pipelinesBuilder_ = null;
+              pipelines_ = other.pipelines_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              pipelinesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPipelinesFieldBuilder() : null;
+            } else {
+              pipelinesBuilder_.addAllMessages(other.pipelines_);
+            }
+          }
+        }
+        if (other.hasErrorMessage()) {
+          bitField0_ |= 0x00000004;
+          errorMessage_ = other.errorMessage_;
+          onChanged();
+        }
+        if (other.hasGeneration()) {
+          setGeneration(other.getGeneration());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasFileId()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        proto.ProtosHDFS.BlockLocations parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (proto.ProtosHDFS.BlockLocations) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fileId_ = "";
+      /**
+       * <code>required string fileId = 1;</code>
+       * @return Whether the fileId field is set.
+       */
+      public boolean hasFileId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required string fileId = 1;</code>
+       * @return The fileId.
+       */
+      public java.lang.String getFileId() {
+        java.lang.Object ref = fileId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            fileId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string fileId = 1;</code>
+       * @return The bytes for fileId.
+       */
+      public com.google.protobuf.ByteString
+          getFileIdBytes() {
+        java.lang.Object ref = fileId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string fileId = 1;</code>
+       * @param value The fileId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        fileId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string fileId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        fileId_ = getDefaultInstance().getFileId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string fileId = 1;</code>
+       * @param value The bytes for fileId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        fileId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<proto.ProtosHDFS.Pipeline> pipelines_ =
+        java.util.Collections.emptyList();
+      private void ensurePipelinesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          pipelines_ = new java.util.ArrayList<proto.ProtosHDFS.Pipeline>(pipelines_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.Pipeline, proto.ProtosHDFS.Pipeline.Builder, proto.ProtosHDFS.PipelineOrBuilder> pipelinesBuilder_;
+
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.Pipeline> getPipelinesList() {
+        if (pipelinesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(pipelines_);
+        } else {
+          return pipelinesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public int getPipelinesCount() {
+        if (pipelinesBuilder_ == null) {
+          return pipelines_.size();
+        } else {
+          return pipelinesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public proto.ProtosHDFS.Pipeline getPipelines(int index) {
+        if (pipelinesBuilder_ == null) {
+          return pipelines_.get(index);
+        } else {
+          return pipelinesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public Builder setPipelines(
+          int index, proto.ProtosHDFS.Pipeline value) {
+        if (pipelinesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePipelinesIsMutable();
+          pipelines_.set(index, value);
+          onChanged();
+        } else {
+          pipelinesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public Builder setPipelines(
+          int index, proto.ProtosHDFS.Pipeline.Builder builderForValue) {
+        if (pipelinesBuilder_ == null) {
+          ensurePipelinesIsMutable();
+          pipelines_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          pipelinesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public Builder addPipelines(proto.ProtosHDFS.Pipeline value) {
+        if (pipelinesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePipelinesIsMutable();
+          pipelines_.add(value);
+          onChanged();
+        } else {
+          pipelinesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public Builder addPipelines(
+          int index, proto.ProtosHDFS.Pipeline value) {
+        if (pipelinesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePipelinesIsMutable();
+          pipelines_.add(index, value);
+          onChanged();
+        } else {
+          pipelinesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public Builder addPipelines(
+          proto.ProtosHDFS.Pipeline.Builder builderForValue) {
+        if (pipelinesBuilder_ == null) {
+          ensurePipelinesIsMutable();
+          pipelines_.add(builderForValue.build());
+          onChanged();
+        } else {
+          pipelinesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public Builder addPipelines(
+          int index, proto.ProtosHDFS.Pipeline.Builder builderForValue) {
+        if (pipelinesBuilder_ == null) {
+          ensurePipelinesIsMutable();
+          pipelines_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          pipelinesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public Builder addAllPipelines(
+          java.lang.Iterable<? extends proto.ProtosHDFS.Pipeline> values) {
+        if (pipelinesBuilder_ == null) {
+          ensurePipelinesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, pipelines_);
+          onChanged();
+        } else {
+          pipelinesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public Builder clearPipelines() {
+        if (pipelinesBuilder_ == null) {
+          pipelines_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          pipelinesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public Builder removePipelines(int index) {
+        if (pipelinesBuilder_ == null) {
+          ensurePipelinesIsMutable();
+          pipelines_.remove(index);
+          onChanged();
+        } else {
+          pipelinesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public proto.ProtosHDFS.Pipeline.Builder getPipelinesBuilder(
+          int index) {
+        return getPipelinesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public proto.ProtosHDFS.PipelineOrBuilder getPipelinesOrBuilder(
+          int index) {
+        if (pipelinesBuilder_ == null) {
+          return pipelines_.get(index);  } else {
+          return pipelinesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.PipelineOrBuilder> 
+           getPipelinesOrBuilderList() {
+        if (pipelinesBuilder_ != null) {
+          return pipelinesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(pipelines_);
+        }
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public proto.ProtosHDFS.Pipeline.Builder addPipelinesBuilder() {
+        return getPipelinesFieldBuilder().addBuilder(
+            proto.ProtosHDFS.Pipeline.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public proto.ProtosHDFS.Pipeline.Builder addPipelinesBuilder(
+          int index) {
+        return getPipelinesFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.Pipeline.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 2;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.Pipeline.Builder> 
+           getPipelinesBuilderList() {
+        return getPipelinesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.Pipeline, proto.ProtosHDFS.Pipeline.Builder, proto.ProtosHDFS.PipelineOrBuilder> 
+          getPipelinesFieldBuilder() {
+        if (pipelinesBuilder_ == null) {
+          pipelinesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.Pipeline, proto.ProtosHDFS.Pipeline.Builder, proto.ProtosHDFS.PipelineOrBuilder>(
+                  pipelines_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          pipelines_ = null;
+        }
+        return pipelinesBuilder_;
+      }
+
+      private java.lang.Object errorMessage_ = "";
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @return Whether the errorMessage field is set.
+       */
+      public boolean hasErrorMessage() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @return The errorMessage.
+       */
+      public java.lang.String getErrorMessage() {
+        java.lang.Object ref = errorMessage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            errorMessage_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @return The bytes for errorMessage.
+       */
+      public com.google.protobuf.ByteString
+          getErrorMessageBytes() {
+        java.lang.Object ref = errorMessage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errorMessage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @param value The errorMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorMessage() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        errorMessage_ = getDefaultInstance().getErrorMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @param value The bytes for errorMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long generation_ ;
+      /**
+       * <code>optional int64 generation = 4;</code>
+       * @return Whether the generation field is set.
+       */
+      public boolean hasGeneration() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int64 generation = 4;</code>
+       * @return The generation.
+       */
+      public long getGeneration() {
+        return generation_;
+      }
+      /**
+       * <code>optional int64 generation = 4;</code>
+       * @param value The generation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGeneration(long value) {
+        bitField0_ |= 0x00000008;
+        generation_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 generation = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGeneration() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        generation_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.BlockLocations)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.BlockLocations)
+    private static final proto.ProtosHDFS.BlockLocations DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.BlockLocations();
+    }
+
+    public static proto.ProtosHDFS.BlockLocations getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<BlockLocations>
+        PARSER = new com.google.protobuf.AbstractParser<BlockLocations>() {
+      @java.lang.Override
+      public BlockLocations parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BlockLocations(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BlockLocations> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BlockLocations> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.BlockLocations getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string responseId = 1;</code>
+     * @return Whether the responseId field is set.
+     */
+    boolean hasResponseId();
+    /**
+     * <code>required string responseId = 1;</code>
+     * @return The responseId.
+     */
+    java.lang.String getResponseId();
+    /**
+     * <code>required string responseId = 1;</code>
+     * @return The bytes for responseId.
+     */
+    com.google.protobuf.ByteString
+        getResponseIdBytes();
+
+    /**
+     * <code>required .proto.Response.ResponseType responseType = 2;</code>
+     * @return Whether the responseType field is set.
+     */
+    boolean hasResponseType();
+    /**
+     * <code>required .proto.Response.ResponseType responseType = 2;</code>
+     * @return The responseType.
+     */
+    proto.ProtosHDFS.Response.ResponseType getResponseType();
+
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return Whether the errorMessage field is set.
+     */
+    boolean hasErrorMessage();
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return The errorMessage.
+     */
+    java.lang.String getErrorMessage();
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return The bytes for errorMessage.
+     */
+    com.google.protobuf.ByteString
+        getErrorMessageBytes();
+
+    /**
+     * <code>repeated .proto.Block block = 4;</code>
+     */
+    java.util.List<proto.ProtosHDFS.Block> 
+        getBlockList();
+    /**
+     * <code>repeated .proto.Block block = 4;</code>
+     */
+    proto.ProtosHDFS.Block getBlock(int index);
+    /**
+     * <code>repeated .proto.Block block = 4;</code>
+     */
+    int getBlockCount();
+    /**
+     * <code>repeated .proto.Block block = 4;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.BlockOrBuilder> 
+        getBlockOrBuilderList();
+    /**
+     * <code>repeated .proto.Block block = 4;</code>
+     */
+    proto.ProtosHDFS.BlockOrBuilder getBlockOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     */
+    java.util.List<proto.ProtosHDFS.Pipeline> 
+        getPipelinesList();
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     */
+    proto.ProtosHDFS.Pipeline getPipelines(int index);
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     */
+    int getPipelinesCount();
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.PipelineOrBuilder> 
+        getPipelinesOrBuilderList();
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     */
+    proto.ProtosHDFS.PipelineOrBuilder getPipelinesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+     */
+    java.util.List<proto.ProtosHDFS.DataNodeCommand> 
+        getCommandsList();
+    /**
+     * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+     */
+    proto.ProtosHDFS.DataNodeCommand getCommands(int index);
+    /**
+     * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+     */
+    int getCommandsCount();
+    /**
+     * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.DataNodeCommandOrBuilder> 
+        getCommandsOrBuilderList();
+    /**
+     * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+     */
+    proto.ProtosHDFS.DataNodeCommandOrBuilder getCommandsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .proto.BlockLocations locations = 7;</code>
+     */
+    java.util.List<proto.ProtosHDFS.BlockLocations> 
+        getLocationsList();
+    /**
+     * <code>repeated .proto.BlockLocations locations = 7;</code>
+     */
+    proto.ProtosHDFS.BlockLocations getLocations(int index);
+    /**
+     * <code>repeated .proto.BlockLocations locations = 7;</code>
+     */
+    int getLocationsCount();
+    /**
+     * <code>repeated .proto.BlockLocations locations = 7;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.BlockLocationsOrBuilder> 
+        getLocationsOrBuilderList();
+    /**
+     * <code>repeated .proto.BlockLocations locations = 7;</code>
+     */
+    proto.ProtosHDFS.BlockLocationsOrBuilder getLocationsOrBuilder(
+        int index);
+
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+     * @return Whether the fileMeta field is set.
+     */
+    boolean hasFileMeta();
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+     * @return The fileMeta.
+     */
+    proto.ProtosHDFS.FileMetadata getFileMeta();
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+     */
+    proto.ProtosHDFS.FileMetadataOrBuilder getFileMetaOrBuilder();
+
+    /**
+     * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+     */
+    java.util.List<proto.ProtosHDFS.DirectoryEntry> 
+        getEntriesList();
+    /**
+     * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+     */
+    proto.ProtosHDFS.DirectoryEntry getEntries(int index);
+    /**
+     * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+     */
+    int getEntriesCount();
+    /**
+     * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.DirectoryEntryOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+     */
+    proto.ProtosHDFS.DirectoryEntryOrBuilder getEntriesOrBuilder(
+        int index);
+
+    /**
+     * <code>optional string nextStartAfter = 10;</code>
+     * @return Whether the nextStartAfter field is set.
+     */
+    boolean hasNextStartAfter();
+    /**
+     * <code>optional string nextStartAfter = 10;</code>
+     * @return The nextStartAfter.
+     */
+    java.lang.String getNextStartAfter();
+    /**
+     * <code>optional string nextStartAfter = 10;</code>
+     * @return The bytes for nextStartAfter.
+     */
+    com.google.protobuf.ByteString
+        getNextStartAfterBytes();
+  }
+  /**
+   * Protobuf type {@code proto.Response}
+   */
+  public  static final class Response extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.Response)
+      ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Response.newBuilder() to construct.
+    private Response(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Response() {
+      responseId_ = "";
+      responseType_ = 0;
+      errorMessage_ = "";
+      block_ = java.util.Collections.emptyList();
+      pipelines_ = java.util.Collections.emptyList();
+      commands_ = java.util.Collections.emptyList();
+      locations_ = java.util.Collections.emptyList();
+      entries_ = java.util.Collections.emptyList();
+      nextStartAfter_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Response();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Response(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              responseId_ = bs;
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+                @SuppressWarnings("deprecation")
+              proto.ProtosHDFS.Response.ResponseType value = proto.ProtosHDFS.Response.ResponseType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(2, rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                responseType_ = rawValue;
+              }
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              errorMessage_ = bs;
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                block_ = new java.util.ArrayList<proto.ProtosHDFS.Block>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              block_.add(
+                  input.readMessage(proto.ProtosHDFS.Block.PARSER, extensionRegistry));
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                pipelines_ = new java.util.ArrayList<proto.ProtosHDFS.Pipeline>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              pipelines_.add(
+                  input.readMessage(proto.ProtosHDFS.Pipeline.PARSER, extensionRegistry));
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                commands_ = new java.util.ArrayList<proto.ProtosHDFS.DataNodeCommand>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              commands_.add(
+                  input.readMessage(proto.ProtosHDFS.DataNodeCommand.PARSER, extensionRegistry));
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000040) != 0)) {
+                locations_ = new java.util.ArrayList<proto.ProtosHDFS.BlockLocations>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              locations_.add(
+                  input.readMessage(proto.ProtosHDFS.BlockLocations.PARSER, extensionRegistry));
+              break;
+            }
+            case 66: {
+              proto.ProtosHDFS.FileMetadata.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) != 0)) {
+                subBuilder = fileMeta_.toBuilder();
+              }
+              fileMeta_ = input.readMessage(proto.ProtosHDFS.FileMetadata.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fileMeta_);
+                fileMeta_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+            case 74: {
+              if (!((mutable_bitField0_ & 0x00000100) != 0)) {
+                entries_ = new java.util.ArrayList<proto.ProtosHDFS.DirectoryEntry>();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              entries_.add(
+                  input.readMessage(proto.ProtosHDFS.DirectoryEntry.PARSER, extensionRegistry));
+              break;
+            }
+            case 82: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              nextStartAfter_ = bs;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          block_ = java.util.Collections.unmodifiableList(block_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          pipelines_ = java.util.Collections.unmodifiableList(pipelines_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          commands_ = java.util.Collections.unmodifiableList(commands_);
+        }
+        if (((mutable_bitField0_ & 0x00000040) != 0)) {
+          locations_ = java.util.Collections.unmodifiableList(locations_);
+        }
+        if (((mutable_bitField0_ & 0x00000100) != 0)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.Response.class, proto.ProtosHDFS.Response.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code proto.Response.ResponseType}
+     */
+    public enum ResponseType
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>SUCCESS = 0;</code>
+       */
+      SUCCESS(0),
+      /**
+       * <code>FAILURE = 1;</code>
+       */
+      FAILURE(1),
+      /**
+       * <code>NOT_MODIFIED = 2;</code>
+       */
+      NOT_MODIFIED(2),
+      ;
+
+      /**
+       * <code>SUCCESS = 0;</code>
+       */
+      public static final int SUCCESS_VALUE = 0;
+      /**
+       * <code>FAILURE = 1;</code>
+       */
+      public static final int FAILURE_VALUE = 1;
+      /**
+       * <code>NOT_MODIFIED = 2;</code>
+       */
+      public static final int NOT_MODIFIED_VALUE = 2;
+
+
+      public final int getNumber() {
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ResponseType valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static ResponseType forNumber(int value) {
+        switch (value) {
+          case 0: return SUCCESS;
+          case 1: return FAILURE;
+          case 2: return NOT_MODIFIED;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<ResponseType>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          ResponseType> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<ResponseType>() {
+              public ResponseType findValueByNumber(int number) {
+                return ResponseType.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.Response.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final ResponseType[] VALUES = values();
+
+      public static ResponseType valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private ResponseType(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:proto.Response.ResponseType)
+    }
+
+    private int bitField0_;
+    public static final int RESPONSEID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object responseId_;
+    /**
+     * <code>required string responseId = 1;</code>
+     * @return Whether the responseId field is set.
+     */
+    public boolean hasResponseId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string responseId = 1;</code>
+     * @return The responseId.
+     */
+    public java.lang.String getResponseId() {
+      java.lang.Object ref = responseId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          responseId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string responseId = 1;</code>
+     * @return The bytes for responseId.
+     */
+    public com.google.protobuf.ByteString
+        getResponseIdBytes() {
+      java.lang.Object ref = responseId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        responseId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RESPONSETYPE_FIELD_NUMBER = 2;
+    private int responseType_;
+    /**
+     * <code>required .proto.Response.ResponseType responseType = 2;</code>
+     * @return Whether the responseType field is set.
+     */
+    public boolean hasResponseType() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required .proto.Response.ResponseType responseType = 2;</code>
+     * @return The responseType.
+     */
+    public proto.ProtosHDFS.Response.ResponseType getResponseType() {
+      @SuppressWarnings("deprecation")
+      proto.ProtosHDFS.Response.ResponseType result = proto.ProtosHDFS.Response.ResponseType.valueOf(responseType_);
+      return result == null ? proto.ProtosHDFS.Response.ResponseType.SUCCESS : result;
+    }
+
+    public static final int ERRORMESSAGE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object errorMessage_;
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return Whether the errorMessage field is set.
+     */
+    public boolean hasErrorMessage() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return The errorMessage.
+     */
+    public java.lang.String getErrorMessage() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          errorMessage_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string errorMessage = 3;</code>
+     * @return The bytes for errorMessage.
+     */
+    public com.google.protobuf.ByteString
+        getErrorMessageBytes() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorMessage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BLOCK_FIELD_NUMBER = 4;
+    private java.util.List<proto.ProtosHDFS.Block> block_;
+    /**
+     * <code>repeated .proto.Block block = 4;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.Block> getBlockList() {
+      return block_;
+    }
+    /**
+     * <code>repeated .proto.Block block = 4;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.BlockOrBuilder> 
+        getBlockOrBuilderList() {
+      return block_;
+    }
+    /**
+     * <code>repeated .proto.Block block = 4;</code>
+     */
+    public int getBlockCount() {
+      return block_.size();
+    }
+    /**
+     * <code>repeated .proto.Block block = 4;</code>
+     */
+    public proto.ProtosHDFS.Block getBlock(int index) {
+      return block_.get(index);
+    }
+    /**
+     * <code>repeated .proto.Block block = 4;</code>
+     */
+    public proto.ProtosHDFS.BlockOrBuilder getBlockOrBuilder(
+        int index) {
+      return block_.get(index);
+    }
+
+    public static final int PIPELINES_FIELD_NUMBER = 5;
+    private java.util.List<proto.ProtosHDFS.Pipeline> pipelines_;
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.Pipeline> getPipelinesList() {
+      return pipelines_;
+    }
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.PipelineOrBuilder> 
+        getPipelinesOrBuilderList() {
+      return pipelines_;
+    }
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     */
+    public int getPipelinesCount() {
+      return pipelines_.size();
+    }
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     */
+    public proto.ProtosHDFS.Pipeline getPipelines(int index) {
+      return pipelines_.get(index);
+    }
+    /**
+     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     */
+    public proto.ProtosHDFS.PipelineOrBuilder getPipelinesOrBuilder(
+        int index) {
+      return pipelines_.get(index);
+    }
+
+    public static final int COMMANDS_FIELD_NUMBER = 6;
+    private java.util.List<proto.ProtosHDFS.DataNodeCommand> commands_;
+    /**
+     * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.DataNodeCommand> getCommandsList() {
+      return commands_;
+    }
+    /**
+     * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.DataNodeCommandOrBuilder> 
+        getCommandsOrBuilderList() {
+      return commands_;
+    }
+    /**
+     * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+     */
+    public int getCommandsCount() {
+      return commands_.size();
+    }
+    /**
+     * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+     */
+    public proto.ProtosHDFS.DataNodeCommand getCommands(int index) {
+      return commands_.get(index);
+    }
+    /**
+     * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+     */
+    public proto.ProtosHDFS.DataNodeCommandOrBuilder getCommandsOrBuilder(
+        int index) {
+      return commands_.get(index);
+    }
+
+    public static final int LOCATIONS_FIELD_NUMBER = 7;
+    private java.util.List<proto.ProtosHDFS.BlockLocations> locations_;
+    /**
+     * <code>repeated .proto.BlockLocations locations = 7;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.BlockLocations> getLocationsList() {
+      return locations_;
+    }
+    /**
+     * <code>repeated .proto.BlockLocations locations = 7;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.BlockLocationsOrBuilder> 
+        getLocationsOrBuilderList() {
+      return locations_;
+    }
+    /**
+     * <code>repeated .proto.BlockLocations locations = 7;</code>
+     */
+    public int getLocationsCount() {
+      return locations_.size();
+    }
+    /**
+     * <code>repeated .proto.BlockLocations locations = 7;</code>
+     */
+    public proto.ProtosHDFS.BlockLocations getLocations(int index) {
+      return locations_.get(index);
+    }
+    /**
+     * <code>repeated .proto.BlockLocations locations = 7;</code>
+     */
+    public proto.ProtosHDFS.BlockLocationsOrBuilder getLocationsOrBuilder(
+        int index) {
+      return locations_.get(index);
+    }
+
+    public static final int FILEMETA_FIELD_NUMBER = 8;
+    private proto.ProtosHDFS.FileMetadata fileMeta_;
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+     * @return Whether the fileMeta field is set.
+     */
+    public boolean hasFileMeta() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+     * @return The fileMeta.
+     */
+    public proto.ProtosHDFS.FileMetadata getFileMeta() {
+      return fileMeta_ == null ? proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+    }
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+     */
+    public proto.ProtosHDFS.FileMetadataOrBuilder getFileMetaOrBuilder() {
+      return fileMeta_ == null ? proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+    }
+
+    public static final int ENTRIES_FIELD_NUMBER = 9;
+    private java.util.List<proto.ProtosHDFS.DirectoryEntry> entries_;
+    /**
+     * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.DirectoryEntry> getEntriesList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.DirectoryEntryOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+     */
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+     */
+    public proto.ProtosHDFS.DirectoryEntry getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+     */
+    public proto.ProtosHDFS.DirectoryEntryOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
+    }
+
+    public static final int NEXTSTARTAFTER_FIELD_NUMBER = 10;
+    private volatile java.lang.Object nextStartAfter_;
+    /**
+     * <code>optional string nextStartAfter = 10;</code>
+     * @return Whether the nextStartAfter field is set.
+     */
+    public boolean hasNextStartAfter() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional string nextStartAfter = 10;</code>
+     * @return The nextStartAfter.
+     */
+    public java.lang.String getNextStartAfter() {
+      java.lang.Object ref = nextStartAfter_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          nextStartAfter_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string nextStartAfter = 10;</code>
+     * @return The bytes for nextStartAfter.
+     */
+    public com.google.protobuf.ByteString
+        getNextStartAfterBytes() {
+      java.lang.Object ref = nextStartAfter_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextStartAfter_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasResponseId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasResponseType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getBlockCount(); i++) {
+        if (!getBlock(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getCommandsCount(); i++) {
+        if (!getCommands(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getLocationsCount(); i++) {
+        if (!getLocations(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasFileMeta()) {
+        if (!getFileMeta().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getEntriesCount(); i++) {
+        if (!getEntries(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, responseId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeEnum(2, responseType_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, errorMessage_);
+      }
+      for (int i = 0; i < block_.size(); i++) {
+        output.writeMessage(4, block_.get(i));
+      }
+      for (int i = 0; i < pipelines_.size(); i++) {
+        output.writeMessage(5, pipelines_.get(i));
+      }
+      for (int i = 0; i < commands_.size(); i++) {
+        output.writeMessage(6, commands_.get(i));
+      }
+      for (int i = 0; i < locations_.size(); i++) {
+        output.writeMessage(7, locations_.get(i));
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeMessage(8, getFileMeta());
+      }
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(9, entries_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 10, nextStartAfter_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, responseId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, responseType_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, errorMessage_);
+      }
+      for (int i = 0; i < block_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, block_.get(i));
+      }
+      for (int i = 0; i < pipelines_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, pipelines_.get(i));
+      }
+      for (int i = 0; i < commands_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, commands_.get(i));
+      }
+      for (int i = 0; i < locations_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, locations_.get(i));
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getFileMeta());
+      }
+      for (int i = 0; i < entries_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, entries_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(10, nextStartAfter_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof proto.ProtosHDFS.Response)) {
+        return super.equals(obj);
+      }
+      proto.ProtosHDFS.Response other = (proto.ProtosHDFS.Response) obj;
+
+      if (hasResponseId() != other.hasResponseId()) return false;
+      if (hasResponseId()) {
+        if (!getResponseId()
+            .equals(other.getResponseId())) return false;
+      }
+      if (hasResponseType() != other.hasResponseType()) return false;
+      if (hasResponseType()) {
+        if (responseType_ != other.responseType_) return false;
+      }
+      if (hasErrorMessage() != other.hasErrorMessage()) return false;
+      if (hasErrorMessage()) {
+        if (!getErrorMessage()
+            .equals(other.getErrorMessage())) return false;
+      }
+      if (!getBlockList()
+          .equals(other.getBlockList())) return false;
+      if (!getPipelinesList()
+          .equals(other.getPipelinesList())) return false;
+      if (!getCommandsList()
+          .equals(other.getCommandsList())) return false;
+      if (!getLocationsList()
+          .equals(other.getLocationsList())) return false;
+      if (hasFileMeta() != other.hasFileMeta()) return false;
+      if (hasFileMeta()) {
+        if (!getFileMeta()
+            .equals(other.getFileMeta())) return false;
+      }
+      if (!getEntriesList()
+          .equals(other.getEntriesList())) return false;
+      if (hasNextStartAfter() != other.hasNextStartAfter()) return false;
+      if (hasNextStartAfter()) {
+        if (!getNextStartAfter()
+            .equals(other.getNextStartAfter())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasResponseId()) {
+        hash = (37 * hash) + RESPONSEID_FIELD_NUMBER;
+        hash = (53 * hash) + getResponseId().hashCode();
+      }
+      if (hasResponseType()) {
+        hash = (37 * hash) + RESPONSETYPE_FIELD_NUMBER;
+        hash = (53 * hash) + responseType_;
+      }
+      if (hasErrorMessage()) {
+        hash = (37 * hash) + ERRORMESSAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getErrorMessage().hashCode();
+      }
+      if (getBlockCount() > 0) {
+        hash = (37 * hash) + BLOCK_FIELD_NUMBER;
+        hash = (53 * hash) + getBlockList().hashCode();
+      }
+      if (getPipelinesCount() > 0) {
+        hash = (37 * hash) + PIPELINES_FIELD_NUMBER;
+        hash = (53 * hash) + getPipelinesList().hashCode();
+      }
+      if (getCommandsCount() > 0) {
+        hash = (37 * hash) + COMMANDS_FIELD_NUMBER;
+        hash = (53 * hash) + getCommandsList().hashCode();
+      }
+      if (getLocationsCount() > 0) {
+        hash = (37 * hash) + LOCATIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getLocationsList().hashCode();
+      }
+      if (hasFileMeta()) {
+        hash = (37 * hash) + FILEMETA_FIELD_NUMBER;
+        hash = (53 * hash) + getFileMeta().hashCode();
+      }
+      if (getEntriesCount() > 0) {
+        hash = (37 * hash) + ENTRIES_FIELD_NUMBER;
+        hash = (53 * hash) + getEntriesList().hashCode();
+      }
+      if (hasNextStartAfter()) {
+        hash = (37 * hash) + NEXTSTARTAFTER_FIELD_NUMBER;
+        hash = (53 * hash) + getNextStartAfter().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static proto.ProtosHDFS.Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(proto.ProtosHDFS.Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.Response)
+        proto.ProtosHDFS.ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.internal_static_proto_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return proto.ProtosHDFS.internal_static_proto_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                proto.ProtosHDFS.Response.class, proto.ProtosHDFS.Response.Builder.class);
+      }
+
+      // Construct using proto.ProtosHDFS.Response.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getBlockFieldBuilder();
+          getPipelinesFieldBuilder();
+          getCommandsFieldBuilder();
+          getLocationsFieldBuilder();
+          getFileMetaFieldBuilder();
+          getEntriesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        responseId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        responseType_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        errorMessage_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (blockBuilder_ == null) {
+          block_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          blockBuilder_.clear();
+        }
+        if (pipelinesBuilder_ == null) {
+          pipelines_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          pipelinesBuilder_.clear();
+        }
+        if (commandsBuilder_ == null) {
+          commands_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          commandsBuilder_.clear();
+        }
+        if (locationsBuilder_ == null) {
+          locations_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+        } else {
+          locationsBuilder_.clear();
+        }
+        if (fileMetaBuilder_ == null) {
+          fileMeta_ = null;
+        } else {
+          fileMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+        } else {
+          entriesBuilder_.clear();
+        }
+        nextStartAfter_ = "";
+        bitField0_ = (bitField0_ & ~0x00000200);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return proto.ProtosHDFS.internal_static_proto_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.Response getDefaultInstanceForType() {
+        return proto.ProtosHDFS.Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.Response build() {
+        proto.ProtosHDFS.Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.Response buildPartial() {
+        proto.ProtosHDFS.Response result = new proto.ProtosHDFS.Response(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.responseId_ = responseId_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.responseType_ = responseType_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.errorMessage_ = errorMessage_;
+        if (blockBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            block_ = java.util.Collections.unmodifiableList(block_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.block_ = block_;
+        } else {
+          result.block_ = blockBuilder_.build();
+        }
+        if (pipelinesBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            pipelines_ = java.util.Collections.unmodifiableList(pipelines_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.pipelines_ = pipelines_;
+        } else {
+          result.pipelines_ = pipelinesBuilder_.build();
+        }
+        if (commandsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            commands_ = java.util.Collections.unmodifiableList(commands_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.commands_ = commands_;
+        } else {
+          result.commands_ = commandsBuilder_.build();
+        }
+        if (locationsBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0)) {
+            locations_ = java.util.Collections.unmodifiableList(locations_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.locations_ = locations_;
+        } else {
+          result.locations_ = locationsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          if (fileMetaBuilder_ == null) {
+            result.fileMeta_ = fileMeta_;
+          } else {
+            result.fileMeta_ = fileMetaBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000008;
+        }
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) != 0)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000100);
+          }
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.nextStartAfter_ = nextStartAfter_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof proto.ProtosHDFS.Response) {
+          return mergeFrom((proto.ProtosHDFS.Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(proto.ProtosHDFS.Response other) {
+        if (other == proto.ProtosHDFS.Response.getDefaultInstance()) return this;
+        if (other.hasResponseId()) {
+          bitField0_ |= 0x00000001;
+          responseId_ = other.responseId_;
+          onChanged();
+        }
+        if (other.hasResponseType()) {
+          setResponseType(other.getResponseType());
+        }
+        if (other.hasErrorMessage()) {
+          bitField0_ |= 0x00000004;
+          errorMessage_ = other.errorMessage_;
+          onChanged();
+        }
+        if (blockBuilder_ == null) {
+          if (!other.block_.isEmpty()) {
+            if (block_.isEmpty()) {
+              block_ = other.block_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureBlockIsMutable();
+              block_.addAll(other.block_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.block_.isEmpty()) {
+            if (blockBuilder_.isEmpty()) {
+              blockBuilder_.dispose();
+              blockBuilder_ = null;
+              block_ = other.block_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              blockBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getBlockFieldBuilder() : null;
+            } else {
+              blockBuilder_.addAllMessages(other.block_);
+            }
+          }
+        }
+        if (pipelinesBuilder_ == null) {
+          if (!other.pipelines_.isEmpty()) {
+            if (pipelines_.isEmpty()) {
+              pipelines_ = other.pipelines_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensurePipelinesIsMutable();
+              pipelines_.addAll(other.pipelines_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.pipelines_.isEmpty()) {
+            if (pipelinesBuilder_.isEmpty()) {
+              pipelinesBuilder_.dispose();
+              pipelinesBuilder_ = null;
+              pipelines_ = other.pipelines_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              pipelinesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPipelinesFieldBuilder() : null;
+            } else {
+              pipelinesBuilder_.addAllMessages(other.pipelines_);
+            }
+          }
+        }
+        if (commandsBuilder_ == null) {
+          if (!other.commands_.isEmpty()) {
+            if (commands_.isEmpty()) {
+              commands_ = other.commands_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureCommandsIsMutable();
+              commands_.addAll(other.commands_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.commands_.isEmpty()) {
+            if (commandsBuilder_.isEmpty()) {
+              commandsBuilder_.dispose();
+              commandsBuilder_ = null;
+              commands_ = other.commands_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              commandsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCommandsFieldBuilder() : null;
+            } else {
+              commandsBuilder_.addAllMessages(other.commands_);
+            }
+          }
+        }
+        if (locationsBuilder_ == null) {
+          if (!other.locations_.isEmpty()) {
+            if (locations_.isEmpty()) {
+              locations_ = other.locations_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureLocationsIsMutable();
+              locations_.addAll(other.locations_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.locations_.isEmpty()) {
+            if (locationsBuilder_.isEmpty()) {
+              locationsBuilder_.dispose();
+              locationsBuilder_ = null;
+              locations_ = other.locations_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              locationsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getLocationsFieldBuilder() : null;
+            } else {
+              locationsBuilder_.addAllMessages(other.locations_);
+            }
+          }
+        }
+        if (other.hasFileMeta()) {
+          mergeFileMeta(other.getFileMeta());
+        }
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+              entriesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
+        }
+        if (other.hasNextStartAfter()) {
+          bitField0_ |= 0x00000200;
+          nextStartAfter_ = other.nextStartAfter_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasResponseId()) {
+          return false;
+        }
+        if (!hasResponseType()) {
+          return false;
+        }
+        for (int i = 0; i < getBlockCount(); i++) {
+          if (!getBlock(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getCommandsCount(); i++) {
+          if (!getCommands(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getLocationsCount(); i++) {
+          if (!getLocations(i).isInitialized()) {
+            return false;
+          }
+        }
+        if (hasFileMeta()) {
+          if (!getFileMeta().isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getEntriesCount(); i++) {
+          if (!getEntries(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        proto.ProtosHDFS.Response parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (proto.ProtosHDFS.Response) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object responseId_ = "";
+      /**
+       * <code>required string responseId = 1;</code>
+       * @return Whether the responseId field is set.
+       */
+      public boolean hasResponseId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required string responseId = 1;</code>
+       * @return The responseId.
+       */
+      public java.lang.String getResponseId() {
+        java.lang.Object ref = responseId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            responseId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string responseId = 1;</code>
+       * @return The bytes for responseId.
+       */
+      public com.google.protobuf.ByteString
+          getResponseIdBytes() {
+        java.lang.Object ref = responseId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          responseId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string responseId = 1;</code>
+       * @param value The responseId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResponseId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        responseId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string responseId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResponseId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        responseId_ = getDefaultInstance().getResponseId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string responseId = 1;</code>
+       * @param value The bytes for responseId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResponseIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        responseId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int responseType_ = 0;
+      /**
+       * <code>required .proto.Response.ResponseType responseType = 2;</code>
+       * @return Whether the responseType field is set.
+       */
+      public boolean hasResponseType() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required .proto.Response.ResponseType responseType = 2;</code>
+       * @return The responseType.
+       */
+      public proto.ProtosHDFS.Response.ResponseType getResponseType() {
+        @SuppressWarnings("deprecation")
+        proto.ProtosHDFS.Response.ResponseType result = proto.ProtosHDFS.Response.ResponseType.valueOf(responseType_);
+        return result == null ? proto.ProtosHDFS.Response.ResponseType.SUCCESS : result;
+      }
+      /**
+       * <code>required .proto.Response.ResponseType responseType = 2;</code>
+       * @param value The responseType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResponseType(proto.ProtosHDFS.Response.ResponseType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        responseType_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .proto.Response.ResponseType responseType = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResponseType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        responseType_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object errorMessage_ = "";
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @return Whether the errorMessage field is set.
+       */
+      public boolean hasErrorMessage() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @return The errorMessage.
+       */
+      public java.lang.String getErrorMessage() {
+        java.lang.Object ref = errorMessage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            errorMessage_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @return The bytes for errorMessage.
+       */
+      public com.google.protobuf.ByteString
+          getErrorMessageBytes() {
+        java.lang.Object ref = errorMessage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errorMessage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @param value The errorMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorMessage() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        errorMessage_ = getDefaultInstance().getErrorMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string errorMessage = 3;</code>
+       * @param value The bytes for errorMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<proto.ProtosHDFS.Block> block_ =
+        java.util.Collections.emptyList();
+      private void ensureBlockIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          block_ = new java.util.ArrayList<proto.ProtosHDFS.Block>(block_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.Block, proto.ProtosHDFS.Block.Builder, proto.ProtosHDFS.BlockOrBuilder> blockBuilder_;
+
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.Block> getBlockList() {
+        if (blockBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(block_);
+        } else {
+          return blockBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public int getBlockCount() {
+        if (blockBuilder_ == null) {
+          return block_.size();
+        } else {
+          return blockBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public proto.ProtosHDFS.Block getBlock(int index) {
+        if (blockBuilder_ == null) {
+          return block_.get(index);
+        } else {
+          return blockBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public Builder setBlock(
+          int index, proto.ProtosHDFS.Block value) {
+        if (blockBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBlockIsMutable();
+          block_.set(index, value);
+          onChanged();
+        } else {
+          blockBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public Builder setBlock(
+          int index, proto.ProtosHDFS.Block.Builder builderForValue) {
+        if (blockBuilder_ == null) {
+          ensureBlockIsMutable();
+          block_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          blockBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public Builder addBlock(proto.ProtosHDFS.Block value) {
+        if (blockBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBlockIsMutable();
+          block_.add(value);
+          onChanged();
+        } else {
+          blockBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public Builder addBlock(
+          int index, proto.ProtosHDFS.Block value) {
+        if (blockBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBlockIsMutable();
+          block_.add(index, value);
+          onChanged();
+        } else {
+          blockBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public Builder addBlock(
+          proto.ProtosHDFS.Block.Builder builderForValue) {
+        if (blockBuilder_ == null) {
+          ensureBlockIsMutable();
+          block_.add(builderForValue.build());
+          onChanged();
+        } else {
+          blockBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public Builder addBlock(
+          int index, proto.ProtosHDFS.Block.Builder builderForValue) {
+        if (blockBuilder_ == null) {
+          ensureBlockIsMutable();
+          block_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          blockBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public Builder addAllBlock(
+          java.lang.Iterable<? extends proto.ProtosHDFS.Block> values) {
+        if (blockBuilder_ == null) {
+          ensureBlockIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, block_);
+          onChanged();
+        } else {
+          blockBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public Builder clearBlock() {
+        if (blockBuilder_ == null) {
+          block_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          blockBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public Builder removeBlock(int index) {
+        if (blockBuilder_ == null) {
+          ensureBlockIsMutable();
+          block_.remove(index);
+          onChanged();
+        } else {
+          blockBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public proto.ProtosHDFS.Block.Builder getBlockBuilder(
+          int index) {
+        return getBlockFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockOrBuilder getBlockOrBuilder(
+          int index) {
+        if (blockBuilder_ == null) {
+          return block_.get(index);  } else {
+          return blockBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.BlockOrBuilder> 
+           getBlockOrBuilderList() {
+        if (blockBuilder_ != null) {
+          return blockBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(block_);
+        }
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public proto.ProtosHDFS.Block.Builder addBlockBuilder() {
+        return getBlockFieldBuilder().addBuilder(
+            proto.ProtosHDFS.Block.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public proto.ProtosHDFS.Block.Builder addBlockBuilder(
+          int index) {
+        return getBlockFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.Block.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.Block block = 4;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.Block.Builder> 
+           getBlockBuilderList() {
+        return getBlockFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.Block, proto.ProtosHDFS.Block.Builder, proto.ProtosHDFS.BlockOrBuilder> 
+          getBlockFieldBuilder() {
+        if (blockBuilder_ == null) {
+          blockBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.Block, proto.ProtosHDFS.Block.Builder, proto.ProtosHDFS.BlockOrBuilder>(
+                  block_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          block_ = null;
+        }
+        return blockBuilder_;
+      }
+
+      private java.util.List<proto.ProtosHDFS.Pipeline> pipelines_ =
+        java.util.Collections.emptyList();
+      private void ensurePipelinesIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          pipelines_ = new java.util.ArrayList<proto.ProtosHDFS.Pipeline>(pipelines_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.Pipeline, proto.ProtosHDFS.Pipeline.Builder, proto.ProtosHDFS.PipelineOrBuilder> pipelinesBuilder_;
+
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.Pipeline> getPipelinesList() {
+        if (pipelinesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(pipelines_);
+        } else {
+          return pipelinesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public int getPipelinesCount() {
+        if (pipelinesBuilder_ == null) {
+          return pipelines_.size();
+        } else {
+          return pipelinesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public proto.ProtosHDFS.Pipeline getPipelines(int index) {
+        if (pipelinesBuilder_ == null) {
+          return pipelines_.get(index);
+        } else {
+          return pipelinesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public Builder setPipelines(
+          int index, proto.ProtosHDFS.Pipeline value) {
+        if (pipelinesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePipelinesIsMutable();
+          pipelines_.set(index, value);
+          onChanged();
+        } else {
+          pipelinesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public Builder setPipelines(
+          int index, proto.ProtosHDFS.Pipeline.Builder builderForValue) {
+        if (pipelinesBuilder_ == null) {
+          ensurePipelinesIsMutable();
+          pipelines_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          pipelinesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public Builder addPipelines(proto.ProtosHDFS.Pipeline value) {
+        if (pipelinesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePipelinesIsMutable();
+          pipelines_.add(value);
+          onChanged();
+        } else {
+          pipelinesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public Builder addPipelines(
+          int index, proto.ProtosHDFS.Pipeline value) {
+        if (pipelinesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePipelinesIsMutable();
+          pipelines_.add(index, value);
+          onChanged();
+        } else {
+          pipelinesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public Builder addPipelines(
+          proto.ProtosHDFS.Pipeline.Builder builderForValue) {
+        if (pipelinesBuilder_ == null) {
+          ensurePipelinesIsMutable();
+          pipelines_.add(builderForValue.build());
+          onChanged();
+        } else {
+          pipelinesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public Builder addPipelines(
+          int index, proto.ProtosHDFS.Pipeline.Builder builderForValue) {
+        if (pipelinesBuilder_ == null) {
+          ensurePipelinesIsMutable();
+          pipelines_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          pipelinesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public Builder addAllPipelines(
+          java.lang.Iterable<? extends proto.ProtosHDFS.Pipeline> values) {
+        if (pipelinesBuilder_ == null) {
+          ensurePipelinesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, pipelines_);
+          onChanged();
+        } else {
+          pipelinesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public Builder clearPipelines() {
+        if (pipelinesBuilder_ == null) {
+          pipelines_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          pipelinesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public Builder removePipelines(int index) {
+        if (pipelinesBuilder_ == null) {
+          ensurePipelinesIsMutable();
+          pipelines_.remove(index);
+          onChanged();
+        } else {
+          pipelinesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public proto.ProtosHDFS.Pipeline.Builder getPipelinesBuilder(
+          int index) {
+        return getPipelinesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public proto.ProtosHDFS.PipelineOrBuilder getPipelinesOrBuilder(
+          int index) {
+        if (pipelinesBuilder_ == null) {
+          return pipelines_.get(index);  } else {
+          return pipelinesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.PipelineOrBuilder> 
+           getPipelinesOrBuilderList() {
+        if (pipelinesBuilder_ != null) {
+          return pipelinesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(pipelines_);
+        }
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public proto.ProtosHDFS.Pipeline.Builder addPipelinesBuilder() {
+        return getPipelinesFieldBuilder().addBuilder(
+            proto.ProtosHDFS.Pipeline.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public proto.ProtosHDFS.Pipeline.Builder addPipelinesBuilder(
+          int index) {
+        return getPipelinesFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.Pipeline.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.Pipeline pipelines = 5;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.Pipeline.Builder> 
+           getPipelinesBuilderList() {
+        return getPipelinesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.Pipeline, proto.ProtosHDFS.Pipeline.Builder, proto.ProtosHDFS.PipelineOrBuilder> 
+          getPipelinesFieldBuilder() {
+        if (pipelinesBuilder_ == null) {
+          pipelinesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.Pipeline, proto.ProtosHDFS.Pipeline.Builder, proto.ProtosHDFS.PipelineOrBuilder>(
+                  pipelines_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          pipelines_ = null;
+        }
+        return pipelinesBuilder_;
+      }
+
+      private java.util.List<proto.ProtosHDFS.DataNodeCommand> commands_ =
+        java.util.Collections.emptyList();
+      private void ensureCommandsIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          commands_ = new java.util.ArrayList<proto.ProtosHDFS.DataNodeCommand>(commands_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.DataNodeCommand, proto.ProtosHDFS.DataNodeCommand.Builder, proto.ProtosHDFS.DataNodeCommandOrBuilder> commandsBuilder_;
+
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.DataNodeCommand> getCommandsList() {
+        if (commandsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(commands_);
+        } else {
+          return commandsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public int getCommandsCount() {
+        if (commandsBuilder_ == null) {
+          return commands_.size();
+        } else {
+          return commandsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public proto.ProtosHDFS.DataNodeCommand getCommands(int index) {
+        if (commandsBuilder_ == null) {
+          return commands_.get(index);
+        } else {
+          return commandsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public Builder setCommands(
+          int index, proto.ProtosHDFS.DataNodeCommand value) {
+        if (commandsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCommandsIsMutable();
+          commands_.set(index, value);
+          onChanged();
+        } else {
+          commandsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public Builder setCommands(
+          int index, proto.ProtosHDFS.DataNodeCommand.Builder builderForValue) {
+        if (commandsBuilder_ == null) {
+          ensureCommandsIsMutable();
+          commands_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          commandsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public Builder addCommands(proto.ProtosHDFS.DataNodeCommand value) {
+        if (commandsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCommandsIsMutable();
+          commands_.add(value);
+          onChanged();
+        } else {
+          commandsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public Builder addCommands(
+          int index, proto.ProtosHDFS.DataNodeCommand value) {
+        if (commandsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCommandsIsMutable();
+          commands_.add(index, value);
+          onChanged();
+        } else {
+          commandsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public Builder addCommands(
+          proto.ProtosHDFS.DataNodeCommand.Builder builderForValue) {
+        if (commandsBuilder_ == null) {
+          ensureCommandsIsMutable();
+          commands_.add(builderForValue.build());
+          onChanged();
+        } else {
+          commandsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public Builder addCommands(
+          int index, proto.ProtosHDFS.DataNodeCommand.Builder builderForValue) {
+        if (commandsBuilder_ == null) {
+          ensureCommandsIsMutable();
+          commands_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          commandsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public Builder addAllCommands(
+          java.lang.Iterable<? extends proto.ProtosHDFS.DataNodeCommand> values) {
+        if (commandsBuilder_ == null) {
+          ensureCommandsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, commands_);
+          onChanged();
+        } else {
+          commandsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public Builder clearCommands() {
+        if (commandsBuilder_ == null) {
+          commands_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          commandsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public Builder removeCommands(int index) {
+        if (commandsBuilder_ == null) {
+          ensureCommandsIsMutable();
+          commands_.remove(index);
+          onChanged();
+        } else {
+          commandsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public proto.ProtosHDFS.DataNodeCommand.Builder getCommandsBuilder(
+          int index) {
+        return getCommandsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public proto.ProtosHDFS.DataNodeCommandOrBuilder getCommandsOrBuilder(
+          int index) {
+        if (commandsBuilder_ == null) {
+          return commands_.get(index);  } else {
+          return commandsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.DataNodeCommandOrBuilder> 
+           getCommandsOrBuilderList() {
+        if (commandsBuilder_ != null) {
+          return commandsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(commands_);
+        }
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public proto.ProtosHDFS.DataNodeCommand.Builder addCommandsBuilder() {
+        return getCommandsFieldBuilder().addBuilder(
+            proto.ProtosHDFS.DataNodeCommand.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public proto.ProtosHDFS.DataNodeCommand.Builder addCommandsBuilder(
+          int index) {
+        return getCommandsFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.DataNodeCommand.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.DataNodeCommand commands = 6;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.DataNodeCommand.Builder> 
+           getCommandsBuilderList() {
+        return getCommandsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.DataNodeCommand, proto.ProtosHDFS.DataNodeCommand.Builder, proto.ProtosHDFS.DataNodeCommandOrBuilder> 
+          getCommandsFieldBuilder() {
+        if (commandsBuilder_ == null) {
+          commandsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.DataNodeCommand, proto.ProtosHDFS.DataNodeCommand.Builder, proto.ProtosHDFS.DataNodeCommandOrBuilder>(
+                  commands_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          commands_ = null;
+        }
+        return commandsBuilder_;
+      }
+
+      private java.util.List<proto.ProtosHDFS.BlockLocations> locations_ =
+        java.util.Collections.emptyList();
+      private void ensureLocationsIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          locations_ = new java.util.ArrayList<proto.ProtosHDFS.BlockLocations>(locations_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.BlockLocations, proto.ProtosHDFS.BlockLocations.Builder, proto.ProtosHDFS.BlockLocationsOrBuilder> locationsBuilder_;
+
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.BlockLocations> getLocationsList() {
+        if (locationsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(locations_);
+        } else {
+          return locationsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public int getLocationsCount() {
+        if (locationsBuilder_ == null) {
+          return locations_.size();
+        } else {
+          return locationsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public proto.ProtosHDFS.BlockLocations getLocations(int index) {
+        if (locationsBuilder_ == null) {
+          return locations_.get(index);
+        } else {
+          return locationsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public Builder setLocations(
+          int index, proto.ProtosHDFS.BlockLocations value) {
+        if (locationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLocationsIsMutable();
+          locations_.set(index, value);
+          onChanged();
+        } else {
+          locationsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public Builder setLocations(
+          int index, proto.ProtosHDFS.BlockLocations.Builder builderForValue) {
+        if (locationsBuilder_ == null) {
+          ensureLocationsIsMutable();
+          locations_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          locationsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public Builder addLocations(proto.ProtosHDFS.BlockLocations value) {
+        if (locationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLocationsIsMutable();
+          locations_.add(value);
+          onChanged();
+        } else {
+          locationsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public Builder addLocations(
+          int index, proto.ProtosHDFS.BlockLocations value) {
+        if (locationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLocationsIsMutable();
+          locations_.add(index, value);
+          onChanged();
+        } else {
+          locationsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public Builder addLocations(
+          proto.ProtosHDFS.BlockLocations.Builder builderForValue) {
+        if (locationsBuilder_ == null) {
+          ensureLocationsIsMutable();
+          locations_.add(builderForValue.build());
+          onChanged();
+        } else {
+          locationsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public Builder addLocations(
+          int index, proto.ProtosHDFS.BlockLocations.Builder builderForValue) {
+        if (locationsBuilder_ == null) {
+          ensureLocationsIsMutable();
+          locations_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          locationsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public Builder addAllLocations(
+          java.lang.Iterable<? extends proto.ProtosHDFS.BlockLocations> values) {
+        if (locationsBuilder_ == null) {
+          ensureLocationsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, locations_);
+          onChanged();
+        } else {
+          locationsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public Builder clearLocations() {
+        if (locationsBuilder_ == null) {
+          locations_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          locationsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public Builder removeLocations(int index) {
+        if (locationsBuilder_ == null) {
+          ensureLocationsIsMutable();
+          locations_.remove(index);
+          onChanged();
+        } else {
+          locationsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public proto.ProtosHDFS.BlockLocations.Builder getLocationsBuilder(
+          int index) {
+        return getLocationsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public proto.ProtosHDFS.BlockLocationsOrBuilder getLocationsOrBuilder(
+          int index) {
+        if (locationsBuilder_ == null) {
+          return locations_.get(index);  } else {
+          return locationsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.BlockLocationsOrBuilder> 
+           getLocationsOrBuilderList() {
+        if (locationsBuilder_ != null) {
+          return locationsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(locations_);
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public proto.ProtosHDFS.BlockLocations.Builder addLocationsBuilder() {
+        return getLocationsFieldBuilder().addBuilder(
+            proto.ProtosHDFS.BlockLocations.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public proto.ProtosHDFS.BlockLocations.Builder addLocationsBuilder(
+          int index) {
+        return getLocationsFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.BlockLocations.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.BlockLocations locations = 7;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.BlockLocations.Builder> 
+           getLocationsBuilderList() {
+        return getLocationsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.BlockLocations, proto.ProtosHDFS.BlockLocations.Builder, proto.ProtosHDFS.BlockLocationsOrBuilder> 
+          getLocationsFieldBuilder() {
+        if (locationsBuilder_ == null) {
+          locationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.BlockLocations, proto.ProtosHDFS.BlockLocations.Builder, proto.ProtosHDFS.BlockLocationsOrBuilder>(
+                  locations_,
+                  ((bitField0_ & 0x00000040) != 0),
+                  getParentForChildren(),
+                  isClean());
+          locations_ = null;
+        }
+        return locationsBuilder_;
+      }
+
+      private proto.ProtosHDFS.FileMetadata fileMeta_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder> fileMetaBuilder_;
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+       * @return Whether the fileMeta field is set.
+       */
+      public boolean hasFileMeta() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+       * @return The fileMeta.
+       */
+      public proto.ProtosHDFS.FileMetadata getFileMeta() {
+        if (fileMetaBuilder_ == null) {
+          return fileMeta_ == null ? proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+        } else {
+          return fileMetaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+       */
+      public Builder setFileMeta(proto.ProtosHDFS.FileMetadata value) {
+        if (fileMetaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fileMeta_ = value;
+          onChanged();
+        } else {
+          fileMetaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+       */
+      public Builder setFileMeta(
+          proto.ProtosHDFS.FileMetadata.Builder builderForValue) {
+        if (fileMetaBuilder_ == null) {
+          fileMeta_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileMetaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+       */
+      public Builder mergeFileMeta(proto.ProtosHDFS.FileMetadata value) {
+        if (fileMetaBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0) &&
+              fileMeta_ != null &&
+              fileMeta_ != proto.ProtosHDFS.FileMetadata.getDefaultInstance()) {
+            fileMeta_ =
+              proto.ProtosHDFS.FileMetadata.newBuilder(fileMeta_).mergeFrom(value).buildPartial();
+          } else {
+            fileMeta_ = value;
+          }
+          onChanged();
+        } else {
+          fileMetaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+       */
+      public Builder clearFileMeta() {
+        if (fileMetaBuilder_ == null) {
+          fileMeta_ = null;
+          onChanged();
+        } else {
+          fileMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+       */
+      public proto.ProtosHDFS.FileMetadata.Builder getFileMetaBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return getFileMetaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+       */
+      public proto.ProtosHDFS.FileMetadataOrBuilder getFileMetaOrBuilder() {
+        if (fileMetaBuilder_ != null) {
+          return fileMetaBuilder_.getMessageOrBuilder();
+        } else {
+          return fileMeta_ == null ?
+              proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+        }
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder> 
+          getFileMetaFieldBuilder() {
+        if (fileMetaBuilder_ == null) {
+          fileMetaBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder>(
+                  getFileMeta(),
+                  getParentForChildren(),
+                  isClean());
+          fileMeta_ = null;
+        }
+        return fileMetaBuilder_;
+      }
+
+      private java.util.List<proto.ProtosHDFS.DirectoryEntry> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000100) != 0)) {
+          entries_ = new java.util.ArrayList<proto.ProtosHDFS.DirectoryEntry>(entries_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.DirectoryEntry, proto.ProtosHDFS.DirectoryEntry.Builder, proto.ProtosHDFS.DirectoryEntryOrBuilder> entriesBuilder_;
+
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.DirectoryEntry> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public proto.ProtosHDFS.DirectoryEntry getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public Builder setEntries(
+          int index, proto.ProtosHDFS.DirectoryEntry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public Builder setEntries(
+          int index, proto.ProtosHDFS.DirectoryEntry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public Builder addEntries(proto.ProtosHDFS.DirectoryEntry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public Builder addEntries(
+          int index, proto.ProtosHDFS.DirectoryEntry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public Builder addEntries(
+          proto.ProtosHDFS.DirectoryEntry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public Builder addEntries(
+          int index, proto.ProtosHDFS.DirectoryEntry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends proto.ProtosHDFS.DirectoryEntry> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entries_);
+          onChanged();
+        } else {
+          entriesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+          onChanged();
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
+        } else {
+          entriesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public proto.ProtosHDFS.DirectoryEntry.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public proto.ProtosHDFS.DirectoryEntryOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.DirectoryEntryOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
+        }
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public proto.ProtosHDFS.DirectoryEntry.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            proto.ProtosHDFS.DirectoryEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public proto.ProtosHDFS.DirectoryEntry.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.DirectoryEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.DirectoryEntry entries = 9;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.DirectoryEntry.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.DirectoryEntry, proto.ProtosHDFS.DirectoryEntry.Builder, proto.ProtosHDFS.DirectoryEntryOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.DirectoryEntry, proto.ProtosHDFS.DirectoryEntry.Builder, proto.ProtosHDFS.DirectoryEntryOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000100) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
+        }
+        return entriesBuilder_;
+      }
+
+      private java.lang.Object nextStartAfter_ = "";
+      /**
+       * <code>optional string nextStartAfter = 10;</code>
+       * @return Whether the nextStartAfter field is set.
+       */
+      public boolean hasNextStartAfter() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <code>optional string nextStartAfter = 10;</code>
+       * @return The nextStartAfter.
+       */
+      public java.lang.String getNextStartAfter() {
+        java.lang.Object ref = nextStartAfter_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            nextStartAfter_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string nextStartAfter = 10;</code>
+       * @return The bytes for nextStartAfter.
+       */
+      public com.google.protobuf.ByteString
+          getNextStartAfterBytes() {
+        java.lang.Object ref = nextStartAfter_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextStartAfter_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string nextStartAfter = 10;</code>
+       * @param value The nextStartAfter to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextStartAfter(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        nextStartAfter_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string nextStartAfter = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNextStartAfter() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        nextStartAfter_ = getDefaultInstance().getNextStartAfter();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string nextStartAfter = 10;</code>
+       * @param value The bytes for nextStartAfter to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextStartAfterBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        nextStartAfter_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.Response)
+    private static final proto.ProtosHDFS.Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.Response();
+    }
+
+    public static proto.ProtosHDFS.Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Response>
+        PARSER = new com.google.protobuf.AbstractParser<Response>() {
+      @java.lang.Override
+      public Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Response(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DataNodeCommandOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.DataNodeCommand)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required .proto.DataNodeCommand.CommandType commandType = 1;</code>
+     * @return Whether the commandType field is set.
+     */
+    boolean hasCommandType();
+    /**
+     * <code>required .proto.DataNodeCommand.CommandType commandType = 1;</code>
+     * @return The commandType.
+     */
+    proto.ProtosHDFS.DataNodeCommand.CommandType getCommandType();
+
+    /**
+     * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+     * @return Whether the blockMeta field is set.
+     */
+    boolean hasBlockMeta();
+    /**
+     * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+     * @return The blockMeta.
+     */
+    proto.ProtosHDFS.BlockMetaData getBlockMeta();
+    /**
+     * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+     */
+    proto.ProtosHDFS.BlockMetaDataOrBuilder getBlockMetaOrBuilder();
+
+    /**
+     * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+     */
+    java.util.List<proto.ProtosHDFS.DataNodeInfo> 
+        getTargetsList();
+    /**
+     * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+     */
+    proto.ProtosHDFS.DataNodeInfo getTargets(int index);
+    /**
+     * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+     */
+    int getTargetsCount();
+    /**
+     * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.DataNodeInfoOrBuilder> 
+        getTargetsOrBuilderList();
+    /**
+     * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+     */
+    proto.ProtosHDFS.DataNodeInfoOrBuilder getTargetsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Work the Name Node hands a Data Node in the response to its heartbeat
+   * REPLICATE: send the block named by blockMeta to every Data Node in targets, as one write pipeline
+   * DELETE: remove the block named by blockMeta, which the Name Node no longer counts as a replica
+   * </pre>
+   *
+   * Protobuf type {@code proto.DataNodeCommand}
+   */
+  public  static final class DataNodeCommand extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.DataNodeCommand)
+      DataNodeCommandOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DataNodeCommand.newBuilder() to construct.
+    private DataNodeCommand(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DataNodeCommand() {
+      commandType_ = 0;
+      targets_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DataNodeCommand();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DataNodeCommand(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+                @SuppressWarnings("deprecation")
+              proto.ProtosHDFS.DataNodeCommand.CommandType value = proto.ProtosHDFS.DataNodeCommand.CommandType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                commandType_ = rawValue;
+              }
+              break;
+            }
+            case 18: {
+              proto.ProtosHDFS.BlockMetaData.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) != 0)) {
+                subBuilder = blockMeta_.toBuilder();
+              }
+              blockMeta_ = input.readMessage(proto.ProtosHDFS.BlockMetaData.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(blockMeta_);
+                blockMeta_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                targets_ = new java.util.ArrayList<proto.ProtosHDFS.DataNodeInfo>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              targets_.add(
+                  input.readMessage(proto.ProtosHDFS.DataNodeInfo.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          targets_ = java.util.Collections.unmodifiableList(targets_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_DataNodeCommand_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_DataNodeCommand_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.DataNodeCommand.class, proto.ProtosHDFS.DataNodeCommand.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code proto.DataNodeCommand.CommandType}
+     */
+    public enum CommandType
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>REPLICATE = 0;</code>
+       */
+      REPLICATE(0),
+      /**
+       * <code>DELETE = 1;</code>
+       */
+      DELETE(1),
+      ;
+
+      /**
+       * <code>REPLICATE = 0;</code>
+       */
+      public static final int REPLICATE_VALUE = 0;
+      /**
+       * <code>DELETE = 1;</code>
+       */
+      public static final int DELETE_VALUE = 1;
+
+
+      public final int getNumber() {
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static CommandType valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static CommandType forNumber(int value) {
+        switch (value) {
+          case 0: return REPLICATE;
+          case 1: return DELETE;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<CommandType>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          CommandType> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<CommandType>() {
+              public CommandType findValueByNumber(int number) {
+                return CommandType.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.DataNodeCommand.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final CommandType[] VALUES = values();
+
+      public static CommandType valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private CommandType(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:proto.DataNodeCommand.CommandType)
+    }
+
+    private int bitField0_;
+    public static final int COMMANDTYPE_FIELD_NUMBER = 1;
+    private int commandType_;
+    /**
+     * <code>required .proto.DataNodeCommand.CommandType commandType = 1;</code>
+     * @return Whether the commandType field is set.
+     */
+    public boolean hasCommandType() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required .proto.DataNodeCommand.CommandType commandType = 1;</code>
+     * @return The commandType.
+     */
+    public proto.ProtosHDFS.DataNodeCommand.CommandType getCommandType() {
+      @SuppressWarnings("deprecation")
+      proto.ProtosHDFS.DataNodeCommand.CommandType result = proto.ProtosHDFS.DataNodeCommand.CommandType.valueOf(commandType_);
+      return result == null ? proto.ProtosHDFS.DataNodeCommand.CommandType.REPLICATE : result;
+    }
+
+    public static final int BLOCKMETA_FIELD_NUMBER = 2;
+    private proto.ProtosHDFS.BlockMetaData blockMeta_;
+    /**
+     * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+     * @return Whether the blockMeta field is set.
+     */
+    public boolean hasBlockMeta() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+     * @return The blockMeta.
+     */
+    public proto.ProtosHDFS.BlockMetaData getBlockMeta() {
+      return blockMeta_ == null ? proto.ProtosHDFS.BlockMetaData.getDefaultInstance() : blockMeta_;
+    }
+    /**
+     * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+     */
+    public proto.ProtosHDFS.BlockMetaDataOrBuilder getBlockMetaOrBuilder() {
+      return blockMeta_ == null ? proto.ProtosHDFS.BlockMetaData.getDefaultInstance() : blockMeta_;
+    }
+
+    public static final int TARGETS_FIELD_NUMBER = 3;
+    private java.util.List<proto.ProtosHDFS.DataNodeInfo> targets_;
+    /**
+     * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.DataNodeInfo> getTargetsList() {
+      return targets_;
+    }
+    /**
+     * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.DataNodeInfoOrBuilder> 
+        getTargetsOrBuilderList() {
+      return targets_;
+    }
+    /**
+     * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+     */
+    public int getTargetsCount() {
+      return targets_.size();
+    }
+    /**
+     * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+     */
+    public proto.ProtosHDFS.DataNodeInfo getTargets(int index) {
+      return targets_.get(index);
+    }
+    /**
+     * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+     */
+    public proto.ProtosHDFS.DataNodeInfoOrBuilder getTargetsOrBuilder(
+        int index) {
+      return targets_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasCommandType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasBlockMeta()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getBlockMeta().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getTargetsCount(); i++) {
+        if (!getTargets(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeEnum(1, commandType_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getBlockMeta());
+      }
+      for (int i = 0; i < targets_.size(); i++) {
+        output.writeMessage(3, targets_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, commandType_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getBlockMeta());
+      }
+      for (int i = 0; i < targets_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, targets_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof proto.ProtosHDFS.DataNodeCommand)) {
+        return super.equals(obj);
+      }
+      proto.ProtosHDFS.DataNodeCommand other = (proto.ProtosHDFS.DataNodeCommand) obj;
+
+      if (hasCommandType() != other.hasCommandType()) return false;
+      if (hasCommandType()) {
+        if (commandType_ != other.commandType_) return false;
+      }
+      if (hasBlockMeta() != other.hasBlockMeta()) return false;
+      if (hasBlockMeta()) {
+        if (!getBlockMeta()
+            .equals(other.getBlockMeta())) return false;
+      }
+      if (!getTargetsList()
+          .equals(other.getTargetsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasCommandType()) {
+        hash = (37 * hash) + COMMANDTYPE_FIELD_NUMBER;
+        hash = (53 * hash) + commandType_;
+      }
+      if (hasBlockMeta()) {
+        hash = (37 * hash) + BLOCKMETA_FIELD_NUMBER;
+        hash = (53 * hash) + getBlockMeta().hashCode();
+      }
+      if (getTargetsCount() > 0) {
+        hash = (37 * hash) + TARGETS_FIELD_NUMBER;
+        hash = (53 * hash) + getTargetsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static proto.ProtosHDFS.DataNodeCommand parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.DataNodeCommand parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(proto.ProtosHDFS.DataNodeCommand prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Work the Name Node hands a Data Node in the response to its heartbeat
+     * REPLICATE: send the block named by blockMeta to every Data Node in targets, as one write pipeline
+     * DELETE: remove the block named by blockMeta, which the Name Node no longer counts as a replica
+     * </pre>
+     *
+     * Protobuf type {@code proto.DataNodeCommand}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.DataNodeCommand)
+        proto.ProtosHDFS.DataNodeCommandOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.internal_static_proto_DataNodeCommand_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return proto.ProtosHDFS.internal_static_proto_DataNodeCommand_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                proto.ProtosHDFS.DataNodeCommand.class, proto.ProtosHDFS.DataNodeCommand.Builder.class);
+      }
+
+      // Construct using proto.ProtosHDFS.DataNodeCommand.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getBlockMetaFieldBuilder();
+          getTargetsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        commandType_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (blockMetaBuilder_ == null) {
+          blockMeta_ = null;
+        } else {
+          blockMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (targetsBuilder_ == null) {
+          targets_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          targetsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return proto.ProtosHDFS.internal_static_proto_DataNodeCommand_descriptor;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.DataNodeCommand getDefaultInstanceForType() {
+        return proto.ProtosHDFS.DataNodeCommand.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.DataNodeCommand build() {
+        proto.ProtosHDFS.DataNodeCommand result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.DataNodeCommand buildPartial() {
+        proto.ProtosHDFS.DataNodeCommand result = new proto.ProtosHDFS.DataNodeCommand(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.commandType_ = commandType_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          if (blockMetaBuilder_ == null) {
+            result.blockMeta_ = blockMeta_;
+          } else {
+            result.blockMeta_ = blockMetaBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000002;
+        }
+        if (targetsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            targets_ = java.util.Collections.unmodifiableList(targets_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.targets_ = targets_;
+        } else {
+          result.targets_ = targetsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof proto.ProtosHDFS.DataNodeCommand) {
+          return mergeFrom((proto.ProtosHDFS.DataNodeCommand)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(proto.ProtosHDFS.DataNodeCommand other) {
+        if (other == proto.ProtosHDFS.DataNodeCommand.getDefaultInstance()) return this;
+        if (other.hasCommandType()) {
+          setCommandType(other.getCommandType());
+        }
+        if (other.hasBlockMeta()) {
+          mergeBlockMeta(other.getBlockMeta());
+        }
+        if (targetsBuilder_ == null) {
+          if (!other.targets_.isEmpty()) {
+            if (targets_.isEmpty()) {
+              targets_ = other.targets_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureTargetsIsMutable();
+              targets_.addAll(other.targets_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.targets_.isEmpty()) {
+            if (targetsBuilder_.isEmpty()) {
+              targetsBuilder_.dispose();
+              targetsBuilder_ = null;
+              targets_ = other.targets_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              targetsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTargetsFieldBuilder() : null;
+            } else {
+              targetsBuilder_.addAllMessages(other.targets_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasCommandType()) {
+          return false;
+        }
+        if (!hasBlockMeta()) {
+          return false;
+        }
+        if (!getBlockMeta().isInitialized()) {
+          return false;
+        }
+        for (int i = 0; i < getTargetsCount(); i++) {
+          if (!getTargets(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        proto.ProtosHDFS.DataNodeCommand parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (proto.ProtosHDFS.DataNodeCommand) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int commandType_ = 0;
+      /**
+       * <code>required .proto.DataNodeCommand.CommandType commandType = 1;</code>
+       * @return Whether the commandType field is set.
+       */
+      public boolean hasCommandType() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required .proto.DataNodeCommand.CommandType commandType = 1;</code>
+       * @return The commandType.
+       */
+      public proto.ProtosHDFS.DataNodeCommand.CommandType getCommandType() {
+        @SuppressWarnings("deprecation")
+        proto.ProtosHDFS.DataNodeCommand.CommandType result = proto.ProtosHDFS.DataNodeCommand.CommandType.valueOf(commandType_);
+        return result == null ? proto.ProtosHDFS.DataNodeCommand.CommandType.REPLICATE : result;
+      }
+      /**
+       * <code>required .proto.DataNodeCommand.CommandType commandType = 1;</code>
+       * @param value The commandType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommandType(proto.ProtosHDFS.DataNodeCommand.CommandType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        commandType_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .proto.DataNodeCommand.CommandType commandType = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCommandType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        commandType_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private proto.ProtosHDFS.BlockMetaData blockMeta_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder> blockMetaBuilder_;
+      /**
+       * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+       * @return Whether the blockMeta field is set.
+       */
+      public boolean hasBlockMeta() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+       * @return The blockMeta.
+       */
+      public proto.ProtosHDFS.BlockMetaData getBlockMeta() {
+        if (blockMetaBuilder_ == null) {
+          return blockMeta_ == null ? proto.ProtosHDFS.BlockMetaData.getDefaultInstance() : blockMeta_;
+        } else {
+          return blockMetaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+       */
+      public Builder setBlockMeta(proto.ProtosHDFS.BlockMetaData value) {
+        if (blockMetaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          blockMeta_ = value;
+          onChanged();
+        } else {
+          blockMetaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+       */
+      public Builder setBlockMeta(
+          proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (blockMetaBuilder_ == null) {
+          blockMeta_ = builderForValue.build();
+          onChanged();
+        } else {
+          blockMetaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+       */
+      public Builder mergeBlockMeta(proto.ProtosHDFS.BlockMetaData value) {
+        if (blockMetaBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+              blockMeta_ != null &&
+              blockMeta_ != proto.ProtosHDFS.BlockMetaData.getDefaultInstance()) {
+            blockMeta_ =
+              proto.ProtosHDFS.BlockMetaData.newBuilder(blockMeta_).mergeFrom(value).buildPartial();
+          } else {
+            blockMeta_ = value;
+          }
+          onChanged();
+        } else {
+          blockMetaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+       */
+      public Builder clearBlockMeta() {
+        if (blockMetaBuilder_ == null) {
+          blockMeta_ = null;
+          onChanged();
+        } else {
+          blockMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder getBlockMetaBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getBlockMetaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaDataOrBuilder getBlockMetaOrBuilder() {
+        if (blockMetaBuilder_ != null) {
+          return blockMetaBuilder_.getMessageOrBuilder();
+        } else {
+          return blockMeta_ == null ?
+              proto.ProtosHDFS.BlockMetaData.getDefaultInstance() : blockMeta_;
+        }
+      }
+      /**
+       * <code>required .proto.BlockMetaData blockMeta = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+          getBlockMetaFieldBuilder() {
+        if (blockMetaBuilder_ == null) {
+          blockMetaBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder>(
+                  getBlockMeta(),
+                  getParentForChildren(),
+                  isClean());
+          blockMeta_ = null;
+        }
+        return blockMetaBuilder_;
+      }
+
+      private java.util.List<proto.ProtosHDFS.DataNodeInfo> targets_ =
+        java.util.Collections.emptyList();
+      private void ensureTargetsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          targets_ = new java.util.ArrayList<proto.ProtosHDFS.DataNodeInfo>(targets_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.DataNodeInfo, proto.ProtosHDFS.DataNodeInfo.Builder, proto.ProtosHDFS.DataNodeInfoOrBuilder> targetsBuilder_;
+
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.DataNodeInfo> getTargetsList() {
+        if (targetsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(targets_);
+        } else {
+          return targetsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public int getTargetsCount() {
+        if (targetsBuilder_ == null) {
+          return targets_.size();
+        } else {
+          return targetsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public proto.ProtosHDFS.DataNodeInfo getTargets(int index) {
+        if (targetsBuilder_ == null) {
+          return targets_.get(index);
+        } else {
+          return targetsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public Builder setTargets(
+          int index, proto.ProtosHDFS.DataNodeInfo value) {
+        if (targetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTargetsIsMutable();
+          targets_.set(index, value);
+          onChanged();
+        } else {
+          targetsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public Builder setTargets(
+          int index, proto.ProtosHDFS.DataNodeInfo.Builder builderForValue) {
+        if (targetsBuilder_ == null) {
+          ensureTargetsIsMutable();
+          targets_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          targetsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public Builder addTargets(proto.ProtosHDFS.DataNodeInfo value) {
+        if (targetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTargetsIsMutable();
+          targets_.add(value);
+          onChanged();
+        } else {
+          targetsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public Builder addTargets(
+          int index, proto.ProtosHDFS.DataNodeInfo value) {
+        if (targetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTargetsIsMutable();
+          targets_.add(index, value);
+          onChanged();
+        } else {
+          targetsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public Builder addTargets(
+          proto.ProtosHDFS.DataNodeInfo.Builder builderForValue) {
+        if (targetsBuilder_ == null) {
+          ensureTargetsIsMutable();
+          targets_.add(builderForValue.build());
+          onChanged();
+        } else {
+          targetsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public Builder addTargets(
+          int index, proto.ProtosHDFS.DataNodeInfo.Builder builderForValue) {
+        if (targetsBuilder_ == null) {
+          ensureTargetsIsMutable();
+          targets_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          targetsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public Builder addAllTargets(
+          java.lang.Iterable<? extends proto.ProtosHDFS.DataNodeInfo> values) {
+        if (targetsBuilder_ == null) {
+          ensureTargetsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, targets_);
+          onChanged();
+        } else {
+          targetsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public Builder clearTargets() {
+        if (targetsBuilder_ == null) {
+          targets_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          targetsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public Builder removeTargets(int index) {
+        if (targetsBuilder_ == null) {
+          ensureTargetsIsMutable();
+          targets_.remove(index);
+          onChanged();
+        } else {
+          targetsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public proto.ProtosHDFS.DataNodeInfo.Builder getTargetsBuilder(
+          int index) {
+        return getTargetsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public proto.ProtosHDFS.DataNodeInfoOrBuilder getTargetsOrBuilder(
+          int index) {
+        if (targetsBuilder_ == null) {
+          return targets_.get(index);  } else {
+          return targetsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.DataNodeInfoOrBuilder> 
+           getTargetsOrBuilderList() {
+        if (targetsBuilder_ != null) {
+          return targetsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(targets_);
+        }
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public proto.ProtosHDFS.DataNodeInfo.Builder addTargetsBuilder() {
+        return getTargetsFieldBuilder().addBuilder(
+            proto.ProtosHDFS.DataNodeInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public proto.ProtosHDFS.DataNodeInfo.Builder addTargetsBuilder(
+          int index) {
+        return getTargetsFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.DataNodeInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.DataNodeInfo targets = 3;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.DataNodeInfo.Builder> 
+           getTargetsBuilderList() {
+        return getTargetsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.DataNodeInfo, proto.ProtosHDFS.DataNodeInfo.Builder, proto.ProtosHDFS.DataNodeInfoOrBuilder> 
+          getTargetsFieldBuilder() {
+        if (targetsBuilder_ == null) {
+          targetsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.DataNodeInfo, proto.ProtosHDFS.DataNodeInfo.Builder, proto.ProtosHDFS.DataNodeInfoOrBuilder>(
+                  targets_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          targets_ = null;
+        }
+        return targetsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.DataNodeCommand)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.DataNodeCommand)
+    private static final proto.ProtosHDFS.DataNodeCommand DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.DataNodeCommand();
+    }
+
+    public static proto.ProtosHDFS.DataNodeCommand getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<DataNodeCommand>
+        PARSER = new com.google.protobuf.AbstractParser<DataNodeCommand>() {
+      @java.lang.Override
+      public DataNodeCommand parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DataNodeCommand(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DataNodeCommand> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DataNodeCommand> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.DataNodeCommand getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface HeartbeatOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.Heartbeat)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string heartbeatId = 1;</code>
+     * @return Whether the heartbeatId field is set.
+     */
+    boolean hasHeartbeatId();
+    /**
+     * <code>required string heartbeatId = 1;</code>
+     * @return The heartbeatId.
+     */
+    java.lang.String getHeartbeatId();
+    /**
+     * <code>required string heartbeatId = 1;</code>
+     * @return The bytes for heartbeatId.
+     */
+    com.google.protobuf.ByteString
+        getHeartbeatIdBytes();
+
+    /**
+     * <code>required int64 timestamp = 2;</code>
+     * @return Whether the timestamp field is set.
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>required int64 timestamp = 2;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+
+    /**
+     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+     * @return Whether the dataNodeInfo field is set.
+     */
+    boolean hasDataNodeInfo();
+    /**
+     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+     * @return The dataNodeInfo.
+     */
+    proto.ProtosHDFS.DataNodeInfo getDataNodeInfo();
+    /**
+     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+     */
+    proto.ProtosHDFS.DataNodeInfoOrBuilder getDataNodeInfoOrBuilder();
+  }
+  /**
+   * Protobuf type {@code proto.Heartbeat}
+   */
+  public  static final class Heartbeat extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.Heartbeat)
+      HeartbeatOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Heartbeat.newBuilder() to construct.
+    private Heartbeat(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Heartbeat() {
+      heartbeatId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Heartbeat();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Heartbeat(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              heartbeatId_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              timestamp_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              proto.ProtosHDFS.DataNodeInfo.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) != 0)) {
+                subBuilder = dataNodeInfo_.toBuilder();
+              }
+              dataNodeInfo_ = input.readMessage(proto.ProtosHDFS.DataNodeInfo.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(dataNodeInfo_);
+                dataNodeInfo_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_Heartbeat_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_Heartbeat_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.Heartbeat.class, proto.ProtosHDFS.Heartbeat.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int HEARTBEATID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object heartbeatId_;
+    /**
+     * <code>required string heartbeatId = 1;</code>
+     * @return Whether the heartbeatId field is set.
+     */
+    public boolean hasHeartbeatId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string heartbeatId = 1;</code>
+     * @return The heartbeatId.
+     */
+    public java.lang.String getHeartbeatId() {
+      java.lang.Object ref = heartbeatId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          heartbeatId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string heartbeatId = 1;</code>
+     * @return The bytes for heartbeatId.
+     */
+    public com.google.protobuf.ByteString
+        getHeartbeatIdBytes() {
+      java.lang.Object ref = heartbeatId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        heartbeatId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 2;
+    private long timestamp_;
+    /**
+     * <code>required int64 timestamp = 2;</code>
+     * @return Whether the timestamp field is set.
+     */
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required int64 timestamp = 2;</code>
+     * @return The timestamp.
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int DATANODEINFO_FIELD_NUMBER = 3;
+    private proto.ProtosHDFS.DataNodeInfo dataNodeInfo_;
+    /**
+     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+     * @return Whether the dataNodeInfo field is set.
+     */
+    public boolean hasDataNodeInfo() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+     * @return The dataNodeInfo.
+     */
+    public proto.ProtosHDFS.DataNodeInfo getDataNodeInfo() {
+      return dataNodeInfo_ == null ? proto.ProtosHDFS.DataNodeInfo.getDefaultInstance() : dataNodeInfo_;
+    }
+    /**
+     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+     */
+    public proto.ProtosHDFS.DataNodeInfoOrBuilder getDataNodeInfoOrBuilder() {
+      return dataNodeInfo_ == null ? proto.ProtosHDFS.DataNodeInfo.getDefaultInstance() : dataNodeInfo_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasHeartbeatId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTimestamp()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDataNodeInfo()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getDataNodeInfo().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, heartbeatId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(2, timestamp_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeMessage(3, getDataNodeInfo());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, heartbeatId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, timestamp_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getDataNodeInfo());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof proto.ProtosHDFS.Heartbeat)) {
+        return super.equals(obj);
+      }
+      proto.ProtosHDFS.Heartbeat other = (proto.ProtosHDFS.Heartbeat) obj;
+
+      if (hasHeartbeatId() != other.hasHeartbeatId()) return false;
+      if (hasHeartbeatId()) {
+        if (!getHeartbeatId()
+            .equals(other.getHeartbeatId())) return false;
+      }
+      if (hasTimestamp() != other.hasTimestamp()) return false;
+      if (hasTimestamp()) {
+        if (getTimestamp()
+            != other.getTimestamp()) return false;
+      }
+      if (hasDataNodeInfo() != other.hasDataNodeInfo()) return false;
+      if (hasDataNodeInfo()) {
+        if (!getDataNodeInfo()
+            .equals(other.getDataNodeInfo())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeartbeatId()) {
+        hash = (37 * hash) + HEARTBEATID_FIELD_NUMBER;
+        hash = (53 * hash) + getHeartbeatId().hashCode();
+      }
+      if (hasTimestamp()) {
+        hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimestamp());
+      }
+      if (hasDataNodeInfo()) {
+        hash = (37 * hash) + DATANODEINFO_FIELD_NUMBER;
+        hash = (53 * hash) + getDataNodeInfo().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static proto.ProtosHDFS.Heartbeat parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.Heartbeat parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(proto.ProtosHDFS.Heartbeat prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.Heartbeat}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.Heartbeat)
+        proto.ProtosHDFS.HeartbeatOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.internal_static_proto_Heartbeat_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return proto.ProtosHDFS.internal_static_proto_Heartbeat_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                proto.ProtosHDFS.Heartbeat.class, proto.ProtosHDFS.Heartbeat.Builder.class);
+      }
+
+      // Construct using proto.ProtosHDFS.Heartbeat.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getDataNodeInfoFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        heartbeatId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        timestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (dataNodeInfoBuilder_ == null) {
+          dataNodeInfo_ = null;
+        } else {
+          dataNodeInfoBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return proto.ProtosHDFS.internal_static_proto_Heartbeat_descriptor;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.Heartbeat getDefaultInstanceForType() {
+        return proto.ProtosHDFS.Heartbeat.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.Heartbeat build() {
+        proto.ProtosHDFS.Heartbeat result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.Heartbeat buildPartial() {
+        proto.ProtosHDFS.Heartbeat result = new proto.ProtosHDFS.Heartbeat(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.heartbeatId_ = heartbeatId_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.timestamp_ = timestamp_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          if (dataNodeInfoBuilder_ == null) {
+            result.dataNodeInfo_ = dataNodeInfo_;
+          } else {
+            result.dataNodeInfo_ = dataNodeInfoBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof proto.ProtosHDFS.Heartbeat) {
+          return mergeFrom((proto.ProtosHDFS.Heartbeat)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(proto.ProtosHDFS.Heartbeat other) {
+        if (other == proto.ProtosHDFS.Heartbeat.getDefaultInstance()) return this;
+        if (other.hasHeartbeatId()) {
+          bitField0_ |= 0x00000001;
+          heartbeatId_ = other.heartbeatId_;
+          onChanged();
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.hasDataNodeInfo()) {
+          mergeDataNodeInfo(other.getDataNodeInfo());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasHeartbeatId()) {
+          return false;
+        }
+        if (!hasTimestamp()) {
+          return false;
+        }
+        if (!hasDataNodeInfo()) {
+          return false;
+        }
+        if (!getDataNodeInfo().isInitialized()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        proto.ProtosHDFS.Heartbeat parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (proto.ProtosHDFS.Heartbeat) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object heartbeatId_ = "";
+      /**
+       * <code>required string heartbeatId = 1;</code>
+       * @return Whether the heartbeatId field is set.
+       */
+      public boolean hasHeartbeatId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required string heartbeatId = 1;</code>
+       * @return The heartbeatId.
+       */
+      public java.lang.String getHeartbeatId() {
+        java.lang.Object ref = heartbeatId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            heartbeatId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string heartbeatId = 1;</code>
+       * @return The bytes for heartbeatId.
+       */
+      public com.google.protobuf.ByteString
+          getHeartbeatIdBytes() {
+        java.lang.Object ref = heartbeatId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          heartbeatId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string heartbeatId = 1;</code>
+       * @param value The heartbeatId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHeartbeatId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        heartbeatId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string heartbeatId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHeartbeatId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        heartbeatId_ = getDefaultInstance().getHeartbeatId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string heartbeatId = 1;</code>
+       * @param value The bytes for heartbeatId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHeartbeatIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        heartbeatId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>required int64 timestamp = 2;</code>
+       * @return Whether the timestamp field is set.
+       */
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required int64 timestamp = 2;</code>
+       * @return The timestamp.
+       */
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>required int64 timestamp = 2;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+        bitField0_ |= 0x00000002;
+        timestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 timestamp = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private proto.ProtosHDFS.DataNodeInfo dataNodeInfo_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.DataNodeInfo, proto.ProtosHDFS.DataNodeInfo.Builder, proto.ProtosHDFS.DataNodeInfoOrBuilder> dataNodeInfoBuilder_;
+      /**
+       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       * @return Whether the dataNodeInfo field is set.
+       */
+      public boolean hasDataNodeInfo() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       * @return The dataNodeInfo.
+       */
+      public proto.ProtosHDFS.DataNodeInfo getDataNodeInfo() {
+        if (dataNodeInfoBuilder_ == null) {
+          return dataNodeInfo_ == null ? proto.ProtosHDFS.DataNodeInfo.getDefaultInstance() : dataNodeInfo_;
+        } else {
+          return dataNodeInfoBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       */
+      public Builder setDataNodeInfo(proto.ProtosHDFS.DataNodeInfo value) {
+        if (dataNodeInfoBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          dataNodeInfo_ = value;
+          onChanged();
+        } else {
+          dataNodeInfoBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       */
+      public Builder setDataNodeInfo(
+          proto.ProtosHDFS.DataNodeInfo.Builder builderForValue) {
+        if (dataNodeInfoBuilder_ == null) {
+          dataNodeInfo_ = builderForValue.build();
+          onChanged();
+        } else {
+          dataNodeInfoBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       */
+      public Builder mergeDataNodeInfo(proto.ProtosHDFS.DataNodeInfo value) {
+        if (dataNodeInfoBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+              dataNodeInfo_ != null &&
+              dataNodeInfo_ != proto.ProtosHDFS.DataNodeInfo.getDefaultInstance()) {
+            dataNodeInfo_ =
+              proto.ProtosHDFS.DataNodeInfo.newBuilder(dataNodeInfo_).mergeFrom(value).buildPartial();
+          } else {
+            dataNodeInfo_ = value;
+          }
+          onChanged();
+        } else {
+          dataNodeInfoBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       */
+      public Builder clearDataNodeInfo() {
+        if (dataNodeInfoBuilder_ == null) {
+          dataNodeInfo_ = null;
+          onChanged();
+        } else {
+          dataNodeInfoBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       */
+      public proto.ProtosHDFS.DataNodeInfo.Builder getDataNodeInfoBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getDataNodeInfoFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       */
+      public proto.ProtosHDFS.DataNodeInfoOrBuilder getDataNodeInfoOrBuilder() {
+        if (dataNodeInfoBuilder_ != null) {
+          return dataNodeInfoBuilder_.getMessageOrBuilder();
+        } else {
+          return dataNodeInfo_ == null ?
+              proto.ProtosHDFS.DataNodeInfo.getDefaultInstance() : dataNodeInfo_;
+        }
+      }
+      /**
+       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.DataNodeInfo, proto.ProtosHDFS.DataNodeInfo.Builder, proto.ProtosHDFS.DataNodeInfoOrBuilder> 
+          getDataNodeInfoFieldBuilder() {
+        if (dataNodeInfoBuilder_ == null) {
+          dataNodeInfoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              proto.ProtosHDFS.DataNodeInfo, proto.ProtosHDFS.DataNodeInfo.Builder, proto.ProtosHDFS.DataNodeInfoOrBuilder>(
+                  getDataNodeInfo(),
+                  getParentForChildren(),
+                  isClean());
+          dataNodeInfo_ = null;
+        }
+        return dataNodeInfoBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.Heartbeat)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.Heartbeat)
+    private static final proto.ProtosHDFS.Heartbeat DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.Heartbeat();
+    }
+
+    public static proto.ProtosHDFS.Heartbeat getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Heartbeat>
+        PARSER = new com.google.protobuf.AbstractParser<Heartbeat>() {
+      @java.lang.Override
+      public Heartbeat parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Heartbeat(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Heartbeat> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Heartbeat> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.Heartbeat getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EditLogOpOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.EditLogOp)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int64 txId = 1;</code>
+     * @return Whether the txId field is set.
+     */
+    boolean hasTxId();
+    /**
+     * <code>required int64 txId = 1;</code>
+     * @return The txId.
+     */
+    long getTxId();
+
+    /**
+     * <code>required .proto.EditLogOp.OpCode opCode = 2;</code>
+     * @return Whether the opCode field is set.
+     */
+    boolean hasOpCode();
+    /**
+     * <code>required .proto.EditLogOp.OpCode opCode = 2;</code>
+     * @return The opCode.
+     */
+    proto.ProtosHDFS.EditLogOp.OpCode getOpCode();
+
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     * @return Whether the fileMeta field is set.
+     */
+    boolean hasFileMeta();
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     * @return The fileMeta.
+     */
+    proto.ProtosHDFS.FileMetadata getFileMeta();
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     */
+    proto.ProtosHDFS.FileMetadataOrBuilder getFileMetaOrBuilder();
+
+    /**
+     * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+     */
+    java.util.List<proto.ProtosHDFS.BlockMetaData> 
+        getBlockMetasList();
+    /**
+     * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+     */
+    proto.ProtosHDFS.BlockMetaData getBlockMetas(int index);
+    /**
+     * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+     */
+    int getBlockMetasCount();
+    /**
+     * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+        getBlockMetasOrBuilderList();
+    /**
+     * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+     */
+    proto.ProtosHDFS.BlockMetaDataOrBuilder getBlockMetasOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * One namespace mutation recorded in the Name Node's edit log
+   * Replaying every EditLogOp in txId order rebuilds the FSDirectory and the BlockMap, whose blocks are keyed
+   * by numericBlockId; blockId (field 1) of the BlockMetaData logged is not set
+   * CREATE and CLOSE carry the file's metadata, ASSIGN_BLOCK the replicas of one block
+   * and DELETE only needs fileId from fileMeta
+   * CLOSE also carries the final replicas of every block whose replicas were settled when it closed; they are
+   * merged into the block's replicas in the BlockMap rather than replacing them
+   * </pre>
+   *
+   * Protobuf type {@code proto.EditLogOp}
+   */
+  public  static final class EditLogOp extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.EditLogOp)
+      EditLogOpOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EditLogOp.newBuilder() to construct.
+    private EditLogOp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EditLogOp() {
+      opCode_ = 0;
+      blockMetas_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EditLogOp();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EditLogOp(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              txId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+                @SuppressWarnings("deprecation")
+              proto.ProtosHDFS.EditLogOp.OpCode value = proto.ProtosHDFS.EditLogOp.OpCode.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(2, rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                opCode_ = rawValue;
+              }
+              break;
+            }
+            case 26: {
+              proto.ProtosHDFS.FileMetadata.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) != 0)) {
+                subBuilder = fileMeta_.toBuilder();
+              }
+              fileMeta_ = input.readMessage(proto.ProtosHDFS.FileMetadata.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fileMeta_);
+                fileMeta_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                blockMetas_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              blockMetas_.add(
+                  input.readMessage(proto.ProtosHDFS.BlockMetaData.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          blockMetas_ = java.util.Collections.unmodifiableList(blockMetas_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_EditLogOp_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_EditLogOp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.EditLogOp.class, proto.ProtosHDFS.EditLogOp.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code proto.EditLogOp.OpCode}
+     */
+    public enum OpCode
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>CREATE = 0;</code>
+       */
+      CREATE(0),
+      /**
+       * <code>ASSIGN_BLOCK = 1;</code>
+       */
+      ASSIGN_BLOCK(1),
+      /**
+       * <code>CLOSE = 2;</code>
+       */
+      CLOSE(2),
+      /**
+       * <code>DELETE = 3;</code>
+       */
+      DELETE(3),
+      ;
+
+      /**
+       * <code>CREATE = 0;</code>
+       */
+      public static final int CREATE_VALUE = 0;
+      /**
+       * <code>ASSIGN_BLOCK = 1;</code>
+       */
+      public static final int ASSIGN_BLOCK_VALUE = 1;
+      /**
+       * <code>CLOSE = 2;</code>
+       */
+      public static final int CLOSE_VALUE = 2;
+      /**
+       * <code>DELETE = 3;</code>
+       */
+      public static final int DELETE_VALUE = 3;
+
+
+      public final int getNumber() {
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static OpCode valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static OpCode forNumber(int value) {
+        switch (value) {
+          case 0: return CREATE;
+          case 1: return ASSIGN_BLOCK;
+          case 2: return CLOSE;
+          case 3: return DELETE;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<OpCode>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          OpCode> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<OpCode>() {
+              public OpCode findValueByNumber(int number) {
+                return OpCode.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.EditLogOp.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final OpCode[] VALUES = values();
+
+      public static OpCode valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private OpCode(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:proto.EditLogOp.OpCode)
+    }
+
+    private int bitField0_;
+    public static final int TXID_FIELD_NUMBER = 1;
+    private long txId_;
+    /**
+     * <code>required int64 txId = 1;</code>
+     * @return Whether the txId field is set.
+     */
+    public boolean hasTxId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int64 txId = 1;</code>
+     * @return The txId.
+     */
+    public long getTxId() {
+      return txId_;
+    }
+
+    public static final int OPCODE_FIELD_NUMBER = 2;
+    private int opCode_;
+    /**
+     * <code>required .proto.EditLogOp.OpCode opCode = 2;</code>
+     * @return Whether the opCode field is set.
+     */
+    public boolean hasOpCode() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required .proto.EditLogOp.OpCode opCode = 2;</code>
+     * @return The opCode.
+     */
+    public proto.ProtosHDFS.EditLogOp.OpCode getOpCode() {
+      @SuppressWarnings("deprecation")
+      proto.ProtosHDFS.EditLogOp.OpCode result = proto.ProtosHDFS.EditLogOp.OpCode.valueOf(opCode_);
+      return result == null ? proto.ProtosHDFS.EditLogOp.OpCode.CREATE : result;
+    }
+
+    public static final int FILEMETA_FIELD_NUMBER = 3;
+    private proto.ProtosHDFS.FileMetadata fileMeta_;
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     * @return Whether the fileMeta field is set.
+     */
+    public boolean hasFileMeta() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     * @return The fileMeta.
+     */
+    public proto.ProtosHDFS.FileMetadata getFileMeta() {
+      return fileMeta_ == null ? proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+    }
+    /**
+     * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+     */
+    public proto.ProtosHDFS.FileMetadataOrBuilder getFileMetaOrBuilder() {
+      return fileMeta_ == null ? proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+    }
+
+    public static final int BLOCKMETAS_FIELD_NUMBER = 4;
+    private java.util.List<proto.ProtosHDFS.BlockMetaData> blockMetas_;
+    /**
+     * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.BlockMetaData> getBlockMetasList() {
+      return blockMetas_;
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+        getBlockMetasOrBuilderList() {
+      return blockMetas_;
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+     */
+    public int getBlockMetasCount() {
+      return blockMetas_.size();
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+     */
+    public proto.ProtosHDFS.BlockMetaData getBlockMetas(int index) {
+      return blockMetas_.get(index);
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+     */
+    public proto.ProtosHDFS.BlockMetaDataOrBuilder getBlockMetasOrBuilder(
+        int index) {
+      return blockMetas_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasTxId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOpCode()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasFileMeta()) {
+        if (!getFileMeta().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getBlockMetasCount(); i++) {
+        if (!getBlockMetas(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(1, txId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeEnum(2, opCode_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeMessage(3, getFileMeta());
+      }
+      for (int i = 0; i < blockMetas_.size(); i++) {
+        output.writeMessage(4, blockMetas_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, txId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, opCode_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getFileMeta());
+      }
+      for (int i = 0; i < blockMetas_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, blockMetas_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof proto.ProtosHDFS.EditLogOp)) {
+        return super.equals(obj);
+      }
+      proto.ProtosHDFS.EditLogOp other = (proto.ProtosHDFS.EditLogOp) obj;
+
+      if (hasTxId() != other.hasTxId()) return false;
+      if (hasTxId()) {
+        if (getTxId()
+            != other.getTxId()) return false;
+      }
+      if (hasOpCode() != other.hasOpCode()) return false;
+      if (hasOpCode()) {
+        if (opCode_ != other.opCode_) return false;
+      }
+      if (hasFileMeta() != other.hasFileMeta()) return false;
+      if (hasFileMeta()) {
+        if (!getFileMeta()
+            .equals(other.getFileMeta())) return false;
+      }
+      if (!getBlockMetasList()
+          .equals(other.getBlockMetasList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasTxId()) {
+        hash = (37 * hash) + TXID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTxId());
+      }
+      if (hasOpCode()) {
+        hash = (37 * hash) + OPCODE_FIELD_NUMBER;
+        hash = (53 * hash) + opCode_;
+      }
+      if (hasFileMeta()) {
+        hash = (37 * hash) + FILEMETA_FIELD_NUMBER;
+        hash = (53 * hash) + getFileMeta().hashCode();
+      }
+      if (getBlockMetasCount() > 0) {
+        hash = (37 * hash) + BLOCKMETAS_FIELD_NUMBER;
+        hash = (53 * hash) + getBlockMetasList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static proto.ProtosHDFS.EditLogOp parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.EditLogOp parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(proto.ProtosHDFS.EditLogOp prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * One namespace mutation recorded in the Name Node's edit log
+     * Replaying every EditLogOp in txId order rebuilds the FSDirectory and the BlockMap, whose blocks are keyed
+     * by numericBlockId; blockId (field 1) of the BlockMetaData logged is not set
+     * CREATE and CLOSE carry the file's metadata, ASSIGN_BLOCK the replicas of one block
+     * and DELETE only needs fileId from fileMeta
+     * CLOSE also carries the final replicas of every block whose replicas were settled when it closed; they are
+     * merged into the block's replicas in the BlockMap rather than replacing them
+     * </pre>
+     *
+     * Protobuf type {@code proto.EditLogOp}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.EditLogOp)
+        proto.ProtosHDFS.EditLogOpOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.internal_static_proto_EditLogOp_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return proto.ProtosHDFS.internal_static_proto_EditLogOp_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                proto.ProtosHDFS.EditLogOp.class, proto.ProtosHDFS.EditLogOp.Builder.class);
+      }
+
+      // Construct using proto.ProtosHDFS.EditLogOp.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getFileMetaFieldBuilder();
+          getBlockMetasFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        txId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        opCode_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (fileMetaBuilder_ == null) {
+          fileMeta_ = null;
+        } else {
+          fileMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (blockMetasBuilder_ == null) {
+          blockMetas_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          blockMetasBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return proto.ProtosHDFS.internal_static_proto_EditLogOp_descriptor;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.EditLogOp getDefaultInstanceForType() {
+        return proto.ProtosHDFS.EditLogOp.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.EditLogOp build() {
+        proto.ProtosHDFS.EditLogOp result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public proto.ProtosHDFS.EditLogOp buildPartial() {
+        proto.ProtosHDFS.EditLogOp result = new proto.ProtosHDFS.EditLogOp(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.txId_ = txId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.opCode_ = opCode_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          if (fileMetaBuilder_ == null) {
+            result.fileMeta_ = fileMeta_;
+          } else {
+            result.fileMeta_ = fileMetaBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000004;
+        }
+        if (blockMetasBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            blockMetas_ = java.util.Collections.unmodifiableList(blockMetas_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.blockMetas_ = blockMetas_;
+        } else {
+          result.blockMetas_ = blockMetasBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof proto.ProtosHDFS.EditLogOp) {
+          return mergeFrom((proto.ProtosHDFS.EditLogOp)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(proto.ProtosHDFS.EditLogOp other) {
+        if (other == proto.ProtosHDFS.EditLogOp.getDefaultInstance()) return this;
+        if (other.hasTxId()) {
+          setTxId(other.getTxId());
+        }
+        if (other.hasOpCode()) {
+          setOpCode(other.getOpCode());
+        }
+        if (other.hasFileMeta()) {
+          mergeFileMeta(other.getFileMeta());
+        }
+        if (blockMetasBuilder_ == null) {
+          if (!other.blockMetas_.isEmpty()) {
+            if (blockMetas_.isEmpty()) {
+              blockMetas_ = other.blockMetas_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureBlockMetasIsMutable();
+              blockMetas_.addAll(other.blockMetas_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.blockMetas_.isEmpty()) {
+            if (blockMetasBuilder_.isEmpty()) {
+              blockMetasBuilder_.dispose();
+              blockMetasBuilder_ = null;
+              blockMetas_ = other.blockMetas_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              blockMetasBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getBlockMetasFieldBuilder() : null;
+            } else {
+              blockMetasBuilder_.addAllMessages(other.blockMetas_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasTxId()) {
+          return false;
+        }
+        if (!hasOpCode()) {
+          return false;
+        }
+        if (hasFileMeta()) {
+          if (!getFileMeta().isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getBlockMetasCount(); i++) {
+          if (!getBlockMetas(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        proto.ProtosHDFS.EditLogOp parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (proto.ProtosHDFS.EditLogOp) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long txId_ ;
+      /**
+       * <code>required int64 txId = 1;</code>
+       * @return Whether the txId field is set.
+       */
+      public boolean hasTxId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int64 txId = 1;</code>
+       * @return The txId.
+       */
+      public long getTxId() {
+        return txId_;
+      }
+      /**
+       * <code>required int64 txId = 1;</code>
+       * @param value The txId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTxId(long value) {
+        bitField0_ |= 0x00000001;
+        txId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 txId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTxId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        txId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int opCode_ = 0;
+      /**
+       * <code>required .proto.EditLogOp.OpCode opCode = 2;</code>
+       * @return Whether the opCode field is set.
+       */
+      public boolean hasOpCode() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required .proto.EditLogOp.OpCode opCode = 2;</code>
+       * @return The opCode.
+       */
+      public proto.ProtosHDFS.EditLogOp.OpCode getOpCode() {
+        @SuppressWarnings("deprecation")
+        proto.ProtosHDFS.EditLogOp.OpCode result = proto.ProtosHDFS.EditLogOp.OpCode.valueOf(opCode_);
+        return result == null ? proto.ProtosHDFS.EditLogOp.OpCode.CREATE : result;
+      }
+      /**
+       * <code>required .proto.EditLogOp.OpCode opCode = 2;</code>
+       * @param value The opCode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOpCode(proto.ProtosHDFS.EditLogOp.OpCode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        opCode_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .proto.EditLogOp.OpCode opCode = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOpCode() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        opCode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private proto.ProtosHDFS.FileMetadata fileMeta_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder> fileMetaBuilder_;
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       * @return Whether the fileMeta field is set.
+       */
+      public boolean hasFileMeta() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       * @return The fileMeta.
+       */
+      public proto.ProtosHDFS.FileMetadata getFileMeta() {
+        if (fileMetaBuilder_ == null) {
+          return fileMeta_ == null ? proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+        } else {
+          return fileMetaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public Builder setFileMeta(proto.ProtosHDFS.FileMetadata value) {
+        if (fileMetaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fileMeta_ = value;
+          onChanged();
+        } else {
+          fileMetaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public Builder setFileMeta(
+          proto.ProtosHDFS.FileMetadata.Builder builderForValue) {
+        if (fileMetaBuilder_ == null) {
+          fileMeta_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileMetaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public Builder mergeFileMeta(proto.ProtosHDFS.FileMetadata value) {
+        if (fileMetaBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+              fileMeta_ != null &&
+              fileMeta_ != proto.ProtosHDFS.FileMetadata.getDefaultInstance()) {
+            fileMeta_ =
+              proto.ProtosHDFS.FileMetadata.newBuilder(fileMeta_).mergeFrom(value).buildPartial();
+          } else {
+            fileMeta_ = value;
+          }
+          onChanged();
+        } else {
+          fileMetaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public Builder clearFileMeta() {
+        if (fileMetaBuilder_ == null) {
+          fileMeta_ = null;
+          onChanged();
+        } else {
+          fileMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public proto.ProtosHDFS.FileMetadata.Builder getFileMetaBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getFileMetaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      public proto.ProtosHDFS.FileMetadataOrBuilder getFileMetaOrBuilder() {
+        if (fileMetaBuilder_ != null) {
+          return fileMetaBuilder_.getMessageOrBuilder();
+        } else {
+          return fileMeta_ == null ?
+              proto.ProtosHDFS.FileMetadata.getDefaultInstance() : fileMeta_;
+        }
+      }
+      /**
+       * <code>optional .proto.FileMetadata fileMeta = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder> 
+          getFileMetaFieldBuilder() {
+        if (fileMetaBuilder_ == null) {
+          fileMetaBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              proto.ProtosHDFS.FileMetadata, proto.ProtosHDFS.FileMetadata.Builder, proto.ProtosHDFS.FileMetadataOrBuilder>(
+                  getFileMeta(),
+                  getParentForChildren(),
+                  isClean());
+          fileMeta_ = null;
+        }
+        return fileMetaBuilder_;
+      }
+
+      private java.util.List<proto.ProtosHDFS.BlockMetaData> blockMetas_ =
+        java.util.Collections.emptyList();
+      private void ensureBlockMetasIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          blockMetas_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>(blockMetas_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder> blockMetasBuilder_;
+
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.BlockMetaData> getBlockMetasList() {
+        if (blockMetasBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(blockMetas_);
+        } else {
+          return blockMetasBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public int getBlockMetasCount() {
+        if (blockMetasBuilder_ == null) {
+          return blockMetas_.size();
+        } else {
+          return blockMetasBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData getBlockMetas(int index) {
+        if (blockMetasBuilder_ == null) {
+          return blockMetas_.get(index);
+        } else {
+          return blockMetasBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public Builder setBlockMetas(
+          int index, proto.ProtosHDFS.BlockMetaData value) {
+        if (blockMetasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBlockMetasIsMutable();
+          blockMetas_.set(index, value);
+          onChanged();
+        } else {
+          blockMetasBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public Builder setBlockMetas(
+          int index, proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (blockMetasBuilder_ == null) {
+          ensureBlockMetasIsMutable();
+          blockMetas_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          blockMetasBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public Builder addBlockMetas(proto.ProtosHDFS.BlockMetaData value) {
+        if (blockMetasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBlockMetasIsMutable();
+          blockMetas_.add(value);
+          onChanged();
+        } else {
+          blockMetasBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public Builder addBlockMetas(
+          int index, proto.ProtosHDFS.BlockMetaData value) {
+        if (blockMetasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBlockMetasIsMutable();
+          blockMetas_.add(index, value);
+          onChanged();
+        } else {
+          blockMetasBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public Builder addBlockMetas(
+          proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (blockMetasBuilder_ == null) {
+          ensureBlockMetasIsMutable();
+          blockMetas_.add(builderForValue.build());
+          onChanged();
+        } else {
+          blockMetasBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public Builder addBlockMetas(
+          int index, proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (blockMetasBuilder_ == null) {
+          ensureBlockMetasIsMutable();
+          blockMetas_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          blockMetasBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public Builder addAllBlockMetas(
+          java.lang.Iterable<? extends proto.ProtosHDFS.BlockMetaData> values) {
+        if (blockMetasBuilder_ == null) {
+          ensureBlockMetasIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, blockMetas_);
+          onChanged();
+        } else {
+          blockMetasBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public Builder clearBlockMetas() {
+        if (blockMetasBuilder_ == null) {
+          blockMetas_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          blockMetasBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public Builder removeBlockMetas(int index) {
+        if (blockMetasBuilder_ == null) {
+          ensureBlockMetasIsMutable();
+          blockMetas_.remove(index);
+          onChanged();
+        } else {
+          blockMetasBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder getBlockMetasBuilder(
+          int index) {
+        return getBlockMetasFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaDataOrBuilder getBlockMetasOrBuilder(
+          int index) {
+        if (blockMetasBuilder_ == null) {
+          return blockMetas_.get(index);  } else {
+          return blockMetasBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+           getBlockMetasOrBuilderList() {
+        if (blockMetasBuilder_ != null) {
+          return blockMetasBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(blockMetas_);
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder addBlockMetasBuilder() {
+        return getBlockMetasFieldBuilder().addBuilder(
+            proto.ProtosHDFS.BlockMetaData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder addBlockMetasBuilder(
+          int index) {
+        return getBlockMetasFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.BlockMetaData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData blockMetas = 4;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.BlockMetaData.Builder> 
+           getBlockMetasBuilderList() {
+        return getBlockMetasFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+          getBlockMetasFieldBuilder() {
+        if (blockMetasBuilder_ == null) {
+          blockMetasBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder>(
+                  blockMetas_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          blockMetas_ = null;
+        }
+        return blockMetasBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.EditLogOp)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.EditLogOp)
+    private static final proto.ProtosHDFS.EditLogOp DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.EditLogOp();
+    }
+
+    public static proto.ProtosHDFS.EditLogOp getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<EditLogOp>
+        PARSER = new com.google.protobuf.AbstractParser<EditLogOp>() {
+      @java.lang.Override
+      public EditLogOp parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EditLogOp(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<EditLogOp> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EditLogOp> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.EditLogOp getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ImageBlockOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.ImageBlock)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int64 blockId = 1;</code>
+     * @return Whether the blockId field is set.
+     */
+    boolean hasBlockId();
+    /**
+     * <code>required int64 blockId = 1;</code>
+     * @return The blockId.
+     */
+    long getBlockId();
+
+    /**
+     * <code>required int64 fileGeneration = 2;</code>
+     * @return Whether the fileGeneration field is set.
+     */
+    boolean hasFileGeneration();
+    /**
+     * <code>required int64 fileGeneration = 2;</code>
+     * @return The fileGeneration.
+     */
+    long getFileGeneration();
+
+    /**
+     * <code>required int32 blockNumber = 3;</code>
+     * @return Whether the blockNumber field is set.
+     */
+    boolean hasBlockNumber();
+    /**
+     * <code>required int32 blockNumber = 3;</code>
+     * @return The blockNumber.
+     */
+    int getBlockNumber();
+
+    /**
+     * <code>repeated .proto.ImageReplica replicas = 4;</code>
+     */
+    java.util.List<proto.ProtosHDFS.ImageReplica> 
+        getReplicasList();
+    /**
+     * <code>repeated .proto.ImageReplica replicas = 4;</code>
+     */
+    proto.ProtosHDFS.ImageReplica getReplicas(int index);
+    /**
+     * <code>repeated .proto.ImageReplica replicas = 4;</code>
+     */
+    int getReplicasCount();
+    /**
+     * <code>repeated .proto.ImageReplica replicas = 4;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.ImageReplicaOrBuilder> 
+        getReplicasOrBuilderList();
+    /**
+     * <code>repeated .proto.ImageReplica replicas = 4;</code>
+     */
+    proto.ProtosHDFS.ImageReplicaOrBuilder getReplicasOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * One entry of a block section in the fsimage: one block of the block map and the Data Nodes holding it
+   * Data Nodes are saved by ID, because their indexes in the block map only last until the Name Node restarts
+   * </pre>
+   *
+   * Protobuf type {@code proto.ImageBlock}
+   */
+  public  static final class ImageBlock extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.ImageBlock)
+      ImageBlockOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ImageBlock.newBuilder() to construct.
+    private ImageBlock(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ImageBlock() {
+      replicas_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ImageBlock();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ImageBlock(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              blockId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              fileGeneration_ = input.readInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              blockNumber_ = input.readInt32();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                replicas_ = new java.util.ArrayList<proto.ProtosHDFS.ImageReplica>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              replicas_.add(
+                  input.readMessage(proto.ProtosHDFS.ImageReplica.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          replicas_ = java.util.Collections.unmodifiableList(replicas_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_ImageBlock_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_ImageBlock_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.ImageBlock.class, proto.ProtosHDFS.ImageBlock.Builder.class);
     }
+
+    private int bitField0_;
+    public static final int BLOCKID_FIELD_NUMBER = 1;
+    private long blockId_;
     /**
-     * <code>repeated string dataNodeId = 1;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the dataNodeId at the given index.
+     * <code>required int64 blockId = 1;</code>
+     * @return Whether the blockId field is set.
      */
-    public com.google.protobuf.ByteString
-        getDataNodeIdBytes(int index) {
-      return dataNodeId_.getByteString(index);
+    public boolean hasBlockId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int64 blockId = 1;</code>
+     * @return The blockId.
+     */
+    public long getBlockId() {
+      return blockId_;
+    }
+
+    public static final int FILEGENERATION_FIELD_NUMBER = 2;
+    private long fileGeneration_;
+    /**
+     * <code>required int64 fileGeneration = 2;</code>
+     * @return Whether the fileGeneration field is set.
+     */
+    public boolean hasFileGeneration() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required int64 fileGeneration = 2;</code>
+     * @return The fileGeneration.
+     */
+    public long getFileGeneration() {
+      return fileGeneration_;
+    }
+
+    public static final int BLOCKNUMBER_FIELD_NUMBER = 3;
+    private int blockNumber_;
+    /**
+     * <code>required int32 blockNumber = 3;</code>
+     * @return Whether the blockNumber field is set.
+     */
+    public boolean hasBlockNumber() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required int32 blockNumber = 3;</code>
+     * @return The blockNumber.
+     */
+    public int getBlockNumber() {
+      return blockNumber_;
+    }
+
+    public static final int REPLICAS_FIELD_NUMBER = 4;
+    private java.util.List<proto.ProtosHDFS.ImageReplica> replicas_;
+    /**
+     * <code>repeated .proto.ImageReplica replicas = 4;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.ImageReplica> getReplicasList() {
+      return replicas_;
+    }
+    /**
+     * <code>repeated .proto.ImageReplica replicas = 4;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.ImageReplicaOrBuilder> 
+        getReplicasOrBuilderList() {
+      return replicas_;
+    }
+    /**
+     * <code>repeated .proto.ImageReplica replicas = 4;</code>
+     */
+    public int getReplicasCount() {
+      return replicas_.size();
+    }
+    /**
+     * <code>repeated .proto.ImageReplica replicas = 4;</code>
+     */
+    public proto.ProtosHDFS.ImageReplica getReplicas(int index) {
+      return replicas_.get(index);
+    }
+    /**
+     * <code>repeated .proto.ImageReplica replicas = 4;</code>
+     */
+    public proto.ProtosHDFS.ImageReplicaOrBuilder getReplicasOrBuilder(
+        int index) {
+      return replicas_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -6635,6 +20249,24 @@ public final class ProtosHDFS {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      if (!hasBlockId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFileGeneration()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasBlockNumber()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getReplicasCount(); i++) {
+        if (!getReplicas(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -6642,8 +20274,17 @@ public final class ProtosHDFS {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < dataNodeId_.size(); i++) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, dataNodeId_.getRaw(i));
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(1, blockId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(2, fileGeneration_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(3, blockNumber_);
+      }
+      for (int i = 0; i < replicas_.size(); i++) {
+        output.writeMessage(4, replicas_.get(i));
       }
       unknownFields.writeTo(output);
     }
@@ -6654,13 +20295,21 @@ public final class ProtosHDFS {
       if (size != -1) return size;
 
       size = 0;
-      {
-        int dataSize = 0;
-        for (int i = 0; i < dataNodeId_.size(); i++) {
-          dataSize += computeStringSizeNoTag(dataNodeId_.getRaw(i));
-        }
-        size += dataSize;
-        size += 1 * getDataNodeIdList().size();
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, blockId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, fileGeneration_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, blockNumber_);
+      }
+      for (int i = 0; i < replicas_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, replicas_.get(i));
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -6672,13 +20321,28 @@ public final class ProtosHDFS {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof proto.ProtosHDFS.Pipeline)) {
+      if (!(obj instanceof proto.ProtosHDFS.ImageBlock)) {
         return super.equals(obj);
       }
-      proto.ProtosHDFS.Pipeline other = (proto.ProtosHDFS.Pipeline) obj;
-
-      if (!getDataNodeIdList()
-          .equals(other.getDataNodeIdList())) return false;
+      proto.ProtosHDFS.ImageBlock other = (proto.ProtosHDFS.ImageBlock) obj;
+
+      if (hasBlockId() != other.hasBlockId()) return false;
+      if (hasBlockId()) {
+        if (getBlockId()
+            != other.getBlockId()) return false;
+      }
+      if (hasFileGeneration() != other.hasFileGeneration()) return false;
+      if (hasFileGeneration()) {
+        if (getFileGeneration()
+            != other.getFileGeneration()) return false;
+      }
+      if (hasBlockNumber() != other.hasBlockNumber()) return false;
+      if (hasBlockNumber()) {
+        if (getBlockNumber()
+            != other.getBlockNumber()) return false;
+      }
+      if (!getReplicasList()
+          .equals(other.getReplicasList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -6690,78 +20354,92 @@ public final class ProtosHDFS {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (getDataNodeIdCount() > 0) {
-        hash = (37 * hash) + DATANODEID_FIELD_NUMBER;
-        hash = (53 * hash) + getDataNodeIdList().hashCode();
+      if (hasBlockId()) {
+        hash = (37 * hash) + BLOCKID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getBlockId());
+      }
+      if (hasFileGeneration()) {
+        hash = (37 * hash) + FILEGENERATION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getFileGeneration());
+      }
+      if (hasBlockNumber()) {
+        hash = (37 * hash) + BLOCKNUMBER_FIELD_NUMBER;
+        hash = (53 * hash) + getBlockNumber();
+      }
+      if (getReplicasCount() > 0) {
+        hash = (37 * hash) + REPLICAS_FIELD_NUMBER;
+        hash = (53 * hash) + getReplicasList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static proto.ProtosHDFS.Pipeline parseFrom(
+    public static proto.ProtosHDFS.ImageBlock parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static proto.ProtosHDFS.Pipeline parseFrom(
+    public static proto.ProtosHDFS.ImageBlock parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static proto.ProtosHDFS.Pipeline parseFrom(
+    public static proto.ProtosHDFS.ImageBlock parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static proto.ProtosHDFS.Pipeline parseFrom(
+    public static proto.ProtosHDFS.ImageBlock parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static proto.ProtosHDFS.Pipeline parseFrom(byte[] data)
+    public static proto.ProtosHDFS.ImageBlock parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static proto.ProtosHDFS.Pipeline parseFrom(
+    public static proto.ProtosHDFS.ImageBlock parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static proto.ProtosHDFS.Pipeline parseFrom(java.io.InputStream input)
+    public static proto.ProtosHDFS.ImageBlock parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static proto.ProtosHDFS.Pipeline parseFrom(
+    public static proto.ProtosHDFS.ImageBlock parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static proto.ProtosHDFS.Pipeline parseDelimitedFrom(java.io.InputStream input)
+    public static proto.ProtosHDFS.ImageBlock parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static proto.ProtosHDFS.Pipeline parseDelimitedFrom(
+    public static proto.ProtosHDFS.ImageBlock parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static proto.ProtosHDFS.Pipeline parseFrom(
+    public static proto.ProtosHDFS.ImageBlock parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static proto.ProtosHDFS.Pipeline parseFrom(
+    public static proto.ProtosHDFS.ImageBlock parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6774,7 +20452,7 @@ public final class ProtosHDFS {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(proto.ProtosHDFS.Pipeline prototype) {
+    public static Builder newBuilder(proto.ProtosHDFS.ImageBlock prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -6790,26 +20468,31 @@ public final class ProtosHDFS {
       return builder;
     }
     /**
-     * Protobuf type {@code proto.Pipeline}
+     * <pre>
+     * One entry of a block section in the fsimage: one block of the block map and the Data Nodes holding it
+     * Data Nodes are saved by ID, because their indexes in the block map only last until the Name Node restarts
+     * </pre>
+     *
+     * Protobuf type {@code proto.ImageBlock}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:proto.Pipeline)
-        proto.ProtosHDFS.PipelineOrBuilder {
+        // @@protoc_insertion_point(builder_implements:proto.ImageBlock)
+        proto.ProtosHDFS.ImageBlockOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return proto.ProtosHDFS.internal_static_proto_Pipeline_descriptor;
+        return proto.ProtosHDFS.internal_static_proto_ImageBlock_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return proto.ProtosHDFS.internal_static_proto_Pipeline_fieldAccessorTable
+        return proto.ProtosHDFS.internal_static_proto_ImageBlock_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                proto.ProtosHDFS.Pipeline.class, proto.ProtosHDFS.Pipeline.Builder.class);
+                proto.ProtosHDFS.ImageBlock.class, proto.ProtosHDFS.ImageBlock.Builder.class);
       }
 
-      // Construct using proto.ProtosHDFS.Pipeline.newBuilder()
+      // Construct using proto.ProtosHDFS.ImageBlock.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6822,30 +20505,41 @@ public final class ProtosHDFS {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getReplicasFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        dataNodeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        blockId_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000001);
+        fileGeneration_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        blockNumber_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (replicasBuilder_ == null) {
+          replicas_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          replicasBuilder_.clear();
+        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return proto.ProtosHDFS.internal_static_proto_Pipeline_descriptor;
+        return proto.ProtosHDFS.internal_static_proto_ImageBlock_descriptor;
       }
 
       @java.lang.Override
-      public proto.ProtosHDFS.Pipeline getDefaultInstanceForType() {
-        return proto.ProtosHDFS.Pipeline.getDefaultInstance();
+      public proto.ProtosHDFS.ImageBlock getDefaultInstanceForType() {
+        return proto.ProtosHDFS.ImageBlock.getDefaultInstance();
       }
 
       @java.lang.Override
-      public proto.ProtosHDFS.Pipeline build() {
-        proto.ProtosHDFS.Pipeline result = buildPartial();
+      public proto.ProtosHDFS.ImageBlock build() {
+        proto.ProtosHDFS.ImageBlock result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6853,14 +20547,32 @@ public final class ProtosHDFS {
       }
 
       @java.lang.Override
-      public proto.ProtosHDFS.Pipeline buildPartial() {
-        proto.ProtosHDFS.Pipeline result = new proto.ProtosHDFS.Pipeline(this);
+      public proto.ProtosHDFS.ImageBlock buildPartial() {
+        proto.ProtosHDFS.ImageBlock result = new proto.ProtosHDFS.ImageBlock(this);
         int from_bitField0_ = bitField0_;
-        if (((bitField0_ & 0x00000001) != 0)) {
-          dataNodeId_ = dataNodeId_.getUnmodifiableView();
-          bitField0_ = (bitField0_ & ~0x00000001);
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.blockId_ = blockId_;
+          to_bitField0_ |= 0x00000001;
         }
-        result.dataNodeId_ = dataNodeId_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.fileGeneration_ = fileGeneration_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.blockNumber_ = blockNumber_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (replicasBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            replicas_ = java.util.Collections.unmodifiableList(replicas_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.replicas_ = replicas_;
+        } else {
+          result.replicas_ = replicasBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -6899,163 +20611,444 @@ public final class ProtosHDFS {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof proto.ProtosHDFS.Pipeline) {
-          return mergeFrom((proto.ProtosHDFS.Pipeline)other);
+        if (other instanceof proto.ProtosHDFS.ImageBlock) {
+          return mergeFrom((proto.ProtosHDFS.ImageBlock)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(proto.ProtosHDFS.Pipeline other) {
-        if (other == proto.ProtosHDFS.Pipeline.getDefaultInstance()) return this;
-        if (!other.dataNodeId_.isEmpty()) {
-          if (dataNodeId_.isEmpty()) {
-            dataNodeId_ = other.dataNodeId_;
-            bitField0_ = (bitField0_ & ~0x00000001);
-          } else {
-            ensureDataNodeIdIsMutable();
-            dataNodeId_.addAll(other.dataNodeId_);
+      public Builder mergeFrom(proto.ProtosHDFS.ImageBlock other) {
+        if (other == proto.ProtosHDFS.ImageBlock.getDefaultInstance()) return this;
+        if (other.hasBlockId()) {
+          setBlockId(other.getBlockId());
+        }
+        if (other.hasFileGeneration()) {
+          setFileGeneration(other.getFileGeneration());
+        }
+        if (other.hasBlockNumber()) {
+          setBlockNumber(other.getBlockNumber());
+        }
+        if (replicasBuilder_ == null) {
+          if (!other.replicas_.isEmpty()) {
+            if (replicas_.isEmpty()) {
+              replicas_ = other.replicas_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureReplicasIsMutable();
+              replicas_.addAll(other.replicas_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.replicas_.isEmpty()) {
+            if (replicasBuilder_.isEmpty()) {
+              replicasBuilder_.dispose();
+              replicasBuilder_ = null;
+              replicas_ = other.replicas_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              replicasBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getReplicasFieldBuilder() : null;
+            } else {
+              replicasBuilder_.addAllMessages(other.replicas_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasBlockId()) {
+          return false;
+        }
+        if (!hasFileGeneration()) {
+          return false;
+        }
+        if (!hasBlockNumber()) {
+          return false;
+        }
+        for (int i = 0; i < getReplicasCount(); i++) {
+          if (!getReplicas(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        proto.ProtosHDFS.ImageBlock parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (proto.ProtosHDFS.ImageBlock) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long blockId_ ;
+      /**
+       * <code>required int64 blockId = 1;</code>
+       * @return Whether the blockId field is set.
+       */
+      public boolean hasBlockId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int64 blockId = 1;</code>
+       * @return The blockId.
+       */
+      public long getBlockId() {
+        return blockId_;
+      }
+      /**
+       * <code>required int64 blockId = 1;</code>
+       * @param value The blockId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlockId(long value) {
+        bitField0_ |= 0x00000001;
+        blockId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 blockId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlockId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        blockId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long fileGeneration_ ;
+      /**
+       * <code>required int64 fileGeneration = 2;</code>
+       * @return Whether the fileGeneration field is set.
+       */
+      public boolean hasFileGeneration() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required int64 fileGeneration = 2;</code>
+       * @return The fileGeneration.
+       */
+      public long getFileGeneration() {
+        return fileGeneration_;
+      }
+      /**
+       * <code>required int64 fileGeneration = 2;</code>
+       * @param value The fileGeneration to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileGeneration(long value) {
+        bitField0_ |= 0x00000002;
+        fileGeneration_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 fileGeneration = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileGeneration() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fileGeneration_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int blockNumber_ ;
+      /**
+       * <code>required int32 blockNumber = 3;</code>
+       * @return Whether the blockNumber field is set.
+       */
+      public boolean hasBlockNumber() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required int32 blockNumber = 3;</code>
+       * @return The blockNumber.
+       */
+      public int getBlockNumber() {
+        return blockNumber_;
+      }
+      /**
+       * <code>required int32 blockNumber = 3;</code>
+       * @param value The blockNumber to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlockNumber(int value) {
+        bitField0_ |= 0x00000004;
+        blockNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 blockNumber = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlockNumber() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        blockNumber_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<proto.ProtosHDFS.ImageReplica> replicas_ =
+        java.util.Collections.emptyList();
+      private void ensureReplicasIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          replicas_ = new java.util.ArrayList<proto.ProtosHDFS.ImageReplica>(replicas_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.ImageReplica, proto.ProtosHDFS.ImageReplica.Builder, proto.ProtosHDFS.ImageReplicaOrBuilder> replicasBuilder_;
+
+      /**
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.ImageReplica> getReplicasList() {
+        if (replicasBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(replicas_);
+        } else {
+          return replicasBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
+       */
+      public int getReplicasCount() {
+        if (replicasBuilder_ == null) {
+          return replicas_.size();
+        } else {
+          return replicasBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
+       */
+      public proto.ProtosHDFS.ImageReplica getReplicas(int index) {
+        if (replicasBuilder_ == null) {
+          return replicas_.get(index);
+        } else {
+          return replicasBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
+       */
+      public Builder setReplicas(
+          int index, proto.ProtosHDFS.ImageReplica value) {
+        if (replicasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureReplicasIsMutable();
+          replicas_.set(index, value);
           onChanged();
+        } else {
+          replicasBuilder_.setMessage(index, value);
         }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
         return this;
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      /**
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
+       */
+      public Builder setReplicas(
+          int index, proto.ProtosHDFS.ImageReplica.Builder builderForValue) {
+        if (replicasBuilder_ == null) {
+          ensureReplicasIsMutable();
+          replicas_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          replicasBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        proto.ProtosHDFS.Pipeline parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (proto.ProtosHDFS.Pipeline) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
+      /**
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
+       */
+      public Builder addReplicas(proto.ProtosHDFS.ImageReplica value) {
+        if (replicasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureReplicasIsMutable();
+          replicas_.add(value);
+          onChanged();
+        } else {
+          replicasBuilder_.addMessage(value);
         }
         return this;
       }
-      private int bitField0_;
-
-      private com.google.protobuf.LazyStringList dataNodeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureDataNodeIdIsMutable() {
-        if (!((bitField0_ & 0x00000001) != 0)) {
-          dataNodeId_ = new com.google.protobuf.LazyStringArrayList(dataNodeId_);
-          bitField0_ |= 0x00000001;
-         }
-      }
       /**
-       * <code>repeated string dataNodeId = 1;</code>
-       * @return A list containing the dataNodeId.
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
        */
-      public com.google.protobuf.ProtocolStringList
-          getDataNodeIdList() {
-        return dataNodeId_.getUnmodifiableView();
+      public Builder addReplicas(
+          int index, proto.ProtosHDFS.ImageReplica value) {
+        if (replicasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReplicasIsMutable();
+          replicas_.add(index, value);
+          onChanged();
+        } else {
+          replicasBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>repeated string dataNodeId = 1;</code>
-       * @return The count of dataNodeId.
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
        */
-      public int getDataNodeIdCount() {
-        return dataNodeId_.size();
+      public Builder addReplicas(
+          proto.ProtosHDFS.ImageReplica.Builder builderForValue) {
+        if (replicasBuilder_ == null) {
+          ensureReplicasIsMutable();
+          replicas_.add(builderForValue.build());
+          onChanged();
+        } else {
+          replicasBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>repeated string dataNodeId = 1;</code>
-       * @param index The index of the element to return.
-       * @return The dataNodeId at the given index.
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
        */
-      public java.lang.String getDataNodeId(int index) {
-        return dataNodeId_.get(index);
+      public Builder addReplicas(
+          int index, proto.ProtosHDFS.ImageReplica.Builder builderForValue) {
+        if (replicasBuilder_ == null) {
+          ensureReplicasIsMutable();
+          replicas_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          replicasBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>repeated string dataNodeId = 1;</code>
-       * @param index The index of the value to return.
-       * @return The bytes of the dataNodeId at the given index.
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
        */
-      public com.google.protobuf.ByteString
-          getDataNodeIdBytes(int index) {
-        return dataNodeId_.getByteString(index);
+      public Builder addAllReplicas(
+          java.lang.Iterable<? extends proto.ProtosHDFS.ImageReplica> values) {
+        if (replicasBuilder_ == null) {
+          ensureReplicasIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, replicas_);
+          onChanged();
+        } else {
+          replicasBuilder_.addAllMessages(values);
+        }
+        return this;
       }
       /**
-       * <code>repeated string dataNodeId = 1;</code>
-       * @param index The index to set the value at.
-       * @param value The dataNodeId to set.
-       * @return This builder for chaining.
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
        */
-      public Builder setDataNodeId(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureDataNodeIdIsMutable();
-        dataNodeId_.set(index, value);
-        onChanged();
+      public Builder clearReplicas() {
+        if (replicasBuilder_ == null) {
+          replicas_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          replicasBuilder_.clear();
+        }
         return this;
       }
       /**
-       * <code>repeated string dataNodeId = 1;</code>
-       * @param value The dataNodeId to add.
-       * @return This builder for chaining.
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
        */
-      public Builder addDataNodeId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureDataNodeIdIsMutable();
-        dataNodeId_.add(value);
-        onChanged();
+      public Builder removeReplicas(int index) {
+        if (replicasBuilder_ == null) {
+          ensureReplicasIsMutable();
+          replicas_.remove(index);
+          onChanged();
+        } else {
+          replicasBuilder_.remove(index);
+        }
         return this;
       }
       /**
-       * <code>repeated string dataNodeId = 1;</code>
-       * @param values The dataNodeId to add.
-       * @return This builder for chaining.
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
        */
-      public Builder addAllDataNodeId(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureDataNodeIdIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, dataNodeId_);
-        onChanged();
-        return this;
+      public proto.ProtosHDFS.ImageReplica.Builder getReplicasBuilder(
+          int index) {
+        return getReplicasFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>repeated string dataNodeId = 1;</code>
-       * @return This builder for chaining.
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
        */
-      public Builder clearDataNodeId() {
-        dataNodeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        onChanged();
-        return this;
+      public proto.ProtosHDFS.ImageReplicaOrBuilder getReplicasOrBuilder(
+          int index) {
+        if (replicasBuilder_ == null) {
+          return replicas_.get(index);  } else {
+          return replicasBuilder_.getMessageOrBuilder(index);
+        }
       }
       /**
-       * <code>repeated string dataNodeId = 1;</code>
-       * @param value The bytes of the dataNodeId to add.
-       * @return This builder for chaining.
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
        */
-      public Builder addDataNodeIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureDataNodeIdIsMutable();
-        dataNodeId_.add(value);
-        onChanged();
-        return this;
+      public java.util.List<? extends proto.ProtosHDFS.ImageReplicaOrBuilder> 
+           getReplicasOrBuilderList() {
+        if (replicasBuilder_ != null) {
+          return replicasBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(replicas_);
+        }
+      }
+      /**
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
+       */
+      public proto.ProtosHDFS.ImageReplica.Builder addReplicasBuilder() {
+        return getReplicasFieldBuilder().addBuilder(
+            proto.ProtosHDFS.ImageReplica.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
+       */
+      public proto.ProtosHDFS.ImageReplica.Builder addReplicasBuilder(
+          int index) {
+        return getReplicasFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.ImageReplica.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.ImageReplica replicas = 4;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.ImageReplica.Builder> 
+           getReplicasBuilderList() {
+        return getReplicasFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.ImageReplica, proto.ProtosHDFS.ImageReplica.Builder, proto.ProtosHDFS.ImageReplicaOrBuilder> 
+          getReplicasFieldBuilder() {
+        if (replicasBuilder_ == null) {
+          replicasBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.ImageReplica, proto.ProtosHDFS.ImageReplica.Builder, proto.ProtosHDFS.ImageReplicaOrBuilder>(
+                  replicas_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          replicas_ = null;
+        }
+        return replicasBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -7070,168 +21063,103 @@ public final class ProtosHDFS {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:proto.Pipeline)
+      // @@protoc_insertion_point(builder_scope:proto.ImageBlock)
     }
 
-    // @@protoc_insertion_point(class_scope:proto.Pipeline)
-    private static final proto.ProtosHDFS.Pipeline DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:proto.ImageBlock)
+    private static final proto.ProtosHDFS.ImageBlock DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new proto.ProtosHDFS.Pipeline();
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.ImageBlock();
     }
 
-    public static proto.ProtosHDFS.Pipeline getDefaultInstance() {
+    public static proto.ProtosHDFS.ImageBlock getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<Pipeline>
-        PARSER = new com.google.protobuf.AbstractParser<Pipeline>() {
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<ImageBlock>
+        PARSER = new com.google.protobuf.AbstractParser<ImageBlock>() {
       @java.lang.Override
-      public Pipeline parsePartialFrom(
+      public ImageBlock parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Pipeline(input, extensionRegistry);
+        return new ImageBlock(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Pipeline> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<Pipeline> getParserForType() {
+    public static com.google.protobuf.Parser<ImageBlock> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public proto.ProtosHDFS.Pipeline getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface ResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:proto.Response)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>required string responseId = 1;</code>
-     * @return Whether the responseId field is set.
-     */
-    boolean hasResponseId();
-    /**
-     * <code>required string responseId = 1;</code>
-     * @return The responseId.
-     */
-    java.lang.String getResponseId();
-    /**
-     * <code>required string responseId = 1;</code>
-     * @return The bytes for responseId.
-     */
-    com.google.protobuf.ByteString
-        getResponseIdBytes();
-
-    /**
-     * <code>required .proto.Response.ResponseType responseType = 2;</code>
-     * @return Whether the responseType field is set.
-     */
-    boolean hasResponseType();
-    /**
-     * <code>required .proto.Response.ResponseType responseType = 2;</code>
-     * @return The responseType.
-     */
-    proto.ProtosHDFS.Response.ResponseType getResponseType();
-
-    /**
-     * <code>optional string errorMessage = 3;</code>
-     * @return Whether the errorMessage field is set.
-     */
-    boolean hasErrorMessage();
-    /**
-     * <code>optional string errorMessage = 3;</code>
-     * @return The errorMessage.
-     */
-    java.lang.String getErrorMessage();
-    /**
-     * <code>optional string errorMessage = 3;</code>
-     * @return The bytes for errorMessage.
-     */
-    com.google.protobuf.ByteString
-        getErrorMessageBytes();
-
-    /**
-     * <code>repeated .proto.Block block = 4;</code>
-     */
-    java.util.List<proto.ProtosHDFS.Block> 
-        getBlockList();
-    /**
-     * <code>repeated .proto.Block block = 4;</code>
-     */
-    proto.ProtosHDFS.Block getBlock(int index);
-    /**
-     * <code>repeated .proto.Block block = 4;</code>
-     */
-    int getBlockCount();
-    /**
-     * <code>repeated .proto.Block block = 4;</code>
-     */
-    java.util.List<? extends proto.ProtosHDFS.BlockOrBuilder> 
-        getBlockOrBuilderList();
-    /**
-     * <code>repeated .proto.Block block = 4;</code>
-     */
-    proto.ProtosHDFS.BlockOrBuilder getBlockOrBuilder(
-        int index);
+    public com.google.protobuf.Parser<ImageBlock> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.ImageBlock getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ImageReplicaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.ImageReplica)
+      com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     * <code>required string dataNodeId = 1;</code>
+     * @return Whether the dataNodeId field is set.
      */
-    java.util.List<proto.ProtosHDFS.Pipeline> 
-        getPipelinesList();
+    boolean hasDataNodeId();
     /**
-     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     * <code>required string dataNodeId = 1;</code>
+     * @return The dataNodeId.
      */
-    proto.ProtosHDFS.Pipeline getPipelines(int index);
+    java.lang.String getDataNodeId();
     /**
-     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     * <code>required string dataNodeId = 1;</code>
+     * @return The bytes for dataNodeId.
      */
-    int getPipelinesCount();
+    com.google.protobuf.ByteString
+        getDataNodeIdBytes();
+
     /**
-     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     * <code>required int32 length = 2;</code>
+     * @return Whether the length field is set.
      */
-    java.util.List<? extends proto.ProtosHDFS.PipelineOrBuilder> 
-        getPipelinesOrBuilderList();
+    boolean hasLength();
     /**
-     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     * <code>required int32 length = 2;</code>
+     * @return The length.
      */
-    proto.ProtosHDFS.PipelineOrBuilder getPipelinesOrBuilder(
-        int index);
+    int getLength();
   }
   /**
-   * Protobuf type {@code proto.Response}
+   * <pre>
+   * A replica in the fsimage: its Data Node and the length it reported, or -1 if it has not reported yet
+   * </pre>
+   *
+   * Protobuf type {@code proto.ImageReplica}
    */
-  public  static final class Response extends
+  public  static final class ImageReplica extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:proto.Response)
-      ResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:proto.ImageReplica)
+      ImageReplicaOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Response.newBuilder() to construct.
-    private Response(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ImageReplica.newBuilder() to construct.
+    private ImageReplica(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Response() {
-      responseId_ = "";
-      responseType_ = 0;
-      errorMessage_ = "";
-      block_ = java.util.Collections.emptyList();
-      pipelines_ = java.util.Collections.emptyList();
+    private ImageReplica() {
+      dataNodeId_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new Response();
+      return new ImageReplica();
     }
 
     @java.lang.Override
@@ -7239,7 +21167,7 @@ public final class ProtosHDFS {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Response(
+    private ImageReplica(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7251,269 +21179,72 @@ public final class ProtosHDFS {
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              responseId_ = bs;
-              break;
-            }
-            case 16: {
-              int rawValue = input.readEnum();
-                @SuppressWarnings("deprecation")
-              proto.ProtosHDFS.Response.ResponseType value = proto.ProtosHDFS.Response.ResponseType.valueOf(rawValue);
-              if (value == null) {
-                unknownFields.mergeVarintField(2, rawValue);
-              } else {
-                bitField0_ |= 0x00000002;
-                responseType_ = rawValue;
-              }
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              errorMessage_ = bs;
-              break;
-            }
-            case 34: {
-              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
-                block_ = new java.util.ArrayList<proto.ProtosHDFS.Block>();
-                mutable_bitField0_ |= 0x00000008;
-              }
-              block_.add(
-                  input.readMessage(proto.ProtosHDFS.Block.PARSER, extensionRegistry));
-              break;
-            }
-            case 42: {
-              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
-                pipelines_ = new java.util.ArrayList<proto.ProtosHDFS.Pipeline>();
-                mutable_bitField0_ |= 0x00000010;
-              }
-              pipelines_.add(
-                  input.readMessage(proto.ProtosHDFS.Pipeline.PARSER, extensionRegistry));
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000008) != 0)) {
-          block_ = java.util.Collections.unmodifiableList(block_);
-        }
-        if (((mutable_bitField0_ & 0x00000010) != 0)) {
-          pipelines_ = java.util.Collections.unmodifiableList(pipelines_);
-        }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return proto.ProtosHDFS.internal_static_proto_Response_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return proto.ProtosHDFS.internal_static_proto_Response_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              proto.ProtosHDFS.Response.class, proto.ProtosHDFS.Response.Builder.class);
-    }
-
-    /**
-     * Protobuf enum {@code proto.Response.ResponseType}
-     */
-    public enum ResponseType
-        implements com.google.protobuf.ProtocolMessageEnum {
-      /**
-       * <code>SUCCESS = 0;</code>
-       */
-      SUCCESS(0),
-      /**
-       * <code>FAILURE = 1;</code>
-       */
-      FAILURE(1),
-      ;
-
-      /**
-       * <code>SUCCESS = 0;</code>
-       */
-      public static final int SUCCESS_VALUE = 0;
-      /**
-       * <code>FAILURE = 1;</code>
-       */
-      public static final int FAILURE_VALUE = 1;
-
-
-      public final int getNumber() {
-        return value;
-      }
-
-      /**
-       * @param value The numeric wire value of the corresponding enum entry.
-       * @return The enum associated with the given numeric wire value.
-       * @deprecated Use {@link #forNumber(int)} instead.
-       */
-      @java.lang.Deprecated
-      public static ResponseType valueOf(int value) {
-        return forNumber(value);
-      }
-
-      /**
-       * @param value The numeric wire value of the corresponding enum entry.
-       * @return The enum associated with the given numeric wire value.
-       */
-      public static ResponseType forNumber(int value) {
-        switch (value) {
-          case 0: return SUCCESS;
-          case 1: return FAILURE;
-          default: return null;
-        }
-      }
-
-      public static com.google.protobuf.Internal.EnumLiteMap<ResponseType>
-          internalGetValueMap() {
-        return internalValueMap;
-      }
-      private static final com.google.protobuf.Internal.EnumLiteMap<
-          ResponseType> internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ResponseType>() {
-              public ResponseType findValueByNumber(int number) {
-                return ResponseType.forNumber(number);
-              }
-            };
-
-      public final com.google.protobuf.Descriptors.EnumValueDescriptor
-          getValueDescriptor() {
-        return getDescriptor().getValues().get(ordinal());
-      }
-      public final com.google.protobuf.Descriptors.EnumDescriptor
-          getDescriptorForType() {
-        return getDescriptor();
-      }
-      public static final com.google.protobuf.Descriptors.EnumDescriptor
-          getDescriptor() {
-        return proto.ProtosHDFS.Response.getDescriptor().getEnumTypes().get(0);
-      }
-
-      private static final ResponseType[] VALUES = values();
-
-      public static ResponseType valueOf(
-          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-        if (desc.getType() != getDescriptor()) {
-          throw new java.lang.IllegalArgumentException(
-            "EnumValueDescriptor is not for this type.");
-        }
-        return VALUES[desc.getIndex()];
-      }
-
-      private final int value;
-
-      private ResponseType(int value) {
-        this.value = value;
-      }
-
-      // @@protoc_insertion_point(enum_scope:proto.Response.ResponseType)
-    }
-
-    private int bitField0_;
-    public static final int RESPONSEID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object responseId_;
-    /**
-     * <code>required string responseId = 1;</code>
-     * @return Whether the responseId field is set.
-     */
-    public boolean hasResponseId() {
-      return ((bitField0_ & 0x00000001) != 0);
-    }
-    /**
-     * <code>required string responseId = 1;</code>
-     * @return The responseId.
-     */
-    public java.lang.String getResponseId() {
-      java.lang.Object ref = responseId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          responseId_ = s;
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              dataNodeId_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              length_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
         }
-        return s;
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
     }
-    /**
-     * <code>required string responseId = 1;</code>
-     * @return The bytes for responseId.
-     */
-    public com.google.protobuf.ByteString
-        getResponseIdBytes() {
-      java.lang.Object ref = responseId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        responseId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_ImageReplica_descriptor;
     }
 
-    public static final int RESPONSETYPE_FIELD_NUMBER = 2;
-    private int responseType_;
-    /**
-     * <code>required .proto.Response.ResponseType responseType = 2;</code>
-     * @return Whether the responseType field is set.
-     */
-    public boolean hasResponseType() {
-      return ((bitField0_ & 0x00000002) != 0);
-    }
-    /**
-     * <code>required .proto.Response.ResponseType responseType = 2;</code>
-     * @return The responseType.
-     */
-    public proto.ProtosHDFS.Response.ResponseType getResponseType() {
-      @SuppressWarnings("deprecation")
-      proto.ProtosHDFS.Response.ResponseType result = proto.ProtosHDFS.Response.ResponseType.valueOf(responseType_);
-      return result == null ? proto.ProtosHDFS.Response.ResponseType.SUCCESS : result;
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_ImageReplica_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.ImageReplica.class, proto.ProtosHDFS.ImageReplica.Builder.class);
     }
 
-    public static final int ERRORMESSAGE_FIELD_NUMBER = 3;
-    private volatile java.lang.Object errorMessage_;
+    private int bitField0_;
+    public static final int DATANODEID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object dataNodeId_;
     /**
-     * <code>optional string errorMessage = 3;</code>
-     * @return Whether the errorMessage field is set.
+     * <code>required string dataNodeId = 1;</code>
+     * @return Whether the dataNodeId field is set.
      */
-    public boolean hasErrorMessage() {
-      return ((bitField0_ & 0x00000004) != 0);
+    public boolean hasDataNodeId() {
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>optional string errorMessage = 3;</code>
-     * @return The errorMessage.
+     * <code>required string dataNodeId = 1;</code>
+     * @return The dataNodeId.
      */
-    public java.lang.String getErrorMessage() {
-      java.lang.Object ref = errorMessage_;
+    public java.lang.String getDataNodeId() {
+      java.lang.Object ref = dataNodeId_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -7521,97 +21252,44 @@ public final class ProtosHDFS {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          errorMessage_ = s;
+          dataNodeId_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>optional string errorMessage = 3;</code>
-     * @return The bytes for errorMessage.
+     * <code>required string dataNodeId = 1;</code>
+     * @return The bytes for dataNodeId.
      */
     public com.google.protobuf.ByteString
-        getErrorMessageBytes() {
-      java.lang.Object ref = errorMessage_;
+        getDataNodeIdBytes() {
+      java.lang.Object ref = dataNodeId_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        errorMessage_ = b;
+        dataNodeId_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int BLOCK_FIELD_NUMBER = 4;
-    private java.util.List<proto.ProtosHDFS.Block> block_;
-    /**
-     * <code>repeated .proto.Block block = 4;</code>
-     */
-    public java.util.List<proto.ProtosHDFS.Block> getBlockList() {
-      return block_;
-    }
-    /**
-     * <code>repeated .proto.Block block = 4;</code>
-     */
-    public java.util.List<? extends proto.ProtosHDFS.BlockOrBuilder> 
-        getBlockOrBuilderList() {
-      return block_;
-    }
-    /**
-     * <code>repeated .proto.Block block = 4;</code>
-     */
-    public int getBlockCount() {
-      return block_.size();
-    }
-    /**
-     * <code>repeated .proto.Block block = 4;</code>
-     */
-    public proto.ProtosHDFS.Block getBlock(int index) {
-      return block_.get(index);
-    }
-    /**
-     * <code>repeated .proto.Block block = 4;</code>
-     */
-    public proto.ProtosHDFS.BlockOrBuilder getBlockOrBuilder(
-        int index) {
-      return block_.get(index);
-    }
-
-    public static final int PIPELINES_FIELD_NUMBER = 5;
-    private java.util.List<proto.ProtosHDFS.Pipeline> pipelines_;
-    /**
-     * <code>repeated .proto.Pipeline pipelines = 5;</code>
-     */
-    public java.util.List<proto.ProtosHDFS.Pipeline> getPipelinesList() {
-      return pipelines_;
-    }
-    /**
-     * <code>repeated .proto.Pipeline pipelines = 5;</code>
-     */
-    public java.util.List<? extends proto.ProtosHDFS.PipelineOrBuilder> 
-        getPipelinesOrBuilderList() {
-      return pipelines_;
-    }
-    /**
-     * <code>repeated .proto.Pipeline pipelines = 5;</code>
-     */
-    public int getPipelinesCount() {
-      return pipelines_.size();
-    }
+    public static final int LENGTH_FIELD_NUMBER = 2;
+    private int length_;
     /**
-     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     * <code>required int32 length = 2;</code>
+     * @return Whether the length field is set.
      */
-    public proto.ProtosHDFS.Pipeline getPipelines(int index) {
-      return pipelines_.get(index);
+    public boolean hasLength() {
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>repeated .proto.Pipeline pipelines = 5;</code>
+     * <code>required int32 length = 2;</code>
+     * @return The length.
      */
-    public proto.ProtosHDFS.PipelineOrBuilder getPipelinesOrBuilder(
-        int index) {
-      return pipelines_.get(index);
+    public int getLength() {
+      return length_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -7621,20 +21299,14 @@ public final class ProtosHDFS {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasResponseId()) {
+      if (!hasDataNodeId()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasResponseType()) {
+      if (!hasLength()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      for (int i = 0; i < getBlockCount(); i++) {
-        if (!getBlock(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -7643,19 +21315,10 @@ public final class ProtosHDFS {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, responseId_);
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, dataNodeId_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeEnum(2, responseType_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, errorMessage_);
-      }
-      for (int i = 0; i < block_.size(); i++) {
-        output.writeMessage(4, block_.get(i));
-      }
-      for (int i = 0; i < pipelines_.size(); i++) {
-        output.writeMessage(5, pipelines_.get(i));
+        output.writeInt32(2, length_);
       }
       unknownFields.writeTo(output);
     }
@@ -7667,22 +21330,11 @@ public final class ProtosHDFS {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, responseId_);
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, dataNodeId_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(2, responseType_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, errorMessage_);
-      }
-      for (int i = 0; i < block_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, block_.get(i));
-      }
-      for (int i = 0; i < pipelines_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(5, pipelines_.get(i));
+          .computeInt32Size(2, length_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -7694,29 +21346,21 @@ public final class ProtosHDFS {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof proto.ProtosHDFS.Response)) {
+      if (!(obj instanceof proto.ProtosHDFS.ImageReplica)) {
         return super.equals(obj);
       }
-      proto.ProtosHDFS.Response other = (proto.ProtosHDFS.Response) obj;
+      proto.ProtosHDFS.ImageReplica other = (proto.ProtosHDFS.ImageReplica) obj;
 
-      if (hasResponseId() != other.hasResponseId()) return false;
-      if (hasResponseId()) {
-        if (!getResponseId()
-            .equals(other.getResponseId())) return false;
-      }
-      if (hasResponseType() != other.hasResponseType()) return false;
-      if (hasResponseType()) {
-        if (responseType_ != other.responseType_) return false;
+      if (hasDataNodeId() != other.hasDataNodeId()) return false;
+      if (hasDataNodeId()) {
+        if (!getDataNodeId()
+            .equals(other.getDataNodeId())) return false;
       }
-      if (hasErrorMessage() != other.hasErrorMessage()) return false;
-      if (hasErrorMessage()) {
-        if (!getErrorMessage()
-            .equals(other.getErrorMessage())) return false;
+      if (hasLength() != other.hasLength()) return false;
+      if (hasLength()) {
+        if (getLength()
+            != other.getLength()) return false;
       }
-      if (!getBlockList()
-          .equals(other.getBlockList())) return false;
-      if (!getPipelinesList()
-          .equals(other.getPipelinesList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -7728,94 +21372,82 @@ public final class ProtosHDFS {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasResponseId()) {
-        hash = (37 * hash) + RESPONSEID_FIELD_NUMBER;
-        hash = (53 * hash) + getResponseId().hashCode();
-      }
-      if (hasResponseType()) {
-        hash = (37 * hash) + RESPONSETYPE_FIELD_NUMBER;
-        hash = (53 * hash) + responseType_;
-      }
-      if (hasErrorMessage()) {
-        hash = (37 * hash) + ERRORMESSAGE_FIELD_NUMBER;
-        hash = (53 * hash) + getErrorMessage().hashCode();
-      }
-      if (getBlockCount() > 0) {
-        hash = (37 * hash) + BLOCK_FIELD_NUMBER;
-        hash = (53 * hash) + getBlockList().hashCode();
+      if (hasDataNodeId()) {
+        hash = (37 * hash) + DATANODEID_FIELD_NUMBER;
+        hash = (53 * hash) + getDataNodeId().hashCode();
       }
-      if (getPipelinesCount() > 0) {
-        hash = (37 * hash) + PIPELINES_FIELD_NUMBER;
-        hash = (53 * hash) + getPipelinesList().hashCode();
+      if (hasLength()) {
+        hash = (37 * hash) + LENGTH_FIELD_NUMBER;
+        hash = (53 * hash) + getLength();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static proto.ProtosHDFS.Response parseFrom(
+    public static proto.ProtosHDFS.ImageReplica parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static proto.ProtosHDFS.Response parseFrom(
+    public static proto.ProtosHDFS.ImageReplica parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static proto.ProtosHDFS.Response parseFrom(
+    public static proto.ProtosHDFS.ImageReplica parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static proto.ProtosHDFS.Response parseFrom(
+    public static proto.ProtosHDFS.ImageReplica parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static proto.ProtosHDFS.Response parseFrom(byte[] data)
+    public static proto.ProtosHDFS.ImageReplica parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static proto.ProtosHDFS.Response parseFrom(
+    public static proto.ProtosHDFS.ImageReplica parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static proto.ProtosHDFS.Response parseFrom(java.io.InputStream input)
+    public static proto.ProtosHDFS.ImageReplica parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static proto.ProtosHDFS.Response parseFrom(
+    public static proto.ProtosHDFS.ImageReplica parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static proto.ProtosHDFS.Response parseDelimitedFrom(java.io.InputStream input)
+    public static proto.ProtosHDFS.ImageReplica parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static proto.ProtosHDFS.Response parseDelimitedFrom(
+    public static proto.ProtosHDFS.ImageReplica parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static proto.ProtosHDFS.Response parseFrom(
+    public static proto.ProtosHDFS.ImageReplica parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static proto.ProtosHDFS.Response parseFrom(
+    public static proto.ProtosHDFS.ImageReplica parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7828,7 +21460,7 @@ public final class ProtosHDFS {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(proto.ProtosHDFS.Response prototype) {
+    public static Builder newBuilder(proto.ProtosHDFS.ImageReplica prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -7844,26 +21476,30 @@ public final class ProtosHDFS {
       return builder;
     }
     /**
-     * Protobuf type {@code proto.Response}
+     * <pre>
+     * A replica in the fsimage: its Data Node and the length it reported, or -1 if it has not reported yet
+     * </pre>
+     *
+     * Protobuf type {@code proto.ImageReplica}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:proto.Response)
-        proto.ProtosHDFS.ResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:proto.ImageReplica)
+        proto.ProtosHDFS.ImageReplicaOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return proto.ProtosHDFS.internal_static_proto_Response_descriptor;
+        return proto.ProtosHDFS.internal_static_proto_ImageReplica_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return proto.ProtosHDFS.internal_static_proto_Response_fieldAccessorTable
+        return proto.ProtosHDFS.internal_static_proto_ImageReplica_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                proto.ProtosHDFS.Response.class, proto.ProtosHDFS.Response.Builder.class);
+                proto.ProtosHDFS.ImageReplica.class, proto.ProtosHDFS.ImageReplica.Builder.class);
       }
 
-      // Construct using proto.ProtosHDFS.Response.newBuilder()
+      // Construct using proto.ProtosHDFS.ImageReplica.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7876,48 +21512,32 @@ public final class ProtosHDFS {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getBlockFieldBuilder();
-          getPipelinesFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        responseId_ = "";
+        dataNodeId_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        responseType_ = 0;
+        length_ = 0;
         bitField0_ = (bitField0_ & ~0x00000002);
-        errorMessage_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
-        if (blockBuilder_ == null) {
-          block_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000008);
-        } else {
-          blockBuilder_.clear();
-        }
-        if (pipelinesBuilder_ == null) {
-          pipelines_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000010);
-        } else {
-          pipelinesBuilder_.clear();
-        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return proto.ProtosHDFS.internal_static_proto_Response_descriptor;
+        return proto.ProtosHDFS.internal_static_proto_ImageReplica_descriptor;
       }
 
       @java.lang.Override
-      public proto.ProtosHDFS.Response getDefaultInstanceForType() {
-        return proto.ProtosHDFS.Response.getDefaultInstance();
+      public proto.ProtosHDFS.ImageReplica getDefaultInstanceForType() {
+        return proto.ProtosHDFS.ImageReplica.getDefaultInstance();
       }
 
       @java.lang.Override
-      public proto.ProtosHDFS.Response build() {
-        proto.ProtosHDFS.Response result = buildPartial();
+      public proto.ProtosHDFS.ImageReplica build() {
+        proto.ProtosHDFS.ImageReplica result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -7925,40 +21545,18 @@ public final class ProtosHDFS {
       }
 
       @java.lang.Override
-      public proto.ProtosHDFS.Response buildPartial() {
-        proto.ProtosHDFS.Response result = new proto.ProtosHDFS.Response(this);
+      public proto.ProtosHDFS.ImageReplica buildPartial() {
+        proto.ProtosHDFS.ImageReplica result = new proto.ProtosHDFS.ImageReplica(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.responseId_ = responseId_;
+        result.dataNodeId_ = dataNodeId_;
         if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.length_ = length_;
           to_bitField0_ |= 0x00000002;
         }
-        result.responseType_ = responseType_;
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.errorMessage_ = errorMessage_;
-        if (blockBuilder_ == null) {
-          if (((bitField0_ & 0x00000008) != 0)) {
-            block_ = java.util.Collections.unmodifiableList(block_);
-            bitField0_ = (bitField0_ & ~0x00000008);
-          }
-          result.block_ = block_;
-        } else {
-          result.block_ = blockBuilder_.build();
-        }
-        if (pipelinesBuilder_ == null) {
-          if (((bitField0_ & 0x00000010) != 0)) {
-            pipelines_ = java.util.Collections.unmodifiableList(pipelines_);
-            bitField0_ = (bitField0_ & ~0x00000010);
-          }
-          result.pipelines_ = pipelines_;
-        } else {
-          result.pipelines_ = pipelinesBuilder_.build();
-        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7998,80 +21596,23 @@ public final class ProtosHDFS {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof proto.ProtosHDFS.Response) {
-          return mergeFrom((proto.ProtosHDFS.Response)other);
+        if (other instanceof proto.ProtosHDFS.ImageReplica) {
+          return mergeFrom((proto.ProtosHDFS.ImageReplica)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(proto.ProtosHDFS.Response other) {
-        if (other == proto.ProtosHDFS.Response.getDefaultInstance()) return this;
-        if (other.hasResponseId()) {
+      public Builder mergeFrom(proto.ProtosHDFS.ImageReplica other) {
+        if (other == proto.ProtosHDFS.ImageReplica.getDefaultInstance()) return this;
+        if (other.hasDataNodeId()) {
           bitField0_ |= 0x00000001;
-          responseId_ = other.responseId_;
-          onChanged();
-        }
-        if (other.hasResponseType()) {
-          setResponseType(other.getResponseType());
-        }
-        if (other.hasErrorMessage()) {
-          bitField0_ |= 0x00000004;
-          errorMessage_ = other.errorMessage_;
+          dataNodeId_ = other.dataNodeId_;
           onChanged();
         }
-        if (blockBuilder_ == null) {
-          if (!other.block_.isEmpty()) {
-            if (block_.isEmpty()) {
-              block_ = other.block_;
-              bitField0_ = (bitField0_ & ~0x00000008);
-            } else {
-              ensureBlockIsMutable();
-              block_.addAll(other.block_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.block_.isEmpty()) {
-            if (blockBuilder_.isEmpty()) {
-              blockBuilder_.dispose();
-              blockBuilder_ = null;
-              block_ = other.block_;
-              bitField0_ = (bitField0_ & ~0x00000008);
-              blockBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getBlockFieldBuilder() : null;
-            } else {
-              blockBuilder_.addAllMessages(other.block_);
-            }
-          }
-        }
-        if (pipelinesBuilder_ == null) {
-          if (!other.pipelines_.isEmpty()) {
-            if (pipelines_.isEmpty()) {
-              pipelines_ = other.pipelines_;
-              bitField0_ = (bitField0_ & ~0x00000010);
-            } else {
-              ensurePipelinesIsMutable();
-              pipelines_.addAll(other.pipelines_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.pipelines_.isEmpty()) {
-            if (pipelinesBuilder_.isEmpty()) {
-              pipelinesBuilder_.dispose();
-              pipelinesBuilder_ = null;
-              pipelines_ = other.pipelines_;
-              bitField0_ = (bitField0_ & ~0x00000010);
-              pipelinesBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getPipelinesFieldBuilder() : null;
-            } else {
-              pipelinesBuilder_.addAllMessages(other.pipelines_);
-            }
-          }
+        if (other.hasLength()) {
+          setLength(other.getLength());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -8080,17 +21621,12 @@ public final class ProtosHDFS {
 
       @java.lang.Override
       public final boolean isInitialized() {
-        if (!hasResponseId()) {
+        if (!hasDataNodeId()) {
           return false;
         }
-        if (!hasResponseType()) {
+        if (!hasLength()) {
           return false;
         }
-        for (int i = 0; i < getBlockCount(); i++) {
-          if (!getBlock(i).isInitialized()) {
-            return false;
-          }
-        }
         return true;
       }
 
@@ -8099,167 +21635,41 @@ public final class ProtosHDFS {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        proto.ProtosHDFS.Response parsedMessage = null;
+        proto.ProtosHDFS.ImageReplica parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (proto.ProtosHDFS.Response) e.getUnfinishedMessage();
+          parsedMessage = (proto.ProtosHDFS.ImageReplica) e.getUnfinishedMessage();
           throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
-
-      private java.lang.Object responseId_ = "";
-      /**
-       * <code>required string responseId = 1;</code>
-       * @return Whether the responseId field is set.
-       */
-      public boolean hasResponseId() {
-        return ((bitField0_ & 0x00000001) != 0);
-      }
-      /**
-       * <code>required string responseId = 1;</code>
-       * @return The responseId.
-       */
-      public java.lang.String getResponseId() {
-        java.lang.Object ref = responseId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            responseId_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>required string responseId = 1;</code>
-       * @return The bytes for responseId.
-       */
-      public com.google.protobuf.ByteString
-          getResponseIdBytes() {
-        java.lang.Object ref = responseId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          responseId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>required string responseId = 1;</code>
-       * @param value The responseId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setResponseId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        responseId_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required string responseId = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearResponseId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        responseId_ = getDefaultInstance().getResponseId();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required string responseId = 1;</code>
-       * @param value The bytes for responseId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setResponseIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        responseId_ = value;
-        onChanged();
-        return this;
-      }
-
-      private int responseType_ = 0;
-      /**
-       * <code>required .proto.Response.ResponseType responseType = 2;</code>
-       * @return Whether the responseType field is set.
-       */
-      public boolean hasResponseType() {
-        return ((bitField0_ & 0x00000002) != 0);
-      }
-      /**
-       * <code>required .proto.Response.ResponseType responseType = 2;</code>
-       * @return The responseType.
-       */
-      public proto.ProtosHDFS.Response.ResponseType getResponseType() {
-        @SuppressWarnings("deprecation")
-        proto.ProtosHDFS.Response.ResponseType result = proto.ProtosHDFS.Response.ResponseType.valueOf(responseType_);
-        return result == null ? proto.ProtosHDFS.Response.ResponseType.SUCCESS : result;
-      }
-      /**
-       * <code>required .proto.Response.ResponseType responseType = 2;</code>
-       * @param value The responseType to set.
-       * @return This builder for chaining.
-       */
-      public Builder setResponseType(proto.ProtosHDFS.Response.ResponseType value) {
-        if (value == null) {
-          throw new NullPointerException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
-        bitField0_ |= 0x00000002;
-        responseType_ = value.getNumber();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required .proto.Response.ResponseType responseType = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearResponseType() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        responseType_ = 0;
-        onChanged();
         return this;
       }
+      private int bitField0_;
 
-      private java.lang.Object errorMessage_ = "";
+      private java.lang.Object dataNodeId_ = "";
       /**
-       * <code>optional string errorMessage = 3;</code>
-       * @return Whether the errorMessage field is set.
+       * <code>required string dataNodeId = 1;</code>
+       * @return Whether the dataNodeId field is set.
        */
-      public boolean hasErrorMessage() {
-        return ((bitField0_ & 0x00000004) != 0);
+      public boolean hasDataNodeId() {
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>optional string errorMessage = 3;</code>
-       * @return The errorMessage.
+       * <code>required string dataNodeId = 1;</code>
+       * @return The dataNodeId.
        */
-      public java.lang.String getErrorMessage() {
-        java.lang.Object ref = errorMessage_;
+      public java.lang.String getDataNodeId() {
+        java.lang.Object ref = dataNodeId_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            errorMessage_ = s;
+            dataNodeId_ = s;
           }
           return s;
         } else {
@@ -8267,1473 +21677,2442 @@ public final class ProtosHDFS {
         }
       }
       /**
-       * <code>optional string errorMessage = 3;</code>
-       * @return The bytes for errorMessage.
+       * <code>required string dataNodeId = 1;</code>
+       * @return The bytes for dataNodeId.
        */
       public com.google.protobuf.ByteString
-          getErrorMessageBytes() {
-        java.lang.Object ref = errorMessage_;
+          getDataNodeIdBytes() {
+        java.lang.Object ref = dataNodeId_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          errorMessage_ = b;
+          dataNodeId_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string errorMessage = 3;</code>
-       * @param value The errorMessage to set.
+       * <code>required string dataNodeId = 1;</code>
+       * @param value The dataNodeId to set.
        * @return This builder for chaining.
        */
-      public Builder setErrorMessage(
+      public Builder setDataNodeId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000004;
-        errorMessage_ = value;
+  bitField0_ |= 0x00000001;
+        dataNodeId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string errorMessage = 3;</code>
+       * <code>required string dataNodeId = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearErrorMessage() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        errorMessage_ = getDefaultInstance().getErrorMessage();
+      public Builder clearDataNodeId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dataNodeId_ = getDefaultInstance().getDataNodeId();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string errorMessage = 3;</code>
-       * @param value The bytes for errorMessage to set.
+       * <code>required string dataNodeId = 1;</code>
+       * @param value The bytes for dataNodeId to set.
        * @return This builder for chaining.
        */
-      public Builder setErrorMessageBytes(
+      public Builder setDataNodeIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000004;
-        errorMessage_ = value;
+  bitField0_ |= 0x00000001;
+        dataNodeId_ = value;
         onChanged();
         return this;
       }
 
-      private java.util.List<proto.ProtosHDFS.Block> block_ =
-        java.util.Collections.emptyList();
-      private void ensureBlockIsMutable() {
-        if (!((bitField0_ & 0x00000008) != 0)) {
-          block_ = new java.util.ArrayList<proto.ProtosHDFS.Block>(block_);
-          bitField0_ |= 0x00000008;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          proto.ProtosHDFS.Block, proto.ProtosHDFS.Block.Builder, proto.ProtosHDFS.BlockOrBuilder> blockBuilder_;
-
-      /**
-       * <code>repeated .proto.Block block = 4;</code>
-       */
-      public java.util.List<proto.ProtosHDFS.Block> getBlockList() {
-        if (blockBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(block_);
-        } else {
-          return blockBuilder_.getMessageList();
-        }
-      }
+      private int length_ ;
       /**
-       * <code>repeated .proto.Block block = 4;</code>
+       * <code>required int32 length = 2;</code>
+       * @return Whether the length field is set.
        */
-      public int getBlockCount() {
-        if (blockBuilder_ == null) {
-          return block_.size();
-        } else {
-          return blockBuilder_.getCount();
-        }
+      public boolean hasLength() {
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>repeated .proto.Block block = 4;</code>
+       * <code>required int32 length = 2;</code>
+       * @return The length.
        */
-      public proto.ProtosHDFS.Block getBlock(int index) {
-        if (blockBuilder_ == null) {
-          return block_.get(index);
-        } else {
-          return blockBuilder_.getMessage(index);
-        }
+      public int getLength() {
+        return length_;
       }
       /**
-       * <code>repeated .proto.Block block = 4;</code>
+       * <code>required int32 length = 2;</code>
+       * @param value The length to set.
+       * @return This builder for chaining.
        */
-      public Builder setBlock(
-          int index, proto.ProtosHDFS.Block value) {
-        if (blockBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureBlockIsMutable();
-          block_.set(index, value);
-          onChanged();
-        } else {
-          blockBuilder_.setMessage(index, value);
-        }
+      public Builder setLength(int value) {
+        bitField0_ |= 0x00000002;
+        length_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .proto.Block block = 4;</code>
+       * <code>required int32 length = 2;</code>
+       * @return This builder for chaining.
        */
-      public Builder setBlock(
-          int index, proto.ProtosHDFS.Block.Builder builderForValue) {
-        if (blockBuilder_ == null) {
-          ensureBlockIsMutable();
-          block_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          blockBuilder_.setMessage(index, builderForValue.build());
-        }
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        length_ = 0;
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .proto.Block block = 4;</code>
-       */
-      public Builder addBlock(proto.ProtosHDFS.Block value) {
-        if (blockBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureBlockIsMutable();
-          block_.add(value);
-          onChanged();
-        } else {
-          blockBuilder_.addMessage(value);
-        }
-        return this;
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.ImageReplica)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.ImageReplica)
+    private static final proto.ProtosHDFS.ImageReplica DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.ImageReplica();
+    }
+
+    public static proto.ProtosHDFS.ImageReplica getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<ImageReplica>
+        PARSER = new com.google.protobuf.AbstractParser<ImageReplica>() {
+      @java.lang.Override
+      public ImageReplica parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ImageReplica(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ImageReplica> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ImageReplica> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public proto.ProtosHDFS.ImageReplica getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BlockReportOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.BlockReport)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string reportId = 1;</code>
+     * @return Whether the reportId field is set.
+     */
+    boolean hasReportId();
+    /**
+     * <code>required string reportId = 1;</code>
+     * @return The reportId.
+     */
+    java.lang.String getReportId();
+    /**
+     * <code>required string reportId = 1;</code>
+     * @return The bytes for reportId.
+     */
+    com.google.protobuf.ByteString
+        getReportIdBytes();
+
+    /**
+     * <code>required string dataNodeId = 2;</code>
+     * @return Whether the dataNodeId field is set.
+     */
+    boolean hasDataNodeId();
+    /**
+     * <code>required string dataNodeId = 2;</code>
+     * @return The dataNodeId.
+     */
+    java.lang.String getDataNodeId();
+    /**
+     * <code>required string dataNodeId = 2;</code>
+     * @return The bytes for dataNodeId.
+     */
+    com.google.protobuf.ByteString
+        getDataNodeIdBytes();
+
+    /**
+     * <code>required .proto.BlockReport.ReportType reportType = 3;</code>
+     * @return Whether the reportType field is set.
+     */
+    boolean hasReportType();
+    /**
+     * <code>required .proto.BlockReport.ReportType reportType = 3;</code>
+     * @return The reportType.
+     */
+    proto.ProtosHDFS.BlockReport.ReportType getReportType();
+
+    /**
+     * <code>repeated .proto.BlockMetaData received = 4;</code>
+     */
+    java.util.List<proto.ProtosHDFS.BlockMetaData> 
+        getReceivedList();
+    /**
+     * <code>repeated .proto.BlockMetaData received = 4;</code>
+     */
+    proto.ProtosHDFS.BlockMetaData getReceived(int index);
+    /**
+     * <code>repeated .proto.BlockMetaData received = 4;</code>
+     */
+    int getReceivedCount();
+    /**
+     * <code>repeated .proto.BlockMetaData received = 4;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+        getReceivedOrBuilderList();
+    /**
+     * <code>repeated .proto.BlockMetaData received = 4;</code>
+     */
+    proto.ProtosHDFS.BlockMetaDataOrBuilder getReceivedOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+     */
+    java.util.List<proto.ProtosHDFS.BlockMetaData> 
+        getDeletedList();
+    /**
+     * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+     */
+    proto.ProtosHDFS.BlockMetaData getDeleted(int index);
+    /**
+     * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+     */
+    int getDeletedCount();
+    /**
+     * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+        getDeletedOrBuilderList();
+    /**
+     * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+     */
+    proto.ProtosHDFS.BlockMetaDataOrBuilder getDeletedOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+     */
+    java.util.List<proto.ProtosHDFS.BlockMetaData> 
+        getCorruptList();
+    /**
+     * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+     */
+    proto.ProtosHDFS.BlockMetaData getCorrupt(int index);
+    /**
+     * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+     */
+    int getCorruptCount();
+    /**
+     * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+     */
+    java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+        getCorruptOrBuilderList();
+    /**
+     * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+     */
+    proto.ProtosHDFS.BlockMetaDataOrBuilder getCorruptOrBuilder(
+        int index);
+
+    /**
+     * <code>optional int32 chunkIndex = 7;</code>
+     * @return Whether the chunkIndex field is set.
+     */
+    boolean hasChunkIndex();
+    /**
+     * <code>optional int32 chunkIndex = 7;</code>
+     * @return The chunkIndex.
+     */
+    int getChunkIndex();
+
+    /**
+     * <code>optional int32 chunkCount = 8;</code>
+     * @return Whether the chunkCount field is set.
+     */
+    boolean hasChunkCount();
+    /**
+     * <code>optional int32 chunkCount = 8;</code>
+     * @return The chunkCount.
+     */
+    int getChunkCount();
+  }
+  /**
+   * <pre>
+   * Report of the blocks a Data Node holds, sent to the Name Node
+   * INCREMENTAL reports carry only what changed since the previous one: blocks received, deleted or found corrupt
+   * FULL reports list every block the Data Node holds in received, split over chunkCount RPCs sharing one reportId
+   * </pre>
+   *
+   * Protobuf type {@code proto.BlockReport}
+   */
+  public  static final class BlockReport extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.BlockReport)
+      BlockReportOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BlockReport.newBuilder() to construct.
+    private BlockReport(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BlockReport() {
+      reportId_ = "";
+      dataNodeId_ = "";
+      reportType_ = 0;
+      received_ = java.util.Collections.emptyList();
+      deleted_ = java.util.Collections.emptyList();
+      corrupt_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BlockReport();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BlockReport(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
       }
-      /**
-       * <code>repeated .proto.Block block = 4;</code>
-       */
-      public Builder addBlock(
-          int index, proto.ProtosHDFS.Block value) {
-        if (blockBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              reportId_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              dataNodeId_ = bs;
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+                @SuppressWarnings("deprecation")
+              proto.ProtosHDFS.BlockReport.ReportType value = proto.ProtosHDFS.BlockReport.ReportType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(3, rawValue);
+              } else {
+                bitField0_ |= 0x00000004;
+                reportType_ = rawValue;
+              }
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                received_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              received_.add(
+                  input.readMessage(proto.ProtosHDFS.BlockMetaData.PARSER, extensionRegistry));
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                deleted_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              deleted_.add(
+                  input.readMessage(proto.ProtosHDFS.BlockMetaData.PARSER, extensionRegistry));
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                corrupt_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              corrupt_.add(
+                  input.readMessage(proto.ProtosHDFS.BlockMetaData.PARSER, extensionRegistry));
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000008;
+              chunkIndex_ = input.readInt32();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000010;
+              chunkCount_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
           }
-          ensureBlockIsMutable();
-          block_.add(index, value);
-          onChanged();
-        } else {
-          blockBuilder_.addMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.Block block = 4;</code>
-       */
-      public Builder addBlock(
-          proto.ProtosHDFS.Block.Builder builderForValue) {
-        if (blockBuilder_ == null) {
-          ensureBlockIsMutable();
-          block_.add(builderForValue.build());
-          onChanged();
-        } else {
-          blockBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.Block block = 4;</code>
-       */
-      public Builder addBlock(
-          int index, proto.ProtosHDFS.Block.Builder builderForValue) {
-        if (blockBuilder_ == null) {
-          ensureBlockIsMutable();
-          block_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          blockBuilder_.addMessage(index, builderForValue.build());
         }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.Block block = 4;</code>
-       */
-      public Builder addAllBlock(
-          java.lang.Iterable<? extends proto.ProtosHDFS.Block> values) {
-        if (blockBuilder_ == null) {
-          ensureBlockIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, block_);
-          onChanged();
-        } else {
-          blockBuilder_.addAllMessages(values);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          received_ = java.util.Collections.unmodifiableList(received_);
         }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.Block block = 4;</code>
-       */
-      public Builder clearBlock() {
-        if (blockBuilder_ == null) {
-          block_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000008);
-          onChanged();
-        } else {
-          blockBuilder_.clear();
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          deleted_ = java.util.Collections.unmodifiableList(deleted_);
         }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.Block block = 4;</code>
-       */
-      public Builder removeBlock(int index) {
-        if (blockBuilder_ == null) {
-          ensureBlockIsMutable();
-          block_.remove(index);
-          onChanged();
-        } else {
-          blockBuilder_.remove(index);
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          corrupt_ = java.util.Collections.unmodifiableList(corrupt_);
         }
-        return this;
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return proto.ProtosHDFS.internal_static_proto_BlockReport_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return proto.ProtosHDFS.internal_static_proto_BlockReport_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              proto.ProtosHDFS.BlockReport.class, proto.ProtosHDFS.BlockReport.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code proto.BlockReport.ReportType}
+     */
+    public enum ReportType
+        implements com.google.protobuf.ProtocolMessageEnum {
       /**
-       * <code>repeated .proto.Block block = 4;</code>
+       * <code>INCREMENTAL = 0;</code>
        */
-      public proto.ProtosHDFS.Block.Builder getBlockBuilder(
-          int index) {
-        return getBlockFieldBuilder().getBuilder(index);
-      }
+      INCREMENTAL(0),
       /**
-       * <code>repeated .proto.Block block = 4;</code>
+       * <code>FULL = 1;</code>
        */
-      public proto.ProtosHDFS.BlockOrBuilder getBlockOrBuilder(
-          int index) {
-        if (blockBuilder_ == null) {
-          return block_.get(index);  } else {
-          return blockBuilder_.getMessageOrBuilder(index);
-        }
-      }
+      FULL(1),
+      ;
+
       /**
-       * <code>repeated .proto.Block block = 4;</code>
+       * <code>INCREMENTAL = 0;</code>
        */
-      public java.util.List<? extends proto.ProtosHDFS.BlockOrBuilder> 
-           getBlockOrBuilderList() {
-        if (blockBuilder_ != null) {
-          return blockBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(block_);
-        }
-      }
+      public static final int INCREMENTAL_VALUE = 0;
       /**
-       * <code>repeated .proto.Block block = 4;</code>
+       * <code>FULL = 1;</code>
        */
-      public proto.ProtosHDFS.Block.Builder addBlockBuilder() {
-        return getBlockFieldBuilder().addBuilder(
-            proto.ProtosHDFS.Block.getDefaultInstance());
+      public static final int FULL_VALUE = 1;
+
+
+      public final int getNumber() {
+        return value;
       }
+
       /**
-       * <code>repeated .proto.Block block = 4;</code>
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
        */
-      public proto.ProtosHDFS.Block.Builder addBlockBuilder(
-          int index) {
-        return getBlockFieldBuilder().addBuilder(
-            index, proto.ProtosHDFS.Block.getDefaultInstance());
+      @java.lang.Deprecated
+      public static ReportType valueOf(int value) {
+        return forNumber(value);
       }
+
       /**
-       * <code>repeated .proto.Block block = 4;</code>
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
        */
-      public java.util.List<proto.ProtosHDFS.Block.Builder> 
-           getBlockBuilderList() {
-        return getBlockFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          proto.ProtosHDFS.Block, proto.ProtosHDFS.Block.Builder, proto.ProtosHDFS.BlockOrBuilder> 
-          getBlockFieldBuilder() {
-        if (blockBuilder_ == null) {
-          blockBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              proto.ProtosHDFS.Block, proto.ProtosHDFS.Block.Builder, proto.ProtosHDFS.BlockOrBuilder>(
-                  block_,
-                  ((bitField0_ & 0x00000008) != 0),
-                  getParentForChildren(),
-                  isClean());
-          block_ = null;
+      public static ReportType forNumber(int value) {
+        switch (value) {
+          case 0: return INCREMENTAL;
+          case 1: return FULL;
+          default: return null;
         }
-        return blockBuilder_;
       }
 
-      private java.util.List<proto.ProtosHDFS.Pipeline> pipelines_ =
-        java.util.Collections.emptyList();
-      private void ensurePipelinesIsMutable() {
-        if (!((bitField0_ & 0x00000010) != 0)) {
-          pipelines_ = new java.util.ArrayList<proto.ProtosHDFS.Pipeline>(pipelines_);
-          bitField0_ |= 0x00000010;
-         }
+      public static com.google.protobuf.Internal.EnumLiteMap<ReportType>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          ReportType> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<ReportType>() {
+              public ReportType findValueByNumber(int number) {
+                return ReportType.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.BlockReport.getDescriptor().getEnumTypes().get(0);
       }
 
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          proto.ProtosHDFS.Pipeline, proto.ProtosHDFS.Pipeline.Builder, proto.ProtosHDFS.PipelineOrBuilder> pipelinesBuilder_;
+      private static final ReportType[] VALUES = values();
 
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public java.util.List<proto.ProtosHDFS.Pipeline> getPipelinesList() {
-        if (pipelinesBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(pipelines_);
-        } else {
-          return pipelinesBuilder_.getMessageList();
+      public static ReportType valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
         }
+        return VALUES[desc.getIndex()];
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public int getPipelinesCount() {
-        if (pipelinesBuilder_ == null) {
-          return pipelines_.size();
-        } else {
-          return pipelinesBuilder_.getCount();
-        }
+
+      private final int value;
+
+      private ReportType(int value) {
+        this.value = value;
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public proto.ProtosHDFS.Pipeline getPipelines(int index) {
-        if (pipelinesBuilder_ == null) {
-          return pipelines_.get(index);
-        } else {
-          return pipelinesBuilder_.getMessage(index);
+
+      // @@protoc_insertion_point(enum_scope:proto.BlockReport.ReportType)
+    }
+
+    private int bitField0_;
+    public static final int REPORTID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object reportId_;
+    /**
+     * <code>required string reportId = 1;</code>
+     * @return Whether the reportId field is set.
+     */
+    public boolean hasReportId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string reportId = 1;</code>
+     * @return The reportId.
+     */
+    public java.lang.String getReportId() {
+      java.lang.Object ref = reportId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          reportId_ = s;
         }
+        return s;
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public Builder setPipelines(
-          int index, proto.ProtosHDFS.Pipeline value) {
-        if (pipelinesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePipelinesIsMutable();
-          pipelines_.set(index, value);
-          onChanged();
-        } else {
-          pipelinesBuilder_.setMessage(index, value);
+    }
+    /**
+     * <code>required string reportId = 1;</code>
+     * @return The bytes for reportId.
+     */
+    public com.google.protobuf.ByteString
+        getReportIdBytes() {
+      java.lang.Object ref = reportId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reportId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATANODEID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object dataNodeId_;
+    /**
+     * <code>required string dataNodeId = 2;</code>
+     * @return Whether the dataNodeId field is set.
+     */
+    public boolean hasDataNodeId() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required string dataNodeId = 2;</code>
+     * @return The dataNodeId.
+     */
+    public java.lang.String getDataNodeId() {
+      java.lang.Object ref = dataNodeId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          dataNodeId_ = s;
         }
-        return this;
+        return s;
+      }
+    }
+    /**
+     * <code>required string dataNodeId = 2;</code>
+     * @return The bytes for dataNodeId.
+     */
+    public com.google.protobuf.ByteString
+        getDataNodeIdBytes() {
+      java.lang.Object ref = dataNodeId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dataNodeId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REPORTTYPE_FIELD_NUMBER = 3;
+    private int reportType_;
+    /**
+     * <code>required .proto.BlockReport.ReportType reportType = 3;</code>
+     * @return Whether the reportType field is set.
+     */
+    public boolean hasReportType() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required .proto.BlockReport.ReportType reportType = 3;</code>
+     * @return The reportType.
+     */
+    public proto.ProtosHDFS.BlockReport.ReportType getReportType() {
+      @SuppressWarnings("deprecation")
+      proto.ProtosHDFS.BlockReport.ReportType result = proto.ProtosHDFS.BlockReport.ReportType.valueOf(reportType_);
+      return result == null ? proto.ProtosHDFS.BlockReport.ReportType.INCREMENTAL : result;
+    }
+
+    public static final int RECEIVED_FIELD_NUMBER = 4;
+    private java.util.List<proto.ProtosHDFS.BlockMetaData> received_;
+    /**
+     * <code>repeated .proto.BlockMetaData received = 4;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.BlockMetaData> getReceivedList() {
+      return received_;
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData received = 4;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+        getReceivedOrBuilderList() {
+      return received_;
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData received = 4;</code>
+     */
+    public int getReceivedCount() {
+      return received_.size();
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData received = 4;</code>
+     */
+    public proto.ProtosHDFS.BlockMetaData getReceived(int index) {
+      return received_.get(index);
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData received = 4;</code>
+     */
+    public proto.ProtosHDFS.BlockMetaDataOrBuilder getReceivedOrBuilder(
+        int index) {
+      return received_.get(index);
+    }
+
+    public static final int DELETED_FIELD_NUMBER = 5;
+    private java.util.List<proto.ProtosHDFS.BlockMetaData> deleted_;
+    /**
+     * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.BlockMetaData> getDeletedList() {
+      return deleted_;
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+        getDeletedOrBuilderList() {
+      return deleted_;
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+     */
+    public int getDeletedCount() {
+      return deleted_.size();
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+     */
+    public proto.ProtosHDFS.BlockMetaData getDeleted(int index) {
+      return deleted_.get(index);
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+     */
+    public proto.ProtosHDFS.BlockMetaDataOrBuilder getDeletedOrBuilder(
+        int index) {
+      return deleted_.get(index);
+    }
+
+    public static final int CORRUPT_FIELD_NUMBER = 6;
+    private java.util.List<proto.ProtosHDFS.BlockMetaData> corrupt_;
+    /**
+     * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+     */
+    public java.util.List<proto.ProtosHDFS.BlockMetaData> getCorruptList() {
+      return corrupt_;
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+     */
+    public java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+        getCorruptOrBuilderList() {
+      return corrupt_;
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+     */
+    public int getCorruptCount() {
+      return corrupt_.size();
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+     */
+    public proto.ProtosHDFS.BlockMetaData getCorrupt(int index) {
+      return corrupt_.get(index);
+    }
+    /**
+     * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+     */
+    public proto.ProtosHDFS.BlockMetaDataOrBuilder getCorruptOrBuilder(
+        int index) {
+      return corrupt_.get(index);
+    }
+
+    public static final int CHUNKINDEX_FIELD_NUMBER = 7;
+    private int chunkIndex_;
+    /**
+     * <code>optional int32 chunkIndex = 7;</code>
+     * @return Whether the chunkIndex field is set.
+     */
+    public boolean hasChunkIndex() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int32 chunkIndex = 7;</code>
+     * @return The chunkIndex.
+     */
+    public int getChunkIndex() {
+      return chunkIndex_;
+    }
+
+    public static final int CHUNKCOUNT_FIELD_NUMBER = 8;
+    private int chunkCount_;
+    /**
+     * <code>optional int32 chunkCount = 8;</code>
+     * @return Whether the chunkCount field is set.
+     */
+    public boolean hasChunkCount() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int32 chunkCount = 8;</code>
+     * @return The chunkCount.
+     */
+    public int getChunkCount() {
+      return chunkCount_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasReportId()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public Builder setPipelines(
-          int index, proto.ProtosHDFS.Pipeline.Builder builderForValue) {
-        if (pipelinesBuilder_ == null) {
-          ensurePipelinesIsMutable();
-          pipelines_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          pipelinesBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+      if (!hasDataNodeId()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public Builder addPipelines(proto.ProtosHDFS.Pipeline value) {
-        if (pipelinesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePipelinesIsMutable();
-          pipelines_.add(value);
-          onChanged();
-        } else {
-          pipelinesBuilder_.addMessage(value);
-        }
-        return this;
+      if (!hasReportType()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public Builder addPipelines(
-          int index, proto.ProtosHDFS.Pipeline value) {
-        if (pipelinesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePipelinesIsMutable();
-          pipelines_.add(index, value);
-          onChanged();
-        } else {
-          pipelinesBuilder_.addMessage(index, value);
+      for (int i = 0; i < getReceivedCount(); i++) {
+        if (!getReceived(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        return this;
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public Builder addPipelines(
-          proto.ProtosHDFS.Pipeline.Builder builderForValue) {
-        if (pipelinesBuilder_ == null) {
-          ensurePipelinesIsMutable();
-          pipelines_.add(builderForValue.build());
-          onChanged();
-        } else {
-          pipelinesBuilder_.addMessage(builderForValue.build());
+      for (int i = 0; i < getDeletedCount(); i++) {
+        if (!getDeleted(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        return this;
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public Builder addPipelines(
-          int index, proto.ProtosHDFS.Pipeline.Builder builderForValue) {
-        if (pipelinesBuilder_ == null) {
-          ensurePipelinesIsMutable();
-          pipelines_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          pipelinesBuilder_.addMessage(index, builderForValue.build());
+      for (int i = 0; i < getCorruptCount(); i++) {
+        if (!getCorrupt(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        return this;
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public Builder addAllPipelines(
-          java.lang.Iterable<? extends proto.ProtosHDFS.Pipeline> values) {
-        if (pipelinesBuilder_ == null) {
-          ensurePipelinesIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, pipelines_);
-          onChanged();
-        } else {
-          pipelinesBuilder_.addAllMessages(values);
-        }
-        return this;
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, reportId_);
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public Builder clearPipelines() {
-        if (pipelinesBuilder_ == null) {
-          pipelines_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000010);
-          onChanged();
-        } else {
-          pipelinesBuilder_.clear();
-        }
-        return this;
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, dataNodeId_);
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public Builder removePipelines(int index) {
-        if (pipelinesBuilder_ == null) {
-          ensurePipelinesIsMutable();
-          pipelines_.remove(index);
-          onChanged();
-        } else {
-          pipelinesBuilder_.remove(index);
-        }
-        return this;
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeEnum(3, reportType_);
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public proto.ProtosHDFS.Pipeline.Builder getPipelinesBuilder(
-          int index) {
-        return getPipelinesFieldBuilder().getBuilder(index);
+      for (int i = 0; i < received_.size(); i++) {
+        output.writeMessage(4, received_.get(i));
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public proto.ProtosHDFS.PipelineOrBuilder getPipelinesOrBuilder(
-          int index) {
-        if (pipelinesBuilder_ == null) {
-          return pipelines_.get(index);  } else {
-          return pipelinesBuilder_.getMessageOrBuilder(index);
-        }
+      for (int i = 0; i < deleted_.size(); i++) {
+        output.writeMessage(5, deleted_.get(i));
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public java.util.List<? extends proto.ProtosHDFS.PipelineOrBuilder> 
-           getPipelinesOrBuilderList() {
-        if (pipelinesBuilder_ != null) {
-          return pipelinesBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(pipelines_);
-        }
+      for (int i = 0; i < corrupt_.size(); i++) {
+        output.writeMessage(6, corrupt_.get(i));
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public proto.ProtosHDFS.Pipeline.Builder addPipelinesBuilder() {
-        return getPipelinesFieldBuilder().addBuilder(
-            proto.ProtosHDFS.Pipeline.getDefaultInstance());
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt32(7, chunkIndex_);
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public proto.ProtosHDFS.Pipeline.Builder addPipelinesBuilder(
-          int index) {
-        return getPipelinesFieldBuilder().addBuilder(
-            index, proto.ProtosHDFS.Pipeline.getDefaultInstance());
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(8, chunkCount_);
       }
-      /**
-       * <code>repeated .proto.Pipeline pipelines = 5;</code>
-       */
-      public java.util.List<proto.ProtosHDFS.Pipeline.Builder> 
-           getPipelinesBuilderList() {
-        return getPipelinesFieldBuilder().getBuilderList();
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, reportId_);
       }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          proto.ProtosHDFS.Pipeline, proto.ProtosHDFS.Pipeline.Builder, proto.ProtosHDFS.PipelineOrBuilder> 
-          getPipelinesFieldBuilder() {
-        if (pipelinesBuilder_ == null) {
-          pipelinesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              proto.ProtosHDFS.Pipeline, proto.ProtosHDFS.Pipeline.Builder, proto.ProtosHDFS.PipelineOrBuilder>(
-                  pipelines_,
-                  ((bitField0_ & 0x00000010) != 0),
-                  getParentForChildren(),
-                  isClean());
-          pipelines_ = null;
-        }
-        return pipelinesBuilder_;
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, dataNodeId_);
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, reportType_);
       }
-
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      for (int i = 0; i < received_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, received_.get(i));
       }
-
-
-      // @@protoc_insertion_point(builder_scope:proto.Response)
-    }
-
-    // @@protoc_insertion_point(class_scope:proto.Response)
-    private static final proto.ProtosHDFS.Response DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new proto.ProtosHDFS.Response();
-    }
-
-    public static proto.ProtosHDFS.Response getDefaultInstance() {
-      return DEFAULT_INSTANCE;
+      for (int i = 0; i < deleted_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, deleted_.get(i));
+      }
+      for (int i = 0; i < corrupt_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, corrupt_.get(i));
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, chunkIndex_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(8, chunkCount_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<Response>
-        PARSER = new com.google.protobuf.AbstractParser<Response>() {
-      @java.lang.Override
-      public Response parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Response(input, extensionRegistry);
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
       }
-    };
+      if (!(obj instanceof proto.ProtosHDFS.BlockReport)) {
+        return super.equals(obj);
+      }
+      proto.ProtosHDFS.BlockReport other = (proto.ProtosHDFS.BlockReport) obj;
 
-    public static com.google.protobuf.Parser<Response> parser() {
-      return PARSER;
+      if (hasReportId() != other.hasReportId()) return false;
+      if (hasReportId()) {
+        if (!getReportId()
+            .equals(other.getReportId())) return false;
+      }
+      if (hasDataNodeId() != other.hasDataNodeId()) return false;
+      if (hasDataNodeId()) {
+        if (!getDataNodeId()
+            .equals(other.getDataNodeId())) return false;
+      }
+      if (hasReportType() != other.hasReportType()) return false;
+      if (hasReportType()) {
+        if (reportType_ != other.reportType_) return false;
+      }
+      if (!getReceivedList()
+          .equals(other.getReceivedList())) return false;
+      if (!getDeletedList()
+          .equals(other.getDeletedList())) return false;
+      if (!getCorruptList()
+          .equals(other.getCorruptList())) return false;
+      if (hasChunkIndex() != other.hasChunkIndex()) return false;
+      if (hasChunkIndex()) {
+        if (getChunkIndex()
+            != other.getChunkIndex()) return false;
+      }
+      if (hasChunkCount() != other.hasChunkCount()) return false;
+      if (hasChunkCount()) {
+        if (getChunkCount()
+            != other.getChunkCount()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Response> getParserForType() {
-      return PARSER;
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasReportId()) {
+        hash = (37 * hash) + REPORTID_FIELD_NUMBER;
+        hash = (53 * hash) + getReportId().hashCode();
+      }
+      if (hasDataNodeId()) {
+        hash = (37 * hash) + DATANODEID_FIELD_NUMBER;
+        hash = (53 * hash) + getDataNodeId().hashCode();
+      }
+      if (hasReportType()) {
+        hash = (37 * hash) + REPORTTYPE_FIELD_NUMBER;
+        hash = (53 * hash) + reportType_;
+      }
+      if (getReceivedCount() > 0) {
+        hash = (37 * hash) + RECEIVED_FIELD_NUMBER;
+        hash = (53 * hash) + getReceivedList().hashCode();
+      }
+      if (getDeletedCount() > 0) {
+        hash = (37 * hash) + DELETED_FIELD_NUMBER;
+        hash = (53 * hash) + getDeletedList().hashCode();
+      }
+      if (getCorruptCount() > 0) {
+        hash = (37 * hash) + CORRUPT_FIELD_NUMBER;
+        hash = (53 * hash) + getCorruptList().hashCode();
+      }
+      if (hasChunkIndex()) {
+        hash = (37 * hash) + CHUNKINDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getChunkIndex();
+      }
+      if (hasChunkCount()) {
+        hash = (37 * hash) + CHUNKCOUNT_FIELD_NUMBER;
+        hash = (53 * hash) + getChunkCount();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
     }
 
-    @java.lang.Override
-    public proto.ProtosHDFS.Response getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
+    public static proto.ProtosHDFS.BlockReport parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-  }
-
-  public interface HeartbeatOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:proto.Heartbeat)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>required string heartbeatId = 1;</code>
-     * @return Whether the heartbeatId field is set.
-     */
-    boolean hasHeartbeatId();
-    /**
-     * <code>required string heartbeatId = 1;</code>
-     * @return The heartbeatId.
-     */
-    java.lang.String getHeartbeatId();
-    /**
-     * <code>required string heartbeatId = 1;</code>
-     * @return The bytes for heartbeatId.
-     */
-    com.google.protobuf.ByteString
-        getHeartbeatIdBytes();
-
-    /**
-     * <code>required int64 timestamp = 2;</code>
-     * @return Whether the timestamp field is set.
-     */
-    boolean hasTimestamp();
-    /**
-     * <code>required int64 timestamp = 2;</code>
-     * @return The timestamp.
-     */
-    long getTimestamp();
-
-    /**
-     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
-     * @return Whether the dataNodeInfo field is set.
-     */
-    boolean hasDataNodeInfo();
-    /**
-     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
-     * @return The dataNodeInfo.
-     */
-    proto.ProtosHDFS.DataNodeInfo getDataNodeInfo();
-    /**
-     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
-     */
-    proto.ProtosHDFS.DataNodeInfoOrBuilder getDataNodeInfoOrBuilder();
-  }
-  /**
-   * Protobuf type {@code proto.Heartbeat}
-   */
-  public  static final class Heartbeat extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:proto.Heartbeat)
-      HeartbeatOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use Heartbeat.newBuilder() to construct.
-    private Heartbeat(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
+    public static proto.ProtosHDFS.BlockReport parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-    private Heartbeat() {
-      heartbeatId_ = "";
+    public static proto.ProtosHDFS.BlockReport parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-
-    @java.lang.Override
-    @SuppressWarnings({"unused"})
-    protected java.lang.Object newInstance(
-        UnusedPrivateParameter unused) {
-      return new Heartbeat();
+    public static proto.ProtosHDFS.BlockReport parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
+    public static proto.ProtosHDFS.BlockReport parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
     }
-    private Heartbeat(
-        com.google.protobuf.CodedInputStream input,
+    public static proto.ProtosHDFS.BlockReport parseFrom(
+        byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              heartbeatId_ = bs;
-              break;
-            }
-            case 16: {
-              bitField0_ |= 0x00000002;
-              timestamp_ = input.readInt64();
-              break;
-            }
-            case 26: {
-              proto.ProtosHDFS.DataNodeInfo.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000004) != 0)) {
-                subBuilder = dataNodeInfo_.toBuilder();
-              }
-              dataNodeInfo_ = input.readMessage(proto.ProtosHDFS.DataNodeInfo.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(dataNodeInfo_);
-                dataNodeInfo_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000004;
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return proto.ProtosHDFS.internal_static_proto_Heartbeat_descriptor;
+    public static proto.ProtosHDFS.BlockReport parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
     }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return proto.ProtosHDFS.internal_static_proto_Heartbeat_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              proto.ProtosHDFS.Heartbeat.class, proto.ProtosHDFS.Heartbeat.Builder.class);
+    public static proto.ProtosHDFS.BlockReport parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
-
-    private int bitField0_;
-    public static final int HEARTBEATID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object heartbeatId_;
-    /**
-     * <code>required string heartbeatId = 1;</code>
-     * @return Whether the heartbeatId field is set.
-     */
-    public boolean hasHeartbeatId() {
-      return ((bitField0_ & 0x00000001) != 0);
+    public static proto.ProtosHDFS.BlockReport parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
     }
-    /**
-     * <code>required string heartbeatId = 1;</code>
-     * @return The heartbeatId.
-     */
-    public java.lang.String getHeartbeatId() {
-      java.lang.Object ref = heartbeatId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          heartbeatId_ = s;
-        }
-        return s;
-      }
+    public static proto.ProtosHDFS.BlockReport parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    /**
-     * <code>required string heartbeatId = 1;</code>
-     * @return The bytes for heartbeatId.
-     */
-    public com.google.protobuf.ByteString
-        getHeartbeatIdBytes() {
-      java.lang.Object ref = heartbeatId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        heartbeatId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public static proto.ProtosHDFS.BlockReport parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static proto.ProtosHDFS.BlockReport parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static final int TIMESTAMP_FIELD_NUMBER = 2;
-    private long timestamp_;
-    /**
-     * <code>required int64 timestamp = 2;</code>
-     * @return Whether the timestamp field is set.
-     */
-    public boolean hasTimestamp() {
-      return ((bitField0_ & 0x00000002) != 0);
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
     }
-    /**
-     * <code>required int64 timestamp = 2;</code>
-     * @return The timestamp.
-     */
-    public long getTimestamp() {
-      return timestamp_;
+    public static Builder newBuilder(proto.ProtosHDFS.BlockReport prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
-    public static final int DATANODEINFO_FIELD_NUMBER = 3;
-    private proto.ProtosHDFS.DataNodeInfo dataNodeInfo_;
-    /**
-     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
-     * @return Whether the dataNodeInfo field is set.
-     */
-    public boolean hasDataNodeInfo() {
-      return ((bitField0_ & 0x00000004) != 0);
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
-    /**
-     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
-     * @return The dataNodeInfo.
-     */
-    public proto.ProtosHDFS.DataNodeInfo getDataNodeInfo() {
-      return dataNodeInfo_ == null ? proto.ProtosHDFS.DataNodeInfo.getDefaultInstance() : dataNodeInfo_;
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
     }
     /**
-     * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+     * <pre>
+     * Report of the blocks a Data Node holds, sent to the Name Node
+     * INCREMENTAL reports carry only what changed since the previous one: blocks received, deleted or found corrupt
+     * FULL reports list every block the Data Node holds in received, split over chunkCount RPCs sharing one reportId
+     * </pre>
+     *
+     * Protobuf type {@code proto.BlockReport}
      */
-    public proto.ProtosHDFS.DataNodeInfoOrBuilder getDataNodeInfoOrBuilder() {
-      return dataNodeInfo_ == null ? proto.ProtosHDFS.DataNodeInfo.getDefaultInstance() : dataNodeInfo_;
-    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.BlockReport)
+        proto.ProtosHDFS.BlockReportOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return proto.ProtosHDFS.internal_static_proto_BlockReport_descriptor;
+      }
 
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return proto.ProtosHDFS.internal_static_proto_BlockReport_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                proto.ProtosHDFS.BlockReport.class, proto.ProtosHDFS.BlockReport.Builder.class);
+      }
 
-      if (!hasHeartbeatId()) {
-        memoizedIsInitialized = 0;
-        return false;
+      // Construct using proto.ProtosHDFS.BlockReport.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
-      if (!hasTimestamp()) {
-        memoizedIsInitialized = 0;
-        return false;
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      if (!hasDataNodeInfo()) {
-        memoizedIsInitialized = 0;
-        return false;
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getReceivedFieldBuilder();
+          getDeletedFieldBuilder();
+          getCorruptFieldBuilder();
+        }
       }
-      if (!getDataNodeInfo().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        reportId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dataNodeId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        reportType_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (receivedBuilder_ == null) {
+          received_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          receivedBuilder_.clear();
+        }
+        if (deletedBuilder_ == null) {
+          deleted_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          deletedBuilder_.clear();
+        }
+        if (corruptBuilder_ == null) {
+          corrupt_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          corruptBuilder_.clear();
+        }
+        chunkIndex_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        chunkCount_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        return this;
       }
-      memoizedIsInitialized = 1;
-      return true;
-    }
 
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, heartbeatId_);
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return proto.ProtosHDFS.internal_static_proto_BlockReport_descriptor;
       }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeInt64(2, timestamp_);
+
+      @java.lang.Override
+      public proto.ProtosHDFS.BlockReport getDefaultInstanceForType() {
+        return proto.ProtosHDFS.BlockReport.getDefaultInstance();
       }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        output.writeMessage(3, getDataNodeInfo());
+
+      @java.lang.Override
+      public proto.ProtosHDFS.BlockReport build() {
+        proto.ProtosHDFS.BlockReport result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
-      unknownFields.writeTo(output);
-    }
 
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
+      @java.lang.Override
+      public proto.ProtosHDFS.BlockReport buildPartial() {
+        proto.ProtosHDFS.BlockReport result = new proto.ProtosHDFS.BlockReport(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.reportId_ = reportId_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.dataNodeId_ = dataNodeId_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.reportType_ = reportType_;
+        if (receivedBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            received_ = java.util.Collections.unmodifiableList(received_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.received_ = received_;
+        } else {
+          result.received_ = receivedBuilder_.build();
+        }
+        if (deletedBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            deleted_ = java.util.Collections.unmodifiableList(deleted_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.deleted_ = deleted_;
+        } else {
+          result.deleted_ = deletedBuilder_.build();
+        }
+        if (corruptBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            corrupt_ = java.util.Collections.unmodifiableList(corrupt_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.corrupt_ = corrupt_;
+        } else {
+          result.corrupt_ = corruptBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.chunkIndex_ = chunkIndex_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.chunkCount_ = chunkCount_;
+          to_bitField0_ |= 0x00000010;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
 
-      size = 0;
-      if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, heartbeatId_);
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
       }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(2, timestamp_);
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
       }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, getDataNodeInfo());
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof proto.ProtosHDFS.BlockReport) {
+          return mergeFrom((proto.ProtosHDFS.BlockReport)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(proto.ProtosHDFS.BlockReport other) {
+        if (other == proto.ProtosHDFS.BlockReport.getDefaultInstance()) return this;
+        if (other.hasReportId()) {
+          bitField0_ |= 0x00000001;
+          reportId_ = other.reportId_;
+          onChanged();
+        }
+        if (other.hasDataNodeId()) {
+          bitField0_ |= 0x00000002;
+          dataNodeId_ = other.dataNodeId_;
+          onChanged();
+        }
+        if (other.hasReportType()) {
+          setReportType(other.getReportType());
+        }
+        if (receivedBuilder_ == null) {
+          if (!other.received_.isEmpty()) {
+            if (received_.isEmpty()) {
+              received_ = other.received_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureReceivedIsMutable();
+              received_.addAll(other.received_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.received_.isEmpty()) {
+            if (receivedBuilder_.isEmpty()) {
+              receivedBuilder_.dispose();
+              receivedBuilder_ = null;
+              received_ = other.received_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              receivedBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getReceivedFieldBuilder() : null;
+            } else {
+              receivedBuilder_.addAllMessages(other.received_);
+            }
+          }
+        }
+        if (deletedBuilder_ == null) {
+          if (!other.deleted_.isEmpty()) {
+            if (deleted_.isEmpty()) {
+              deleted_ = other.deleted_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureDeletedIsMutable();
+              deleted_.addAll(other.deleted_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.deleted_.isEmpty()) {
+            if (deletedBuilder_.isEmpty()) {
+              deletedBuilder_.dispose();
+              deletedBuilder_ = null;
+              deleted_ = other.deleted_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              deletedBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDeletedFieldBuilder() : null;
+            } else {
+              deletedBuilder_.addAllMessages(other.deleted_);
+            }
+          }
+        }
+        if (corruptBuilder_ == null) {
+          if (!other.corrupt_.isEmpty()) {
+            if (corrupt_.isEmpty()) {
+              corrupt_ = other.corrupt_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureCorruptIsMutable();
+              corrupt_.addAll(other.corrupt_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.corrupt_.isEmpty()) {
+            if (corruptBuilder_.isEmpty()) {
+              corruptBuilder_.dispose();
+              corruptBuilder_ = null;
+              corrupt_ = other.corrupt_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              corruptBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCorruptFieldBuilder() : null;
+            } else {
+              corruptBuilder_.addAllMessages(other.corrupt_);
+            }
+          }
+        }
+        if (other.hasChunkIndex()) {
+          setChunkIndex(other.getChunkIndex());
+        }
+        if (other.hasChunkCount()) {
+          setChunkCount(other.getChunkCount());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
       }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
 
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof proto.ProtosHDFS.Heartbeat)) {
-        return super.equals(obj);
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasReportId()) {
+          return false;
+        }
+        if (!hasDataNodeId()) {
+          return false;
+        }
+        if (!hasReportType()) {
+          return false;
+        }
+        for (int i = 0; i < getReceivedCount(); i++) {
+          if (!getReceived(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getDeletedCount(); i++) {
+          if (!getDeleted(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getCorruptCount(); i++) {
+          if (!getCorrupt(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
       }
-      proto.ProtosHDFS.Heartbeat other = (proto.ProtosHDFS.Heartbeat) obj;
 
-      if (hasHeartbeatId() != other.hasHeartbeatId()) return false;
-      if (hasHeartbeatId()) {
-        if (!getHeartbeatId()
-            .equals(other.getHeartbeatId())) return false;
-      }
-      if (hasTimestamp() != other.hasTimestamp()) return false;
-      if (hasTimestamp()) {
-        if (getTimestamp()
-            != other.getTimestamp()) return false;
-      }
-      if (hasDataNodeInfo() != other.hasDataNodeInfo()) return false;
-      if (hasDataNodeInfo()) {
-        if (!getDataNodeInfo()
-            .equals(other.getDataNodeInfo())) return false;
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        proto.ProtosHDFS.BlockReport parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (proto.ProtosHDFS.BlockReport) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
       }
-      if (!unknownFields.equals(other.unknownFields)) return false;
-      return true;
-    }
+      private int bitField0_;
 
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
+      private java.lang.Object reportId_ = "";
+      /**
+       * <code>required string reportId = 1;</code>
+       * @return Whether the reportId field is set.
+       */
+      public boolean hasReportId() {
+        return ((bitField0_ & 0x00000001) != 0);
       }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasHeartbeatId()) {
-        hash = (37 * hash) + HEARTBEATID_FIELD_NUMBER;
-        hash = (53 * hash) + getHeartbeatId().hashCode();
+      /**
+       * <code>required string reportId = 1;</code>
+       * @return The reportId.
+       */
+      public java.lang.String getReportId() {
+        java.lang.Object ref = reportId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            reportId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-      if (hasTimestamp()) {
-        hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getTimestamp());
+      /**
+       * <code>required string reportId = 1;</code>
+       * @return The bytes for reportId.
+       */
+      public com.google.protobuf.ByteString
+          getReportIdBytes() {
+        java.lang.Object ref = reportId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reportId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
-      if (hasDataNodeInfo()) {
-        hash = (37 * hash) + DATANODEINFO_FIELD_NUMBER;
-        hash = (53 * hash) + getDataNodeInfo().hashCode();
+      /**
+       * <code>required string reportId = 1;</code>
+       * @param value The reportId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReportId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        reportId_ = value;
+        onChanged();
+        return this;
       }
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static proto.ProtosHDFS.Heartbeat parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static proto.ProtosHDFS.Heartbeat parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(proto.ProtosHDFS.Heartbeat prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code proto.Heartbeat}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:proto.Heartbeat)
-        proto.ProtosHDFS.HeartbeatOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return proto.ProtosHDFS.internal_static_proto_Heartbeat_descriptor;
+      /**
+       * <code>required string reportId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReportId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        reportId_ = getDefaultInstance().getReportId();
+        onChanged();
+        return this;
       }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return proto.ProtosHDFS.internal_static_proto_Heartbeat_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                proto.ProtosHDFS.Heartbeat.class, proto.ProtosHDFS.Heartbeat.Builder.class);
+      /**
+       * <code>required string reportId = 1;</code>
+       * @param value The bytes for reportId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReportIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        reportId_ = value;
+        onChanged();
+        return this;
       }
 
-      // Construct using proto.ProtosHDFS.Heartbeat.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      private java.lang.Object dataNodeId_ = "";
+      /**
+       * <code>required string dataNodeId = 2;</code>
+       * @return Whether the dataNodeId field is set.
+       */
+      public boolean hasDataNodeId() {
+        return ((bitField0_ & 0x00000002) != 0);
       }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+      /**
+       * <code>required string dataNodeId = 2;</code>
+       * @return The dataNodeId.
+       */
+      public java.lang.String getDataNodeId() {
+        java.lang.Object ref = dataNodeId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dataNodeId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-          getDataNodeInfoFieldBuilder();
+      /**
+       * <code>required string dataNodeId = 2;</code>
+       * @return The bytes for dataNodeId.
+       */
+      public com.google.protobuf.ByteString
+          getDataNodeIdBytes() {
+        java.lang.Object ref = dataNodeId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dataNodeId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
       }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        heartbeatId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        timestamp_ = 0L;
+      /**
+       * <code>required string dataNodeId = 2;</code>
+       * @param value The dataNodeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataNodeId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        dataNodeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string dataNodeId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataNodeId() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        if (dataNodeInfoBuilder_ == null) {
-          dataNodeInfo_ = null;
-        } else {
-          dataNodeInfoBuilder_.clear();
+        dataNodeId_ = getDefaultInstance().getDataNodeId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string dataNodeId = 2;</code>
+       * @param value The bytes for dataNodeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataNodeIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        dataNodeId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int reportType_ = 0;
+      /**
+       * <code>required .proto.BlockReport.ReportType reportType = 3;</code>
+       * @return Whether the reportType field is set.
+       */
+      public boolean hasReportType() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required .proto.BlockReport.ReportType reportType = 3;</code>
+       * @return The reportType.
+       */
+      public proto.ProtosHDFS.BlockReport.ReportType getReportType() {
+        @SuppressWarnings("deprecation")
+        proto.ProtosHDFS.BlockReport.ReportType result = proto.ProtosHDFS.BlockReport.ReportType.valueOf(reportType_);
+        return result == null ? proto.ProtosHDFS.BlockReport.ReportType.INCREMENTAL : result;
+      }
+      /**
+       * <code>required .proto.BlockReport.ReportType reportType = 3;</code>
+       * @param value The reportType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReportType(proto.ProtosHDFS.BlockReport.ReportType value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
+        bitField0_ |= 0x00000004;
+        reportType_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .proto.BlockReport.ReportType reportType = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReportType() {
         bitField0_ = (bitField0_ & ~0x00000004);
+        reportType_ = 0;
+        onChanged();
         return this;
       }
 
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return proto.ProtosHDFS.internal_static_proto_Heartbeat_descriptor;
+      private java.util.List<proto.ProtosHDFS.BlockMetaData> received_ =
+        java.util.Collections.emptyList();
+      private void ensureReceivedIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          received_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>(received_);
+          bitField0_ |= 0x00000008;
+         }
       }
 
-      @java.lang.Override
-      public proto.ProtosHDFS.Heartbeat getDefaultInstanceForType() {
-        return proto.ProtosHDFS.Heartbeat.getDefaultInstance();
-      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder> receivedBuilder_;
 
-      @java.lang.Override
-      public proto.ProtosHDFS.Heartbeat build() {
-        proto.ProtosHDFS.Heartbeat result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.BlockMetaData> getReceivedList() {
+        if (receivedBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(received_);
+        } else {
+          return receivedBuilder_.getMessageList();
         }
-        return result;
       }
-
-      @java.lang.Override
-      public proto.ProtosHDFS.Heartbeat buildPartial() {
-        proto.ProtosHDFS.Heartbeat result = new proto.ProtosHDFS.Heartbeat(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          to_bitField0_ |= 0x00000001;
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public int getReceivedCount() {
+        if (receivedBuilder_ == null) {
+          return received_.size();
+        } else {
+          return receivedBuilder_.getCount();
         }
-        result.heartbeatId_ = heartbeatId_;
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.timestamp_ = timestamp_;
-          to_bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData getReceived(int index) {
+        if (receivedBuilder_ == null) {
+          return received_.get(index);
+        } else {
+          return receivedBuilder_.getMessage(index);
         }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          if (dataNodeInfoBuilder_ == null) {
-            result.dataNodeInfo_ = dataNodeInfo_;
-          } else {
-            result.dataNodeInfo_ = dataNodeInfoBuilder_.build();
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public Builder setReceived(
+          int index, proto.ProtosHDFS.BlockMetaData value) {
+        if (receivedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          to_bitField0_ |= 0x00000004;
+          ensureReceivedIsMutable();
+          received_.set(index, value);
+          onChanged();
+        } else {
+          receivedBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public Builder setReceived(
+          int index, proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (receivedBuilder_ == null) {
+          ensureReceivedIsMutable();
+          received_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          receivedBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public Builder addReceived(proto.ProtosHDFS.BlockMetaData value) {
+        if (receivedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReceivedIsMutable();
+          received_.add(value);
+          onChanged();
+        } else {
+          receivedBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public Builder addReceived(
+          int index, proto.ProtosHDFS.BlockMetaData value) {
+        if (receivedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReceivedIsMutable();
+          received_.add(index, value);
+          onChanged();
+        } else {
+          receivedBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public Builder addReceived(
+          proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (receivedBuilder_ == null) {
+          ensureReceivedIsMutable();
+          received_.add(builderForValue.build());
+          onChanged();
+        } else {
+          receivedBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public Builder addReceived(
+          int index, proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (receivedBuilder_ == null) {
+          ensureReceivedIsMutable();
+          received_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          receivedBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public Builder addAllReceived(
+          java.lang.Iterable<? extends proto.ProtosHDFS.BlockMetaData> values) {
+        if (receivedBuilder_ == null) {
+          ensureReceivedIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, received_);
+          onChanged();
+        } else {
+          receivedBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public Builder clearReceived() {
+        if (receivedBuilder_ == null) {
+          received_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          receivedBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public Builder removeReceived(int index) {
+        if (receivedBuilder_ == null) {
+          ensureReceivedIsMutable();
+          received_.remove(index);
+          onChanged();
+        } else {
+          receivedBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder getReceivedBuilder(
+          int index) {
+        return getReceivedFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaDataOrBuilder getReceivedOrBuilder(
+          int index) {
+        if (receivedBuilder_ == null) {
+          return received_.get(index);  } else {
+          return receivedBuilder_.getMessageOrBuilder(index);
         }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
       }
-
-      @java.lang.Override
-      public Builder clone() {
-        return super.clone();
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+           getReceivedOrBuilderList() {
+        if (receivedBuilder_ != null) {
+          return receivedBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(received_);
+        }
       }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.setField(field, value);
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder addReceivedBuilder() {
+        return getReceivedFieldBuilder().addBuilder(
+            proto.ProtosHDFS.BlockMetaData.getDefaultInstance());
       }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return super.clearField(field);
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder addReceivedBuilder(
+          int index) {
+        return getReceivedFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.BlockMetaData.getDefaultInstance());
       }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return super.clearOneof(oneof);
+      /**
+       * <code>repeated .proto.BlockMetaData received = 4;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.BlockMetaData.Builder> 
+           getReceivedBuilderList() {
+        return getReceivedFieldBuilder().getBuilderList();
       }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return super.setRepeatedField(field, index, value);
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+          getReceivedFieldBuilder() {
+        if (receivedBuilder_ == null) {
+          receivedBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder>(
+                  received_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          received_ = null;
+        }
+        return receivedBuilder_;
       }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.addRepeatedField(field, value);
+
+      private java.util.List<proto.ProtosHDFS.BlockMetaData> deleted_ =
+        java.util.Collections.emptyList();
+      private void ensureDeletedIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          deleted_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>(deleted_);
+          bitField0_ |= 0x00000010;
+         }
       }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof proto.ProtosHDFS.Heartbeat) {
-          return mergeFrom((proto.ProtosHDFS.Heartbeat)other);
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder> deletedBuilder_;
+
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.BlockMetaData> getDeletedList() {
+        if (deletedBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(deleted_);
         } else {
-          super.mergeFrom(other);
-          return this;
+          return deletedBuilder_.getMessageList();
         }
       }
-
-      public Builder mergeFrom(proto.ProtosHDFS.Heartbeat other) {
-        if (other == proto.ProtosHDFS.Heartbeat.getDefaultInstance()) return this;
-        if (other.hasHeartbeatId()) {
-          bitField0_ |= 0x00000001;
-          heartbeatId_ = other.heartbeatId_;
-          onChanged();
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public int getDeletedCount() {
+        if (deletedBuilder_ == null) {
+          return deleted_.size();
+        } else {
+          return deletedBuilder_.getCount();
         }
-        if (other.hasTimestamp()) {
-          setTimestamp(other.getTimestamp());
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData getDeleted(int index) {
+        if (deletedBuilder_ == null) {
+          return deleted_.get(index);
+        } else {
+          return deletedBuilder_.getMessage(index);
         }
-        if (other.hasDataNodeInfo()) {
-          mergeDataNodeInfo(other.getDataNodeInfo());
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public Builder setDeleted(
+          int index, proto.ProtosHDFS.BlockMetaData value) {
+        if (deletedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeletedIsMutable();
+          deleted_.set(index, value);
+          onChanged();
+        } else {
+          deletedBuilder_.setMessage(index, value);
         }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
         return this;
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        if (!hasHeartbeatId()) {
-          return false;
-        }
-        if (!hasTimestamp()) {
-          return false;
-        }
-        if (!hasDataNodeInfo()) {
-          return false;
-        }
-        if (!getDataNodeInfo().isInitialized()) {
-          return false;
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public Builder setDeleted(
+          int index, proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (deletedBuilder_ == null) {
+          ensureDeletedIsMutable();
+          deleted_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          deletedBuilder_.setMessage(index, builderForValue.build());
         }
-        return true;
+        return this;
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        proto.ProtosHDFS.Heartbeat parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (proto.ProtosHDFS.Heartbeat) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public Builder addDeleted(proto.ProtosHDFS.BlockMetaData value) {
+        if (deletedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureDeletedIsMutable();
+          deleted_.add(value);
+          onChanged();
+        } else {
+          deletedBuilder_.addMessage(value);
         }
         return this;
       }
-      private int bitField0_;
-
-      private java.lang.Object heartbeatId_ = "";
       /**
-       * <code>required string heartbeatId = 1;</code>
-       * @return Whether the heartbeatId field is set.
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
        */
-      public boolean hasHeartbeatId() {
-        return ((bitField0_ & 0x00000001) != 0);
+      public Builder addDeleted(
+          int index, proto.ProtosHDFS.BlockMetaData value) {
+        if (deletedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeletedIsMutable();
+          deleted_.add(index, value);
+          onChanged();
+        } else {
+          deletedBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>required string heartbeatId = 1;</code>
-       * @return The heartbeatId.
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
        */
-      public java.lang.String getHeartbeatId() {
-        java.lang.Object ref = heartbeatId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            heartbeatId_ = s;
-          }
-          return s;
+      public Builder addDeleted(
+          proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (deletedBuilder_ == null) {
+          ensureDeletedIsMutable();
+          deleted_.add(builderForValue.build());
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          deletedBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>required string heartbeatId = 1;</code>
-       * @return The bytes for heartbeatId.
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
        */
-      public com.google.protobuf.ByteString
-          getHeartbeatIdBytes() {
-        java.lang.Object ref = heartbeatId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          heartbeatId_ = b;
-          return b;
+      public Builder addDeleted(
+          int index, proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (deletedBuilder_ == null) {
+          ensureDeletedIsMutable();
+          deleted_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          deletedBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>required string heartbeatId = 1;</code>
-       * @param value The heartbeatId to set.
-       * @return This builder for chaining.
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
        */
-      public Builder setHeartbeatId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        heartbeatId_ = value;
-        onChanged();
+      public Builder addAllDeleted(
+          java.lang.Iterable<? extends proto.ProtosHDFS.BlockMetaData> values) {
+        if (deletedBuilder_ == null) {
+          ensureDeletedIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, deleted_);
+          onChanged();
+        } else {
+          deletedBuilder_.addAllMessages(values);
+        }
         return this;
       }
       /**
-       * <code>required string heartbeatId = 1;</code>
-       * @return This builder for chaining.
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
        */
-      public Builder clearHeartbeatId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        heartbeatId_ = getDefaultInstance().getHeartbeatId();
-        onChanged();
+      public Builder clearDeleted() {
+        if (deletedBuilder_ == null) {
+          deleted_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          deletedBuilder_.clear();
+        }
         return this;
       }
       /**
-       * <code>required string heartbeatId = 1;</code>
-       * @param value The bytes for heartbeatId to set.
-       * @return This builder for chaining.
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
        */
-      public Builder setHeartbeatIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        heartbeatId_ = value;
-        onChanged();
+      public Builder removeDeleted(int index) {
+        if (deletedBuilder_ == null) {
+          ensureDeletedIsMutable();
+          deleted_.remove(index);
+          onChanged();
+        } else {
+          deletedBuilder_.remove(index);
+        }
         return this;
       }
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder getDeletedBuilder(
+          int index) {
+        return getDeletedFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaDataOrBuilder getDeletedOrBuilder(
+          int index) {
+        if (deletedBuilder_ == null) {
+          return deleted_.get(index);  } else {
+          return deletedBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+           getDeletedOrBuilderList() {
+        if (deletedBuilder_ != null) {
+          return deletedBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(deleted_);
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder addDeletedBuilder() {
+        return getDeletedFieldBuilder().addBuilder(
+            proto.ProtosHDFS.BlockMetaData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder addDeletedBuilder(
+          int index) {
+        return getDeletedFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.BlockMetaData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData deleted = 5;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.BlockMetaData.Builder> 
+           getDeletedBuilderList() {
+        return getDeletedFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+          getDeletedFieldBuilder() {
+        if (deletedBuilder_ == null) {
+          deletedBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder>(
+                  deleted_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          deleted_ = null;
+        }
+        return deletedBuilder_;
+      }
+
+      private java.util.List<proto.ProtosHDFS.BlockMetaData> corrupt_ =
+        java.util.Collections.emptyList();
+      private void ensureCorruptIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          corrupt_ = new java.util.ArrayList<proto.ProtosHDFS.BlockMetaData>(corrupt_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder> corruptBuilder_;
 
-      private long timestamp_ ;
       /**
-       * <code>required int64 timestamp = 2;</code>
-       * @return Whether the timestamp field is set.
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public boolean hasTimestamp() {
-        return ((bitField0_ & 0x00000002) != 0);
+      public java.util.List<proto.ProtosHDFS.BlockMetaData> getCorruptList() {
+        if (corruptBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(corrupt_);
+        } else {
+          return corruptBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>required int64 timestamp = 2;</code>
-       * @return The timestamp.
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public long getTimestamp() {
-        return timestamp_;
+      public int getCorruptCount() {
+        if (corruptBuilder_ == null) {
+          return corrupt_.size();
+        } else {
+          return corruptBuilder_.getCount();
+        }
       }
       /**
-       * <code>required int64 timestamp = 2;</code>
-       * @param value The timestamp to set.
-       * @return This builder for chaining.
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public Builder setTimestamp(long value) {
-        bitField0_ |= 0x00000002;
-        timestamp_ = value;
-        onChanged();
-        return this;
+      public proto.ProtosHDFS.BlockMetaData getCorrupt(int index) {
+        if (corruptBuilder_ == null) {
+          return corrupt_.get(index);
+        } else {
+          return corruptBuilder_.getMessage(index);
+        }
       }
       /**
-       * <code>required int64 timestamp = 2;</code>
-       * @return This builder for chaining.
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public Builder clearTimestamp() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        timestamp_ = 0L;
-        onChanged();
+      public Builder setCorrupt(
+          int index, proto.ProtosHDFS.BlockMetaData value) {
+        if (corruptBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCorruptIsMutable();
+          corrupt_.set(index, value);
+          onChanged();
+        } else {
+          corruptBuilder_.setMessage(index, value);
+        }
         return this;
       }
-
-      private proto.ProtosHDFS.DataNodeInfo dataNodeInfo_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          proto.ProtosHDFS.DataNodeInfo, proto.ProtosHDFS.DataNodeInfo.Builder, proto.ProtosHDFS.DataNodeInfoOrBuilder> dataNodeInfoBuilder_;
       /**
-       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
-       * @return Whether the dataNodeInfo field is set.
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public boolean hasDataNodeInfo() {
-        return ((bitField0_ & 0x00000004) != 0);
+      public Builder setCorrupt(
+          int index, proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (corruptBuilder_ == null) {
+          ensureCorruptIsMutable();
+          corrupt_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          corruptBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
-       * @return The dataNodeInfo.
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public proto.ProtosHDFS.DataNodeInfo getDataNodeInfo() {
-        if (dataNodeInfoBuilder_ == null) {
-          return dataNodeInfo_ == null ? proto.ProtosHDFS.DataNodeInfo.getDefaultInstance() : dataNodeInfo_;
+      public Builder addCorrupt(proto.ProtosHDFS.BlockMetaData value) {
+        if (corruptBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCorruptIsMutable();
+          corrupt_.add(value);
+          onChanged();
         } else {
-          return dataNodeInfoBuilder_.getMessage();
+          corruptBuilder_.addMessage(value);
         }
+        return this;
       }
       /**
-       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public Builder setDataNodeInfo(proto.ProtosHDFS.DataNodeInfo value) {
-        if (dataNodeInfoBuilder_ == null) {
+      public Builder addCorrupt(
+          int index, proto.ProtosHDFS.BlockMetaData value) {
+        if (corruptBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          dataNodeInfo_ = value;
+          ensureCorruptIsMutable();
+          corrupt_.add(index, value);
           onChanged();
         } else {
-          dataNodeInfoBuilder_.setMessage(value);
+          corruptBuilder_.addMessage(index, value);
         }
-        bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public Builder setDataNodeInfo(
-          proto.ProtosHDFS.DataNodeInfo.Builder builderForValue) {
-        if (dataNodeInfoBuilder_ == null) {
-          dataNodeInfo_ = builderForValue.build();
+      public Builder addCorrupt(
+          proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (corruptBuilder_ == null) {
+          ensureCorruptIsMutable();
+          corrupt_.add(builderForValue.build());
           onChanged();
         } else {
-          dataNodeInfoBuilder_.setMessage(builderForValue.build());
+          corruptBuilder_.addMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public Builder mergeDataNodeInfo(proto.ProtosHDFS.DataNodeInfo value) {
-        if (dataNodeInfoBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) != 0) &&
-              dataNodeInfo_ != null &&
-              dataNodeInfo_ != proto.ProtosHDFS.DataNodeInfo.getDefaultInstance()) {
-            dataNodeInfo_ =
-              proto.ProtosHDFS.DataNodeInfo.newBuilder(dataNodeInfo_).mergeFrom(value).buildPartial();
-          } else {
-            dataNodeInfo_ = value;
-          }
+      public Builder addCorrupt(
+          int index, proto.ProtosHDFS.BlockMetaData.Builder builderForValue) {
+        if (corruptBuilder_ == null) {
+          ensureCorruptIsMutable();
+          corrupt_.add(index, builderForValue.build());
           onChanged();
         } else {
-          dataNodeInfoBuilder_.mergeFrom(value);
+          corruptBuilder_.addMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public Builder clearDataNodeInfo() {
-        if (dataNodeInfoBuilder_ == null) {
-          dataNodeInfo_ = null;
+      public Builder addAllCorrupt(
+          java.lang.Iterable<? extends proto.ProtosHDFS.BlockMetaData> values) {
+        if (corruptBuilder_ == null) {
+          ensureCorruptIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, corrupt_);
           onChanged();
         } else {
-          dataNodeInfoBuilder_.clear();
+          corruptBuilder_.addAllMessages(values);
         }
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
       /**
-       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public proto.ProtosHDFS.DataNodeInfo.Builder getDataNodeInfoBuilder() {
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return getDataNodeInfoFieldBuilder().getBuilder();
+      public Builder clearCorrupt() {
+        if (corruptBuilder_ == null) {
+          corrupt_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          corruptBuilder_.clear();
+        }
+        return this;
       }
       /**
-       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      public proto.ProtosHDFS.DataNodeInfoOrBuilder getDataNodeInfoOrBuilder() {
-        if (dataNodeInfoBuilder_ != null) {
-          return dataNodeInfoBuilder_.getMessageOrBuilder();
+      public Builder removeCorrupt(int index) {
+        if (corruptBuilder_ == null) {
+          ensureCorruptIsMutable();
+          corrupt_.remove(index);
+          onChanged();
         } else {
-          return dataNodeInfo_ == null ?
-              proto.ProtosHDFS.DataNodeInfo.getDefaultInstance() : dataNodeInfo_;
+          corruptBuilder_.remove(index);
         }
+        return this;
       }
       /**
-       * <code>required .proto.DataNodeInfo dataNodeInfo = 3;</code>
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          proto.ProtosHDFS.DataNodeInfo, proto.ProtosHDFS.DataNodeInfo.Builder, proto.ProtosHDFS.DataNodeInfoOrBuilder> 
-          getDataNodeInfoFieldBuilder() {
-        if (dataNodeInfoBuilder_ == null) {
-          dataNodeInfoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              proto.ProtosHDFS.DataNodeInfo, proto.ProtosHDFS.DataNodeInfo.Builder, proto.ProtosHDFS.DataNodeInfoOrBuilder>(
-                  getDataNodeInfo(),
+      public proto.ProtosHDFS.BlockMetaData.Builder getCorruptBuilder(
+          int index) {
+        return getCorruptFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaDataOrBuilder getCorruptOrBuilder(
+          int index) {
+        if (corruptBuilder_ == null) {
+          return corrupt_.get(index);  } else {
+          return corruptBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+       */
+      public java.util.List<? extends proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+           getCorruptOrBuilderList() {
+        if (corruptBuilder_ != null) {
+          return corruptBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(corrupt_);
+        }
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder addCorruptBuilder() {
+        return getCorruptFieldBuilder().addBuilder(
+            proto.ProtosHDFS.BlockMetaData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+       */
+      public proto.ProtosHDFS.BlockMetaData.Builder addCorruptBuilder(
+          int index) {
+        return getCorruptFieldBuilder().addBuilder(
+            index, proto.ProtosHDFS.BlockMetaData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.BlockMetaData corrupt = 6;</code>
+       */
+      public java.util.List<proto.ProtosHDFS.BlockMetaData.Builder> 
+           getCorruptBuilderList() {
+        return getCorruptFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder> 
+          getCorruptFieldBuilder() {
+        if (corruptBuilder_ == null) {
+          corruptBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              proto.ProtosHDFS.BlockMetaData, proto.ProtosHDFS.BlockMetaData.Builder, proto.ProtosHDFS.BlockMetaDataOrBuilder>(
+                  corrupt_,
+                  ((bitField0_ & 0x00000020) != 0),
                   getParentForChildren(),
                   isClean());
-          dataNodeInfo_ = null;
+          corrupt_ = null;
         }
-        return dataNodeInfoBuilder_;
+        return corruptBuilder_;
+      }
+
+      private int chunkIndex_ ;
+      /**
+       * <code>optional int32 chunkIndex = 7;</code>
+       * @return Whether the chunkIndex field is set.
+       */
+      public boolean hasChunkIndex() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional int32 chunkIndex = 7;</code>
+       * @return The chunkIndex.
+       */
+      public int getChunkIndex() {
+        return chunkIndex_;
+      }
+      /**
+       * <code>optional int32 chunkIndex = 7;</code>
+       * @param value The chunkIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChunkIndex(int value) {
+        bitField0_ |= 0x00000040;
+        chunkIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 chunkIndex = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChunkIndex() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        chunkIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int chunkCount_ ;
+      /**
+       * <code>optional int32 chunkCount = 8;</code>
+       * @return Whether the chunkCount field is set.
+       */
+      public boolean hasChunkCount() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional int32 chunkCount = 8;</code>
+       * @return The chunkCount.
+       */
+      public int getChunkCount() {
+        return chunkCount_;
+      }
+      /**
+       * <code>optional int32 chunkCount = 8;</code>
+       * @param value The chunkCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChunkCount(int value) {
+        bitField0_ |= 0x00000080;
+        chunkCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 chunkCount = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChunkCount() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        chunkCount_ = 0;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -9748,41 +24127,41 @@ public final class ProtosHDFS {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:proto.Heartbeat)
+      // @@protoc_insertion_point(builder_scope:proto.BlockReport)
     }
 
-    // @@protoc_insertion_point(class_scope:proto.Heartbeat)
-    private static final proto.ProtosHDFS.Heartbeat DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:proto.BlockReport)
+    private static final proto.ProtosHDFS.BlockReport DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new proto.ProtosHDFS.Heartbeat();
+      DEFAULT_INSTANCE = new proto.ProtosHDFS.BlockReport();
     }
 
-    public static proto.ProtosHDFS.Heartbeat getDefaultInstance() {
+    public static proto.ProtosHDFS.BlockReport getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<Heartbeat>
-        PARSER = new com.google.protobuf.AbstractParser<Heartbeat>() {
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<BlockReport>
+        PARSER = new com.google.protobuf.AbstractParser<BlockReport>() {
       @java.lang.Override
-      public Heartbeat parsePartialFrom(
+      public BlockReport parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Heartbeat(input, extensionRegistry);
+        return new BlockReport(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Heartbeat> parser() {
+    public static com.google.protobuf.Parser<BlockReport> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Heartbeat> getParserForType() {
+    public com.google.protobuf.Parser<BlockReport> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public proto.ProtosHDFS.Heartbeat getDefaultInstanceForType() {
+    public proto.ProtosHDFS.BlockReport getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -9813,21 +24192,61 @@ public final class ProtosHDFS {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_proto_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_ListOptions_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_ListOptions_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_DirectoryEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_DirectoryEntry_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_proto_Pipeline_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_proto_Pipeline_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_BlockLocations_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_BlockLocations_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_proto_Response_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_proto_Response_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_DataNodeCommand_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_DataNodeCommand_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_proto_Heartbeat_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_proto_Heartbeat_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_EditLogOp_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_EditLogOp_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_ImageBlock_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_ImageBlock_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_ImageReplica_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_ImageReplica_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_BlockReport_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_BlockReport_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -9837,34 +24256,80 @@ public final class ProtosHDFS {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\nhdfs.proto\022\005proto\"\252\001\n\rBlockMetaData\022\017\n" +
-      "\007blockId\030\001 \002(\t\022\016\n\006fileId\030\002 \002(\t\022\020\n\010fileNa" +
+      "\n\nhdfs.proto\022\005proto\"\353\001\n\rBlockMetaData\022\017\n" +
+      "\007blockId\030\001 \001(\t\022\016\n\006fileId\030\002 \002(\t\022\020\n\010fileNa" +
       "me\030\003 \002(\t\022\023\n\013blockNumber\030\004 \002(\005\022\026\n\016ordRepl" +
       "ication\030\005 \002(\005\022\022\n\ndataNodeId\030\006 \002(\t\022\021\n\tipA" +
-      "ddress\030\007 \002(\t\022\022\n\nportNumber\030\010 \002(\005\"G\n\005Bloc" +
-      "k\022\'\n\tblockMeta\030\001 \002(\0132\024.proto.BlockMetaDa" +
-      "ta\022\025\n\rblockContents\030\002 \002(\t\"8\n\014DataNodeInf" +
-      "o\022(\n\nblockMetas\030\004 \003(\0132\024.proto.BlockMetaD" +
-      "ata\"}\n\014FileMetadata\022\016\n\006fileId\030\001 \002(\t\022\020\n\010f" +
-      "ileName\030\002 \002(\t\022\020\n\010fileSize\030\003 \002(\005\022\027\n\017paren" +
-      "tDirectory\030\004 \002(\t\022 \n\npartitions\030\005 \003(\0132\014.p" +
-      "roto.Block\"\224\002\n\007Request\022\021\n\trequestId\030\001 \002(" +
-      "\t\022/\n\013requestType\030\002 \002(\0162\032.proto.Request.R" +
-      "equestType\022%\n\010fileMeta\030\003 \001(\0132\023.proto.Fil" +
-      "eMetadata\022\033\n\005block\030\004 \001(\0132\014.proto.Block\022&" +
-      "\n\tdataNodes\030\005 \003(\0132\023.proto.DataNodeInfo\"Y" +
-      "\n\013RequestType\022\010\n\004OPEN\020\000\022\t\n\005CLOSE\020\001\022\010\n\004LI" +
-      "ST\020\002\022\010\n\004READ\020\003\022\t\n\005WRITE\020\004\022\n\n\006UPDATE\020\005\022\n\n" +
-      "\006DELETE\020\006\"\036\n\010Pipeline\022\022\n\ndataNodeId\030\001 \003(" +
-      "\t\"\323\001\n\010Response\022\022\n\nresponseId\030\001 \002(\t\0222\n\014re" +
-      "sponseType\030\002 \002(\0162\034.proto.Response.Respon" +
-      "seType\022\024\n\014errorMessage\030\003 \001(\t\022\033\n\005block\030\004 " +
-      "\003(\0132\014.proto.Block\022\"\n\tpipelines\030\005 \003(\0132\017.p" +
-      "roto.Pipeline\"(\n\014ResponseType\022\013\n\007SUCCESS" +
-      "\020\000\022\013\n\007FAILURE\020\001\"^\n\tHeartbeat\022\023\n\013heartbea" +
-      "tId\030\001 \002(\t\022\021\n\ttimestamp\030\002 \002(\003\022)\n\014dataNode" +
-      "Info\030\003 \002(\0132\023.proto.DataNodeInfoB\014B\nProto" +
-      "sHDFS"
+      "ddress\030\007 \002(\t\022\022\n\nportNumber\030\010 \002(\005\022\016\n\006leng" +
+      "th\030\t \001(\003\022\026\n\016numericBlockId\030\n \001(\003\022\027\n\017gene" +
+      "rationStamp\030\013 \001(\003\"G\n\005Block\022\'\n\tblockMeta\030" +
+      "\001 \002(\0132\024.proto.BlockMetaData\022\025\n\rblockCont" +
+      "ents\030\002 \002(\014\"\307\001\n\014DataNodeInfo\022\022\n\ndataNodeI" +
+      "d\030\001 \001(\t\022\021\n\tipAddress\030\002 \001(\t\022\022\n\nportNumber" +
+      "\030\003 \001(\005\022(\n\nblockMetas\030\004 \003(\0132\024.proto.Block" +
+      "MetaData\022\024\n\014transferPort\030\005 \001(\005\022\020\n\010capaci" +
+      "ty\030\006 \001(\003\022\021\n\tremaining\030\007 \001(\003\022\027\n\017activeTra" +
+      "nsfers\030\010 \001(\005\"\342\001\n\014FileMetadata\022\016\n\006fileId\030" +
+      "\001 \002(\t\022\020\n\010fileName\030\002 \002(\t\022\020\n\010fileSize\030\003 \002(" +
+      "\005\022\027\n\017parentDirectory\030\004 \002(\t\022 \n\npartitions" +
+      "\030\005 \003(\0132\014.proto.Block\022\022\n\ngeneration\030\006 \001(\003" +
+      "\022\022\n\nclientName\030\007 \001(\t\022\024\n\014firstBlockId\030\010 \001" +
+      "(\003\022\022\n\nblockCount\030\t \001(\005\022\021\n\tblockSize\030\n \001(" +
+      "\005\"\371\002\n\007Request\022\021\n\trequestId\030\001 \002(\t\022/\n\013requ" +
+      "estType\030\002 \002(\0162\032.proto.Request.RequestTyp" +
+      "e\022%\n\010fileMeta\030\003 \001(\0132\023.proto.FileMetadata" +
+      "\022\033\n\005block\030\004 \001(\0132\014.proto.Block\022&\n\tdataNod" +
+      "es\030\005 \003(\0132\023.proto.DataNodeInfo\022&\n\tfileMet" +
+      "as\030\006 \003(\0132\023.proto.FileMetadata\022\022\n\nclientN" +
+      "ame\030\007 \001(\t\022\'\n\013listOptions\030\010 \001(\0132\022.proto.L" +
+      "istOptions\"Y\n\013RequestType\022\010\n\004OPEN\020\000\022\t\n\005C" +
+      "LOSE\020\001\022\010\n\004LIST\020\002\022\010\n\004READ\020\003\022\t\n\005WRITE\020\004\022\n\n" +
+      "\006UPDATE\020\005\022\n\n\006DELETE\020\006\"_\n\013ListOptions\022\014\n\004" +
+      "path\030\001 \001(\t\022\022\n\nstartAfter\030\002 \001(\t\022\016\n\006prefix" +
+      "\030\003 \001(\t\022\014\n\004glob\030\004 \001(\t\022\020\n\010pageSize\030\005 \001(\005\"Z" +
+      "\n\016DirectoryEntry\022\014\n\004name\030\001 \002(\t\022\023\n\013isDire" +
+      "ctory\030\002 \002(\010\022%\n\010fileMeta\030\003 \001(\0132\023.proto.Fi" +
+      "leMetadata\"O\n\010Pipeline\022\022\n\ndataNodeId\030\001 \003" +
+      "(\t\022\026\n\016numericBlockId\030\002 \001(\003\022\027\n\017generation" +
+      "Stamp\030\003 \001(\003\"n\n\016BlockLocations\022\016\n\006fileId\030" +
+      "\001 \002(\t\022\"\n\tpipelines\030\002 \003(\0132\017.proto.Pipelin" +
+      "e\022\024\n\014errorMessage\030\003 \001(\t\022\022\n\ngeneration\030\004 " +
+      "\001(\003\"\240\003\n\010Response\022\022\n\nresponseId\030\001 \002(\t\0222\n\014" +
+      "responseType\030\002 \002(\0162\034.proto.Response.Resp" +
+      "onseType\022\024\n\014errorMessage\030\003 \001(\t\022\033\n\005block\030" +
+      "\004 \003(\0132\014.proto.Block\022\"\n\tpipelines\030\005 \003(\0132\017" +
+      ".proto.Pipeline\022(\n\010commands\030\006 \003(\0132\026.prot" +
+      "o.DataNodeCommand\022(\n\tlocations\030\007 \003(\0132\025.p" +
+      "roto.BlockLocations\022%\n\010fileMeta\030\010 \001(\0132\023." +
+      "proto.FileMetadata\022&\n\007entries\030\t \003(\0132\025.pr" +
+      "oto.DirectoryEntry\022\026\n\016nextStartAfter\030\n \001" +
+      "(\t\":\n\014ResponseType\022\013\n\007SUCCESS\020\000\022\013\n\007FAILU" +
+      "RE\020\001\022\020\n\014NOT_MODIFIED\020\002\"\303\001\n\017DataNodeComma" +
+      "nd\0227\n\013commandType\030\001 \002(\0162\".proto.DataNode" +
+      "Command.CommandType\022\'\n\tblockMeta\030\002 \002(\0132\024" +
+      ".proto.BlockMetaData\022$\n\007targets\030\003 \003(\0132\023." +
+      "proto.DataNodeInfo\"(\n\013CommandType\022\r\n\tREP" +
+      "LICATE\020\000\022\n\n\006DELETE\020\001\"^\n\tHeartbeat\022\023\n\013hea" +
+      "rtbeatId\030\001 \002(\t\022\021\n\ttimestamp\030\002 \002(\003\022)\n\014dat" +
+      "aNodeInfo\030\003 \002(\0132\023.proto.DataNodeInfo\"\322\001\n" +
+      "\tEditLogOp\022\014\n\004txId\030\001 \002(\003\022\'\n\006opCode\030\002 \002(\016" +
+      "2\027.proto.EditLogOp.OpCode\022%\n\010fileMeta\030\003 " +
+      "\001(\0132\023.proto.FileMetadata\022(\n\nblockMetas\030\004" +
+      " \003(\0132\024.proto.BlockMetaData\"=\n\006OpCode\022\n\n\006" +
+      "CREATE\020\000\022\020\n\014ASSIGN_BLOCK\020\001\022\t\n\005CLOSE\020\002\022\n\n" +
+      "\006DELETE\020\003\"q\n\nImageBlock\022\017\n\007blockId\030\001 \002(\003" +
+      "\022\026\n\016fileGeneration\030\002 \002(\003\022\023\n\013blockNumber\030" +
+      "\003 \002(\005\022%\n\010replicas\030\004 \003(\0132\023.proto.ImageRep" +
+      "lica\"2\n\014ImageReplica\022\022\n\ndataNodeId\030\001 \002(\t" +
+      "\022\016\n\006length\030\002 \002(\005\"\255\002\n\013BlockReport\022\020\n\010repo" +
+      "rtId\030\001 \002(\t\022\022\n\ndataNodeId\030\002 \002(\t\0221\n\nreport" +
+      "Type\030\003 \002(\0162\035.proto.BlockReport.ReportTyp" +
+      "e\022&\n\010received\030\004 \003(\0132\024.proto.BlockMetaDat" +
+      "a\022%\n\007deleted\030\005 \003(\0132\024.proto.BlockMetaData" +
+      "\022%\n\007corrupt\030\006 \003(\0132\024.proto.BlockMetaData\022" +
+      "\022\n\nchunkIndex\030\007 \001(\005\022\022\n\nchunkCount\030\010 \001(\005\"" +
+      "\'\n\nReportType\022\017\n\013INCREMENTAL\020\000\022\010\n\004FULL\020\001" +
+      "B\014B\nProtosHDFS"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -9875,7 +24340,7 @@ public final class ProtosHDFS {
     internal_static_proto_BlockMetaData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_BlockMetaData_descriptor,
-        new java.lang.String[] { "BlockId", "FileId", "FileName", "BlockNumber", "OrdReplication", "DataNodeId", "IpAddress", "PortNumber", });
+        new java.lang.String[] { "BlockId", "FileId", "FileName", "BlockNumber", "OrdReplication", "DataNodeId", "IpAddress", "PortNumber", "Length", "NumericBlockId", "GenerationStamp", });
     internal_static_proto_Block_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_proto_Block_fieldAccessorTable = new
@@ -9887,37 +24352,85 @@ public final class ProtosHDFS {
     internal_static_proto_DataNodeInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_DataNodeInfo_descriptor,
-        new java.lang.String[] { "BlockMetas", });
+        new java.lang.String[] { "DataNodeId", "IpAddress", "PortNumber", "BlockMetas", "TransferPort", "Capacity", "Remaining", "ActiveTransfers", });
     internal_static_proto_FileMetadata_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_proto_FileMetadata_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_FileMetadata_descriptor,
-        new java.lang.String[] { "FileId", "FileName", "FileSize", "ParentDirectory", "Partitions", });
+        new java.lang.String[] { "FileId", "FileName", "FileSize", "ParentDirectory", "Partitions", "Generation", "ClientName", "FirstBlockId", "BlockCount", "BlockSize", });
     internal_static_proto_Request_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_proto_Request_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_Request_descriptor,
-        new java.lang.String[] { "RequestId", "RequestType", "FileMeta", "Block", "DataNodes", });
-    internal_static_proto_Pipeline_descriptor =
+        new java.lang.String[] { "RequestId", "RequestType", "FileMeta", "Block", "DataNodes", "FileMetas", "ClientName", "ListOptions", });
+    internal_static_proto_ListOptions_descriptor =
       getDescriptor().getMessageTypes().get(5);
+    internal_static_proto_ListOptions_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_ListOptions_descriptor,
+        new java.lang.String[] { "Path", "StartAfter", "Prefix", "Glob", "PageSize", });
+    internal_static_proto_DirectoryEntry_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_proto_DirectoryEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_DirectoryEntry_descriptor,
+        new java.lang.String[] { "Name", "IsDirectory", "FileMeta", });
+    internal_static_proto_Pipeline_descriptor =
+      getDescriptor().getMessageTypes().get(7);
     internal_static_proto_Pipeline_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_Pipeline_descriptor,
-        new java.lang.String[] { "DataNodeId", });
+        new java.lang.String[] { "DataNodeId", "NumericBlockId", "GenerationStamp", });
+    internal_static_proto_BlockLocations_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_proto_BlockLocations_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_BlockLocations_descriptor,
+        new java.lang.String[] { "FileId", "Pipelines", "ErrorMessage", "Generation", });
     internal_static_proto_Response_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_proto_Response_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_Response_descriptor,
-        new java.lang.String[] { "ResponseId", "ResponseType", "ErrorMessage", "Block", "Pipelines", });
+        new java.lang.String[] { "ResponseId", "ResponseType", "ErrorMessage", "Block", "Pipelines", "Commands", "Locations", "FileMeta", "Entries", "NextStartAfter", });
+    internal_static_proto_DataNodeCommand_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_proto_DataNodeCommand_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_DataNodeCommand_descriptor,
+        new java.lang.String[] { "CommandType", "BlockMeta", "Targets", });
     internal_static_proto_Heartbeat_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_proto_Heartbeat_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_Heartbeat_descriptor,
         new java.lang.String[] { "HeartbeatId", "Timestamp", "DataNodeInfo", });
+    internal_static_proto_EditLogOp_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_proto_EditLogOp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_EditLogOp_descriptor,
+        new java.lang.String[] { "TxId", "OpCode", "FileMeta", "BlockMetas", });
+    internal_static_proto_ImageBlock_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_proto_ImageBlock_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_ImageBlock_descriptor,
+        new java.lang.String[] { "BlockId", "FileGeneration", "BlockNumber", "Replicas", });
+    internal_static_proto_ImageReplica_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_proto_ImageReplica_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_ImageReplica_descriptor,
+        new java.lang.String[] { "DataNodeId", "Length", });
+    internal_static_proto_BlockReport_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_proto_BlockReport_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_BlockReport_descriptor,
+        new java.lang.String[] { "ReportId", "DataNodeId", "ReportType", "Received", "Deleted", "Corrupt", "ChunkIndex", "ChunkCount", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)